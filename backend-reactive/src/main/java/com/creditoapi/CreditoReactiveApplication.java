@@ -0,0 +1,12 @@
+package com.creditoapi;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+@SpringBootApplication
+public class CreditoReactiveApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(CreditoReactiveApplication.class, args);
+    }
+}
@@ -0,0 +1,14 @@
+package com.creditoapi.application.dto;
+
+import lombok.Builder;
+
+import java.time.LocalDate;
+
+@Builder
+public record CreditoFiltroDTO(
+        String tipoCredito,
+        Boolean simplesNacional,
+        LocalDate dataInicio,
+        LocalDate dataFim
+) {
+}
@@ -0,0 +1,24 @@
+package com.creditoapi.application.service;
+
+import com.creditoapi.application.dto.BatchConsultaResponseDTO;
+import com.creditoapi.application.dto.CreditoDTO;
+import com.creditoapi.application.dto.CreditoFiltroDTO;
+import com.creditoapi.application.dto.ListagemCreditoResponseDTO;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface CreditoService {
+
+    Mono<List<CreditoDTO>> findByNumeroNfse(String numeroNfse);
+
+    Mono<CreditoDTO> findByNumeroCredito(String numeroCredito);
+
+    Mono<BatchConsultaResponseDTO> findBatch(Collection<String> numerosNfse, Collection<String> numerosCredito);
+
+    Mono<ListagemCreditoResponseDTO> listar(CreditoFiltroDTO filtro, long cursor, int tamanho);
+
+    Flux<CreditoDTO> exportar(CreditoFiltroDTO filtro);
+}
@@ -0,0 +1,199 @@
+package com.creditoapi.application.service.impl;
+
+import com.creditoapi.application.dto.BatchConsultaResponseDTO;
+import com.creditoapi.application.dto.ConsultaEventDTO;
+import com.creditoapi.application.dto.CreditoDTO;
+import com.creditoapi.application.dto.CreditoFiltroDTO;
+import com.creditoapi.application.dto.ListagemCreditoResponseDTO;
+import com.creditoapi.application.mapper.CreditoMapper;
+import com.creditoapi.application.service.CreditoService;
+import com.creditoapi.domain.entity.Credito;
+import com.creditoapi.domain.repository.CreditoRepository;
+import com.creditoapi.infrastructure.messaging.ConsultaCreditoPublisher;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CreditoServiceImpl implements CreditoService {
+
+    static final int TAMANHO_LOTE_CONSULTA = 500;
+
+    private final CreditoRepository creditoRepository;
+    private final CreditoMapper creditoMapper;
+    private final ConsultaCreditoPublisher consultaPublisher;
+
+    @Override
+    public Mono<List<CreditoDTO>> findByNumeroNfse(String numeroNfse) {
+        log.debug("Buscando créditos pelo número NFS-e: {}", numeroNfse);
+
+        return creditoRepository.findByNumeroNfse(numeroNfse)
+                .map(creditoMapper::toDTO)
+                .collectList()
+                .doOnNext(result -> {
+                    publishConsultaEvent("NFSE", numeroNfse, result.size(), true);
+                    log.info("Encontrados {} créditos para NFS-e: {}", result.size(), numeroNfse);
+                });
+    }
+
+    @Override
+    public Mono<CreditoDTO> findByNumeroCredito(String numeroCredito) {
+        log.debug("Buscando crédito pelo número: {}", numeroCredito);
+
+        return creditoRepository.findByNumeroCredito(numeroCredito)
+                .map(creditoMapper::toDTO)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .doOnNext(result -> {
+                    publishConsultaEvent("CREDITO", numeroCredito, result.isPresent() ? 1 : 0, true);
+                    log.info("Crédito {} para número: {}",
+                            result.isPresent() ? "encontrado" : "não encontrado", numeroCredito);
+                })
+                .flatMap(Mono::justOrEmpty);
+    }
+
+    @Override
+    public Mono<BatchConsultaResponseDTO> findBatch(Collection<String> numerosNfse, Collection<String> numerosCredito) {
+        Set<String> chavesNfse = distinct(numerosNfse);
+        Set<String> chavesCredito = distinct(numerosCredito);
+        log.debug("Buscando em lote {} NFS-e e {} créditos", chavesNfse.size(), chavesCredito.size());
+
+        Mono<Map<String, List<CreditoDTO>>> encontradosPorNfse = Flux.fromIterable(particionar(chavesNfse))
+                .concatMap(creditoRepository::findByNumeroNfseIn)
+                .map(creditoMapper::toDTO)
+                .collect(Collectors.groupingBy(CreditoDTO::numeroNfse));
+        Mono<Map<String, CreditoDTO>> encontradosPorNumero = Flux.fromIterable(particionar(chavesCredito))
+                .concatMap(creditoRepository::findByNumeroCreditoIn)
+                .map(creditoMapper::toDTO)
+                .collectMap(CreditoDTO::numeroCredito);
+
+        return Mono.zip(encontradosPorNfse, encontradosPorNumero).map(encontrados -> {
+            Map<String, List<CreditoDTO>> creditosPorNfse = new LinkedHashMap<>();
+            List<String> nfseNaoEncontradas = new ArrayList<>();
+            for (String numeroNfse : chavesNfse) {
+                List<CreditoDTO> creditos = encontrados.getT1().getOrDefault(numeroNfse, List.of());
+                if (creditos.isEmpty()) {
+                    nfseNaoEncontradas.add(numeroNfse);
+                } else {
+                    creditosPorNfse.put(numeroNfse, creditos);
+                }
+            }
+
+            Map<String, CreditoDTO> creditosPorNumero = new LinkedHashMap<>();
+            List<String> creditosNaoEncontrados = new ArrayList<>();
+            for (String numeroCredito : chavesCredito) {
+                CreditoDTO credito = encontrados.getT2().get(numeroCredito);
+                if (credito == null) {
+                    creditosNaoEncontrados.add(numeroCredito);
+                } else {
+                    creditosPorNumero.put(numeroCredito, credito);
+                }
+            }
+
+            int quantidade = creditosPorNfse.values().stream().mapToInt(List::size).sum() + creditosPorNumero.size();
+            publishConsultaEvent("BATCH", "nfse=" + chavesNfse.size() + ";credito=" + chavesCredito.size(),
+                    quantidade, true);
+
+            log.info("Consulta em lote: {} NFS-e e {} créditos não encontrados",
+                    nfseNaoEncontradas.size(), creditosNaoEncontrados.size());
+            return BatchConsultaResponseDTO.builder()
+                    .creditosPorNfse(creditosPorNfse)
+                    .creditosPorNumero(creditosPorNumero)
+                    .nfseNaoEncontradas(nfseNaoEncontradas)
+                    .creditosNaoEncontrados(creditosNaoEncontrados)
+                    .build();
+        });
+    }
+
+    @Override
+    public Mono<ListagemCreditoResponseDTO> listar(CreditoFiltroDTO filtro, long cursor, int tamanho) {
+        log.debug("Listando créditos após o id {} com filtro {}", cursor, filtro);
+
+        return creditoRepository.findPagina(cursor, filtro.tipoCredito(), filtro.simplesNacional(),
+                        filtro.dataInicio(), filtro.dataFim(), tamanho + 1)
+                .collectList()
+                .map(pagina -> {
+                    boolean possuiMais = pagina.size() > tamanho;
+                    List<Credito> creditos = possuiMais ? pagina.subList(0, tamanho) : pagina;
+                    Long proximoCursor = possuiMais ? creditos.get(creditos.size() - 1).getId() : null;
+
+                    publishConsultaEvent("LISTAGEM", descrever(filtro, cursor), creditos.size(), true);
+
+                    return ListagemCreditoResponseDTO.builder()
+                            .creditos(creditoMapper.toDTOList(creditos))
+                            .proximoCursor(proximoCursor)
+                            .possuiMais(possuiMais)
+                            .build();
+                });
+    }
+
+    // O Flux só avança conforme a demanda de quem escreve a resposta, então o banco não é lido além do que o cliente consome
+    @Override
+    public Flux<CreditoDTO> exportar(CreditoFiltroDTO filtro) {
+        return Flux.defer(() -> {
+            log.debug("Exportando créditos com filtro {}", filtro);
+            AtomicLong quantidade = new AtomicLong();
+
+            return creditoRepository.streamAll(0L, filtro.tipoCredito(), filtro.simplesNacional(),
+                            filtro.dataInicio(), filtro.dataFim())
+                    .map(creditoMapper::toDTO)
+                    .doOnNext(credito -> quantidade.incrementAndGet())
+                    .doOnComplete(() -> {
+                        publishConsultaEvent("EXPORTACAO", descrever(filtro, 0L),
+                                (int) Math.min(quantidade.get(), Integer.MAX_VALUE), true);
+                        log.info("Exportados {} créditos", quantidade.get());
+                    });
+        });
+    }
+
+    private static Set<String> distinct(Collection<String> chaves) {
+        return chaves.stream()
+                .filter(chave -> chave != null && !chave.isBlank())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    private static String descrever(CreditoFiltroDTO filtro, long cursor) {
+        return "tipoCredito=" + filtro.tipoCredito()
+                + ";simplesNacional=" + filtro.simplesNacional()
+                + ";dataInicio=" + filtro.dataInicio()
+                + ";dataFim=" + filtro.dataFim()
+                + ";cursor=" + cursor;
+    }
+
+    private static List<List<String>> particionar(Set<String> chaves) {
+        List<String> lista = List.copyOf(chaves);
+        List<List<String>> lotes = new ArrayList<>();
+        for (int inicio = 0; inicio < lista.size(); inicio += TAMANHO_LOTE_CONSULTA) {
+            lotes.add(lista.subList(inicio, Math.min(inicio + TAMANHO_LOTE_CONSULTA, lista.size())));
+        }
+        return lotes;
+    }
+
+    private void publishConsultaEvent(String tipoConsulta, String parametro, int quantidade, boolean sucesso) {
+        ConsultaEventDTO event = ConsultaEventDTO.builder()
+                .tipoConsulta(tipoConsulta)
+                .parametroConsulta(parametro)
+                .dataHoraConsulta(LocalDateTime.now())
+                .quantidadeResultados(quantidade)
+                .sucesso(sucesso)
+                .build();
+
+        consultaPublisher.publish(event);
+    }
+}
@@ -0,0 +1,59 @@
+package com.creditoapi.domain.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Table("credito")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+@EqualsAndHashCode(of = "id")
+public class Credito {
+
+    @Id
+    private Long id;
+
+    @Column("numero_credito")
+    private String numeroCredito;
+
+    @Column("numero_nfse")
+    private String numeroNfse;
+
+    @Column("data_constituicao")
+    private LocalDate dataConstituicao;
+
+    @Column("valor_issqn")
+    private BigDecimal valorIssqn;
+
+    @Column("tipo_credito")
+    private String tipoCredito;
+
+    @Column("simples_nacional")
+    private boolean simplesNacional;
+
+    @Column("aliquota")
+    private BigDecimal aliquota;
+
+    @Column("valor_faturado")
+    private BigDecimal valorFaturado;
+
+    @Column("valor_deducao")
+    private BigDecimal valorDeducao;
+
+    @Column("base_calculo")
+    private BigDecimal baseCalculo;
+}
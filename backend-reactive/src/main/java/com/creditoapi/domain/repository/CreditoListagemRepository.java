@@ -0,0 +1,15 @@
+package com.creditoapi.domain.repository;
+
+import com.creditoapi.domain.entity.Credito;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDate;
+
+public interface CreditoListagemRepository {
+
+    Flux<Credito> findPagina(long cursor, String tipoCredito, Boolean simplesNacional,
+                             LocalDate dataInicio, LocalDate dataFim, int limite);
+
+    Flux<Credito> streamAll(long cursor, String tipoCredito, Boolean simplesNacional,
+                            LocalDate dataInicio, LocalDate dataFim);
+}
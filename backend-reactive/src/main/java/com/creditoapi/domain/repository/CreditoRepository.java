@@ -0,0 +1,21 @@
+package com.creditoapi.domain.repository;
+
+import com.creditoapi.domain.entity.Credito;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+@Repository
+public interface CreditoRepository extends ReactiveCrudRepository<Credito, Long>, CreditoListagemRepository {
+
+    Flux<Credito> findByNumeroNfse(String numeroNfse);
+
+    Mono<Credito> findByNumeroCredito(String numeroCredito);
+
+    Flux<Credito> findByNumeroNfseIn(Collection<String> numerosNfse);
+
+    Flux<Credito> findByNumeroCreditoIn(Collection<String> numerosCredito);
+}
@@ -0,0 +1,62 @@
+package com.creditoapi.domain.repository.impl;
+
+import com.creditoapi.domain.entity.Credito;
+import com.creditoapi.domain.repository.CreditoListagemRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.r2dbc.core.DatabaseClient.GenericExecuteSpec;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDate;
+
+@RequiredArgsConstructor
+public class CreditoListagemRepositoryImpl implements CreditoListagemRepository {
+
+    private static final String SELECT_FILTRADO = """
+            select * from credito
+            where id > :cursor
+              and (cast(:tipoCredito as varchar) is null or tipo_credito = :tipoCredito)
+              and (cast(:simplesNacional as boolean) is null or simples_nacional = :simplesNacional)
+              and (cast(:dataInicio as date) is null or data_constituicao >= :dataInicio)
+              and (cast(:dataFim as date) is null or data_constituicao <= :dataFim)
+            order by id
+            """;
+
+    private static final int TAMANHO_FETCH_EXPORTACAO = 500;
+
+    private final R2dbcEntityTemplate template;
+
+    @Override
+    public Flux<Credito> findPagina(long cursor, String tipoCredito, Boolean simplesNacional,
+                                    LocalDate dataInicio, LocalDate dataFim, int limite) {
+        GenericExecuteSpec spec = bind(template.getDatabaseClient().sql(SELECT_FILTRADO + " limit :limite"),
+                cursor, tipoCredito, simplesNacional, dataInicio, dataFim)
+                .bind("limite", limite);
+        return read(spec);
+    }
+
+    // O fetch size faz o driver buscar o cursor em blocos conforme a demanda do assinante, em vez do resultado inteiro
+    @Override
+    public Flux<Credito> streamAll(long cursor, String tipoCredito, Boolean simplesNacional,
+                                   LocalDate dataInicio, LocalDate dataFim) {
+        GenericExecuteSpec spec = bind(template.getDatabaseClient().sql(SELECT_FILTRADO),
+                cursor, tipoCredito, simplesNacional, dataInicio, dataFim)
+                .filter(statement -> statement.fetchSize(TAMANHO_FETCH_EXPORTACAO));
+        return read(spec);
+    }
+
+    private Flux<Credito> read(GenericExecuteSpec spec) {
+        return spec.map((row, metadata) -> template.getConverter().read(Credito.class, row, metadata)).all();
+    }
+
+    private static GenericExecuteSpec bind(GenericExecuteSpec spec, long cursor, String tipoCredito,
+                                           Boolean simplesNacional, LocalDate dataInicio, LocalDate dataFim) {
+        spec = spec.bind("cursor", cursor);
+        spec = tipoCredito == null ? spec.bindNull("tipoCredito", String.class) : spec.bind("tipoCredito", tipoCredito);
+        spec = simplesNacional == null
+                ? spec.bindNull("simplesNacional", Boolean.class)
+                : spec.bind("simplesNacional", simplesNacional);
+        spec = dataInicio == null ? spec.bindNull("dataInicio", LocalDate.class) : spec.bind("dataInicio", dataInicio);
+        return dataFim == null ? spec.bindNull("dataFim", LocalDate.class) : spec.bind("dataFim", dataFim);
+    }
+}
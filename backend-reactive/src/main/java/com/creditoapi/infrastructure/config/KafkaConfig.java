@@ -0,0 +1,41 @@
+package com.creditoapi.infrastructure.config;
+
+import com.creditoapi.application.dto.ConsultaEventDTO;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+import reactor.kafka.sender.KafkaSender;
+import reactor.kafka.sender.SenderOptions;
+
+@Configuration
+@ConditionalOnProperty(name = "app.kafka.enabled", havingValue = "true")
+public class KafkaConfig {
+
+    @Value("${app.kafka.topic.consulta-credito}")
+    private String consultaCreditoTopic;
+
+    @Value("${app.kafka.sender.max-in-flight}")
+    private int maxInFlight;
+
+    @Bean
+    public NewTopic consultaCreditoTopic() {
+        return TopicBuilder.name(consultaCreditoTopic)
+                .partitions(3)
+                .replicas(1)
+                .build();
+    }
+
+    // Reaproveita as propriedades spring.kafka.producer.* para que as duas variantes publiquem com a mesma configuração
+    @Bean(destroyMethod = "close")
+    public KafkaSender<String, ConsultaEventDTO> consultaKafkaSender(KafkaProperties kafkaProperties) {
+        SenderOptions<String, ConsultaEventDTO> options = SenderOptions.<String, ConsultaEventDTO>create(
+                        kafkaProperties.buildProducerProperties(null))
+                .maxInFlight(maxInFlight)
+                .stopOnError(false);
+        return KafkaSender.create(options);
+    }
+}
@@ -0,0 +1,115 @@
+package com.creditoapi.infrastructure.messaging.impl;
+
+import com.creditoapi.application.dto.ConsultaEventDTO;
+import com.creditoapi.infrastructure.messaging.ConsultaCreditoPublisher;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.kafka.sender.KafkaSender;
+import reactor.kafka.sender.SenderRecord;
+import reactor.kafka.sender.SenderResult;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.kafka.enabled", havingValue = "true")
+public class ReactorKafkaConsultaCreditoPublisher implements ConsultaCreditoPublisher, SmartLifecycle {
+
+    private final KafkaSender<String, ConsultaEventDTO> kafkaSender;
+    private final String topicName;
+    private final int capacity;
+
+    private final Counter dropped;
+    private final Counter sendFailures;
+    private final Timer sendLatency;
+
+    private final AtomicBoolean failing = new AtomicBoolean();
+    private volatile FluxSink<ConsultaEventDTO> sink;
+    private volatile boolean running;
+
+    public ReactorKafkaConsultaCreditoPublisher(
+            KafkaSender<String, ConsultaEventDTO> kafkaSender,
+            MeterRegistry meterRegistry,
+            @Value("${app.kafka.topic.consulta-credito}") String topicName,
+            @Value("${app.kafka.pipeline.capacity}") int capacity) {
+        this.kafkaSender = kafkaSender;
+        this.topicName = topicName;
+        this.capacity = capacity;
+        this.dropped = Counter.builder("consulta.events.dropped")
+                .description("Eventos de consulta descartados por fila cheia")
+                .tag("motivo", "drop-oldest")
+                .register(meterRegistry);
+        this.sendFailures = Counter.builder("consulta.events.send.failures")
+                .register(meterRegistry);
+        this.sendLatency = Timer.builder("consulta.events.send")
+                .description("Latência entre o envio ao producer e a confirmação do broker")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void publish(ConsultaEventDTO event) {
+        FluxSink<ConsultaEventDTO> atual = sink;
+        if (atual == null) {
+            dropped.increment();
+            return;
+        }
+        atual.next(event);
+    }
+
+    // O KafkaSender pede eventos conforme as confirmações do broker (maxInFlight); acima da capacidade do buffer os
+    // mais antigos são descartados, mantendo a consulta livre de qualquer espera pelo Kafka
+    @Override
+    public void start() {
+        Flux<SenderRecord<String, ConsultaEventDTO, Long>> registros = Flux.<ConsultaEventDTO>create(
+                        emitter -> sink = emitter)
+                .onBackpressureBuffer(capacity, descartado -> dropped.increment(), BufferOverflowStrategy.DROP_OLDEST)
+                .map(event -> SenderRecord.create(new ProducerRecord<>(topicName, event.tipoConsulta(), event),
+                        System.nanoTime()));
+
+        running = true;
+        kafkaSender.send(registros).subscribe(this::onResult,
+                ex -> log.error("Envio de eventos de consulta encerrado por erro: {}", ex.getMessage(), ex));
+        log.info("Publicação reativa de eventos de consulta iniciada (capacidade {})", capacity);
+    }
+
+    // Completar o fluxo deixa o sender confirmar o que já estava em voo antes de o bean ser fechado
+    @Override
+    public void stop() {
+        running = false;
+        FluxSink<ConsultaEventDTO> atual = sink;
+        sink = null;
+        if (atual != null) {
+            atual.complete();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void onResult(SenderResult<Long> result) {
+        sendLatency.record(System.nanoTime() - result.correlationMetadata(), TimeUnit.NANOSECONDS);
+        if (result.exception() != null) {
+            sendFailures.increment();
+            // Registra apenas a primeira falha de uma sequência para não inundar o log durante quedas do broker
+            if (failing.compareAndSet(false, true)) {
+                log.error("Erro ao publicar evento no Kafka: {}", result.exception().getMessage(), result.exception());
+            }
+        } else if (failing.compareAndSet(true, false)) {
+            log.info("Publicação de eventos no tópico {} restabelecida", topicName);
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.creditoapi.presentation.controller;
+
+import com.creditoapi.application.dto.BatchConsultaRequestDTO;
+import com.creditoapi.application.dto.BatchConsultaResponseDTO;
+import com.creditoapi.application.dto.CreditoDTO;
+import com.creditoapi.application.dto.CreditoFiltroDTO;
+import com.creditoapi.application.dto.ListagemCreditoResponseDTO;
+import com.creditoapi.application.service.CreditoService;
+import com.creditoapi.presentation.exception.ResourceNotFoundException;
+import com.creditoapi.presentation.export.CreditoCsvFormatter;
+import com.creditoapi.presentation.export.CreditoExportFormat;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/creditos")
+@RequiredArgsConstructor
+@Tag(name = "Créditos", description = "API reativa para consulta de créditos constituídos")
+@CrossOrigin(origins = "*")
+public class CreditoController {
+
+    static final int TAMANHO_MAXIMO_PAGINA = 500;
+
+    private final CreditoService creditoService;
+    private final ObjectMapper objectMapper;
+
+    @GetMapping
+    @Operation(summary = "Listar créditos",
+               description = "Lista créditos com filtros opcionais usando paginação por cursor: envie o "
+                       + "proximoCursor da resposta anterior no parâmetro cursor para obter a página seguinte")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Página de créditos retornada com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Parâmetros de paginação ou filtro inválidos")
+    })
+    public Mono<ListagemCreditoResponseDTO> listar(
+            @Parameter(description = "Tipo do crédito") @RequestParam(required = false) String tipoCredito,
+            @Parameter(description = "Optante pelo Simples Nacional") @RequestParam(required = false) Boolean simplesNacional,
+            @Parameter(description = "Data de constituição inicial (inclusive)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataInicio,
+            @Parameter(description = "Data de constituição final (inclusive)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataFim,
+            @Parameter(description = "Cursor retornado pela página anterior")
+            @RequestParam(defaultValue = "0") @Min(value = 0, message = "O cursor não pode ser negativo") long cursor,
+            @Parameter(description = "Quantidade de créditos por página")
+            @RequestParam(defaultValue = "50")
+            @Min(value = 1, message = "O tamanho da página deve ser ao menos 1")
+            @Max(value = TAMANHO_MAXIMO_PAGINA, message = "O tamanho da página deve ser no máximo " + TAMANHO_MAXIMO_PAGINA)
+            int tamanho) {
+
+        CreditoFiltroDTO filtro = filtro(tipoCredito, simplesNacional, dataInicio, dataFim);
+        log.info("Recebida requisição de listagem de créditos: {} (cursor {}, tamanho {})", filtro, cursor, tamanho);
+
+        return creditoService.listar(filtro, cursor, tamanho);
+    }
+
+    @GetMapping("/export")
+    @Operation(summary = "Exportar créditos",
+               description = "Exporta em streaming todos os créditos que atendem aos filtros, em NDJSON ou CSV")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Exportação iniciada com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Parâmetros de filtro inválidos")
+    })
+    public ResponseEntity<Flux<String>> exportar(
+            @Parameter(description = "Tipo do crédito") @RequestParam(required = false) String tipoCredito,
+            @Parameter(description = "Optante pelo Simples Nacional") @RequestParam(required = false) Boolean simplesNacional,
+            @Parameter(description = "Data de constituição inicial (inclusive)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataInicio,
+            @Parameter(description = "Data de constituição final (inclusive)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataFim,
+            @Parameter(description = "Formato do arquivo") @RequestParam(defaultValue = "NDJSON") CreditoExportFormat formato) {
+
+        CreditoFiltroDTO filtro = filtro(tipoCredito, simplesNacional, dataInicio, dataFim);
+        log.info("Recebida requisição de exportação de créditos em {}: {}", formato, filtro);
+
+        Flux<CreditoDTO> creditos = creditoService.exportar(filtro);
+        Flux<String> body = switch (formato) {
+            case NDJSON -> creditos.map(this::ndjson);
+            case CSV -> creditos.map(CreditoCsvFormatter::linha).startWith(CreditoCsvFormatter.CABECALHO);
+        };
+
+        return ResponseEntity.ok()
+                .contentType(formato.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("creditos." + formato.getExtensao())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
+    @GetMapping("/{numeroNfse}")
+    @Operation(summary = "Buscar créditos por NFS-e",
+               description = "Retorna uma lista de créditos constituídos com base no número da NFS-e")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lista de créditos retornada com sucesso"),
+            @ApiResponse(responseCode = "404", description = "Nenhum crédito encontrado para a NFS-e informada")
+    })
+    public Mono<List<CreditoDTO>> findByNumeroNfse(
+            @Parameter(description = "Número identificador da NFS-e", required = true)
+            @PathVariable String numeroNfse) {
+
+        log.info("Recebida requisição para buscar créditos por NFS-e: {}", numeroNfse);
+
+        return creditoService.findByNumeroNfse(numeroNfse)
+                .filter(creditos -> !creditos.isEmpty())
+                .switchIfEmpty(Mono.error(() -> {
+                    log.warn("Nenhum crédito encontrado para NFS-e: {}", numeroNfse);
+                    return new ResourceNotFoundException("Nenhum crédito encontrado para a NFS-e: " + numeroNfse);
+                }));
+    }
+
+    @GetMapping("/credito/{numeroCredito}")
+    @Operation(summary = "Buscar crédito por número",
+               description = "Retorna os detalhes de um crédito constituído específico")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Crédito retornado com sucesso"),
+            @ApiResponse(responseCode = "404", description = "Crédito não encontrado")
+    })
+    public Mono<CreditoDTO> findByNumeroCredito(
+            @Parameter(description = "Número identificador do crédito constituído", required = true)
+            @PathVariable String numeroCredito) {
+
+        log.info("Recebida requisição para buscar crédito por número: {}", numeroCredito);
+
+        return creditoService.findByNumeroCredito(numeroCredito)
+                .switchIfEmpty(Mono.error(() -> {
+                    log.warn("Crédito não encontrado: {}", numeroCredito);
+                    return new ResourceNotFoundException("Crédito não encontrado: " + numeroCredito);
+                }));
+    }
+
+    @PostMapping("/batch")
+    @Operation(summary = "Buscar créditos em lote",
+               description = "Retorna os créditos de várias NFS-e e/ou números de crédito em uma única requisição, "
+                       + "listando explicitamente as chaves não encontradas")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Resultado do lote retornado com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Quantidade de chaves acima do limite permitido")
+    })
+    public Mono<BatchConsultaResponseDTO> findBatch(
+            @Valid @RequestBody BatchConsultaRequestDTO request) {
+
+        log.info("Recebida requisição de consulta em lote: {} NFS-e e {} créditos",
+                request.numerosNfse().size(), request.numerosCredito().size());
+
+        return creditoService.findBatch(request.numerosNfse(), request.numerosCredito());
+    }
+
+    private String ndjson(CreditoDTO credito) {
+        try {
+            return objectMapper.writeValueAsString(credito) + '\n';
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Falha ao serializar crédito " + credito.numeroCredito(), ex);
+        }
+    }
+
+    private static CreditoFiltroDTO filtro(String tipoCredito, Boolean simplesNacional,
+                                           LocalDate dataInicio, LocalDate dataFim) {
+        return CreditoFiltroDTO.builder()
+                .tipoCredito(tipoCredito)
+                .simplesNacional(simplesNacional)
+                .dataInicio(dataInicio)
+                .dataFim(dataFim)
+                .build();
+    }
+}
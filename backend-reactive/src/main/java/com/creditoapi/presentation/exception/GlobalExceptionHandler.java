@@ -0,0 +1,90 @@
+package com.creditoapi.presentation.exception;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.MessageSourceResolvable;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
+import org.springframework.web.server.ServerWebInputException;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Slf4j
+@RestControllerAdvice
+public class GlobalExceptionHandler {
+
+    @ExceptionHandler(ResourceNotFoundException.class)
+    public ResponseEntity<Object> handleResourceNotFoundException(
+            ResourceNotFoundException ex, ServerHttpRequest request) {
+
+        log.error("Recurso não encontrado: {}", ex.getMessage());
+
+        return body(HttpStatus.NOT_FOUND, "Not Found", ex.getMessage(), request);
+    }
+
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<Object> handleWebExchangeBindException(
+            WebExchangeBindException ex, ServerHttpRequest request) {
+
+        String message = ex.getBindingResult().getFieldErrors().stream()
+                .map(FieldError::getDefaultMessage)
+                .collect(Collectors.joining("; "));
+
+        return badRequest(message, request);
+    }
+
+    @ExceptionHandler(HandlerMethodValidationException.class)
+    public ResponseEntity<Object> handleHandlerMethodValidationException(
+            HandlerMethodValidationException ex, ServerHttpRequest request) {
+
+        String message = ex.getAllValidationResults().stream()
+                .flatMap(result -> result.getResolvableErrors().stream())
+                .map(MessageSourceResolvable::getDefaultMessage)
+                .collect(Collectors.joining("; "));
+
+        return badRequest(message, request);
+    }
+
+    @ExceptionHandler(ServerWebInputException.class)
+    public ResponseEntity<Object> handleServerWebInputException(
+            ServerWebInputException ex, ServerHttpRequest request) {
+
+        return badRequest(ex.getReason(), request);
+    }
+
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<Object> handleGlobalException(
+            Exception ex, ServerHttpRequest request) {
+
+        log.error("Erro interno: {}", ex.getMessage(), ex);
+
+        return body(HttpStatus.INTERNAL_SERVER_ERROR, "Internal Server Error",
+                "Ocorreu um erro interno. Por favor, tente novamente.", request);
+    }
+
+    private ResponseEntity<Object> badRequest(String message, ServerHttpRequest request) {
+        log.warn("Requisição inválida: {}", message);
+
+        return body(HttpStatus.BAD_REQUEST, "Bad Request", message, request);
+    }
+
+    private static ResponseEntity<Object> body(HttpStatus status, String error, String message,
+                                               ServerHttpRequest request) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("timestamp", LocalDateTime.now());
+        body.put("status", status.value());
+        body.put("error", error);
+        body.put("message", message);
+        body.put("path", request.getPath().value());
+
+        return new ResponseEntity<>(body, status);
+    }
+}
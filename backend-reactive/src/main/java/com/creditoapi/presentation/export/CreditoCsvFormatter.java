@@ -0,0 +1,42 @@
+package com.creditoapi.presentation.export;
+
+import com.creditoapi.application.dto.CreditoDTO;
+
+import java.math.BigDecimal;
+
+public final class CreditoCsvFormatter {
+
+    public static final String CABECALHO = "numeroCredito,numeroNfse,dataConstituicao,valorIssqn,tipoCredito,"
+            + "simplesNacional,aliquota,valorFaturado,valorDeducao,baseCalculo\n";
+
+    private CreditoCsvFormatter() {
+    }
+
+    public static String linha(CreditoDTO credito) {
+        return String.join(",",
+                csv(credito.numeroCredito()),
+                csv(credito.numeroNfse()),
+                csv(credito.dataConstituicao() == null ? null : credito.dataConstituicao().toString()),
+                csv(credito.valorIssqn()),
+                csv(credito.tipoCredito()),
+                csv(credito.simplesNacional()),
+                csv(credito.aliquota()),
+                csv(credito.valorFaturado()),
+                csv(credito.valorDeducao()),
+                csv(credito.baseCalculo())) + '\n';
+    }
+
+    private static String csv(BigDecimal valor) {
+        return valor == null ? "" : valor.toPlainString();
+    }
+
+    private static String csv(String valor) {
+        if (valor == null) {
+            return "";
+        }
+        if (valor.indexOf(',') < 0 && valor.indexOf('"') < 0 && valor.indexOf('\n') < 0 && valor.indexOf('\r') < 0) {
+            return valor;
+        }
+        return '"' + valor.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,115 @@
+package com.creditoapi.infrastructure.messaging.impl;
+
+import com.creditoapi.application.dto.ConsultaEventDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.kafka.sender.KafkaSender;
+import reactor.kafka.sender.SenderRecord;
+import reactor.kafka.sender.SenderResult;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ReactorKafkaConsultaCreditoPublisher Tests")
+class ReactorKafkaConsultaCreditoPublisherTest {
+
+    private static final String TOPICO = "consulta-credito-topic";
+
+    private final List<SenderRecord<String, ConsultaEventDTO, Long>> enviados = new CopyOnWriteArrayList<>();
+    private SimpleMeterRegistry meterRegistry;
+    private KafkaSender<String, ConsultaEventDTO> kafkaSender;
+    private ReactorKafkaConsultaCreditoPublisher publisher;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        kafkaSender = mock(KafkaSender.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        publisher.stop();
+    }
+
+    // Sem scheduler no mock do sender, o evento atravessa o fluxo na própria thread que chama publish
+    @Test
+    @DisplayName("Deve enviar o evento com o tipo de consulta como chave e medir a latência")
+    void publish_ShouldSendRecordKeyedByTipoConsulta() {
+        responderCom(null);
+        publisher.publish(evento("NFSE"));
+
+        assertThat(enviados).hasSize(1);
+        SenderRecord<String, ConsultaEventDTO, Long> registro = enviados.get(0);
+        assertThat(registro.topic()).isEqualTo(TOPICO);
+        assertThat(registro.key()).isEqualTo("NFSE");
+        assertThat(meterRegistry.get("consulta.events.send").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("consulta.events.send.failures").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve contar falhas do broker sem encerrar o fluxo de envio")
+    void publish_WhenBrokerFails_ShouldCountFailuresAndKeepSending() {
+        responderCom(new IllegalStateException("broker indisponível"));
+        publisher.publish(evento("NFSE"));
+        publisher.publish(evento("CREDITO"));
+
+        assertThat(enviados).hasSize(2);
+        assertThat(meterRegistry.get("consulta.events.send.failures").counter().count()).isEqualTo(2);
+        assertThat(publisher.isRunning()).isTrue();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void responderCom(Exception erro) {
+        when(kafkaSender.send(any())).thenAnswer(invocation -> {
+            Publisher<SenderRecord<String, ConsultaEventDTO, Long>> registros = invocation.getArgument(0);
+            return Flux.from(registros).map(registro -> {
+                enviados.add(registro);
+                return resultado(registro.correlationMetadata(), erro);
+            });
+        });
+        publisher = new ReactorKafkaConsultaCreditoPublisher(kafkaSender, meterRegistry, TOPICO, 16);
+        publisher.start();
+    }
+
+    private static SenderResult<Long> resultado(Long correlacao, Exception erro) {
+        return new SenderResult<>() {
+            @Override
+            public RecordMetadata recordMetadata() {
+                return null;
+            }
+
+            @Override
+            public Exception exception() {
+                return erro;
+            }
+
+            @Override
+            public Long correlationMetadata() {
+                return correlacao;
+            }
+        };
+    }
+
+    private static ConsultaEventDTO evento(String tipoConsulta) {
+        return ConsultaEventDTO.builder()
+                .tipoConsulta(tipoConsulta)
+                .parametroConsulta("7891011")
+                .dataHoraConsulta(LocalDateTime.now())
+                .quantidadeResultados(1)
+                .sucesso(true)
+                .build();
+    }
+}
@@ -0,0 +1,138 @@
+package com.creditoapi.presentation.controller;
+
+import com.creditoapi.application.dto.CreditoDTO;
+import com.creditoapi.application.dto.ListagemCreditoResponseDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@AutoConfigureWebTestClient
+@ActiveProfiles("test")
+@DisplayName("CreditoController reativo Tests")
+class CreditoControllerIntegrationTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Test
+    @DisplayName("GET /api/creditos/{numeroNfse} - Deve retornar lista de créditos")
+    void findByNumeroNfse_WhenNfseExists_ShouldReturnCreditoList() {
+        webTestClient.get().uri("/api/creditos/{numeroNfse}", "7891011")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(2)
+                .jsonPath("$[0].numeroNfse").isEqualTo("7891011")
+                .jsonPath("$[0].simplesNacional").isEqualTo("Sim")
+                .jsonPath("$[0].dataConstituicao").isEqualTo("2024-02-25");
+    }
+
+    @Test
+    @DisplayName("GET /api/creditos/{numeroNfse} - Deve retornar 404 no mesmo formato da API MVC")
+    void findByNumeroNfse_WhenNfseNotExists_ShouldReturn404() {
+        webTestClient.get().uri("/api/creditos/{numeroNfse}", "999999")
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo(404)
+                .jsonPath("$.message").isEqualTo("Nenhum crédito encontrado para a NFS-e: 999999")
+                .jsonPath("$.path").isEqualTo("/api/creditos/999999");
+    }
+
+    @Test
+    @DisplayName("GET /api/creditos/credito/{numeroCredito} - Deve retornar o crédito ou 404")
+    void findByNumeroCredito_ShouldReturnCreditoOr404() {
+        webTestClient.get().uri("/api/creditos/credito/{numeroCredito}", "654321")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.numeroNfse").isEqualTo("1122334")
+                .jsonPath("$.tipoCredito").isEqualTo("Outros");
+
+        webTestClient.get().uri("/api/creditos/credito/{numeroCredito}", "000000")
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    @DisplayName("POST /api/creditos/batch - Deve agrupar créditos e listar chaves não encontradas")
+    void findBatch_ShouldReturnGroupedResult() {
+        webTestClient.post().uri("/api/creditos/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("numerosNfse", List.of("7891011", "999999"),
+                        "numerosCredito", List.of("123456", "000000")))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.creditosPorNfse.7891011.length()").isEqualTo(2)
+                .jsonPath("$.creditosPorNumero.123456.numeroNfse").isEqualTo("7891011")
+                .jsonPath("$.nfseNaoEncontradas[0]").isEqualTo("999999")
+                .jsonPath("$.creditosNaoEncontrados[0]").isEqualTo("000000");
+    }
+
+    @Test
+    @DisplayName("GET /api/creditos - Deve paginar por cursor aplicando os filtros")
+    void listar_ShouldPageWithCursorAndFilters() {
+        ListagemCreditoResponseDTO primeira = webTestClient.get()
+                .uri("/api/creditos?tipoCredito=ISSQN&tamanho=1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(ListagemCreditoResponseDTO.class)
+                .returnResult().getResponseBody();
+
+        assertThat(primeira.creditos()).extracting(CreditoDTO::numeroCredito).containsExactly("123456");
+        assertThat(primeira.possuiMais()).isTrue();
+
+        webTestClient.get()
+                .uri("/api/creditos?tipoCredito=ISSQN&tamanho=1&cursor={cursor}", primeira.proximoCursor())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.creditos[0].numeroCredito").isEqualTo("789012")
+                .jsonPath("$.possuiMais").isEqualTo(false);
+
+        webTestClient.get().uri("/api/creditos?tamanho=0")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("O tamanho da página deve ser ao menos 1");
+    }
+
+    @Test
+    @DisplayName("GET /api/creditos/export - Deve transmitir NDJSON e CSV")
+    void exportar_ShouldStreamNdjsonAndCsv() {
+        List<CreditoDTO> creditos = webTestClient.get().uri("/api/creditos/export?simplesNacional=true")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_NDJSON)
+                .returnResult(CreditoDTO.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+
+        assertThat(creditos).extracting(CreditoDTO::numeroCredito).containsExactly("123456", "654321");
+
+        String csv = webTestClient.get().uri("/api/creditos/export?formato=CSV&tipoCredito=Outros")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("Content-Disposition", "attachment; filename=\"creditos.csv\"")
+                .expectBody(String.class)
+                .returnResult().getResponseBody();
+
+        assertThat(csv).isEqualTo("""
+                numeroCredito,numeroNfse,dataConstituicao,valorIssqn,tipoCredito,simplesNacional,aliquota,valorFaturado,valorDeducao,baseCalculo
+                654321,1122334,2024-01-15,800.50,Outros,Sim,3.50,20000.00,3000.00,17000.00
+                """);
+    }
+}
@@ -0,0 +1,110 @@
+package com.creditoapi.benchmark;
+
+import com.creditoapi.CreditoApiApplication;
+import com.creditoapi.application.dto.CreditoDTO;
+import com.creditoapi.application.service.IngestaoCreditoService;
+import com.creditoapi.infrastructure.persistence.CreditoProjectionRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// Consultas por NFS-e e por número sobre o PostgreSQL configurado (SPRING_DATASOURCE_URL) com a tabela
+// particionada já populada pelo CreditoGerador. A carga só insere o que falta para chegar ao volume, então
+// execuções seguintes reaproveitam os dados:
+//   mvn -Pbenchmarks verify -DskipTests -Djmh.args="CreditoEscala -p volume=100000000"
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(8)
+@Fork(1)
+public class CreditoEscalaBenchmark {
+
+    @Param({"1000000"})
+    private long volume;
+
+    private ConfigurableApplicationContext context;
+    private CreditoProjectionRepository projectionRepository;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(CreditoApiApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.main.banner-mode=off",
+                        "--spring.jpa.show-sql=false",
+                        "--app.kafka.enabled=false",
+                        "--app.cache.enabled=false",
+                        "--logging.level.root=WARN",
+                        "--logging.level.com.creditoapi=WARN");
+        projectionRepository = context.getBean(CreditoProjectionRepository.class);
+
+        // Os números gerados são sequenciais e de mesmo tamanho, então a contagem indica de onde continuar
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        long existentes = jdbcTemplate.queryForObject(
+                "select count(*) from credito_numero where numero_credito between ? and ?", Long.class,
+                CreditoGerador.numeroCredito(0), CreditoGerador.numeroCredito(volume - 1));
+        if (existentes < volume) {
+            context.getBean(IngestaoCreditoService.class).ingerir(CreditoGerador.creditos(existentes, volume));
+            // Atualiza o mapa de visibilidade, sem o qual as varreduras só pelo índice voltam à tabela
+            jdbcTemplate.execute("VACUUM ANALYZE credito");
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @State(Scope.Thread)
+    public static class Chaves {
+
+        private SplittableRandom random;
+        private long volume;
+
+        @Setup(Level.Trial)
+        public void setUp(CreditoEscalaBenchmark benchmark) {
+            random = new SplittableRandom(Thread.currentThread().getId());
+            volume = benchmark.volume;
+        }
+
+        long proximo() {
+            return random.nextLong(volume);
+        }
+    }
+
+    @Benchmark
+    public List<CreditoDTO> porNfse(Chaves chaves) {
+        return projectionRepository.findDTOByNumeroNfse(CreditoGerador.numeroNfse(chaves.proximo()));
+    }
+
+    @Benchmark
+    public Optional<CreditoDTO> porNumero(Chaves chaves) {
+        return projectionRepository.findDTOByNumeroCredito(CreditoGerador.numeroCredito(chaves.proximo()));
+    }
+
+    @Benchmark
+    public Optional<CreditoDTO> porNumeroInexistente(Chaves chaves) {
+        return projectionRepository.findDTOByNumeroCredito(CreditoGerador.numeroCredito(volume + chaves.proximo()));
+    }
+}
@@ -0,0 +1,123 @@
+package com.creditoapi.benchmark;
+
+import com.creditoapi.application.dto.ConsultaEventDTO;
+import com.creditoapi.application.mapper.CreditoMapper;
+import com.creditoapi.domain.entity.Credito;
+import com.creditoapi.domain.repository.CreditoRepository;
+import com.creditoapi.infrastructure.persistence.CreditoProjectionRepository;
+import jakarta.persistence.EntityManager;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+final class CreditoFixtures {
+
+    private CreditoFixtures() {
+    }
+
+    static Credito credito(int indice, String numeroNfse) {
+        return Credito.builder()
+                .id((long) indice)
+                .numeroCredito(String.valueOf(100000 + indice))
+                .numeroNfse(numeroNfse)
+                .dataConstituicao(LocalDate.of(2024, 1, 1).plusDays(indice % 365))
+                .valorIssqn(new BigDecimal("1500.75"))
+                .tipoCredito(indice % 2 == 0 ? "ISSQN" : "Outros")
+                .simplesNacional(indice % 3 == 0)
+                .aliquota(new BigDecimal("5.00"))
+                .valorFaturado(new BigDecimal("30000.00"))
+                .valorDeducao(new BigDecimal("5000.00"))
+                .baseCalculo(new BigDecimal("25000.00"))
+                .build();
+    }
+
+    static List<Credito> creditos(int quantidade, String numeroNfse) {
+        return IntStream.range(0, quantidade)
+                .mapToObj(indice -> credito(indice, numeroNfse))
+                .toList();
+    }
+
+    static ConsultaEventDTO consultaEvent() {
+        return ConsultaEventDTO.builder()
+                .tipoConsulta("NFSE")
+                .parametroConsulta("7891011")
+                .dataHoraConsulta(LocalDateTime.of(2024, 2, 25, 10, 30))
+                .quantidadeResultados(2)
+                .sucesso(true)
+                .build();
+    }
+
+    static CreditoRepository inMemoryRepository(List<Credito> creditos) {
+        Map<String, List<Credito>> porNfse = creditos.stream()
+                .collect(Collectors.groupingBy(Credito::getNumeroNfse));
+        Map<String, Credito> porNumero = creditos.stream()
+                .collect(Collectors.toMap(Credito::getNumeroCredito, Function.identity()));
+
+        return (CreditoRepository) Proxy.newProxyInstance(CreditoRepository.class.getClassLoader(),
+                new Class<?>[]{CreditoRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findByNumeroNfse" -> porNfse.getOrDefault((String) args[0], List.of());
+                    case "findByNumeroCredito" -> Optional.ofNullable(porNumero.get((String) args[0]));
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "InMemoryCreditoRepository";
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    @SuppressWarnings("unchecked")
+    static CreditoProjectionRepository inMemoryProjectionRepository(List<Credito> creditos) {
+        Map<String, List<Credito>> porNfse = creditos.stream()
+                .collect(Collectors.groupingBy(Credito::getNumeroNfse));
+        Map<String, Credito> porNumero = creditos.stream()
+                .collect(Collectors.toMap(Credito::getNumeroCredito, Function.identity()));
+        CreditoMapper mapper = new CreditoMapper();
+
+        return (CreditoProjectionRepository) Proxy.newProxyInstance(
+                CreditoProjectionRepository.class.getClassLoader(),
+                new Class<?>[]{CreditoProjectionRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findDTOByNumeroNfse" -> mapper.toDTOList(porNfse.getOrDefault((String) args[0], List.of()));
+                    case "findDTOByNumeroCredito" -> Optional.ofNullable(porNumero.get((String) args[0]))
+                            .map(mapper::toDTO);
+                    case "findDTOByNumeroNfseIn" -> ((Collection<String>) args[0]).stream()
+                            .flatMap(numero -> porNfse.getOrDefault(numero, List.of()).stream())
+                            .map(mapper::toDTO)
+                            .toList();
+                    case "findDTOByNumeroCreditoIn" -> ((Collection<String>) args[0]).stream()
+                            .map(porNumero::get)
+                            .filter(credito -> credito != null)
+                            .map(mapper::toDTO)
+                            .toList();
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "InMemoryCreditoProjectionRepository";
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    // O serviço só usa o EntityManager para desanexar entidades na exportação; fora de um contexto de persistência
+    // o detach não tem o que fazer, e qualquer outro uso falha em vez de medir um caminho que não existe
+    static EntityManager detachOnlyEntityManager() {
+        return (EntityManager) Proxy.newProxyInstance(EntityManager.class.getClassLoader(),
+                new Class<?>[]{EntityManager.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "detach" -> null;
+                    case "contains" -> false;
+                    case "isOpen" -> true;
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "DetachOnlyEntityManager";
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
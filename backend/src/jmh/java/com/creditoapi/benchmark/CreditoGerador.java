@@ -0,0 +1,54 @@
+package com.creditoapi.benchmark;
+
+import com.creditoapi.application.dto.CreditoDTO;
+import com.creditoapi.application.mapper.CreditoMapper;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.stream.LongStream;
+
+// Gera créditos determinísticos em volume: o índice define número, NFS-e e data, então os benchmarks sorteiam
+// chaves existentes sem consultar o banco. As datas cobrem cinco anos para espalhar os créditos pelas partições.
+final class CreditoGerador {
+
+    static final int CREDITOS_POR_NFSE = 4;
+
+    private static final LocalDate INICIO = LocalDate.of(2020, 1, 1);
+    private static final int DIAS = 5 * 365;
+
+    private CreditoGerador() {
+    }
+
+    static String numeroCredito(long indice) {
+        return String.valueOf(10_000_000_000L + indice);
+    }
+
+    static String numeroNfse(long indice) {
+        return String.valueOf(5_000_000_000L + indice / CREDITOS_POR_NFSE);
+    }
+
+    static CreditoDTO credito(long indice) {
+        long nfse = indice / CREDITOS_POR_NFSE;
+        BigDecimal baseCalculo = BigDecimal.valueOf(1_000_00 + indice % 9_000_000, 2);
+        BigDecimal aliquota = BigDecimal.valueOf(200 + indice % 300, 2);
+        return CreditoDTO.builder()
+                .numeroCredito(numeroCredito(indice))
+                .numeroNfse(numeroNfse(indice))
+                // Os créditos de uma NFS-e são constituídos no mesmo dia
+                .dataConstituicao(INICIO.plusDays(Long.remainderUnsigned(nfse * 0x9E3779B97F4A7C15L, DIAS)))
+                .valorIssqn(baseCalculo.multiply(aliquota).movePointLeft(2).setScale(2, RoundingMode.HALF_UP))
+                .tipoCredito(indice % 3 == 0 ? "Outros" : "ISSQN")
+                .simplesNacional(indice % 2 == 0 ? CreditoMapper.SIM : CreditoMapper.NAO)
+                .aliquota(aliquota)
+                .valorFaturado(baseCalculo.add(BigDecimal.valueOf(500_00, 2)))
+                .valorDeducao(BigDecimal.valueOf(500_00, 2))
+                .baseCalculo(baseCalculo)
+                .build();
+    }
+
+    static Iterator<CreditoDTO> creditos(long inicio, long fim) {
+        return LongStream.range(inicio, fim).mapToObj(CreditoGerador::credito).iterator();
+    }
+}
@@ -0,0 +1,52 @@
+package com.creditoapi.benchmark;
+
+import com.creditoapi.application.dto.CreditoDTO;
+import com.creditoapi.application.mapper.CreditoMapper;
+import com.creditoapi.domain.entity.Credito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CreditoMapperBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int quantidade;
+
+    private CreditoMapper creditoMapper;
+    private Credito credito;
+    private List<Credito> creditos;
+
+    @Setup
+    public void setUp() {
+        creditoMapper = new CreditoMapper();
+        credito = CreditoFixtures.credito(1, "7891011");
+        creditos = CreditoFixtures.creditos(quantidade, "7891011");
+    }
+
+    @Benchmark
+    public CreditoDTO toDTO() {
+        return creditoMapper.toDTO(credito);
+    }
+
+    @Benchmark
+    public List<CreditoDTO> toDTOList() {
+        return creditoMapper.toDTOList(creditos);
+    }
+}
@@ -0,0 +1,94 @@
+package com.creditoapi.benchmark;
+
+import com.creditoapi.CreditoApiApplication;
+import com.creditoapi.application.dto.CreditoDTO;
+import com.creditoapi.application.mapper.CreditoMapper;
+import com.creditoapi.domain.entity.Credito;
+import com.creditoapi.domain.repository.CreditoRepository;
+import com.creditoapi.infrastructure.persistence.CreditoProjectionRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+// Compara a leitura via entidade gerenciada + CreditoMapper com a projeção direta em CreditoDTO,
+// sobre Hibernate e H2 reais. Use -prof gc para comparar a alocação por operação.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CreditoReadPathBenchmark {
+
+    private static final String NFSE = "7891011";
+
+    @Param({"1", "10", "100"})
+    private int quantidade;
+
+    private ConfigurableApplicationContext context;
+    private CreditoRepository creditoRepository;
+    private CreditoProjectionRepository projectionRepository;
+    private CreditoMapper creditoMapper;
+    private String numeroCredito;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(CreditoApiApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .run("--spring.main.banner-mode=off",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                        "--logging.level.root=WARN",
+                        "--logging.level.com.creditoapi=WARN");
+        creditoRepository = context.getBean(CreditoRepository.class);
+        projectionRepository = context.getBean(CreditoProjectionRepository.class);
+        creditoMapper = context.getBean(CreditoMapper.class);
+
+        List<Credito> creditos = CreditoFixtures.creditos(quantidade, NFSE);
+        creditos.forEach(credito -> credito.setId(null));
+        creditoRepository.saveAll(creditos);
+        numeroCredito = creditos.get(0).getNumeroCredito();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<CreditoDTO> entidadePorNfse() {
+        return creditoMapper.toDTOList(creditoRepository.findByNumeroNfse(NFSE));
+    }
+
+    @Benchmark
+    public List<CreditoDTO> projecaoPorNfse() {
+        return projectionRepository.findDTOByNumeroNfse(NFSE);
+    }
+
+    @Benchmark
+    public Optional<CreditoDTO> entidadePorNumero() {
+        return creditoRepository.findByNumeroCredito(numeroCredito).map(creditoMapper::toDTO);
+    }
+
+    @Benchmark
+    public Optional<CreditoDTO> projecaoPorNumero() {
+        return projectionRepository.findDTOByNumeroCredito(numeroCredito);
+    }
+}
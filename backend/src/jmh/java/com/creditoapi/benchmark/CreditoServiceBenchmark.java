@@ -0,0 +1,72 @@
+package com.creditoapi.benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.creditoapi.application.dto.CreditoDTO;
+import com.creditoapi.application.mapper.CreditoMapper;
+import com.creditoapi.application.service.impl.CreditoServiceImpl;
+import com.creditoapi.domain.entity.Credito;
+import com.creditoapi.infrastructure.cache.CreditoCache;
+import com.creditoapi.infrastructure.cache.impl.CaffeineCreditoCache;
+import com.creditoapi.infrastructure.cache.impl.NoOpCreditoCache;
+import com.creditoapi.infrastructure.messaging.impl.NoOpConsultaCreditoPublisher;
+import com.creditoapi.infrastructure.metrics.ConsultaMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CreditoServiceBenchmark {
+
+    private static final String NFSE_QUENTE = "7891011";
+
+    @Param({"false", "true"})
+    private boolean cacheHabilitado;
+
+    private CreditoServiceImpl creditoService;
+
+    @Setup
+    public void setUp() {
+        // Sem o contexto Spring o logback cai no nível DEBUG no console, que dominaria a medição
+        ((Logger) LoggerFactory.getLogger("com.creditoapi")).setLevel(Level.WARN);
+
+        List<Credito> creditos = CreditoFixtures.creditos(10, NFSE_QUENTE);
+        CreditoCache creditoCache = cacheHabilitado
+                ? new CaffeineCreditoCache(new SimpleMeterRegistry(), 10_000, Duration.ofMinutes(10),
+                        Duration.ofSeconds(30))
+                : new NoOpCreditoCache();
+
+        creditoService = new CreditoServiceImpl(
+                CreditoFixtures.inMemoryRepository(creditos),
+                CreditoFixtures.inMemoryProjectionRepository(creditos),
+                new CreditoMapper(),
+                new NoOpConsultaCreditoPublisher(),
+                creditoCache,
+                CreditoFixtures.detachOnlyEntityManager(),
+                new ConsultaMetrics(new SimpleMeterRegistry()));
+    }
+
+    @Benchmark
+    public List<CreditoDTO> findByNumeroNfse() {
+        return creditoService.findByNumeroNfse(NFSE_QUENTE);
+    }
+}
@@ -0,0 +1,97 @@
+package com.creditoapi.benchmark;
+
+import com.aayushatharva.brotli4j.Brotli4jLoader;
+import com.aayushatharva.brotli4j.encoder.Encoder;
+import com.creditoapi.application.dto.CreditoDTO;
+import com.creditoapi.application.mapper.CreditoMapper;
+import com.creditoapi.presentation.http.CreditoProtobufMapper;
+import com.creditoapi.presentation.proto.CreditoLista;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+// Custo de codificar e decodificar List<CreditoDTO> em cada formato negociável. Os tamanhos (puro, gzip e br)
+// são impressos no início de cada combinação de parâmetros
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FormatoRespostaBenchmark {
+
+    public enum Formato {
+        JSON, CBOR, SMILE, PROTOBUF
+    }
+
+    @Param({"JSON", "CBOR", "SMILE", "PROTOBUF"})
+    private Formato formato;
+
+    @Param({"1", "100"})
+    private int quantidade;
+
+    private ObjectMapper objectMapper;
+    private JavaType tipoLista;
+    private List<CreditoDTO> creditos;
+    private byte[] codificado;
+
+    @Setup
+    public void setUp() throws IOException {
+        // Mesmo builder usado pelo Spring Boot para os conversores JSON, CBOR e Smile
+        objectMapper = switch (formato) {
+            case CBOR -> Jackson2ObjectMapperBuilder.json().factory(new CBORFactory()).build();
+            case SMILE -> Jackson2ObjectMapperBuilder.json().factory(new SmileFactory()).build();
+            default -> Jackson2ObjectMapperBuilder.json().build();
+        };
+        tipoLista = objectMapper.getTypeFactory().constructCollectionType(List.class, CreditoDTO.class);
+        creditos = new CreditoMapper().toDTOList(CreditoFixtures.creditos(quantidade, "7891011"));
+        codificado = codificar();
+
+        System.out.printf("%n%s com %d créditos: %d bytes, gzip %d, br %s%n", formato, quantidade,
+                codificado.length, gzip(codificado).length,
+                Brotli4jLoader.isAvailable() ? Encoder.compress(codificado).length : "indisponível");
+    }
+
+    @Benchmark
+    public byte[] codificar() throws IOException {
+        if (formato == Formato.PROTOBUF) {
+            return CreditoProtobufMapper.toProto(creditos).toByteArray();
+        }
+        return objectMapper.writeValueAsBytes(creditos);
+    }
+
+    @Benchmark
+    public List<CreditoDTO> decodificar() throws IOException {
+        if (formato == Formato.PROTOBUF) {
+            return CreditoProtobufMapper.toDTOList(CreditoLista.parseFrom(codificado));
+        }
+        return objectMapper.readValue(codificado, tipoLista);
+    }
+
+    private static byte[] gzip(byte[] corpo) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            gzip.write(corpo);
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,62 @@
+package com.creditoapi.benchmark;
+
+import com.creditoapi.application.dto.ConsultaEventDTO;
+import com.creditoapi.application.dto.CreditoDTO;
+import com.creditoapi.application.mapper.CreditoMapper;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int quantidade;
+
+    private ObjectWriter creditosWriter;
+    private ObjectWriter eventWriter;
+    private List<CreditoDTO> creditos;
+    private ConsultaEventDTO consultaEvent;
+
+    @Setup
+    public void setUp() {
+        // Mesma configuração padrão aplicada pelo Spring Boot ao ObjectMapper da aplicação
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        creditosWriter = objectMapper.writerFor(objectMapper.getTypeFactory()
+                .constructCollectionType(List.class, CreditoDTO.class));
+        eventWriter = objectMapper.writerFor(ConsultaEventDTO.class);
+
+        creditos = new CreditoMapper().toDTOList(CreditoFixtures.creditos(quantidade, "7891011"));
+        consultaEvent = CreditoFixtures.consultaEvent();
+    }
+
+    @Benchmark
+    public byte[] serializeCreditoList() throws JsonProcessingException {
+        return creditosWriter.writeValueAsBytes(creditos);
+    }
+
+    @Benchmark
+    public byte[] serializeConsultaEvent() throws JsonProcessingException {
+        return eventWriter.writeValueAsBytes(consultaEvent);
+    }
+}
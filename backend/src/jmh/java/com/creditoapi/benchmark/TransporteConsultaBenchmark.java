@@ -0,0 +1,112 @@
+package com.creditoapi.benchmark;
+
+import com.creditoapi.CreditoApiApplication;
+import com.creditoapi.application.dto.CreditoDTO;
+import com.creditoapi.domain.entity.Credito;
+import com.creditoapi.domain.repository.CreditoRepository;
+import com.creditoapi.infrastructure.grpc.GrpcServerLifecycle;
+import com.creditoapi.presentation.http.CreditoProtobufMapper;
+import com.creditoapi.presentation.proto.ConsultaCreditoGrpc;
+import com.creditoapi.presentation.proto.ListByNumeroNfseRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.grpc.ManagedChannel;
+import io.grpc.netty.shaded.io.grpc.netty.NettyChannelBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Vazão da consulta por NFS-e vista pelo cliente: REST em HTTP/1.1 com JSON contra gRPC sobre uma única
+// conexão HTTP/2, com o servidor embarcado e H2 reais. O limite de concorrência fica desligado para medir só o
+// transporte
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(16)
+@Fork(1)
+public class TransporteConsultaBenchmark {
+
+    private static final String NFSE = "7891011";
+
+    @Param({"1", "10"})
+    private int quantidade;
+
+    private ConfigurableApplicationContext context;
+    private ObjectMapper objectMapper;
+    private HttpClient httpClient;
+    private HttpRequest request;
+    private ManagedChannel channel;
+    private ConsultaCreditoGrpc.ConsultaCreditoBlockingStub stub;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(CreditoApiApplication.class)
+                .profiles("test")
+                .run("--spring.main.banner-mode=off",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.datasource.url=jdbc:h2:mem:transporte;DB_CLOSE_DELAY=-1",
+                        "--server.port=0",
+                        "--app.grpc.enabled=true",
+                        "--app.grpc.port=0",
+                        "--app.load-shedding.enabled=false",
+                        "--logging.level.root=WARN",
+                        "--logging.level.com.creditoapi=WARN");
+        objectMapper = context.getBean(ObjectMapper.class);
+
+        List<Credito> creditos = CreditoFixtures.creditos(quantidade, NFSE);
+        creditos.forEach(credito -> credito.setId(null));
+        context.getBean(CreditoRepository.class).saveAll(creditos);
+
+        int httpPort = ((WebServerApplicationContext) context).getWebServer().getPort();
+        httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        request = HttpRequest.newBuilder(URI.create("http://localhost:" + httpPort + "/api/creditos/" + NFSE)).build();
+
+        channel = NettyChannelBuilder.forAddress("localhost", context.getBean(GrpcServerLifecycle.class).getPort())
+                .usePlaintext()
+                .build();
+        stub = ConsultaCreditoGrpc.newBlockingStub(channel);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        httpClient.close();
+        context.close();
+    }
+
+    @Benchmark
+    public CreditoDTO[] restJson() throws Exception {
+        byte[] body = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray()).body();
+        return objectMapper.readValue(body, CreditoDTO[].class);
+    }
+
+    @Benchmark
+    public List<CreditoDTO> grpc() {
+        List<CreditoDTO> creditos = new ArrayList<>();
+        stub.listByNumeroNfse(ListByNumeroNfseRequest.newBuilder().setNumeroNfse(NFSE).build())
+                .forEachRemaining(credito -> creditos.add(CreditoProtobufMapper.toDTO(credito)));
+        return creditos;
+    }
+}
@@ -0,0 +1,22 @@
+package com.creditoapi.application.dto;
+
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record BatchConsultaRequestDTO(
+        @Size(max = MAX_CHAVES, message = "Máximo de " + MAX_CHAVES + " NFS-e por requisição")
+        List<String> numerosNfse,
+        @Size(max = MAX_CHAVES, message = "Máximo de " + MAX_CHAVES + " créditos por requisição")
+        List<String> numerosCredito
+) {
+
+    public static final int MAX_CHAVES = 1000;
+
+    public BatchConsultaRequestDTO {
+        numerosNfse = numerosNfse == null ? List.of() : numerosNfse;
+        numerosCredito = numerosCredito == null ? List.of() : numerosCredito;
+    }
+}
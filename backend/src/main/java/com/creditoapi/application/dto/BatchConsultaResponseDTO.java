@@ -0,0 +1,15 @@
+package com.creditoapi.application.dto;
+
+import lombok.Builder;
+
+import java.util.List;
+import java.util.Map;
+
+@Builder
+public record BatchConsultaResponseDTO(
+        Map<String, List<CreditoDTO>> creditosPorNfse,
+        Map<String, CreditoDTO> creditosPorNumero,
+        List<String> nfseNaoEncontradas,
+        List<String> creditosNaoEncontrados
+) {
+}
@@ -0,0 +1,12 @@
+package com.creditoapi.application.dto;
+
+import lombok.Builder;
+
+@Builder
+public record CacheInvalidacaoDTO(
+        String origem,
+        String numeroCredito,
+        String numeroNfse,
+        boolean todos
+) {
+}
@@ -0,0 +1,20 @@
+package com.creditoapi.application.dto;
+
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Builder
+public record ConsultaEstatisticaDTO(
+        String tipoConsulta,
+        LocalDateTime minuto,
+        long total,
+        long encontradas,
+        long naoEncontradas,
+        long falhas,
+        double taxaAcerto,
+        double mediaResultados,
+        Map<String, Long> resultadosPorFaixa
+) {
+}
@@ -0,0 +1,16 @@
+package com.creditoapi.application.dto;
+
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record IngestaoResultadoDTO(
+        long linhasLidas,
+        long linhasGravadas,
+        long linhasRejeitadas,
+        List<String> erros,
+        long duracaoMs,
+        double linhasPorSegundo
+) {
+}
@@ -0,0 +1,13 @@
+package com.creditoapi.application.dto;
+
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record ListagemCreditoResponseDTO(
+        List<CreditoDTO> creditos,
+        Long proximoCursor,
+        boolean possuiMais
+) {
+}
@@ -0,0 +1,21 @@
+package com.creditoapi.application.dto;
+
+import lombok.Builder;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+
+@Builder
+public record ResumoCreditoDTO(
+        String tipoCredito,
+        String simplesNacional,
+        YearMonth mes,
+        long quantidade,
+        BigDecimal totalValorIssqn,
+        BigDecimal totalValorFaturado,
+        BigDecimal totalValorDeducao,
+        BigDecimal totalBaseCalculo,
+        BigDecimal mediaValorIssqn,
+        BigDecimal mediaAliquota
+) {
+}
@@ -11,8 +11,8 @@ import java.util.Objects;
 @Component
 public class CreditoMapper {
 
-    private static final String SIM = "Sim";
-    private static final String NAO = "Não";
+    public static final String SIM = "Sim";
+    public static final String NAO = "Não";
 
     public CreditoDTO toDTO(Credito credito) {
         if (Objects.isNull(credito)) {
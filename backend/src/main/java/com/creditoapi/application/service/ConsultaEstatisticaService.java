@@ -0,0 +1,11 @@
+package com.creditoapi.application.service;
+
+import com.creditoapi.application.dto.ConsultaEstatisticaDTO;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ConsultaEstatisticaService {
+
+    List<ConsultaEstatisticaDTO> listar(String tipoConsulta, LocalDateTime inicio, LocalDateTime fim);
+}
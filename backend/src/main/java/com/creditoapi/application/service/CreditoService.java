@@ -1,13 +1,26 @@
 package com.creditoapi.application.service;
 
+import com.creditoapi.application.dto.BatchConsultaResponseDTO;
 import com.creditoapi.application.dto.CreditoDTO;
+import com.creditoapi.application.dto.CreditoFiltroDTO;
+import com.creditoapi.application.dto.ListagemCreditoResponseDTO;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface CreditoService {
 
     List<CreditoDTO> findByNumeroNfse(String numeroNfse);
 
     Optional<CreditoDTO> findByNumeroCredito(String numeroCredito);
+
+    BatchConsultaResponseDTO findBatch(Collection<String> numerosNfse, Collection<String> numerosCredito);
+
+    ListagemCreditoResponseDTO listar(CreditoFiltroDTO filtro, long cursor, int tamanho);
+
+    long exportar(CreditoFiltroDTO filtro, Consumer<CreditoDTO> consumer);
+
+    void registrarConsulta(String tipoConsulta, String parametro, int quantidadeResultados);
 }
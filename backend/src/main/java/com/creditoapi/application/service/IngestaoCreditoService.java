@@ -0,0 +1,11 @@
+package com.creditoapi.application.service;
+
+import com.creditoapi.application.dto.CreditoDTO;
+import com.creditoapi.application.dto.IngestaoResultadoDTO;
+
+import java.util.Iterator;
+
+public interface IngestaoCreditoService {
+
+    IngestaoResultadoDTO ingerir(Iterator<CreditoDTO> creditos);
+}
@@ -0,0 +1,11 @@
+package com.creditoapi.application.service;
+
+import com.creditoapi.application.dto.CreditoFiltroDTO;
+import com.creditoapi.application.dto.ResumoCreditoDTO;
+
+import java.util.List;
+
+public interface ResumoCreditoService {
+
+    List<ResumoCreditoDTO> resumir(CreditoFiltroDTO filtro);
+}
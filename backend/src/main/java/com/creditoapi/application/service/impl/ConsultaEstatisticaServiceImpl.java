@@ -0,0 +1,59 @@
+package com.creditoapi.application.service.impl;
+
+import com.creditoapi.application.dto.ConsultaEstatisticaDTO;
+import com.creditoapi.application.service.ConsultaEstatisticaService;
+import com.creditoapi.domain.entity.ConsultaEstatistica;
+import com.creditoapi.domain.repository.ConsultaEstatisticaRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ConsultaEstatisticaServiceImpl implements ConsultaEstatisticaService {
+
+    private final ConsultaEstatisticaRepository estatisticaRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ConsultaEstatisticaDTO> listar(String tipoConsulta, LocalDateTime inicio, LocalDateTime fim) {
+        log.debug("Listando estatísticas de consulta {} entre {} e {}", tipoConsulta, inicio, fim);
+
+        return estatisticaRepository.findPeriodo(tipoConsulta, inicio, fim).stream()
+                .map(ConsultaEstatisticaServiceImpl::toDTO)
+                .toList();
+    }
+
+    // Taxa de acerto sobre as consultas concluídas, sem contar as falhas
+    private static ConsultaEstatisticaDTO toDTO(ConsultaEstatistica estatistica) {
+        long concluidas = estatistica.getEncontradas() + estatistica.getNaoEncontradas();
+
+        Map<String, Long> faixas = new LinkedHashMap<>();
+        faixas.put("0", estatistica.getResultados0());
+        faixas.put("1", estatistica.getResultados1());
+        faixas.put("2-10", estatistica.getResultados2a10());
+        faixas.put("11-100", estatistica.getResultados11a100());
+        faixas.put("101+", estatistica.getResultados101Mais());
+
+        return ConsultaEstatisticaDTO.builder()
+                .tipoConsulta(estatistica.getTipoConsulta())
+                .minuto(estatistica.getMinuto())
+                .total(estatistica.getTotal())
+                .encontradas(estatistica.getEncontradas())
+                .naoEncontradas(estatistica.getNaoEncontradas())
+                .falhas(estatistica.getFalhas())
+                .taxaAcerto(concluidas == 0 ? 0 : (double) estatistica.getEncontradas() / concluidas)
+                .mediaResultados(estatistica.getTotal() == 0
+                        ? 0
+                        : (double) estatistica.getSomaResultados() / estatistica.getTotal())
+                .resultadosPorFaixa(faixas)
+                .build();
+    }
+}
@@ -1,37 +1,71 @@
 package com.creditoapi.application.service.impl;
 
+import com.creditoapi.application.dto.BatchConsultaResponseDTO;
 import com.creditoapi.application.dto.ConsultaEventDTO;
 import com.creditoapi.application.dto.CreditoDTO;
+import com.creditoapi.application.dto.CreditoFiltroDTO;
+import com.creditoapi.application.dto.ListagemCreditoResponseDTO;
 import com.creditoapi.application.mapper.CreditoMapper;
 import com.creditoapi.application.service.CreditoService;
 import com.creditoapi.domain.entity.Credito;
 import com.creditoapi.domain.repository.CreditoRepository;
+import com.creditoapi.infrastructure.cache.CreditoCache;
+import com.creditoapi.infrastructure.concurrent.SingleFlight;
 import com.creditoapi.infrastructure.messaging.ConsultaCreditoPublisher;
+import com.creditoapi.infrastructure.metrics.ConsultaMetrics;
+import com.creditoapi.infrastructure.persistence.CreditoProjectionRepository;
+import com.creditoapi.infrastructure.warmup.WarmupContext;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class CreditoServiceImpl implements CreditoService {
 
+    static final int TAMANHO_LOTE_CONSULTA = 500;
+
     private final CreditoRepository creditoRepository;
+    private final CreditoProjectionRepository projectionRepository;
     private final CreditoMapper creditoMapper;
     private final ConsultaCreditoPublisher consultaPublisher;
+    private final CreditoCache creditoCache;
+    private final EntityManager entityManager;
+    private final ConsultaMetrics consultaMetrics;
+
+    // Requisições simultâneas pela mesma chave compartilham a consulta ao banco, com ou sem cache habilitado;
+    // cada chamador continua publicando o próprio evento de consulta
+    private final SingleFlight<String, List<CreditoDTO>> consultasNfse =
+            new SingleFlight<>(() -> registrarCoalescida("NFSE"));
+    private final SingleFlight<String, Optional<CreditoDTO>> consultasCredito =
+            new SingleFlight<>(() -> registrarCoalescida("CREDITO"));
 
     @Override
     public List<CreditoDTO> findByNumeroNfse(String numeroNfse) {
         log.debug("Buscando créditos pelo número NFS-e: {}", numeroNfse);
 
-        List<Credito> creditos = creditoRepository.findByNumeroNfse(numeroNfse);
-        List<CreditoDTO> result = creditoMapper.toDTOList(creditos);
+        List<CreditoDTO> result = consultar("NFSE", numeroNfse, () -> creditoCache.getByNumeroNfse(numeroNfse,
+                chave -> consultasNfse.execute(chave, this::loadByNumeroNfse)));
 
         publishConsultaEvent("NFSE", numeroNfse, result.size(), true);
 
@@ -43,8 +77,8 @@ public class CreditoServiceImpl implements CreditoService {
     public Optional<CreditoDTO> findByNumeroCredito(String numeroCredito) {
         log.debug("Buscando crédito pelo número: {}", numeroCredito);
 
-        Optional<CreditoDTO> result = creditoRepository.findByNumeroCredito(numeroCredito)
-                .map(creditoMapper::toDTO);
+        Optional<CreditoDTO> result = consultar("CREDITO", numeroCredito, () -> creditoCache.getByNumeroCredito(
+                numeroCredito, chave -> consultasCredito.execute(chave, this::loadByNumeroCredito)));
 
         publishConsultaEvent("CREDITO", numeroCredito, result.isPresent() ? 1 : 0, true);
 
@@ -52,7 +86,179 @@ public class CreditoServiceImpl implements CreditoService {
         return result;
     }
 
+    @Override
+    public BatchConsultaResponseDTO findBatch(Collection<String> numerosNfse, Collection<String> numerosCredito) {
+        Set<String> chavesNfse = distinct(numerosNfse);
+        Set<String> chavesCredito = distinct(numerosCredito);
+        log.debug("Buscando em lote {} NFS-e e {} créditos", chavesNfse.size(), chavesCredito.size());
+        String parametro = "nfse=" + chavesNfse.size() + ";credito=" + chavesCredito.size();
+
+        Map<String, List<CreditoDTO>> encontradosPorNfse = consultar("BATCH", parametro,
+                () -> creditoCache.getAllByNumeroNfse(chavesNfse, this::loadByNumerosNfse));
+        Map<String, Optional<CreditoDTO>> encontradosPorNumero = consultar("BATCH", parametro,
+                () -> creditoCache.getAllByNumeroCredito(chavesCredito, this::loadByNumerosCredito));
+
+        Map<String, List<CreditoDTO>> creditosPorNfse = new LinkedHashMap<>();
+        List<String> nfseNaoEncontradas = new ArrayList<>();
+        for (String numeroNfse : chavesNfse) {
+            List<CreditoDTO> creditos = encontradosPorNfse.getOrDefault(numeroNfse, List.of());
+            if (creditos.isEmpty()) {
+                nfseNaoEncontradas.add(numeroNfse);
+            } else {
+                creditosPorNfse.put(numeroNfse, creditos);
+            }
+        }
+
+        Map<String, CreditoDTO> creditosPorNumero = new LinkedHashMap<>();
+        List<String> creditosNaoEncontrados = new ArrayList<>();
+        for (String numeroCredito : chavesCredito) {
+            encontradosPorNumero.getOrDefault(numeroCredito, Optional.empty()).ifPresentOrElse(
+                    credito -> creditosPorNumero.put(numeroCredito, credito),
+                    () -> creditosNaoEncontrados.add(numeroCredito));
+        }
+
+        int quantidade = creditosPorNfse.values().stream().mapToInt(List::size).sum() + creditosPorNumero.size();
+        publishConsultaEvent("BATCH", parametro, quantidade, true);
+
+        log.info("Consulta em lote: {} NFS-e e {} créditos não encontrados",
+                nfseNaoEncontradas.size(), creditosNaoEncontrados.size());
+        return BatchConsultaResponseDTO.builder()
+                .creditosPorNfse(creditosPorNfse)
+                .creditosPorNumero(creditosPorNumero)
+                .nfseNaoEncontradas(nfseNaoEncontradas)
+                .creditosNaoEncontrados(creditosNaoEncontrados)
+                .build();
+    }
+
+    @Override
+    public ListagemCreditoResponseDTO listar(CreditoFiltroDTO filtro, long cursor, int tamanho) {
+        log.debug("Listando créditos após o id {} com filtro {}", cursor, filtro);
+
+        List<Credito> pagina = consultar("LISTAGEM", descrever(filtro, cursor), () -> consultaMetrics.timeRepository(
+                "LISTAGEM", () -> creditoRepository.findPagina(cursor, filtro.tipoCredito(), filtro.simplesNacional(),
+                        filtro.dataInicio(), filtro.dataFim(), Limit.of(tamanho + 1))));
+
+        boolean possuiMais = pagina.size() > tamanho;
+        List<Credito> creditos = possuiMais ? pagina.subList(0, tamanho) : pagina;
+        Long proximoCursor = possuiMais ? creditos.get(creditos.size() - 1).getId() : null;
+
+        publishConsultaEvent("LISTAGEM", descrever(filtro, cursor), creditos.size(), true);
+
+        return ListagemCreditoResponseDTO.builder()
+                .creditos(consultaMetrics.timeMapper("LISTAGEM", () -> creditoMapper.toDTOList(creditos)))
+                .proximoCursor(proximoCursor)
+                .possuiMais(possuiMais)
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportar(CreditoFiltroDTO filtro, Consumer<CreditoDTO> consumer) {
+        log.debug("Exportando créditos com filtro {}", filtro);
+
+        long quantidade = consultar("EXPORTACAO", descrever(filtro, 0L), () -> {
+            long exportados = 0;
+            try (Stream<Credito> creditos = creditoRepository.streamAll(0L, filtro.tipoCredito(),
+                    filtro.simplesNacional(), filtro.dataInicio(), filtro.dataFim())) {
+                Iterator<Credito> iterator = creditos.iterator();
+                while (iterator.hasNext()) {
+                    Credito credito = iterator.next();
+                    consumer.accept(creditoMapper.toDTO(credito));
+                    // Sem o detach o contexto de persistência reteria todas as entidades lidas
+                    entityManager.detach(credito);
+                    exportados++;
+                }
+            }
+            return exportados;
+        });
+
+        publishConsultaEvent("EXPORTACAO", descrever(filtro, 0L), (int) Math.min(quantidade, Integer.MAX_VALUE), true);
+
+        log.info("Exportados {} créditos", quantidade);
+        return quantidade;
+    }
+
+    // Consultas atendidas sem passar pelo serviço (cache de respostas serializadas) continuam gerando o evento
+    @Override
+    public void registrarConsulta(String tipoConsulta, String parametro, int quantidadeResultados) {
+        publishConsultaEvent(tipoConsulta, parametro, quantidadeResultados, true);
+    }
+
+    // Consulta que falha também gera evento, com sucesso=false, para entrar em falhas nas estatísticas
+    private <T> T consultar(String tipoConsulta, String parametro, Supplier<T> consulta) {
+        try {
+            return consulta.get();
+        } catch (RuntimeException ex) {
+            publishConsultaEvent(tipoConsulta, parametro, 0, false);
+            throw ex;
+        }
+    }
+
+    private void registrarCoalescida(String tipoConsulta) {
+        consultaMetrics.recordCoalescida(tipoConsulta);
+    }
+
+    private List<CreditoDTO> loadByNumeroNfse(String numeroNfse) {
+        return consultaMetrics.timeRepository("NFSE", () -> projectionRepository.findDTOByNumeroNfse(numeroNfse));
+    }
+
+    private Optional<CreditoDTO> loadByNumeroCredito(String numeroCredito) {
+        return consultaMetrics.timeRepository("CREDITO",
+                () -> projectionRepository.findDTOByNumeroCredito(numeroCredito));
+    }
+
+    private Map<String, List<CreditoDTO>> loadByNumerosNfse(Set<String> numerosNfse) {
+        Map<String, List<CreditoDTO>> result = new HashMap<>();
+        for (List<String> lote : particionar(numerosNfse)) {
+            consultaMetrics.timeRepository("BATCH", () -> projectionRepository.findDTOByNumeroNfseIn(lote)).stream()
+                    .collect(Collectors.groupingBy(CreditoDTO::numeroNfse, Collectors.toUnmodifiableList()))
+                    .forEach(result::put);
+        }
+        numerosNfse.forEach(numeroNfse -> result.putIfAbsent(numeroNfse, List.of()));
+        return result;
+    }
+
+    private Map<String, Optional<CreditoDTO>> loadByNumerosCredito(Set<String> numerosCredito) {
+        Map<String, Optional<CreditoDTO>> result = new HashMap<>();
+        for (List<String> lote : particionar(numerosCredito)) {
+            consultaMetrics.timeRepository("BATCH", () -> projectionRepository.findDTOByNumeroCreditoIn(lote))
+                    .forEach(credito -> result.putIfAbsent(credito.numeroCredito(), Optional.of(credito)));
+        }
+        numerosCredito.forEach(numeroCredito -> result.putIfAbsent(numeroCredito, Optional.empty()));
+        return result;
+    }
+
+    private static Set<String> distinct(Collection<String> chaves) {
+        return chaves.stream()
+                .filter(chave -> chave != null && !chave.isBlank())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    private static String descrever(CreditoFiltroDTO filtro, long cursor) {
+        return "tipoCredito=" + filtro.tipoCredito()
+                + ";simplesNacional=" + filtro.simplesNacional()
+                + ";dataInicio=" + filtro.dataInicio()
+                + ";dataFim=" + filtro.dataFim()
+                + ";cursor=" + cursor;
+    }
+
+    private static List<List<String>> particionar(Set<String> chaves) {
+        List<String> lista = List.copyOf(chaves);
+        List<List<String>> lotes = new ArrayList<>();
+        for (int inicio = 0; inicio < lista.size(); inicio += TAMANHO_LOTE_CONSULTA) {
+            lotes.add(lista.subList(inicio, Math.min(inicio + TAMANHO_LOTE_CONSULTA, lista.size())));
+        }
+        return lotes;
+    }
+
     private void publishConsultaEvent(String tipoConsulta, String parametro, int quantidade, boolean sucesso) {
+        if (WarmupContext.isActive()) {
+            return;
+        }
+        if (sucesso) {
+            consultaMetrics.recordResultados(tipoConsulta, quantidade);
+        }
+
         ConsultaEventDTO event = ConsultaEventDTO.builder()
                 .tipoConsulta(tipoConsulta)
                 .parametroConsulta(parametro)
@@ -61,6 +267,11 @@ public class CreditoServiceImpl implements CreditoService {
                 .sucesso(sucesso)
                 .build();
 
-        consultaPublisher.publish(event);
+        // O evento é auxiliar: uma falha ao publicá-lo não pode derrubar a consulta já respondida
+        try {
+            consultaPublisher.publish(event);
+        } catch (RuntimeException ex) {
+            log.warn("Falha ao publicar evento de consulta {} para {}: {}", tipoConsulta, parametro, ex.getMessage());
+        }
     }
 }
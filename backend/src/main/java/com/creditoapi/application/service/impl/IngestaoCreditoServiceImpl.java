@@ -0,0 +1,205 @@
+package com.creditoapi.application.service.impl;
+
+import com.creditoapi.application.dto.CreditoDTO;
+import com.creditoapi.application.dto.IngestaoResultadoDTO;
+import com.creditoapi.application.mapper.CreditoMapper;
+import com.creditoapi.application.service.IngestaoCreditoService;
+import com.creditoapi.infrastructure.cache.CacheInvalidationPublisher;
+import com.creditoapi.infrastructure.cache.InvalidatableCreditoCache;
+import com.creditoapi.infrastructure.persistence.CreditoBulkWriter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Service
+public class IngestaoCreditoServiceImpl implements IngestaoCreditoService {
+
+    private static final int TAMANHO_MAXIMO_TEXTO = 50;
+
+    private final CreditoBulkWriter bulkWriter;
+    private final TransactionTemplate transactionTemplate;
+    private final List<InvalidatableCreditoCache> caches;
+    private final CacheInvalidationPublisher cacheInvalidationPublisher;
+    private final int tamanhoLote;
+    private final int maxErros;
+
+    private final Counter linhasGravadas;
+    private final Counter linhasRejeitadas;
+    private final Timer loteTimer;
+
+    public IngestaoCreditoServiceImpl(
+            CreditoBulkWriter bulkWriter,
+            TransactionTemplate transactionTemplate,
+            List<InvalidatableCreditoCache> caches,
+            CacheInvalidationPublisher cacheInvalidationPublisher,
+            MeterRegistry meterRegistry,
+            @Value("${app.ingestao.tamanho-lote}") int tamanhoLote,
+            @Value("${app.ingestao.max-erros}") int maxErros) {
+        this.bulkWriter = bulkWriter;
+        this.transactionTemplate = transactionTemplate;
+        this.caches = caches;
+        this.cacheInvalidationPublisher = cacheInvalidationPublisher;
+        this.tamanhoLote = tamanhoLote;
+        this.maxErros = maxErros;
+        this.linhasGravadas = Counter.builder("ingestao.linhas")
+                .description("Linhas processadas pela ingestão de créditos")
+                .tag("resultado", "gravada")
+                .register(meterRegistry);
+        this.linhasRejeitadas = Counter.builder("ingestao.linhas")
+                .description("Linhas processadas pela ingestão de créditos")
+                .tag("resultado", "rejeitada")
+                .register(meterRegistry);
+        this.loteTimer = Timer.builder("ingestao.lote")
+                .description("Tempo de gravação e commit de cada lote da ingestão")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public IngestaoResultadoDTO ingerir(Iterator<CreditoDTO> creditos) {
+        long inicio = System.nanoTime();
+        long lidas = 0;
+        long gravadas = 0;
+        long rejeitadas = 0;
+        List<String> erros = new ArrayList<>();
+        // Deduplica por número do crédito dentro do lote (a última ocorrência prevalece), já que o upsert do
+        // PostgreSQL não aceita atualizar a mesma linha duas vezes no mesmo comando
+        Map<String, CreditoDTO> lote = new LinkedHashMap<>();
+
+        try {
+            while (creditos.hasNext()) {
+                lidas++;
+                String erro;
+                try {
+                    CreditoDTO credito = creditos.next();
+                    erro = validar(credito);
+                    if (erro == null) {
+                        lote.put(credito.numeroCredito(), credito);
+                    }
+                } catch (IllegalArgumentException ex) {
+                    erro = ex.getMessage();
+                }
+
+                if (erro != null) {
+                    rejeitadas++;
+                    linhasRejeitadas.increment();
+                    if (erros.size() < maxErros) {
+                        erros.add("Registro " + lidas + ": " + erro);
+                    }
+                }
+
+                if (lote.size() >= tamanhoLote) {
+                    gravadas += gravar(lote);
+                    log.info("Ingestão em andamento: {} linhas lidas, {} gravadas ({} linhas/s)",
+                            lidas, gravadas, Math.round(linhasPorSegundo(lidas, System.nanoTime() - inicio)));
+                }
+            }
+            if (!lote.isEmpty()) {
+                gravadas += gravar(lote);
+            }
+        } finally {
+            // As demais réplicas descartam o cache uma única vez, mesmo que a carga tenha parado no meio
+            if (gravadas > 0) {
+                cacheInvalidationPublisher.publishClear();
+            }
+        }
+
+        long duracao = System.nanoTime() - inicio;
+        IngestaoResultadoDTO resultado = IngestaoResultadoDTO.builder()
+                .linhasLidas(lidas)
+                .linhasGravadas(gravadas)
+                .linhasRejeitadas(rejeitadas)
+                .erros(erros)
+                .duracaoMs(TimeUnit.NANOSECONDS.toMillis(duracao))
+                .linhasPorSegundo(linhasPorSegundo(lidas, duracao))
+                .build();
+
+        log.info("Ingestão concluída: {} linhas lidas, {} gravadas, {} rejeitadas em {} ms ({} linhas/s)",
+                lidas, gravadas, rejeitadas, resultado.duracaoMs(), Math.round(resultado.linhasPorSegundo()));
+        return resultado;
+    }
+
+    private long gravar(Map<String, CreditoDTO> lote) {
+        long gravadas = loteTimer.record(() -> transactionTemplate.execute(status -> bulkWriter.upsert(lote.values())));
+        linhasGravadas.increment(lote.size());
+        // A carga não passa pelo CreditoEntityListener: a cada lote confirmado invalida localmente só as chaves
+        // gravadas, e os índices reversos dos caches alcançam as listas da NFS-e anterior de créditos que mudaram
+        for (CreditoDTO credito : lote.values()) {
+            caches.forEach(cache -> cache.evict(credito.numeroCredito(), credito.numeroNfse()));
+        }
+        lote.clear();
+        return gravadas;
+    }
+
+    private static double linhasPorSegundo(long linhas, long duracaoNanos) {
+        return duracaoNanos == 0 ? 0 : linhas * 1_000_000_000.0 / duracaoNanos;
+    }
+
+    static String validar(CreditoDTO credito) {
+        String erro = texto("numeroCredito", credito.numeroCredito());
+        if (erro == null) {
+            erro = texto("numeroNfse", credito.numeroNfse());
+        }
+        if (erro == null) {
+            erro = texto("tipoCredito", credito.tipoCredito());
+        }
+        if (erro == null && credito.dataConstituicao() == null) {
+            erro = "dataConstituicao é obrigatório";
+        }
+        if (erro == null && !CreditoMapper.SIM.equals(credito.simplesNacional())
+                && !CreditoMapper.NAO.equals(credito.simplesNacional())) {
+            erro = "simplesNacional deve ser " + CreditoMapper.SIM + " ou " + CreditoMapper.NAO;
+        }
+        if (erro == null) {
+            erro = decimal("valorIssqn", credito.valorIssqn(), 13);
+        }
+        if (erro == null) {
+            erro = decimal("aliquota", credito.aliquota(), 3);
+        }
+        if (erro == null) {
+            erro = decimal("valorFaturado", credito.valorFaturado(), 13);
+        }
+        if (erro == null) {
+            erro = decimal("valorDeducao", credito.valorDeducao(), 13);
+        }
+        if (erro == null) {
+            erro = decimal("baseCalculo", credito.baseCalculo(), 13);
+        }
+        return erro;
+    }
+
+    private static String texto(String campo, String valor) {
+        if (valor == null || valor.isBlank()) {
+            return campo + " é obrigatório";
+        }
+        if (valor.length() > TAMANHO_MAXIMO_TEXTO) {
+            return campo + " excede " + TAMANHO_MAXIMO_TEXTO + " caracteres";
+        }
+        return null;
+    }
+
+    private static String decimal(String campo, BigDecimal valor, int digitosInteiros) {
+        if (valor == null) {
+            return campo + " é obrigatório";
+        }
+        if (valor.signum() < 0) {
+            return campo + " não pode ser negativo";
+        }
+        if (valor.scale() > 2 || valor.precision() - valor.scale() > digitosInteiros) {
+            return campo + " excede a precisão da coluna (" + digitosInteiros + " dígitos inteiros e 2 decimais)";
+        }
+        return null;
+    }
+}
@@ -0,0 +1,45 @@
+package com.creditoapi.application.service.impl;
+
+import com.creditoapi.application.dto.CreditoFiltroDTO;
+import com.creditoapi.application.dto.ResumoCreditoDTO;
+import com.creditoapi.application.service.CreditoService;
+import com.creditoapi.application.service.ResumoCreditoService;
+import com.creditoapi.infrastructure.cache.ResumoCreditoCache;
+import com.creditoapi.infrastructure.metrics.ConsultaMetrics;
+import com.creditoapi.infrastructure.persistence.CreditoProjectionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ResumoCreditoServiceImpl implements ResumoCreditoService {
+
+    private final CreditoProjectionRepository projectionRepository;
+    private final ResumoCreditoCache resumoCache;
+    private final ConsultaMetrics consultaMetrics;
+    private final CreditoService creditoService;
+
+    @Override
+    public List<ResumoCreditoDTO> resumir(CreditoFiltroDTO filtro) {
+        log.debug("Resumindo créditos com filtro {}", filtro);
+
+        List<ResumoCreditoDTO> resumo = resumoCache.get(filtro,
+                chave -> consultaMetrics.timeRepository("RESUMO", () -> projectionRepository.resumir(chave)));
+
+        creditoService.registrarConsulta("RESUMO", descrever(filtro), resumo.size());
+
+        log.info("Resumo de créditos com {} grupos para filtro {}", resumo.size(), filtro);
+        return resumo;
+    }
+
+    private static String descrever(CreditoFiltroDTO filtro) {
+        return "tipoCredito=" + filtro.tipoCredito()
+                + ";simplesNacional=" + filtro.simplesNacional()
+                + ";dataInicio=" + filtro.dataInicio()
+                + ";dataFim=" + filtro.dataFim();
+    }
+}
@@ -0,0 +1,82 @@
+package com.creditoapi.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+// Contadores de um minuto de consultas de um tipo; gravados só pelo ConsultaEstatisticaWriter, que soma aos
+// valores existentes
+@Entity
+@Table(name = "consulta_estatistica", indexes = @Index(name = "idx_consulta_estatistica_minuto",
+        columnList = "minuto"))
+@IdClass(ConsultaEstatistica.Chave.class)
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+@EqualsAndHashCode(of = {"tipoConsulta", "minuto"})
+public class ConsultaEstatistica {
+
+    @Id
+    @Column(name = "tipo_consulta", nullable = false, length = 30)
+    private String tipoConsulta;
+
+    @Id
+    @Column(name = "minuto", nullable = false)
+    private LocalDateTime minuto;
+
+    @Column(name = "total", nullable = false)
+    private long total;
+
+    @Column(name = "encontradas", nullable = false)
+    private long encontradas;
+
+    @Column(name = "nao_encontradas", nullable = false)
+    private long naoEncontradas;
+
+    @Column(name = "falhas", nullable = false)
+    private long falhas;
+
+    @Column(name = "soma_resultados", nullable = false)
+    private long somaResultados;
+
+    @Column(name = "resultados_0", nullable = false)
+    private long resultados0;
+
+    @Column(name = "resultados_1", nullable = false)
+    private long resultados1;
+
+    @Column(name = "resultados_2_10", nullable = false)
+    private long resultados2a10;
+
+    @Column(name = "resultados_11_100", nullable = false)
+    private long resultados11a100;
+
+    @Column(name = "resultados_101_mais", nullable = false)
+    private long resultados101Mais;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Chave implements Serializable {
+
+        private String tipoConsulta;
+        private LocalDateTime minuto;
+    }
+}
@@ -1,11 +1,14 @@
 package com.creditoapi.domain.entity;
 
+import com.creditoapi.infrastructure.persistence.CreditoEntityListener;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.EqualsAndHashCode;
@@ -13,12 +16,15 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.PartitionKey;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "credito")
+@Table(name = "credito", uniqueConstraints = @UniqueConstraint(name = "uk_credito_numero_credito",
+        columnNames = "numero_credito"))
+@EntityListeners(CreditoEntityListener.class)
 @Getter
 @Setter
 @Builder
@@ -38,6 +44,8 @@ public class Credito {
     @Column(name = "numero_nfse", nullable = false, length = 50)
     private String numeroNfse;
 
+    // Incluída no WHERE de updates e deletes para que o PostgreSQL visite só a partição do crédito
+    @PartitionKey
     @Column(name = "data_constituicao", nullable = false)
     private LocalDate dataConstituicao;
 
@@ -0,0 +1,7 @@
+package com.creditoapi.domain.event;
+
+public record CreditoAlteradoEvent(
+        String numeroCredito,
+        String numeroNfse
+) {
+}
@@ -0,0 +1,35 @@
+package com.creditoapi.domain.repository;
+
+import com.creditoapi.domain.entity.ConsultaEstatistica;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ConsultaEstatisticaRepository
+        extends JpaRepository<ConsultaEstatistica, ConsultaEstatistica.Chave> {
+
+    // Uma consulta por forma de filtro, em vez de "(:tipoConsulta is null or ...)": com o tipo informado o
+    // PostgreSQL usa a chave primária (tipo_consulta, minuto); sem ele, o índice por minuto
+    default List<ConsultaEstatistica> findPeriodo(String tipoConsulta, LocalDateTime inicio, LocalDateTime fim) {
+        return tipoConsulta == null ? findPeriodo(inicio, fim) : findPeriodoPorTipo(tipoConsulta, inicio, fim);
+    }
+
+    @Query("SELECT e FROM ConsultaEstatistica e "
+            + "WHERE e.minuto >= :inicio AND e.minuto < :fim "
+            + "ORDER BY e.minuto, e.tipoConsulta")
+    List<ConsultaEstatistica> findPeriodo(@Param("inicio") LocalDateTime inicio,
+                                          @Param("fim") LocalDateTime fim);
+
+    @Query("SELECT e FROM ConsultaEstatistica e "
+            + "WHERE e.tipoConsulta = :tipoConsulta "
+            + "AND e.minuto >= :inicio AND e.minuto < :fim "
+            + "ORDER BY e.minuto")
+    List<ConsultaEstatistica> findPeriodoPorTipo(@Param("tipoConsulta") String tipoConsulta,
+                                                 @Param("inicio") LocalDateTime inicio,
+                                                 @Param("fim") LocalDateTime fim);
+}
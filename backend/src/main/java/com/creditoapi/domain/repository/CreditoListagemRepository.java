@@ -0,0 +1,17 @@
+package com.creditoapi.domain.repository;
+
+import com.creditoapi.domain.entity.Credito;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface CreditoListagemRepository {
+
+    List<Credito> findPagina(long cursor, String tipoCredito, Boolean simplesNacional,
+                             LocalDate dataInicio, LocalDate dataFim, Limit limit);
+
+    Stream<Credito> streamAll(long cursor, String tipoCredito, Boolean simplesNacional,
+                              LocalDate dataInicio, LocalDate dataFim);
+}
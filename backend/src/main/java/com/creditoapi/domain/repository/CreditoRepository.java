@@ -8,7 +8,7 @@ import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface CreditoRepository extends JpaRepository<Credito, Long> {
+public interface CreditoRepository extends JpaRepository<Credito, Long>, CreditoListagemRepository {
 
     List<Credito> findByNumeroNfse(String numeroNfse);
 
@@ -0,0 +1,76 @@
+package com.creditoapi.domain.repository.impl;
+
+import com.creditoapi.domain.entity.Credito;
+import com.creditoapi.domain.repository.CreditoListagemRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+// O WHERE só recebe os filtros informados. Com "(:param is null or coluna = :param)" o PostgreSQL prepara um plano
+// genérico que não usa os índices nem poda as partições dos filtros que de fato vieram.
+@Transactional(readOnly = true)
+public class CreditoListagemRepositoryImpl implements CreditoListagemRepository {
+
+    private static final int TAMANHO_FETCH_EXPORTACAO = 500;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Credito> findPagina(long cursor, String tipoCredito, Boolean simplesNacional,
+                                    LocalDate dataInicio, LocalDate dataFim, Limit limit) {
+        TypedQuery<Credito> query = entityManager.createQuery(
+                listagem(cursor, tipoCredito, simplesNacional, dataInicio, dataFim));
+        if (limit.isLimited()) {
+            query.setMaxResults(limit.max());
+        }
+        return query.getResultList();
+    }
+
+    @Override
+    public Stream<Credito> streamAll(long cursor, String tipoCredito, Boolean simplesNacional,
+                                     LocalDate dataInicio, LocalDate dataFim) {
+        return entityManager.createQuery(listagem(cursor, tipoCredito, simplesNacional, dataInicio, dataFim))
+                .setHint(HibernateHints.HINT_FETCH_SIZE, TAMANHO_FETCH_EXPORTACAO)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    private CriteriaQuery<Credito> listagem(long cursor, String tipoCredito, Boolean simplesNacional,
+                                            LocalDate dataInicio, LocalDate dataFim) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Credito> query = cb.createQuery(Credito.class);
+        Root<Credito> credito = query.from(Credito.class);
+
+        List<Predicate> condicoes = new ArrayList<>();
+        condicoes.add(cb.greaterThan(credito.get("id"), cursor));
+        if (tipoCredito != null) {
+            condicoes.add(cb.equal(credito.get("tipoCredito"), tipoCredito));
+        }
+        if (simplesNacional != null) {
+            condicoes.add(cb.equal(credito.get("simplesNacional"), simplesNacional));
+        }
+        if (dataInicio != null) {
+            condicoes.add(cb.greaterThanOrEqualTo(credito.get("dataConstituicao"), dataInicio));
+        }
+        if (dataFim != null) {
+            condicoes.add(cb.lessThanOrEqualTo(credito.get("dataConstituicao"), dataFim));
+        }
+
+        return query.select(credito)
+                .where(condicoes.toArray(Predicate[]::new))
+                .orderBy(cb.asc(credito.get("id")));
+    }
+}
@@ -0,0 +1,8 @@
+package com.creditoapi.infrastructure.cache;
+
+public interface CacheInvalidationPublisher {
+
+    void publishEvict(String numeroCredito, String numeroNfse);
+
+    void publishClear();
+}
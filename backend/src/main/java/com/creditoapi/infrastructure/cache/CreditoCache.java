@@ -0,0 +1,23 @@
+package com.creditoapi.infrastructure.cache;
+
+import com.creditoapi.application.dto.CreditoDTO;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+public interface CreditoCache extends InvalidatableCreditoCache {
+
+    List<CreditoDTO> getByNumeroNfse(String numeroNfse, Function<String, List<CreditoDTO>> loader);
+
+    Optional<CreditoDTO> getByNumeroCredito(String numeroCredito, Function<String, Optional<CreditoDTO>> loader);
+
+    Map<String, List<CreditoDTO>> getAllByNumeroNfse(Collection<String> numerosNfse,
+                                                     Function<Set<String>, Map<String, List<CreditoDTO>>> loader);
+
+    Map<String, Optional<CreditoDTO>> getAllByNumeroCredito(Collection<String> numerosCredito,
+                                                            Function<Set<String>, Map<String, Optional<CreditoDTO>>> loader);
+}
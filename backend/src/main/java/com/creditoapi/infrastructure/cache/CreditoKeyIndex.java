@@ -0,0 +1,55 @@
+package com.creditoapi.infrastructure.cache;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+// Índice reverso número do crédito -> chaves de cache cuja resposta contém o crédito. Uma atualização pode mover
+// o crédito de NFS-e, e a invalidação precisa alcançar a lista antiga sem varrer o cache inteiro.
+// Só muda em carregamentos e remoções, que já custam uma ida ao banco ou uma invalidação, então um único
+// monitor basta; as leituras que encontram a entrada no cache não passam por aqui.
+public class CreditoKeyIndex {
+
+    private final Map<String, Set<String>> chavesPorCredito = new HashMap<>();
+    private final Map<String, Collection<String>> creditosPorChave = new HashMap<>();
+
+    public synchronized void registrar(String chave, Collection<String> numerosCredito) {
+        remover(chave);
+        if (numerosCredito.isEmpty()) {
+            return;
+        }
+        creditosPorChave.put(chave, numerosCredito);
+        for (String numeroCredito : numerosCredito) {
+            chavesPorCredito.computeIfAbsent(numeroCredito, c -> new HashSet<>()).add(chave);
+        }
+    }
+
+    public synchronized void remover(String chave) {
+        Collection<String> numerosCredito = creditosPorChave.remove(chave);
+        if (numerosCredito == null) {
+            return;
+        }
+        for (String numeroCredito : numerosCredito) {
+            Set<String> chaves = chavesPorCredito.get(numeroCredito);
+            if (chaves != null && chaves.remove(chave) && chaves.isEmpty()) {
+                chavesPorCredito.remove(numeroCredito);
+            }
+        }
+    }
+
+    public synchronized Set<String> chaves(String numeroCredito) {
+        Set<String> chaves = chavesPorCredito.get(numeroCredito);
+        return chaves == null ? Set.of() : Set.copyOf(chaves);
+    }
+
+    public synchronized int size() {
+        return creditosPorChave.size();
+    }
+
+    public synchronized void clear() {
+        chavesPorCredito.clear();
+        creditosPorChave.clear();
+    }
+}
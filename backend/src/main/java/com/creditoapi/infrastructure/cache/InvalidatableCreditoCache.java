@@ -0,0 +1,10 @@
+package com.creditoapi.infrastructure.cache;
+
+// Qualquer cache local derivado dos créditos: recebe as mesmas invalidações, venham de alterações nesta réplica,
+// da ingestão em massa ou de outras réplicas
+public interface InvalidatableCreditoCache {
+
+    void evict(String numeroCredito, String numeroNfse);
+
+    void clear();
+}
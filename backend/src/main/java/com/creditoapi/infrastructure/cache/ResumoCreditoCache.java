@@ -0,0 +1,40 @@
+package com.creditoapi.infrastructure.cache;
+
+import com.creditoapi.application.dto.CreditoFiltroDTO;
+import com.creditoapi.application.dto.ResumoCreditoDTO;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Function;
+
+// Totais agregados toleram alguns segundos de atraso, então a expiração curta substitui a invalidação por crédito;
+// chamadas simultâneas com o mesmo filtro compartilham a mesma agregação
+@Component
+public class ResumoCreditoCache {
+
+    static final String CACHE = "creditos-resumo";
+
+    private final Cache<CreditoFiltroDTO, List<ResumoCreditoDTO>> resumos;
+
+    public ResumoCreditoCache(MeterRegistry meterRegistry,
+                              @Value("${app.resumo.maximum-size}") long maximumSize,
+                              @Value("${app.resumo.ttl}") Duration ttl) {
+        this.resumos = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, resumos, CACHE);
+    }
+
+    public List<ResumoCreditoDTO> get(CreditoFiltroDTO filtro,
+                                      Function<CreditoFiltroDTO, List<ResumoCreditoDTO>> loader) {
+        return resumos.get(filtro, loader);
+    }
+}
@@ -0,0 +1,179 @@
+package com.creditoapi.infrastructure.cache.impl;
+
+import com.creditoapi.application.dto.CreditoDTO;
+import com.creditoapi.domain.event.CreditoAlteradoEvent;
+import com.creditoapi.infrastructure.cache.CreditoCache;
+import com.creditoapi.infrastructure.cache.CreditoKeyIndex;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+@Slf4j
+@Component
+@ConditionalOnExpression("${app.cache.enabled:true} and !${app.cache.off-heap.enabled:false}")
+public class CaffeineCreditoCache implements CreditoCache {
+
+    static final String NFSE_CACHE = "creditos-nfse";
+    static final String CREDITO_CACHE = "creditos-numero";
+
+    private final Cache<String, List<CreditoDTO>> nfseCache;
+    private final Cache<String, Optional<CreditoDTO>> creditoCache;
+    private final CreditoKeyIndex indice = new CreditoKeyIndex();
+    // Incrementada a cada invalidação: o carregamento em lote roda fora do lock das chaves, então um resultado lido
+    // antes de uma invalidação não é armazenado
+    private final AtomicLong versao = new AtomicLong();
+
+    @Autowired
+    public CaffeineCreditoCache(MeterRegistry meterRegistry,
+                                @Value("${app.cache.maximum-size}") long maximumSize,
+                                @Value("${app.cache.ttl}") Duration ttl,
+                                @Value("${app.cache.negative-ttl}") Duration negativeTtl) {
+        this(meterRegistry, maximumSize, ttl, negativeTtl, Tags.empty());
+    }
+
+    CaffeineCreditoCache(MeterRegistry meterRegistry, long maximumSize, Duration ttl, Duration negativeTtl,
+                         Tags tags) {
+        this.nfseCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new ConsultaExpiry<List<CreditoDTO>>(List::isEmpty, ttl, negativeTtl))
+                // Roda dentro da remoção, antes que um novo carregamento da mesma NFS-e possa reindexá-la
+                .evictionListener((String chave, List<CreditoDTO> creditos, RemovalCause causa) -> indice.remover(chave))
+                .recordStats()
+                .build();
+        this.creditoCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new ConsultaExpiry<Optional<CreditoDTO>>(Optional::isEmpty, ttl, negativeTtl))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, nfseCache, NFSE_CACHE, tags);
+        CaffeineCacheMetrics.monitor(meterRegistry, creditoCache, CREDITO_CACHE, tags);
+    }
+
+    @Override
+    public List<CreditoDTO> getByNumeroNfse(String numeroNfse, Function<String, List<CreditoDTO>> loader) {
+        return nfseCache.get(numeroNfse, chave -> indexar(chave, loader.apply(chave)));
+    }
+
+    @Override
+    public Optional<CreditoDTO> getByNumeroCredito(String numeroCredito,
+                                                   Function<String, Optional<CreditoDTO>> loader) {
+        return creditoCache.get(numeroCredito, loader);
+    }
+
+    @Override
+    public Map<String, List<CreditoDTO>> getAllByNumeroNfse(
+            Collection<String> numerosNfse, Function<Set<String>, Map<String, List<CreditoDTO>>> loader) {
+        return getAll(nfseCache, numerosNfse, loader, this::armazenarNfse);
+    }
+
+    @Override
+    public Map<String, Optional<CreditoDTO>> getAllByNumeroCredito(
+            Collection<String> numerosCredito, Function<Set<String>, Map<String, Optional<CreditoDTO>>> loader) {
+        return getAll(creditoCache, numerosCredito, loader, this::armazenarCredito);
+    }
+
+    @Override
+    public void evict(String numeroCredito, String numeroNfse) {
+        log.debug("Invalidando cache para crédito {} / NFS-e {}", numeroCredito, numeroNfse);
+
+        versao.incrementAndGet();
+        invalidarNfse(numeroNfse);
+        creditoCache.invalidate(numeroCredito);
+        // Uma atualização pode ter movido o crédito de NFS-e: remove também as listas que ainda o contêm
+        indice.chaves(numeroCredito).forEach(this::invalidarNfse);
+    }
+
+    @Override
+    public void clear() {
+        versao.incrementAndGet();
+        nfseCache.invalidateAll();
+        creditoCache.invalidateAll();
+        indice.clear();
+    }
+
+    int nfsesIndexadas() {
+        return indice.size();
+    }
+
+    private <V> Map<String, V> getAll(Cache<String, V> cache, Collection<String> chaves,
+                                      Function<Set<String>, Map<String, V>> loader, Armazenamento<V> armazenamento) {
+        Map<String, V> encontrados = new LinkedHashMap<>(cache.getAllPresent(chaves));
+        Set<String> faltantes = new LinkedHashSet<>(chaves);
+        faltantes.removeAll(encontrados.keySet());
+        if (faltantes.isEmpty()) {
+            return encontrados;
+        }
+
+        long versaoLida = versao.get();
+        loader.apply(faltantes).forEach((chave, valor) -> {
+            armazenamento.armazenar(chave, valor, versaoLida);
+            encontrados.put(chave, valor);
+        });
+        return encontrados;
+    }
+
+    // Sob o lock da chave o índice é atualizado antes de conferir a versão: uma invalidação concorrente ou já
+    // incrementou a versão e a lista é descartada, ou vai encontrar a NFS-e no índice e removê-la
+    private void armazenarNfse(String numeroNfse, List<CreditoDTO> creditos, long versaoLida) {
+        nfseCache.asMap().compute(numeroNfse, (chave, atual) -> {
+            indexar(chave, creditos);
+            if (versao.get() == versaoLida) {
+                return creditos;
+            }
+            if (atual == null) {
+                indice.remover(chave);
+            } else {
+                indexar(chave, atual);
+            }
+            return atual;
+        });
+    }
+
+    private void armazenarCredito(String numeroCredito, Optional<CreditoDTO> credito, long versaoLida) {
+        creditoCache.asMap().compute(numeroCredito, (chave, atual) -> versao.get() == versaoLida ? credito : atual);
+    }
+
+    private List<CreditoDTO> indexar(String numeroNfse, List<CreditoDTO> creditos) {
+        indice.registrar(numeroNfse, creditos.stream().map(CreditoDTO::numeroCredito).toList());
+        return creditos;
+    }
+
+    // A remoção do índice acontece sob o mesmo bloqueio da entrada, como no carregamento
+    private void invalidarNfse(String numeroNfse) {
+        nfseCache.asMap().computeIfPresent(numeroNfse, (chave, creditos) -> {
+            indice.remover(chave);
+            return null;
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCreditoAlterado(CreditoAlteradoEvent event) {
+        evict(event.numeroCredito(), event.numeroNfse());
+    }
+
+    @FunctionalInterface
+    private interface Armazenamento<V> {
+        void armazenar(String chave, V valor, long versaoLida);
+    }
+}
@@ -0,0 +1,24 @@
+package com.creditoapi.infrastructure.cache.impl;
+
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import java.time.Duration;
+import java.util.function.Predicate;
+
+record ConsultaExpiry<V>(Predicate<V> negativo, Duration ttl, Duration negativeTtl) implements Expiry<String, V> {
+
+    @Override
+    public long expireAfterCreate(String key, V value, long currentTime) {
+        return (negativo.test(value) ? negativeTtl : ttl).toNanos();
+    }
+
+    @Override
+    public long expireAfterUpdate(String key, V value, long currentTime, long currentDuration) {
+        return expireAfterCreate(key, value, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(String key, V value, long currentTime, long currentDuration) {
+        return currentDuration;
+    }
+}
@@ -0,0 +1,147 @@
+package com.creditoapi.infrastructure.cache.impl;
+
+import com.creditoapi.application.dto.CreditoDTO;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+// Layout por crédito: textos como int16 tamanho + UTF-8 (-1 para null), data como epochDay (int64,
+// Long.MIN_VALUE para null), decimais como int8 tamanho + valor sem escala em complemento de dois (-1 para null)
+// seguido da escala (int8). Listas são precedidas pela quantidade de créditos (int32)
+final class CreditoDTOCodec {
+
+    private static final long DATA_NULA = Long.MIN_VALUE;
+
+    private CreditoDTOCodec() {
+    }
+
+    static byte[] encode(CreditoDTO credito) {
+        return encode(out -> write(out, credito));
+    }
+
+    static byte[] encodeList(List<CreditoDTO> creditos) {
+        return encode(out -> {
+            out.writeInt(creditos.size());
+            for (CreditoDTO credito : creditos) {
+                write(out, credito);
+            }
+        });
+    }
+
+    static CreditoDTO decode(byte[] payload) {
+        return read(ByteBuffer.wrap(payload));
+    }
+
+    static List<CreditoDTO> decodeList(byte[] payload) {
+        ByteBuffer buffer = ByteBuffer.wrap(payload);
+        int quantidade = buffer.getInt();
+        List<CreditoDTO> creditos = new ArrayList<>(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            creditos.add(read(buffer));
+        }
+        return creditos;
+    }
+
+    private static byte[] encode(Writer writer) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            writer.write(out);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void write(DataOutputStream out, CreditoDTO credito) throws IOException {
+        writeString(out, credito.numeroCredito());
+        writeString(out, credito.numeroNfse());
+        out.writeLong(credito.dataConstituicao() == null ? DATA_NULA : credito.dataConstituicao().toEpochDay());
+        writeDecimal(out, credito.valorIssqn());
+        writeString(out, credito.tipoCredito());
+        writeString(out, credito.simplesNacional());
+        writeDecimal(out, credito.aliquota());
+        writeDecimal(out, credito.valorFaturado());
+        writeDecimal(out, credito.valorDeducao());
+        writeDecimal(out, credito.baseCalculo());
+    }
+
+    private static CreditoDTO read(ByteBuffer buffer) {
+        String numeroCredito = readString(buffer);
+        String numeroNfse = readString(buffer);
+        long epochDay = buffer.getLong();
+
+        return CreditoDTO.builder()
+                .numeroCredito(numeroCredito)
+                .numeroNfse(numeroNfse)
+                .dataConstituicao(epochDay == DATA_NULA ? null : LocalDate.ofEpochDay(epochDay))
+                .valorIssqn(readDecimal(buffer))
+                .tipoCredito(readString(buffer))
+                .simplesNacional(readString(buffer))
+                .aliquota(readDecimal(buffer))
+                .valorFaturado(readDecimal(buffer))
+                .valorDeducao(readDecimal(buffer))
+                .baseCalculo(readDecimal(buffer))
+                .build();
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeShort(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("Campo excede " + Short.MAX_VALUE + " bytes");
+        }
+        out.writeShort(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        short length = buffer.getShort();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeDecimal(DataOutputStream out, BigDecimal value) throws IOException {
+        if (value == null) {
+            out.writeByte(-1);
+            return;
+        }
+        byte[] unscaled = value.unscaledValue().toByteArray();
+        if (unscaled.length > Byte.MAX_VALUE || value.scale() < Byte.MIN_VALUE || value.scale() > Byte.MAX_VALUE) {
+            throw new IllegalArgumentException("Valor decimal fora do intervalo suportado: " + value);
+        }
+        out.writeByte(unscaled.length);
+        out.write(unscaled);
+        out.writeByte(value.scale());
+    }
+
+    private static BigDecimal readDecimal(ByteBuffer buffer) {
+        byte length = buffer.get();
+        if (length < 0) {
+            return null;
+        }
+        byte[] unscaled = new byte[length];
+        buffer.get(unscaled);
+        return new BigDecimal(new BigInteger(unscaled), buffer.get());
+    }
+
+    @FunctionalInterface
+    private interface Writer {
+        void write(DataOutputStream out) throws IOException;
+    }
+}
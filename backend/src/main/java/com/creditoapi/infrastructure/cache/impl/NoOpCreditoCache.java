@@ -0,0 +1,50 @@
+package com.creditoapi.infrastructure.cache.impl;
+
+import com.creditoapi.application.dto.CreditoDTO;
+import com.creditoapi.infrastructure.cache.CreditoCache;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+@Component
+@ConditionalOnProperty(name = "app.cache.enabled", havingValue = "false")
+public class NoOpCreditoCache implements CreditoCache {
+
+    @Override
+    public List<CreditoDTO> getByNumeroNfse(String numeroNfse, Function<String, List<CreditoDTO>> loader) {
+        return loader.apply(numeroNfse);
+    }
+
+    @Override
+    public Optional<CreditoDTO> getByNumeroCredito(String numeroCredito,
+                                                   Function<String, Optional<CreditoDTO>> loader) {
+        return loader.apply(numeroCredito);
+    }
+
+    @Override
+    public Map<String, List<CreditoDTO>> getAllByNumeroNfse(
+            Collection<String> numerosNfse, Function<Set<String>, Map<String, List<CreditoDTO>>> loader) {
+        return loader.apply(new LinkedHashSet<>(numerosNfse));
+    }
+
+    @Override
+    public Map<String, Optional<CreditoDTO>> getAllByNumeroCredito(
+            Collection<String> numerosCredito, Function<Set<String>, Map<String, Optional<CreditoDTO>>> loader) {
+        return loader.apply(new LinkedHashSet<>(numerosCredito));
+    }
+
+    @Override
+    public void evict(String numeroCredito, String numeroNfse) {
+    }
+
+    @Override
+    public void clear() {
+    }
+}
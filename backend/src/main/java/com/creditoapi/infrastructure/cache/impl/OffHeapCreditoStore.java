@@ -0,0 +1,221 @@
+package com.creditoapi.infrastructure.cache.impl;
+
+import com.creditoapi.application.dto.CreditoDTO;
+import com.creditoapi.infrastructure.cache.CreditoKeyIndex;
+import com.creditoapi.infrastructure.cache.impl.OffHeapSlabAllocator.Slot;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Slf4j
+@Component
+@ConditionalOnExpression("${app.cache.enabled:true} and ${app.cache.off-heap.enabled:false}")
+public class OffHeapCreditoStore {
+
+    static final String TIER = "offheap";
+
+    private static final String PREFIXO_NFSE = "n:";
+    private static final String PREFIXO_CREDITO = "c:";
+    private static final int CANDIDATOS_DESPEJO = 64;
+
+    private final OffHeapSlabAllocator allocator;
+    // Apenas chave e posição do slot ficam no heap; o conteúdo serializado fica nas páginas diretas
+    private final Cache<String, Slot> indice;
+    // Chaves "n:" por número do crédito, para a invalidação não precisar decodificar todas as listas
+    private final CreditoKeyIndex nfsesPorCredito = new CreditoKeyIndex();
+
+    private final Counter nfseHits;
+    private final Counter nfseMisses;
+    private final Counter creditoHits;
+    private final Counter creditoMisses;
+    private final Counter nfseEvictions;
+    private final Counter creditoEvictions;
+    private final Counter rejeitados;
+
+    public OffHeapCreditoStore(MeterRegistry meterRegistry,
+                               @Value("${app.cache.off-heap.capacity}") DataSize capacity,
+                               @Value("${app.cache.off-heap.page-size}") DataSize pageSize,
+                               @Value("${app.cache.ttl}") Duration ttl,
+                               @Value("${app.cache.negative-ttl}") Duration negativeTtl) {
+        this.allocator = new OffHeapSlabAllocator(capacity.toBytes(), Math.toIntExact(pageSize.toBytes()));
+        this.indice = Caffeine.newBuilder()
+                .maximumWeight(allocator.capacidade())
+                .weigher((String chave, Slot slot) -> allocator.tamanhoReservado(slot))
+                .expireAfter(new ConsultaExpiry<Slot>(slot -> slot.tamanho() == 0, ttl, negativeTtl))
+                // Libera o slot na própria thread que causou a remoção, devolvendo o espaço antes da próxima alocação
+                .executor(Runnable::run)
+                .evictionListener((String chave, Slot slot, RemovalCause causa) -> nfsesPorCredito.remover(chave))
+                .removalListener(this::onRemoval)
+                .build();
+
+        this.nfseHits = gets(meterRegistry, CaffeineCreditoCache.NFSE_CACHE, "hit");
+        this.nfseMisses = gets(meterRegistry, CaffeineCreditoCache.NFSE_CACHE, "miss");
+        this.creditoHits = gets(meterRegistry, CaffeineCreditoCache.CREDITO_CACHE, "hit");
+        this.creditoMisses = gets(meterRegistry, CaffeineCreditoCache.CREDITO_CACHE, "miss");
+        this.nfseEvictions = evictions(meterRegistry, CaffeineCreditoCache.NFSE_CACHE);
+        this.creditoEvictions = evictions(meterRegistry, CaffeineCreditoCache.CREDITO_CACHE);
+        this.rejeitados = Counter.builder("cache.offheap.rejected")
+                .description("Entradas não armazenadas fora do heap por falta de slot livre na classe de tamanho")
+                .register(meterRegistry);
+        Gauge.builder("cache.offheap.bytes", allocator, OffHeapSlabAllocator::usado)
+                .description("Bytes fora do heap ocupados por entradas do cache")
+                .tag("estado", "usado")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("cache.offheap.bytes", allocator, OffHeapSlabAllocator::reservado)
+                .description("Bytes fora do heap ocupados por entradas do cache")
+                .tag("estado", "reservado")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("cache.offheap.capacity", allocator, OffHeapSlabAllocator::capacidade)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("cache.offheap.entries", indice, Cache::estimatedSize)
+                .register(meterRegistry);
+
+        log.info("Cache fora do heap habilitado (capacidade {}, página {})", capacity, pageSize);
+    }
+
+    // Retorna null quando a NFS-e não está no cache
+    List<CreditoDTO> getByNumeroNfse(String numeroNfse) {
+        byte[] payload = read(PREFIXO_NFSE + numeroNfse);
+        if (payload == null) {
+            nfseMisses.increment();
+            return null;
+        }
+        nfseHits.increment();
+        return payload.length == 0 ? List.of() : CreditoDTOCodec.decodeList(payload);
+    }
+
+    // Retorna null quando o crédito não está no cache; Optional.empty() é um resultado negativo armazenado
+    Optional<CreditoDTO> getByNumeroCredito(String numeroCredito) {
+        byte[] payload = read(PREFIXO_CREDITO + numeroCredito);
+        if (payload == null) {
+            creditoMisses.increment();
+            return null;
+        }
+        creditoHits.increment();
+        return payload.length == 0 ? Optional.empty() : Optional.of(CreditoDTOCodec.decode(payload));
+    }
+
+    void putNfse(String numeroNfse, List<CreditoDTO> creditos) {
+        write(PREFIXO_NFSE + numeroNfse, creditos.isEmpty() ? new byte[0] : CreditoDTOCodec.encodeList(creditos),
+                creditos.stream().map(CreditoDTO::numeroCredito).toList());
+    }
+
+    void putCredito(String numeroCredito, Optional<CreditoDTO> credito) {
+        write(PREFIXO_CREDITO + numeroCredito, credito.map(CreditoDTOCodec::encode).orElseGet(() -> new byte[0]),
+                List.of());
+    }
+
+    void evict(String numeroCredito, String numeroNfse) {
+        invalidar(PREFIXO_NFSE + numeroNfse);
+        invalidar(PREFIXO_CREDITO + numeroCredito);
+        // Como no cache local: listas de outras NFS-e que ainda contêm o crédito alterado
+        nfsesPorCredito.chaves(numeroCredito).forEach(this::invalidar);
+    }
+
+    void clear() {
+        nfsesPorCredito.clear();
+        indice.invalidateAll();
+    }
+
+    int nfsesIndexadas() {
+        return nfsesPorCredito.size();
+    }
+
+    private byte[] read(String chave) {
+        Slot slot = indice.getIfPresent(chave);
+        return slot == null ? null : allocator.read(slot);
+    }
+
+    private void write(String chave, byte[] payload, Collection<String> numerosCredito) {
+        Slot slot = allocator.allocate(payload.length);
+        if (slot == null && despejarDaMesmaClasse(payload.length)) {
+            slot = allocator.allocate(payload.length);
+        }
+        if (slot == null) {
+            rejeitados.increment();
+            invalidar(chave);
+            return;
+        }
+        allocator.write(slot, payload);
+        Slot novo = slot;
+        // Índice e entrada mudam juntos, sob o lock da chave, para uma invalidação concorrente não ver um sem o outro
+        indice.asMap().compute(chave, (c, anterior) -> {
+            nfsesPorCredito.registrar(c, numerosCredito);
+            return novo;
+        });
+    }
+
+    private void invalidar(String chave) {
+        indice.asMap().computeIfPresent(chave, (c, slot) -> {
+            nfsesPorCredito.remover(c);
+            return null;
+        });
+    }
+
+    // As páginas já pertencem a outras classes de tamanho ou a capacidade acabou: despeja a entrada mais fria
+    // que ocupa um slot da mesma classe, como no LRU por slab do memcached
+    private boolean despejarDaMesmaClasse(int tamanho) {
+        return indice.policy().eviction()
+                .flatMap(eviction -> eviction.coldest(CANDIDATOS_DESPEJO).entrySet().stream()
+                        .filter(entrada -> allocator.mesmaClasse(entrada.getValue(), tamanho))
+                        .filter(entrada -> despejar(entrada.getKey(), entrada.getValue()))
+                        .findFirst())
+                .map(entrada -> {
+                    (entrada.getKey().startsWith(PREFIXO_NFSE) ? nfseEvictions : creditoEvictions).increment();
+                    return true;
+                })
+                .orElse(false);
+    }
+
+    // Remove a entrada só se ela ainda ocupa o slot escolhido; outra escrita pode tê-la substituído nesse meio tempo
+    private boolean despejar(String chave, Slot candidato) {
+        boolean[] despejado = {false};
+        indice.asMap().computeIfPresent(chave, (c, slot) -> {
+            if (slot != candidato) {
+                return slot;
+            }
+            nfsesPorCredito.remover(c);
+            despejado[0] = true;
+            return null;
+        });
+        return despejado[0];
+    }
+
+    private void onRemoval(String chave, Slot slot, RemovalCause causa) {
+        allocator.free(slot);
+        if (causa.wasEvicted()) {
+            (chave.startsWith(PREFIXO_NFSE) ? nfseEvictions : creditoEvictions).increment();
+        }
+    }
+
+    private static Counter gets(MeterRegistry meterRegistry, String cache, String result) {
+        return Counter.builder("cache.gets")
+                .tag("cache", cache)
+                .tag("tier", TIER)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static Counter evictions(MeterRegistry meterRegistry, String cache) {
+        return Counter.builder("cache.evictions")
+                .tag("cache", cache)
+                .tag("tier", TIER)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,176 @@
+package com.creditoapi.infrastructure.cache.impl;
+
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Alocador em slabs sobre páginas diretas (fora do heap). Cada classe de tamanho (potências de 2 a partir de
+// TAMANHO_MINIMO) recebe páginas inteiras sob demanda até o limite de capacidade e as divide em slots iguais.
+// Cada slot tem um contador de geração incrementado na liberação: uma leitura concorrente com a reutilização do
+// slot percebe a troca de geração e é descartada em vez de devolver bytes de outra entrada
+final class OffHeapSlabAllocator {
+
+    static final int TAMANHO_MINIMO = 64;
+
+    private static final int BITS_TAMANHO_MINIMO = Integer.numberOfTrailingZeros(TAMANHO_MINIMO);
+
+    static final Slot VAZIO = new Slot(-1, -1, -1, 0, 0);
+
+    private final long capacidade;
+    private final int tamanhoPagina;
+    private final SizeClass[] classes;
+    private final AtomicLong reservado = new AtomicLong();
+    private final AtomicLong usado = new AtomicLong();
+
+    OffHeapSlabAllocator(long capacidade, int tamanhoPagina) {
+        if (tamanhoPagina < TAMANHO_MINIMO || Integer.bitCount(tamanhoPagina) != 1) {
+            throw new IllegalArgumentException(
+                    "O tamanho da página deve ser potência de 2 e ter ao menos " + TAMANHO_MINIMO + " bytes");
+        }
+        if (capacidade < tamanhoPagina) {
+            throw new IllegalArgumentException("A capacidade deve comportar ao menos uma página");
+        }
+        this.capacidade = capacidade;
+        this.tamanhoPagina = tamanhoPagina;
+        this.classes = new SizeClass[classeDe(tamanhoPagina) + 1];
+        for (int i = 0; i < classes.length; i++) {
+            classes[i] = new SizeClass(i, TAMANHO_MINIMO << i);
+        }
+    }
+
+    // Retorna null quando a entrada excede uma página ou não há slot livre nem capacidade para nova página
+    Slot allocate(int tamanho) {
+        if (tamanho == 0) {
+            return VAZIO;
+        }
+        if (tamanho > tamanhoPagina) {
+            return null;
+        }
+        return classes[classeDe(tamanho)].allocate(tamanho);
+    }
+
+    void write(Slot slot, byte[] dados) {
+        if (slot == VAZIO) {
+            return;
+        }
+        SizeClass classe = classes[slot.classe()];
+        classe.paginas[slot.pagina()].buffer.put(slot.posicao() * classe.tamanhoSlot, dados);
+    }
+
+    // Retorna null se o slot foi liberado (e possivelmente reutilizado) antes ou durante a cópia
+    byte[] read(Slot slot) {
+        if (slot == VAZIO) {
+            return new byte[0];
+        }
+        SizeClass classe = classes[slot.classe()];
+        Pagina pagina = classe.paginas[slot.pagina()];
+        if (pagina.geracoes.get(slot.posicao()) != slot.geracao()) {
+            return null;
+        }
+        byte[] dados = new byte[slot.tamanho()];
+        pagina.buffer.get(slot.posicao() * classe.tamanhoSlot, dados);
+        VarHandle.loadLoadFence();
+        return pagina.geracoes.get(slot.posicao()) == slot.geracao() ? dados : null;
+    }
+
+    void free(Slot slot) {
+        if (slot != VAZIO) {
+            classes[slot.classe()].free(slot);
+        }
+    }
+
+    // Indica se o slot liberado pode ser reaproveitado por uma entrada do tamanho informado
+    boolean mesmaClasse(Slot slot, int tamanho) {
+        return slot != VAZIO && tamanho > 0 && tamanho <= tamanhoPagina && slot.classe() == classeDe(tamanho);
+    }
+
+    int tamanhoReservado(Slot slot) {
+        return slot == VAZIO ? TAMANHO_MINIMO : classes[slot.classe()].tamanhoSlot;
+    }
+
+    long capacidade() {
+        return capacidade;
+    }
+
+    long reservado() {
+        return reservado.get();
+    }
+
+    long usado() {
+        return usado.get();
+    }
+
+    private static int classeDe(int tamanho) {
+        return Math.max(0, 32 - Integer.numberOfLeadingZeros(tamanho - 1) - BITS_TAMANHO_MINIMO);
+    }
+
+    private boolean reservarPagina() {
+        long atual;
+        do {
+            atual = reservado.get();
+            if (atual + tamanhoPagina > capacidade) {
+                return false;
+            }
+        } while (!reservado.compareAndSet(atual, atual + tamanhoPagina));
+        return true;
+    }
+
+    record Slot(int classe, int pagina, int posicao, int tamanho, int geracao) {
+    }
+
+    private record Pagina(ByteBuffer buffer, AtomicIntegerArray geracoes) {
+    }
+
+    private final class SizeClass {
+
+        private final int classe;
+        private final int tamanhoSlot;
+        private final int slotsPorPagina;
+        private volatile Pagina[] paginas = new Pagina[0];
+        private int[] livres = new int[64];
+        private int quantidadeLivres;
+        private int proximoNaUltimaPagina;
+
+        private SizeClass(int classe, int tamanhoSlot) {
+            this.classe = classe;
+            this.tamanhoSlot = tamanhoSlot;
+            this.slotsPorPagina = tamanhoPagina / tamanhoSlot;
+            this.proximoNaUltimaPagina = slotsPorPagina;
+        }
+
+        private synchronized Slot allocate(int tamanho) {
+            int indice;
+            if (quantidadeLivres > 0) {
+                indice = livres[--quantidadeLivres];
+            } else {
+                if (proximoNaUltimaPagina == slotsPorPagina) {
+                    if (!reservarPagina()) {
+                        return null;
+                    }
+                    Pagina[] novas = Arrays.copyOf(paginas, paginas.length + 1);
+                    novas[paginas.length] = new Pagina(ByteBuffer.allocateDirect(tamanhoPagina),
+                            new AtomicIntegerArray(slotsPorPagina));
+                    paginas = novas;
+                    proximoNaUltimaPagina = 0;
+                }
+                indice = (paginas.length - 1) * slotsPorPagina + proximoNaUltimaPagina++;
+            }
+
+            int pagina = indice / slotsPorPagina;
+            int posicao = indice % slotsPorPagina;
+            usado.addAndGet(tamanhoSlot);
+            return new Slot(classe, pagina, posicao, tamanho, paginas[pagina].geracoes.get(posicao));
+        }
+
+        private synchronized void free(Slot slot) {
+            paginas[slot.pagina()].geracoes.incrementAndGet(slot.posicao());
+            if (quantidadeLivres == livres.length) {
+                livres = Arrays.copyOf(livres, livres.length * 2);
+            }
+            livres[quantidadeLivres++] = slot.pagina() * slotsPorPagina + slot.posicao();
+            usado.addAndGet(-tamanhoSlot);
+        }
+    }
+}
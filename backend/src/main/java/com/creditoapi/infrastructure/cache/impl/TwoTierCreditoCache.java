@@ -0,0 +1,130 @@
+package com.creditoapi.infrastructure.cache.impl;
+
+import com.creditoapi.application.dto.CreditoDTO;
+import com.creditoapi.domain.event.CreditoAlteradoEvent;
+import com.creditoapi.infrastructure.cache.CreditoCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+@Slf4j
+@Component
+@ConditionalOnExpression("${app.cache.enabled:true} and ${app.cache.off-heap.enabled:false}")
+public class TwoTierCreditoCache implements CreditoCache {
+
+    private final CaffeineCreditoCache near;
+    private final OffHeapCreditoStore offHeap;
+
+    public TwoTierCreditoCache(OffHeapCreditoStore offHeap,
+                               MeterRegistry meterRegistry,
+                               @Value("${app.cache.near.maximum-size}") long nearMaximumSize,
+                               @Value("${app.cache.ttl}") Duration ttl,
+                               @Value("${app.cache.negative-ttl}") Duration negativeTtl) {
+        this.near = new CaffeineCreditoCache(meterRegistry, nearMaximumSize, ttl, negativeTtl, Tags.of("tier", "near"));
+        this.offHeap = offHeap;
+    }
+
+    @Override
+    public List<CreditoDTO> getByNumeroNfse(String numeroNfse, Function<String, List<CreditoDTO>> loader) {
+        return near.getByNumeroNfse(numeroNfse, chave -> {
+            List<CreditoDTO> armazenado = offHeap.getByNumeroNfse(chave);
+            if (armazenado != null) {
+                return armazenado;
+            }
+            List<CreditoDTO> carregado = loader.apply(chave);
+            offHeap.putNfse(chave, carregado);
+            return carregado;
+        });
+    }
+
+    @Override
+    public Optional<CreditoDTO> getByNumeroCredito(String numeroCredito,
+                                                   Function<String, Optional<CreditoDTO>> loader) {
+        return near.getByNumeroCredito(numeroCredito, chave -> {
+            Optional<CreditoDTO> armazenado = offHeap.getByNumeroCredito(chave);
+            if (armazenado != null) {
+                return armazenado;
+            }
+            Optional<CreditoDTO> carregado = loader.apply(chave);
+            offHeap.putCredito(chave, carregado);
+            return carregado;
+        });
+    }
+
+    @Override
+    public Map<String, List<CreditoDTO>> getAllByNumeroNfse(
+            Collection<String> numerosNfse, Function<Set<String>, Map<String, List<CreditoDTO>>> loader) {
+        return near.getAllByNumeroNfse(numerosNfse, chaves -> {
+            Map<String, List<CreditoDTO>> encontrados = new HashMap<>();
+            Set<String> faltantes = new LinkedHashSet<>();
+            for (String chave : chaves) {
+                List<CreditoDTO> armazenado = offHeap.getByNumeroNfse(chave);
+                if (armazenado != null) {
+                    encontrados.put(chave, armazenado);
+                } else {
+                    faltantes.add(chave);
+                }
+            }
+            if (!faltantes.isEmpty()) {
+                Map<String, List<CreditoDTO>> carregados = loader.apply(faltantes);
+                carregados.forEach(offHeap::putNfse);
+                encontrados.putAll(carregados);
+            }
+            return encontrados;
+        });
+    }
+
+    @Override
+    public Map<String, Optional<CreditoDTO>> getAllByNumeroCredito(
+            Collection<String> numerosCredito, Function<Set<String>, Map<String, Optional<CreditoDTO>>> loader) {
+        return near.getAllByNumeroCredito(numerosCredito, chaves -> {
+            Map<String, Optional<CreditoDTO>> encontrados = new HashMap<>();
+            Set<String> faltantes = new LinkedHashSet<>();
+            for (String chave : chaves) {
+                Optional<CreditoDTO> armazenado = offHeap.getByNumeroCredito(chave);
+                if (armazenado != null) {
+                    encontrados.put(chave, armazenado);
+                } else {
+                    faltantes.add(chave);
+                }
+            }
+            if (!faltantes.isEmpty()) {
+                Map<String, Optional<CreditoDTO>> carregados = loader.apply(faltantes);
+                carregados.forEach(offHeap::putCredito);
+                encontrados.putAll(carregados);
+            }
+            return encontrados;
+        });
+    }
+
+    @Override
+    public void evict(String numeroCredito, String numeroNfse) {
+        near.evict(numeroCredito, numeroNfse);
+        offHeap.evict(numeroCredito, numeroNfse);
+    }
+
+    @Override
+    public void clear() {
+        near.clear();
+        offHeap.clear();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCreditoAlterado(CreditoAlteradoEvent event) {
+        evict(event.numeroCredito(), event.numeroNfse());
+    }
+}
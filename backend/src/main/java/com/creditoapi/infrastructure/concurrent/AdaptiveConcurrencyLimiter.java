@@ -0,0 +1,109 @@
+package com.creditoapi.infrastructure.concurrent;
+
+import com.creditoapi.infrastructure.metrics.DatabaseLatencyListener;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+// Limite de requisições simultâneas ajustado pela latência do banco (algoritmo de gradiente): enquanto a latência
+// recente fica até `tolerancia` vezes a mínima da janela o limite cresce; acima disso ele cai na proporção do
+// excesso, e cada consulta com falha reduz o limite em 10% (AIMD)
+public class AdaptiveConcurrencyLimiter implements DatabaseLatencyListener {
+
+    private static final double ALFA_RECENTE = 2.0 / (10 + 1);
+    private static final double GRADIENTE_MINIMO = 0.5;
+    private static final double RECUO = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerancia;
+    private final double suavizacao;
+    private final long janelaMinimaNanos;
+    private final LongSupplier relogio;
+
+    private final AtomicInteger emAndamento = new AtomicInteger();
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile double limit;
+
+    // Protegidos pelo lock
+    private double latenciaRecente;
+    private long minimaAnterior = Long.MAX_VALUE;
+    private long minimaAtual = Long.MAX_VALUE;
+    private long fimJanela;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double tolerancia,
+                                      double suavizacao, Duration janelaMinima) {
+        this(initialLimit, minLimit, maxLimit, tolerancia, suavizacao, janelaMinima, System::nanoTime);
+    }
+
+    AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double tolerancia, double suavizacao,
+                               Duration janelaMinima, LongSupplier relogio) {
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerancia = tolerancia;
+        this.suavizacao = suavizacao;
+        this.janelaMinimaNanos = janelaMinima.toNanos();
+        this.relogio = relogio;
+        this.fimJanela = relogio.getAsLong() + janelaMinimaNanos;
+    }
+
+    public boolean tryAcquire() {
+        while (true) {
+            int atual = emAndamento.get();
+            if (atual >= (int) limit) {
+                return false;
+            }
+            if (emAndamento.compareAndSet(atual, atual + 1)) {
+                return true;
+            }
+        }
+    }
+
+    public void release() {
+        emAndamento.decrementAndGet();
+    }
+
+    @Override
+    public void onLatency(long nanos, boolean sucesso) {
+        lock.lock();
+        try {
+            if (!sucesso) {
+                limit = Math.max(minLimit, limit * RECUO);
+                return;
+            }
+
+            long agora = relogio.getAsLong();
+            // A mínima vale por duas janelas, para acompanhar o banco quando ele fica permanentemente mais lento
+            if (agora - fimJanela >= 0) {
+                minimaAnterior = minimaAtual;
+                minimaAtual = Long.MAX_VALUE;
+                fimJanela = agora + janelaMinimaNanos;
+            }
+            minimaAtual = Math.min(minimaAtual, nanos);
+            latenciaRecente = latenciaRecente == 0 ? nanos : latenciaRecente + ALFA_RECENTE * (nanos - latenciaRecente);
+
+            // Sem demanda para ocupar o limite a latência não diz nada sobre ele
+            if (emAndamento.get() < limit / 2) {
+                return;
+            }
+
+            double minima = Math.min(minimaAnterior, minimaAtual);
+            double gradiente = Math.max(GRADIENTE_MINIMO, Math.min(1.0, tolerancia * minima / latenciaRecente));
+            double novoLimite = limit * gradiente + Math.sqrt(limit);
+            limit = Math.max(minLimit, Math.min(maxLimit, limit * (1 - suavizacao) + novoLimite * suavizacao));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return emAndamento.get();
+    }
+}
@@ -0,0 +1,40 @@
+package com.creditoapi.infrastructure.concurrent;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+// Um token bucket por cliente; buckets sem uso por mais do que o tempo de reposição completa são descartados,
+// já que voltariam cheios de qualquer forma
+public class ClientRateLimiter {
+
+    private final Cache<String, TokenBucket> buckets;
+    private final int capacidade;
+    private final double tokensPorSegundo;
+    private final LongSupplier relogio;
+
+    public ClientRateLimiter(int capacidade, double tokensPorSegundo, long maxClientes) {
+        this(capacidade, tokensPorSegundo, maxClientes, System::nanoTime);
+    }
+
+    ClientRateLimiter(int capacidade, double tokensPorSegundo, long maxClientes, LongSupplier relogio) {
+        this.capacidade = capacidade;
+        this.tokensPorSegundo = tokensPorSegundo;
+        this.relogio = relogio;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxClientes)
+                .expireAfterAccess(Duration.ofMillis((long) Math.ceil(capacidade * 1000 / tokensPorSegundo)))
+                .build();
+    }
+
+    // Retorna 0 quando a requisição pode seguir ou quantos nanos o cliente deve aguardar
+    public long tryAcquire(String cliente) {
+        return buckets.get(cliente, chave -> new TokenBucket(capacidade, tokensPorSegundo, relogio)).tryConsume();
+    }
+
+    public long clientes() {
+        return buckets.estimatedSize();
+    }
+}
@@ -0,0 +1,61 @@
+package com.creditoapi.infrastructure.concurrent;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+// Chamadas concorrentes para a mesma chave compartilham uma única execução do loader: a primeira executa e as
+// demais aguardam o mesmo resultado (ou a mesma exceção). Nada é guardado depois que a execução termina
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> emAndamento = new ConcurrentHashMap<>();
+    private final Runnable aoCompartilhar;
+
+    public SingleFlight() {
+        this(() -> {
+        });
+    }
+
+    public SingleFlight(Runnable aoCompartilhar) {
+        this.aoCompartilhar = aoCompartilhar;
+    }
+
+    public V execute(K chave, Function<K, V> loader) {
+        CompletableFuture<V> execucao = new CompletableFuture<>();
+        CompletableFuture<V> existente = emAndamento.putIfAbsent(chave, execucao);
+        if (existente != null) {
+            aoCompartilhar.run();
+            return aguardar(existente);
+        }
+
+        try {
+            V valor = loader.apply(chave);
+            execucao.complete(valor);
+            return valor;
+        } catch (RuntimeException | Error ex) {
+            execucao.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            emAndamento.remove(chave, execucao);
+        }
+    }
+
+    public int emAndamento() {
+        return emAndamento.size();
+    }
+
+    private static <V> V aguardar(CompletableFuture<V> execucao) {
+        try {
+            return execucao.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            if (ex.getCause() instanceof Error causa) {
+                throw causa;
+            }
+            throw ex;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.creditoapi.infrastructure.concurrent;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+public class TokenBucket {
+
+    private final double capacidade;
+    private final double tokensPorNano;
+    private final LongSupplier relogio;
+
+    // Protegidos pelo monitor do bucket
+    private double tokens;
+    private long ultimaReposicao;
+
+    public TokenBucket(int capacidade, double tokensPorSegundo, LongSupplier relogio) {
+        this.capacidade = capacidade;
+        this.tokensPorNano = tokensPorSegundo / TimeUnit.SECONDS.toNanos(1);
+        this.relogio = relogio;
+        this.tokens = capacidade;
+        this.ultimaReposicao = relogio.getAsLong();
+    }
+
+    // Retorna 0 quando consumiu um token ou, caso contrário, quantos nanos faltam para o próximo
+    public synchronized long tryConsume() {
+        long agora = relogio.getAsLong();
+        tokens = Math.min(capacidade, tokens + (agora - ultimaReposicao) * tokensPorNano);
+        ultimaReposicao = agora;
+
+        if (tokens >= 1) {
+            tokens--;
+            return 0;
+        }
+        return (long) Math.ceil((1 - tokens) / tokensPorNano);
+    }
+}
@@ -0,0 +1,33 @@
+package com.creditoapi.infrastructure.config;
+
+import com.creditoapi.infrastructure.grpc.GrpcServerLifecycle;
+import io.grpc.BindableService;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
+@Configuration
+@ConditionalOnProperty(name = "app.grpc.enabled", havingValue = "true")
+public class GrpcServerConfig {
+
+    @Bean
+    public GrpcServerLifecycle grpcServer(
+            ObjectProvider<BindableService> services,
+            @Value("${app.grpc.port}") int port,
+            @Value("${app.grpc.shutdown-timeout}") Duration shutdownTimeout,
+            @Value("${spring.threads.virtual.enabled}") boolean virtualThreads) {
+        NettyServerBuilder builder = NettyServerBuilder.forPort(port);
+        // As consultas bloqueiam no banco; com threads virtuais cada chamada ganha a sua, como no Tomcat
+        if (virtualThreads) {
+            builder.executor(Executors.newVirtualThreadPerTaskExecutor());
+        }
+        services.orderedStream().forEach(builder::addService);
+        return new GrpcServerLifecycle(builder.build(), shutdownTimeout);
+    }
+}
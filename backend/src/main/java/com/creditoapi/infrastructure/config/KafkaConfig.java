@@ -1,19 +1,32 @@
 package com.creditoapi.infrastructure.config;
 
 import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.kafka.ConcurrentKafkaListenerContainerFactoryConfigurer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+
+import java.util.HashMap;
+import java.util.Map;
 
 @Configuration
 @ConditionalOnProperty(name = "app.kafka.enabled", havingValue = "true")
 public class KafkaConfig {
 
+    public static final String SEM_GRUPO_CONTAINER_FACTORY = "semGrupoKafkaListenerContainerFactory";
+
     @Value("${app.kafka.topic.consulta-credito}")
     private String consultaCreditoTopic;
 
+    @Value("${app.kafka.topic.cache-invalidacao}")
+    private String cacheInvalidacaoTopic;
+
     @Bean
     public NewTopic consultaCreditoTopic() {
         return TopicBuilder.name(consultaCreditoTopic)
@@ -21,4 +34,31 @@ public class KafkaConfig {
                 .replicas(1)
                 .build();
     }
+
+    @Bean
+    public NewTopic cacheInvalidacaoTopic() {
+        return TopicBuilder.name(cacheInvalidacaoTopic)
+                .partitions(1)
+                .replicas(1)
+                .build();
+    }
+
+    // Listeners com partições atribuídas manualmente e sem group.id: não commitam offsets nem deixam grupos
+    // de consumo órfãos no broker a cada reinício da réplica
+    @Bean(SEM_GRUPO_CONTAINER_FACTORY)
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> semGrupoKafkaListenerContainerFactory(
+            ConcurrentKafkaListenerContainerFactoryConfigurer configurer, ConsumerFactory<?, ?> consumerFactory) {
+        ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        configurer.configure(factory, semGrupo(consumerFactory));
+        return factory;
+    }
+
+    // A fábrica do Boot com spring.kafka.consumer.*, mas sem o group.id da aplicação: passar groupId nulo ao
+    // createConsumer não basta, porque ele mantém o group.id configurado
+    public static ConsumerFactory<Object, Object> semGrupo(ConsumerFactory<?, ?> consumerFactory) {
+        Map<String, Object> config = new HashMap<>(consumerFactory.getConfigurationProperties());
+        config.remove(ConsumerConfig.GROUP_ID_CONFIG);
+        config.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        return new DefaultKafkaConsumerFactory<>(config);
+    }
 }
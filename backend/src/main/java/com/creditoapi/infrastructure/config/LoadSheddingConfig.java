@@ -0,0 +1,80 @@
+package com.creditoapi.infrastructure.config;
+
+import com.creditoapi.infrastructure.concurrent.AdaptiveConcurrencyLimiter;
+import com.creditoapi.infrastructure.concurrent.ClientRateLimiter;
+import com.creditoapi.presentation.http.LoadSheddingFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "app.load-shedding.enabled", havingValue = "true")
+public class LoadSheddingConfig {
+
+    @Bean
+    public AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter(
+            MeterRegistry meterRegistry,
+            @Value("${app.load-shedding.concurrency.initial-limit}") int initialLimit,
+            @Value("${app.load-shedding.concurrency.min-limit}") int minLimit,
+            @Value("${app.load-shedding.concurrency.max-limit}") int maxLimit,
+            @Value("${app.load-shedding.concurrency.tolerance}") double tolerance,
+            @Value("${app.load-shedding.concurrency.smoothing}") double smoothing,
+            @Value("${app.load-shedding.concurrency.min-latency-window}") Duration minLatencyWindow) {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(initialLimit, minLimit, maxLimit,
+                tolerance, smoothing, minLatencyWindow);
+
+        Gauge.builder("http.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .description("Limite atual de requisições simultâneas nos endpoints de crédito")
+                .register(meterRegistry);
+        Gauge.builder("http.concurrency.in.flight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                .description("Requisições em andamento nos endpoints de crédito")
+                .register(meterRegistry);
+
+        log.info("Limite adaptativo de concorrência iniciando em {} (entre {} e {})", initialLimit, minLimit,
+                maxLimit);
+        return limiter;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.load-shedding.rate-limit.enabled", havingValue = "true")
+    public ClientRateLimiter clientRateLimiter(
+            MeterRegistry meterRegistry,
+            @Value("${app.load-shedding.rate-limit.capacity}") int capacity,
+            @Value("${app.load-shedding.rate-limit.refill-per-second}") double refillPerSecond,
+            @Value("${app.load-shedding.rate-limit.max-clients}") long maxClients) {
+        ClientRateLimiter rateLimiter = new ClientRateLimiter(capacity, refillPerSecond, maxClients);
+
+        Gauge.builder("http.rate.limit.clients", rateLimiter, ClientRateLimiter::clientes)
+                .description("Clientes com token bucket ativo")
+                .register(meterRegistry);
+
+        log.info("Limite por cliente: rajada de {} e {} requisições/s", capacity, refillPerSecond);
+        return rateLimiter;
+    }
+
+    @Bean
+    public FilterRegistrationBean<LoadSheddingFilter> loadSheddingFilter(
+            AdaptiveConcurrencyLimiter concurrencyLimiter,
+            ObjectProvider<ClientRateLimiter> rateLimiter,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${app.load-shedding.retry-after}") Duration retryAfter) {
+        FilterRegistrationBean<LoadSheddingFilter> registration = new FilterRegistrationBean<>(new LoadSheddingFilter(
+                concurrencyLimiter, rateLimiter.getIfAvailable(), retryAfter, objectMapper, meterRegistry));
+        registration.addUrlPatterns("/api/creditos/*", "/api/creditos");
+        // Depois da observação HTTP, para que as rejeições também apareçam em http.server.requests
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 100);
+        return registration;
+    }
+}
@@ -0,0 +1,38 @@
+package com.creditoapi.infrastructure.config;
+
+import ch.qos.logback.classic.LoggerContext;
+import com.creditoapi.infrastructure.logging.SamplingTurboFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.util.Map;
+
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "app.logging.sampling.enabled", havingValue = "true")
+public class LogSamplingConfig {
+
+    // Registrado depois da inicialização do Logback, então os logs de startup nunca são amostrados
+    @Bean(destroyMethod = "stop")
+    public SamplingTurboFilter samplingTurboFilter(Environment environment) {
+        Map<String, Integer> taxas = Binder.get(environment)
+                .bind("app.logging.sampling.rates", Bindable.mapOf(String.class, Integer.class))
+                .orElse(Map.of());
+
+        LoggerContext loggerContext = (LoggerContext) LoggerFactory.getILoggerFactory();
+        SamplingTurboFilter filter = new SamplingTurboFilter(taxas);
+        filter.setName("amostragem");
+        filter.setContext(loggerContext);
+        filter.start();
+        loggerContext.addTurboFilter(filter);
+
+        log.info("Amostragem de logs INFO/DEBUG ativa: {}", taxas);
+        return filter;
+    }
+}
@@ -0,0 +1,33 @@
+package com.creditoapi.infrastructure.config;
+
+import com.creditoapi.infrastructure.persistence.ConsultaEstatisticaWriter;
+import com.creditoapi.infrastructure.persistence.CreditoBulkWriter;
+import com.creditoapi.infrastructure.persistence.DatabaseDialect;
+import com.creditoapi.infrastructure.persistence.JdbcBatchConsultaEstatisticaWriter;
+import com.creditoapi.infrastructure.persistence.JdbcBatchCreditoBulkWriter;
+import com.creditoapi.infrastructure.persistence.PostgresConsultaEstatisticaWriter;
+import com.creditoapi.infrastructure.persistence.PostgresCopyCreditoBulkWriter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+// Escolhe as implementações de escrita em massa pelo banco identificado na conexão: COPY e ON CONFLICT no
+// PostgreSQL, MERGE em lote nos demais (H2 nos testes)
+@Configuration
+public class PersistenceConfig {
+
+    @Bean
+    public CreditoBulkWriter creditoBulkWriter(DatabaseDialect dialect, JdbcTemplate jdbcTemplate)
+            throws ReflectiveOperationException {
+        return dialect.isPostgres()
+                ? new PostgresCopyCreditoBulkWriter(jdbcTemplate)
+                : new JdbcBatchCreditoBulkWriter(jdbcTemplate);
+    }
+
+    @Bean
+    public ConsultaEstatisticaWriter consultaEstatisticaWriter(DatabaseDialect dialect, JdbcTemplate jdbcTemplate) {
+        return dialect.isPostgres()
+                ? new PostgresConsultaEstatisticaWriter(jdbcTemplate)
+                : new JdbcBatchConsultaEstatisticaWriter(jdbcTemplate);
+    }
+}
@@ -0,0 +1,80 @@
+package com.creditoapi.infrastructure.config;
+
+import com.creditoapi.infrastructure.persistence.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(ReplicaDataSourceProperties.class)
+@ConditionalOnProperty(name = "app.datasource.replicas.enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    // Substitui o datasource do Spring Boot; spring.datasource.* continua configurando o primário, que também recebe
+    // as migrações do Flyway
+    @Bean
+    @FlywayDataSource
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName(ReplicaRoutingDataSource.PRIMARIO);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(@Qualifier("primaryDataSource") DataSource primario,
+                                                             DataSourceProperties primarioProperties,
+                                                             ReplicaDataSourceProperties properties,
+                                                             MeterRegistry meterRegistry) {
+        List<ReplicaDataSourceProperties.Replica> nodes = properties.nodes();
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < nodes.size(); i++) {
+            String nome = "replica-" + (i + 1);
+            replicas.put(nome, replica(nome, nodes.get(i), primarioProperties, properties, meterRegistry));
+        }
+        log.info("Roteando transações somente leitura para {} réplica(s): {}", replicas.size(), replicas.keySet());
+        return new ReplicaRoutingDataSource(primario, replicas, properties.maxLag(), properties.lagQuery(),
+                meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    private static HikariDataSource replica(String nome, ReplicaDataSourceProperties.Replica replica,
+                                            DataSourceProperties primario, ReplicaDataSourceProperties properties,
+                                            MeterRegistry meterRegistry) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName(nome);
+        config.setJdbcUrl(replica.url());
+        config.setUsername(replica.username() != null ? replica.username() : primario.determineUsername());
+        config.setPassword(replica.password() != null ? replica.password() : primario.determinePassword());
+        config.setMaximumPoolSize(replica.maximumPoolSize());
+        config.setConnectionTimeout(properties.connectionTimeout().toMillis());
+        config.setReadOnly(true);
+        // Uma réplica fora do ar na subida só fica fora do rodízio, sem impedir a aplicação de iniciar
+        config.setInitializationFailTimeout(-1);
+        config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return new HikariDataSource(config);
+    }
+}
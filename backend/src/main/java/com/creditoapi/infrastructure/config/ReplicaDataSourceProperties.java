@@ -0,0 +1,27 @@
+package com.creditoapi.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+@ConfigurationProperties(prefix = "app.datasource.replicas")
+public record ReplicaDataSourceProperties(
+        boolean enabled,
+        Duration healthCheckInterval,
+        Duration connectionTimeout,
+        Duration maxLag,
+        String lagQuery,
+        @DefaultValue List<Replica> nodes
+) {
+
+    // Usuário e senha não informados são os mesmos do primário
+    public record Replica(
+            String url,
+            String username,
+            String password,
+            @DefaultValue("10") int maximumPoolSize
+    ) {
+    }
+}
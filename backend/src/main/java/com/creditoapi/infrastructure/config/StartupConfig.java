@@ -0,0 +1,31 @@
+package com.creditoapi.infrastructure.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.util.List;
+
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "spring.main.lazy-initialization", havingValue = "true")
+public class StartupConfig {
+
+    // Com spring.main.lazy-initialization só os beans dos pacotes em app.startup.lazy-packages ficam para o
+    // primeiro uso; JPA, Kafka, caches e agendamentos continuam sendo criados na inicialização
+    @Bean
+    public static LazyInitializationExcludeFilter eagerInitializationFilter(Environment environment) {
+        List<String> pacotes = Binder.get(environment)
+                .bind("app.startup.lazy-packages", Bindable.listOf(String.class))
+                .orElse(List.of());
+        log.info("Inicialização tardia restrita aos pacotes {}", pacotes);
+
+        return (beanName, beanDefinition, beanType) -> beanType == null
+                || pacotes.stream().noneMatch(pacote -> beanType.getName().startsWith(pacote + "."));
+    }
+}
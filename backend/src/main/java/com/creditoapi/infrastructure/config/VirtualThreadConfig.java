@@ -0,0 +1,59 @@
+package com.creditoapi.infrastructure.config;
+
+import com.creditoapi.infrastructure.persistence.ConcurrencyLimitingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+@Slf4j
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+@ConditionalOnProperty(name = "app.db.concurrency-gate.enabled", havingValue = "true", matchIfMissing = true)
+public class VirtualThreadConfig {
+
+    @Bean
+    public static BeanPostProcessor databaseConcurrencyGatePostProcessor(Environment environment) {
+        Duration acquireTimeout = environment.getRequiredProperty(
+                "app.db.concurrency-gate.acquire-timeout", Duration.class);
+
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource hikari) {
+                    log.info("Limitando acesso ao banco a {} conexões simultâneas (datasource {})",
+                            hikari.getMaximumPoolSize(), beanName);
+                    return new ConcurrencyLimitingDataSource(hikari, hikari.getMaximumPoolSize(), acquireTimeout);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder databaseConcurrencyGateMetrics(ObjectProvider<DataSource> dataSources) {
+        return registry -> dataSources.orderedStream()
+                .filter(ConcurrencyLimitingDataSource.class::isInstance)
+                .map(ConcurrencyLimitingDataSource.class::cast)
+                .forEach(gate -> {
+                    Gauge.builder("db.concurrency.gate.available", gate,
+                                    ConcurrencyLimitingDataSource::getAvailablePermits)
+                            .description("Vagas livres para conexões com o banco")
+                            .register(registry);
+                    Gauge.builder("db.concurrency.gate.waiting", gate, ConcurrencyLimitingDataSource::getQueueLength)
+                            .description("Threads aguardando uma conexão com o banco")
+                            .register(registry);
+                });
+    }
+}
@@ -0,0 +1,60 @@
+package com.creditoapi.infrastructure.grpc;
+
+import io.grpc.Server;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+// Sobe o servidor gRPC junto com o contexto e, no desligamento, espera as chamadas em andamento até o prazo
+@Slf4j
+public class GrpcServerLifecycle implements SmartLifecycle {
+
+    private final Server server;
+    private final Duration shutdownTimeout;
+    private volatile boolean running;
+
+    public GrpcServerLifecycle(Server server, Duration shutdownTimeout) {
+        this.server = server;
+        this.shutdownTimeout = shutdownTimeout;
+    }
+
+    @Override
+    public void start() {
+        try {
+            server.start();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Não foi possível iniciar o servidor gRPC", e);
+        }
+        running = true;
+        log.info("Servidor gRPC atendendo na porta {}", server.getPort());
+    }
+
+    @Override
+    public void stop() {
+        server.shutdown();
+        try {
+            if (!server.awaitTermination(shutdownTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warn("Chamadas gRPC ainda em andamento após {}; encerrando à força", shutdownTimeout);
+                server.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            server.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        running = false;
+        log.info("Servidor gRPC encerrado");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    public int getPort() {
+        return server.getPort();
+    }
+}
@@ -0,0 +1,84 @@
+package com.creditoapi.infrastructure.logging;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.IThrowableProxy;
+import ch.qos.logback.classic.spi.ThrowableProxyUtil;
+import ch.qos.logback.core.encoder.EncoderBase;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+
+// Uma linha JSON por evento, só com os campos que a agregação de logs usa. Fica atrás do AsyncAppender, então
+// roda na thread do appender e não na thread da requisição
+public class JsonLogEncoder extends EncoderBase<ILoggingEvent> {
+
+    private static final byte[] VAZIO = new byte[0];
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    @Override
+    public byte[] headerBytes() {
+        return VAZIO;
+    }
+
+    @Override
+    public byte[] encode(ILoggingEvent event) {
+        StringBuilder json = new StringBuilder(256);
+        json.append("{\"@timestamp\":\"");
+        DateTimeFormatter.ISO_INSTANT.formatTo(Instant.ofEpochMilli(event.getTimeStamp()), json);
+        json.append('"');
+        campo(json, "level", event.getLevel().toString());
+        campo(json, "logger", event.getLoggerName());
+        campo(json, "thread", event.getThreadName());
+        campo(json, "message", event.getFormattedMessage());
+
+        Map<String, String> mdc = event.getMDCPropertyMap();
+        if (mdc != null) {
+            mdc.forEach((chave, valor) -> campo(json, chave, valor));
+        }
+
+        IThrowableProxy throwable = event.getThrowableProxy();
+        if (throwable != null) {
+            campo(json, "stack_trace", ThrowableProxyUtil.asString(throwable));
+        }
+        json.append("}\n");
+        return json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public byte[] footerBytes() {
+        return VAZIO;
+    }
+
+    private static void campo(StringBuilder json, String nome, String valor) {
+        if (valor == null) {
+            return;
+        }
+        json.append(",\"");
+        escapar(json, nome);
+        json.append("\":\"");
+        escapar(json, valor);
+        json.append('"');
+    }
+
+    private static void escapar(StringBuilder json, String valor) {
+        for (int i = 0; i < valor.length(); i++) {
+            char c = valor.charAt(i);
+            switch (c) {
+                case '"' -> json.append("\\\"");
+                case '\\' -> json.append("\\\\");
+                case '\n' -> json.append("\\n");
+                case '\r' -> json.append("\\r");
+                case '\t' -> json.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        json.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xF]);
+                    } else {
+                        json.append(c);
+                    }
+                }
+            }
+        }
+    }
+}
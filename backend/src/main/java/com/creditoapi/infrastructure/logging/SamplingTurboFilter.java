@@ -0,0 +1,58 @@
+package com.creditoapi.infrastructure.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+// Mantém 1 de cada N linhas INFO/DEBUG das categorias configuradas; WARN, ERROR e linhas com exceção passam
+// sempre. Roda antes da formatação da mensagem, então as linhas descartadas não custam nada além do sorteio
+public class SamplingTurboFilter extends TurboFilter {
+
+    private final Map<String, Integer> taxas;
+    private final Map<String, Integer> taxaPorLogger = new ConcurrentHashMap<>();
+
+    public SamplingTurboFilter(Map<String, Integer> taxas) {
+        this.taxas = Map.copyOf(taxas);
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params,
+                              Throwable t) {
+        // format nulo vem de isInfoEnabled()/isDebugEnabled(), que não devem variar com o sorteio
+        if (!isStarted() || format == null || t != null || level.isGreaterOrEqual(Level.WARN)
+                || !level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            return FilterReply.NEUTRAL;
+        }
+
+        int taxa = taxaPorLogger.computeIfAbsent(logger.getName(), this::resolverTaxa);
+        if (taxa <= 1 || ThreadLocalRandom.current().nextInt(taxa) == 0) {
+            return FilterReply.NEUTRAL;
+        }
+        return FilterReply.DENY;
+    }
+
+    // A categoria mais específica vence: com.creditoapi.application.service sobrepõe com.creditoapi
+    private int resolverTaxa(String nomeLogger) {
+        return taxas.entrySet().stream()
+                .filter(taxa -> nomeLogger.equals(taxa.getKey()) || nomeLogger.startsWith(taxa.getKey() + "."))
+                .max(Comparator.comparingInt(taxa -> taxa.getKey().length()))
+                .map(Map.Entry::getValue)
+                .orElse(1);
+    }
+
+    @Override
+    public void stop() {
+        super.stop();
+        if (getContext() instanceof LoggerContext loggerContext) {
+            loggerContext.getTurboFilterList().remove(this);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.creditoapi.infrastructure.messaging;
+
+import com.creditoapi.application.dto.ConsultaEventDTO;
+
+public interface ConsultaEventSpill {
+
+    void spill(ConsultaEventDTO event);
+}
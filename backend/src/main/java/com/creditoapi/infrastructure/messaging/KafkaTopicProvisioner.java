@@ -0,0 +1,36 @@
+package com.creditoapi.infrastructure.messaging;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.stereotype.Component;
+
+// Com spring.kafka.admin.auto-create=false o KafkaAdmin não cria os tópicos na inicialização; eles são
+// provisionados em segundo plano depois que a aplicação já está atendendo
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnExpression("${app.kafka.enabled} and !${spring.kafka.admin.auto-create}")
+public class KafkaTopicProvisioner {
+
+    private final KafkaAdmin kafkaAdmin;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        Thread.ofVirtual().name("kafka-topicos").start(this::provisionar);
+    }
+
+    public boolean provisionar() {
+        long inicio = System.nanoTime();
+        boolean provisionados = kafkaAdmin.initialize();
+        if (provisionados) {
+            log.info("Tópicos Kafka provisionados em {} ms", (System.nanoTime() - inicio) / 1_000_000);
+        } else {
+            log.warn("Não foi possível provisionar os tópicos Kafka; o broker os criará no primeiro envio");
+        }
+        return provisionados;
+    }
+}
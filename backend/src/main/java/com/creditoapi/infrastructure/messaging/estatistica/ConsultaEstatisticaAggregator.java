@@ -0,0 +1,119 @@
+package com.creditoapi.infrastructure.messaging.estatistica;
+
+import com.creditoapi.application.dto.ConsultaEventDTO;
+import com.creditoapi.domain.entity.ConsultaEstatistica;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Acumula em memória os contadores por tipo de consulta e minuto do evento. Cada lote do consumidor é somado
+// primeiro em um mapa local e só depois mesclado no compartilhado, uma vez por chave; como toda alteração de um
+// acumulador acontece dentro do compute da própria chave, o acumulador removido em drenar() não muda mais
+public class ConsultaEstatisticaAggregator {
+
+    static final String TIPO_DESCONHECIDO = "DESCONHECIDO";
+
+    private final Map<ConsultaEstatistica.Chave, ConsultaEstatistica> pendentes = new ConcurrentHashMap<>();
+    private final Clock clock;
+
+    public ConsultaEstatisticaAggregator(Clock clock) {
+        this.clock = clock;
+    }
+
+    public void registrar(Collection<ConsultaEventDTO> eventos) {
+        Map<ConsultaEstatistica.Chave, ConsultaEstatistica> lote = new HashMap<>();
+        for (ConsultaEventDTO evento : eventos) {
+            ConsultaEstatistica.Chave chave = chave(evento);
+            contar(lote.computeIfAbsent(chave, ConsultaEstatisticaAggregator::vazia), evento);
+        }
+        mesclar(lote.values());
+    }
+
+    public List<ConsultaEstatistica> drenar() {
+        List<ConsultaEstatistica> drenadas = new ArrayList<>(pendentes.size());
+        for (ConsultaEstatistica.Chave chave : pendentes.keySet()) {
+            ConsultaEstatistica estatistica = pendentes.remove(chave);
+            if (estatistica != null) {
+                drenadas.add(estatistica);
+            }
+        }
+        return drenadas;
+    }
+
+    // Devolve o que não pôde ser gravado, somando ao que chegou nesse meio-tempo, para a próxima gravação
+    public void devolver(Collection<ConsultaEstatistica> estatisticas) {
+        mesclar(estatisticas);
+    }
+
+    public int pendentes() {
+        return pendentes.size();
+    }
+
+    private void mesclar(Collection<ConsultaEstatistica> estatisticas) {
+        for (ConsultaEstatistica estatistica : estatisticas) {
+            pendentes.compute(new ConsultaEstatistica.Chave(estatistica.getTipoConsulta(), estatistica.getMinuto()),
+                    (chave, atual) -> atual == null ? estatistica : somar(atual, estatistica));
+        }
+    }
+
+    private ConsultaEstatistica.Chave chave(ConsultaEventDTO evento) {
+        String tipoConsulta = evento.tipoConsulta() == null ? TIPO_DESCONHECIDO : evento.tipoConsulta();
+        LocalDateTime dataHora = evento.dataHoraConsulta() == null
+                ? LocalDateTime.now(clock)
+                : evento.dataHoraConsulta();
+        return new ConsultaEstatistica.Chave(tipoConsulta, dataHora.truncatedTo(ChronoUnit.MINUTES));
+    }
+
+    private static ConsultaEstatistica vazia(ConsultaEstatistica.Chave chave) {
+        return ConsultaEstatistica.builder()
+                .tipoConsulta(chave.getTipoConsulta())
+                .minuto(chave.getMinuto())
+                .build();
+    }
+
+    private static void contar(ConsultaEstatistica estatistica, ConsultaEventDTO evento) {
+        int quantidade = Math.max(0, evento.quantidadeResultados());
+        estatistica.setTotal(estatistica.getTotal() + 1);
+        if (!evento.sucesso()) {
+            estatistica.setFalhas(estatistica.getFalhas() + 1);
+        } else if (quantidade > 0) {
+            estatistica.setEncontradas(estatistica.getEncontradas() + 1);
+        } else {
+            estatistica.setNaoEncontradas(estatistica.getNaoEncontradas() + 1);
+        }
+        estatistica.setSomaResultados(estatistica.getSomaResultados() + quantidade);
+
+        if (quantidade == 0) {
+            estatistica.setResultados0(estatistica.getResultados0() + 1);
+        } else if (quantidade == 1) {
+            estatistica.setResultados1(estatistica.getResultados1() + 1);
+        } else if (quantidade <= 10) {
+            estatistica.setResultados2a10(estatistica.getResultados2a10() + 1);
+        } else if (quantidade <= 100) {
+            estatistica.setResultados11a100(estatistica.getResultados11a100() + 1);
+        } else {
+            estatistica.setResultados101Mais(estatistica.getResultados101Mais() + 1);
+        }
+    }
+
+    private static ConsultaEstatistica somar(ConsultaEstatistica atual, ConsultaEstatistica outra) {
+        atual.setTotal(atual.getTotal() + outra.getTotal());
+        atual.setEncontradas(atual.getEncontradas() + outra.getEncontradas());
+        atual.setNaoEncontradas(atual.getNaoEncontradas() + outra.getNaoEncontradas());
+        atual.setFalhas(atual.getFalhas() + outra.getFalhas());
+        atual.setSomaResultados(atual.getSomaResultados() + outra.getSomaResultados());
+        atual.setResultados0(atual.getResultados0() + outra.getResultados0());
+        atual.setResultados1(atual.getResultados1() + outra.getResultados1());
+        atual.setResultados2a10(atual.getResultados2a10() + outra.getResultados2a10());
+        atual.setResultados11a100(atual.getResultados11a100() + outra.getResultados11a100());
+        atual.setResultados101Mais(atual.getResultados101Mais() + outra.getResultados101Mais());
+        return atual;
+    }
+}
@@ -0,0 +1,117 @@
+package com.creditoapi.infrastructure.messaging.estatistica;
+
+import com.creditoapi.application.dto.ConsultaEventDTO;
+import com.creditoapi.domain.entity.ConsultaEstatistica;
+import com.creditoapi.infrastructure.persistence.ConsultaEstatisticaWriter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Consome consulta-credito-topic em lotes e grava só os contadores agregados, a cada flush-interval, em vez de
+// uma escrita por evento. Os offsets são confirmados ao fim de cada lote, antes da gravação: se a réplica cair,
+// perde no máximo o último intervalo de contagem, mas nunca conta um evento duas vezes
+@Slf4j
+@Component
+@ConditionalOnExpression("${app.kafka.enabled} and ${app.kafka.estatisticas.enabled}")
+public class ConsultaEstatisticaConsumer {
+
+    private static final String INTERVALO = "${app.kafka.estatisticas.flush-interval}";
+
+    private final ConsultaEstatisticaWriter writer;
+    private final TransactionTemplate transactionTemplate;
+    private final ConsultaEstatisticaAggregator aggregator;
+    private final Counter eventos;
+    private final Counter descartados;
+    private final Timer gravacao;
+
+    public ConsultaEstatisticaConsumer(ConsultaEstatisticaWriter writer, TransactionTemplate transactionTemplate,
+                                       MeterRegistry meterRegistry) {
+        this.writer = writer;
+        this.transactionTemplate = transactionTemplate;
+        this.aggregator = new ConsultaEstatisticaAggregator(Clock.systemDefaultZone());
+        this.eventos = Counter.builder("consulta.estatisticas.eventos")
+                .description("Eventos de consulta agregados nas estatísticas")
+                .register(meterRegistry);
+        this.descartados = Counter.builder("consulta.estatisticas.descartados")
+                .description("Mensagens de consulta-credito-topic que não puderam ser lidas")
+                .register(meterRegistry);
+        this.gravacao = Timer.builder("consulta.estatisticas.gravacao")
+                .description("Duração de cada gravação em lote das estatísticas")
+                .register(meterRegistry);
+        Gauge.builder("consulta.estatisticas.pendentes", aggregator, ConsultaEstatisticaAggregator::pendentes)
+                .description("Pares tipo de consulta e minuto aguardando gravação")
+                .register(meterRegistry);
+    }
+
+    // Uma thread por partição do tópico. Com o ErrorHandlingDeserializer uma mensagem ilegível chega com valor
+    // nulo e é descartada, em vez de travar o consumo da partição
+    @KafkaListener(
+            topics = "${app.kafka.topic.consulta-credito}",
+            groupId = "${spring.kafka.consumer.group-id}",
+            batch = "true",
+            concurrency = "${app.kafka.estatisticas.concurrency}",
+            properties = {
+                    "max.poll.records=${app.kafka.estatisticas.max-poll-records}",
+                    "value.deserializer=org.springframework.kafka.support.serializer.ErrorHandlingDeserializer",
+                    "spring.deserializer.value.delegate.class=org.springframework.kafka.support.serializer.JsonDeserializer",
+                    "spring.json.use.type.headers=false",
+                    "spring.json.value.default.type=com.creditoapi.application.dto.ConsultaEventDTO"
+            })
+    public void onEventos(List<ConsumerRecord<String, ConsultaEventDTO>> records) {
+        List<ConsultaEventDTO> lote = new ArrayList<>(records.size());
+        for (ConsumerRecord<String, ConsultaEventDTO> record : records) {
+            if (record.value() == null) {
+                descartados.increment();
+                log.warn("Evento de consulta ilegível descartado ({}-{}@{})", record.topic(), record.partition(),
+                        record.offset());
+            } else {
+                lote.add(record.value());
+            }
+        }
+        aggregator.registrar(lote);
+        eventos.increment(lote.size());
+    }
+
+    @Scheduled(fixedDelayString = INTERVALO, initialDelayString = INTERVALO)
+    public void gravar() {
+        List<ConsultaEstatistica> estatisticas = aggregator.drenar();
+        if (estatisticas.isEmpty()) {
+            return;
+        }
+
+        long inicio = System.nanoTime();
+        try {
+            // Tudo ou nada: com o batch em autocommit, uma falha no meio deixaria parte das linhas somadas e a
+            // devolução as somaria de novo no próximo ciclo
+            transactionTemplate.executeWithoutResult(status -> writer.upsert(estatisticas));
+            long duracao = System.nanoTime() - inicio;
+            gravacao.record(duracao, TimeUnit.NANOSECONDS);
+            log.debug("Estatísticas de consulta gravadas: {} linhas em {} ms", estatisticas.size(),
+                    duracao / 1_000_000);
+        } catch (RuntimeException ex) {
+            aggregator.devolver(estatisticas);
+            log.error("Falha ao gravar {} linhas de estatísticas de consulta; nova tentativa no próximo ciclo: {}",
+                    estatisticas.size(), ex.getMessage(), ex);
+        }
+    }
+
+    // Os containers do Kafka já pararam quando o bean é destruído, então nada mais chega depois desta gravação
+    @PreDestroy
+    public void encerrar() {
+        gravar();
+    }
+}
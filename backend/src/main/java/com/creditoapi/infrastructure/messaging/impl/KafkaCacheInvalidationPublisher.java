@@ -0,0 +1,95 @@
+package com.creditoapi.infrastructure.messaging.impl;
+
+import com.creditoapi.application.dto.CacheInvalidacaoDTO;
+import com.creditoapi.domain.event.CreditoAlteradoEvent;
+import com.creditoapi.infrastructure.cache.CacheInvalidationPublisher;
+import com.creditoapi.infrastructure.cache.InvalidatableCreditoCache;
+import com.creditoapi.infrastructure.config.KafkaConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.annotation.TopicPartition;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.UUID;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.kafka.enabled", havingValue = "true")
+public class KafkaCacheInvalidationPublisher implements CacheInvalidationPublisher {
+
+    private final KafkaTemplate<String, CacheInvalidacaoDTO> kafkaTemplate;
+    private final List<InvalidatableCreditoCache> caches;
+    private final String topicName;
+    // Identifica a réplica para que ela ignore as próprias mensagens, já aplicadas localmente
+    private final String origem = UUID.randomUUID().toString();
+
+    public KafkaCacheInvalidationPublisher(
+            KafkaTemplate<String, CacheInvalidacaoDTO> kafkaTemplate,
+            List<InvalidatableCreditoCache> caches,
+            @Value("${app.kafka.topic.cache-invalidacao}") String topicName) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.caches = caches;
+        this.topicName = topicName;
+    }
+
+    @Override
+    public void publishEvict(String numeroCredito, String numeroNfse) {
+        send(CacheInvalidacaoDTO.builder()
+                .origem(origem)
+                .numeroCredito(numeroCredito)
+                .numeroNfse(numeroNfse)
+                .build());
+    }
+
+    @Override
+    public void publishClear() {
+        send(CacheInvalidacaoDTO.builder()
+                .origem(origem)
+                .todos(true)
+                .build());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCreditoAlterado(CreditoAlteradoEvent event) {
+        publishEvict(event.numeroCredito(), event.numeroNfse());
+    }
+
+    // Cada réplica lê a partição única do tópico sem grupo de consumo para receber todas as mensagens, a partir do
+    // momento em que sobe
+    @KafkaListener(
+            containerFactory = KafkaConfig.SEM_GRUPO_CONTAINER_FACTORY,
+            topicPartitions = @TopicPartition(topic = "${app.kafka.topic.cache-invalidacao}", partitions = "0"),
+            clientIdPrefix = "cache-invalidacao",
+            properties = {
+                    "auto.offset.reset=latest",
+                    "spring.json.use.type.headers=false",
+                    "spring.json.value.default.type=com.creditoapi.application.dto.CacheInvalidacaoDTO"
+            })
+    public void onInvalidacao(CacheInvalidacaoDTO invalidacao) {
+        if (origem.equals(invalidacao.origem())) {
+            return;
+        }
+        log.debug("Invalidação de cache recebida de {}: {}", invalidacao.origem(), invalidacao);
+
+        for (InvalidatableCreditoCache cache : caches) {
+            if (invalidacao.todos()) {
+                cache.clear();
+            } else {
+                cache.evict(invalidacao.numeroCredito(), invalidacao.numeroNfse());
+            }
+        }
+    }
+
+    private void send(CacheInvalidacaoDTO invalidacao) {
+        kafkaTemplate.send(topicName, invalidacao).whenComplete((result, ex) -> {
+            if (ex != null) {
+                log.error("Erro ao publicar invalidação de cache no Kafka: {}", ex.getMessage(), ex);
+            }
+        });
+    }
+}
@@ -2,40 +2,226 @@ package com.creditoapi.infrastructure.messaging.impl;
 
 import com.creditoapi.application.dto.ConsultaEventDTO;
 import com.creditoapi.infrastructure.messaging.ConsultaCreditoPublisher;
-import lombok.RequiredArgsConstructor;
+import com.creditoapi.infrastructure.messaging.ConsultaEventSpill;
+import com.creditoapi.infrastructure.messaging.pipeline.BoundedRingBuffer;
+import com.creditoapi.infrastructure.messaging.pipeline.OverflowPolicy;
+import com.creditoapi.infrastructure.metrics.ConsultaMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter.MeterProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.SmartLifecycle;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Component;
 
-import java.util.concurrent.CompletableFuture;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
-@ConditionalOnProperty(name = "app.kafka.enabled", havingValue = "true")
-public class KafkaConsultaCreditoPublisher implements ConsultaCreditoPublisher {
+@ConditionalOnExpression("${app.kafka.enabled:false} and '${app.kafka.publisher:pipeline}' == 'pipeline'")
+public class KafkaConsultaCreditoPublisher implements ConsultaCreditoPublisher, SmartLifecycle {
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
 
     private final KafkaTemplate<String, ConsultaEventDTO> kafkaTemplate;
+    private final String topicName;
+    private final BoundedRingBuffer<ConsultaEventDTO> buffer;
+    private final OverflowPolicy overflowPolicy;
+    private final long blockTimeoutNanos;
+    private final int batchSize;
+    private final ConsultaEventSpill spill;
+
+    private final Counter droppedOldest;
+    private final Counter droppedBlockTimeout;
+    private final Counter spilled;
+    private final MeterProvider<Counter> sendFailures;
+    private final MeterProvider<Timer> sendLatency;
+
+    private final AtomicBoolean drainerParked = new AtomicBoolean();
+    private final AtomicBoolean failing = new AtomicBoolean();
+    private volatile boolean running;
+    private volatile Thread drainer;
+
+    public KafkaConsultaCreditoPublisher(
+            KafkaTemplate<String, ConsultaEventDTO> kafkaTemplate,
+            MeterRegistry meterRegistry,
+            ObjectProvider<ConsultaEventSpill> spillProvider,
+            @Value("${app.kafka.topic.consulta-credito}") String topicName,
+            @Value("${app.kafka.pipeline.capacity}") int capacity,
+            @Value("${app.kafka.pipeline.batch-size}") int batchSize,
+            @Value("${app.kafka.pipeline.overflow-policy}") OverflowPolicy overflowPolicy,
+            @Value("${app.kafka.pipeline.block-timeout}") Duration blockTimeout) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.topicName = topicName;
+        this.buffer = new BoundedRingBuffer<>(capacity);
+        this.batchSize = batchSize;
+        this.overflowPolicy = overflowPolicy;
+        this.blockTimeoutNanos = blockTimeout.toNanos();
+        this.spill = spillProvider.getIfAvailable();
 
-    @Value("${app.kafka.topic.consulta-credito}")
-    private String topicName;
+        if (overflowPolicy == OverflowPolicy.SPILL && spill == null) {
+            throw new IllegalStateException("A política SPILL requer um ConsultaEventSpill configurado");
+        }
+
+        Gauge.builder("consulta.events.queue.depth", buffer, BoundedRingBuffer::size)
+                .description("Eventos de consulta aguardando envio ao Kafka")
+                .register(meterRegistry);
+        Gauge.builder("consulta.events.queue.capacity", buffer, BoundedRingBuffer::capacity)
+                .register(meterRegistry);
+        this.droppedOldest = Counter.builder("consulta.events.dropped")
+                .description("Eventos de consulta descartados por fila cheia")
+                .tag("motivo", "drop-oldest")
+                .register(meterRegistry);
+        this.droppedBlockTimeout = Counter.builder("consulta.events.dropped")
+                .description("Eventos de consulta descartados por fila cheia")
+                .tag("motivo", "block-timeout")
+                .register(meterRegistry);
+        this.spilled = Counter.builder("consulta.events.spilled")
+                .description("Eventos de consulta desviados para o armazenamento local")
+                .register(meterRegistry);
+        this.sendFailures = Counter.builder("consulta.events.send.failures")
+                .description("Eventos de consulta recusados pelo producer ou pelo broker")
+                .withRegistry(meterRegistry);
+        this.sendLatency = Timer.builder("consulta.events.send")
+                .description("Latência entre o envio ao producer e a confirmação do broker")
+                .withRegistry(meterRegistry);
+    }
 
     @Override
     public void publish(ConsultaEventDTO event) {
-        log.debug("Publicando evento de consulta no Kafka: {}", event);
+        if (buffer.offer(event)) {
+            wakeUpDrainer();
+            return;
+        }
 
-        CompletableFuture.runAsync(() -> 
-            kafkaTemplate.send(topicName, event.tipoConsulta(), event)
-                .whenComplete((result, ex) -> {
-                    if (ex != null) {
-                        log.error("Erro ao publicar evento no Kafka: {}", ex.getMessage(), ex);
-                    } else {
-                        log.info("Evento publicado com sucesso no tópico {} - offset: {}",
-                                topicName, result.getRecordMetadata().offset());
+        switch (overflowPolicy) {
+            case DROP_OLDEST -> {
+                while (!buffer.offer(event)) {
+                    if (buffer.poll() != null) {
+                        droppedOldest.increment();
+                    }
+                }
+            }
+            case BLOCK -> {
+                long deadline = System.nanoTime() + blockTimeoutNanos;
+                while (!buffer.offer(event)) {
+                    if (System.nanoTime() - deadline >= 0) {
+                        droppedBlockTimeout.increment();
+                        return;
                     }
-                })
-        );
+                    LockSupport.parkNanos(BLOCK_PARK_NANOS);
+                }
+            }
+            case SPILL -> {
+                spill.spill(event);
+                spilled.increment();
+                return;
+            }
+        }
+        wakeUpDrainer();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        drainer = Thread.ofPlatform()
+                .name("consulta-event-drainer")
+                .daemon(true)
+                .start(this::drain);
+        log.info("Pipeline de eventos de consulta iniciado (capacidade {}, lote {}, política {})",
+                buffer.capacity(), batchSize, overflowPolicy);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread thread = drainer;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        kafkaTemplate.flush();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        // Inicia antes e para depois do servidor web, drenando o que as últimas requisições enfileiraram
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private void drain() {
+        List<ConsultaEventDTO> lote = new ArrayList<>(batchSize);
+        while (running || !buffer.isEmpty()) {
+            if (buffer.drainTo(lote, batchSize) == 0) {
+                drainerParked.set(true);
+                if (buffer.isEmpty() && running) {
+                    LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                }
+                drainerParked.set(false);
+                continue;
+            }
+
+            for (ConsultaEventDTO event : lote) {
+                send(event);
+            }
+            lote.clear();
+        }
+    }
+
+    private void send(ConsultaEventDTO event) {
+        long inicio = System.nanoTime();
+        try {
+            kafkaTemplate.send(topicName, event.tipoConsulta(), event)
+                    .whenComplete((result, ex) -> {
+                        sendLatency.withTag(ConsultaMetrics.TAG_TIPO_CONSULTA, event.tipoConsulta())
+                                .record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+                        if (ex != null) {
+                            onSendFailure(event, ex);
+                        } else if (failing.compareAndSet(true, false)) {
+                            log.info("Publicação de eventos no tópico {} restabelecida", topicName);
+                        }
+                    });
+        } catch (RuntimeException ex) {
+            onSendFailure(event, ex);
+        }
+    }
+
+    private void onSendFailure(ConsultaEventDTO event, Throwable ex) {
+        sendFailures.withTag(ConsultaMetrics.TAG_TIPO_CONSULTA, event.tipoConsulta()).increment();
+        // Registra apenas a primeira falha de uma sequência para não inundar o log durante quedas do broker
+        if (failing.compareAndSet(false, true)) {
+            log.error("Erro ao publicar evento no Kafka: {}", ex.getMessage(), ex);
+        }
+        if (spill != null) {
+            spill.spill(event);
+            spilled.increment();
+        }
+    }
+
+    private void wakeUpDrainer() {
+        Thread thread = drainer;
+        if (thread != null && drainerParked.compareAndSet(true, false)) {
+            LockSupport.unpark(thread);
+        }
     }
 }
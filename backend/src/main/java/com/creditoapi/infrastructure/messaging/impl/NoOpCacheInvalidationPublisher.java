@@ -0,0 +1,18 @@
+package com.creditoapi.infrastructure.messaging.impl;
+
+import com.creditoapi.infrastructure.cache.CacheInvalidationPublisher;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "app.kafka.enabled", havingValue = "false", matchIfMissing = true)
+public class NoOpCacheInvalidationPublisher implements CacheInvalidationPublisher {
+
+    @Override
+    public void publishEvict(String numeroCredito, String numeroNfse) {
+    }
+
+    @Override
+    public void publishClear() {
+    }
+}
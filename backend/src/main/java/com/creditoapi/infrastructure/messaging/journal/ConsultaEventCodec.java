@@ -0,0 +1,88 @@
+package com.creditoapi.infrastructure.messaging.journal;
+
+import com.creditoapi.application.dto.ConsultaEventDTO;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+// Layout: tipoConsulta, parametroConsulta (int16 tamanho + UTF-8, -1 para null), epochDay (int64),
+// nanoOfDay (int64) ou epochDay = Long.MIN_VALUE para data nula, quantidadeResultados (int32), sucesso (int8)
+final class ConsultaEventCodec {
+
+    private static final long DATA_NULA = Long.MIN_VALUE;
+
+    private ConsultaEventCodec() {
+    }
+
+    static byte[] encode(ConsultaEventDTO event) {
+        byte[] tipo = bytes(event.tipoConsulta());
+        byte[] parametro = bytes(event.parametroConsulta());
+        ByteBuffer buffer = ByteBuffer.allocate(2 + length(tipo) + 2 + length(parametro) + 8 + 8 + 4 + 1);
+
+        putString(buffer, tipo);
+        putString(buffer, parametro);
+        LocalDateTime dataHora = event.dataHoraConsulta();
+        if (dataHora == null) {
+            buffer.putLong(DATA_NULA).putLong(0);
+        } else {
+            buffer.putLong(dataHora.toLocalDate().toEpochDay()).putLong(dataHora.toLocalTime().toNanoOfDay());
+        }
+        buffer.putInt(event.quantidadeResultados());
+        buffer.put((byte) (event.sucesso() ? 1 : 0));
+        return buffer.array();
+    }
+
+    static ConsultaEventDTO decode(ByteBuffer buffer) {
+        String tipo = getString(buffer);
+        String parametro = getString(buffer);
+        long epochDay = buffer.getLong();
+        long nanoOfDay = buffer.getLong();
+        LocalDateTime dataHora = epochDay == DATA_NULA
+                ? null
+                : LocalDateTime.of(LocalDate.ofEpochDay(epochDay), LocalTime.ofNanoOfDay(nanoOfDay));
+
+        return ConsultaEventDTO.builder()
+                .tipoConsulta(tipo)
+                .parametroConsulta(parametro)
+                .dataHoraConsulta(dataHora)
+                .quantidadeResultados(buffer.getInt())
+                .sucesso(buffer.get() == 1)
+                .build();
+    }
+
+    private static byte[] bytes(String value) {
+        if (value == null) {
+            return null;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("Campo excede " + Short.MAX_VALUE + " bytes");
+        }
+        return bytes;
+    }
+
+    private static int length(byte[] bytes) {
+        return bytes == null ? 0 : bytes.length;
+    }
+
+    private static void putString(ByteBuffer buffer, byte[] bytes) {
+        if (bytes == null) {
+            buffer.putShort((short) -1);
+        } else {
+            buffer.putShort((short) bytes.length).put(bytes);
+        }
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        short length = buffer.getShort();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
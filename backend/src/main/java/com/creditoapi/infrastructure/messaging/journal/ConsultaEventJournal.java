@@ -0,0 +1,435 @@
+package com.creditoapi.infrastructure.messaging.journal;
+
+import com.creditoapi.application.dto.ConsultaEventDTO;
+import com.creditoapi.infrastructure.messaging.ConsultaEventSpill;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+// Journal local em segmentos de tamanho fixo mapeados em memória. Cada registro é gravado como
+// [tamanho int32][crc32c int32][evento codificado]; o tamanho é escrito por último para que um registro
+// interrompido por queda do processo seja descartado na recuperação.
+// O próximo segmento é criado e mapeado em segundo plano, para que a troca de segmento feita por uma thread
+// de requisição não pague a criação do arquivo nem o mmap. Esse arquivo já preparado conta no limite de segmentos.
+@Slf4j
+@Component
+@ConditionalOnExpression(ConsultaEventJournal.ENABLED)
+public class ConsultaEventJournal implements ConsultaEventSpill, DisposableBean {
+
+    public static final String ENABLED = "${app.kafka.enabled:false} and ('${app.kafka.publisher:pipeline}' == 'journal'"
+            + " or '${app.kafka.pipeline.overflow-policy:DROP_OLDEST}' == 'SPILL')";
+
+    private static final int HEADER_SIZE = 8;
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".journal";
+    private static final String CHECKPOINT_FILE = "checkpoint";
+    private static final MethodHandle INVOKE_CLEANER = invokeCleaner();
+
+    private final Path directory;
+    private final int segmentSize;
+    private final int maxSegments;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final TreeMap<Long, Segment> segments = new TreeMap<>();
+    private final ExecutorService preparacao = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("journal-preparacao").daemon().factory());
+
+    private final Counter appended;
+    private final Counter rejected;
+    private final Counter failed;
+    private final Counter discardedSegments;
+
+    private Segment writeSegment;
+    private CompletableFuture<Segment> proximo;
+    private long committedSegmentId;
+    private int committedPosition;
+
+    public ConsultaEventJournal(MeterRegistry meterRegistry,
+                                @Value("${app.kafka.journal.directory}") Path directory,
+                                @Value("${app.kafka.journal.segment-size}") DataSize segmentSize,
+                                @Value("${app.kafka.journal.max-segments}") int maxSegments) throws IOException {
+        if (maxSegments < 3) {
+            throw new IllegalArgumentException("O journal requer ao menos 3 segmentos");
+        }
+        this.directory = directory;
+        this.segmentSize = Math.toIntExact(segmentSize.toBytes());
+        this.maxSegments = maxSegments;
+
+        open();
+
+        this.appended = Counter.builder("consulta.journal.appended").register(meterRegistry);
+        this.rejected = Counter.builder("consulta.journal.rejected")
+                .description("Eventos maiores que um segmento")
+                .register(meterRegistry);
+        this.failed = Counter.builder("consulta.journal.failed")
+                .description("Eventos descartados por falha de E/S ao trocar de segmento")
+                .register(meterRegistry);
+        this.discardedSegments = Counter.builder("consulta.journal.segments.discarded")
+                .description("Segmentos não replicados descartados por limite de disco")
+                .register(meterRegistry);
+        Gauge.builder("consulta.journal.segments", this, journal -> journal.segmentCount())
+                .register(meterRegistry);
+        Gauge.builder("consulta.journal.pending.bytes", this, journal -> journal.pendingBytes())
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void spill(ConsultaEventDTO event) {
+        append(event);
+    }
+
+    public void append(ConsultaEventDTO event) {
+        byte[] payload = ConsultaEventCodec.encode(event);
+        int recordSize = HEADER_SIZE + payload.length;
+        if (recordSize > segmentSize) {
+            rejected.increment();
+            log.warn("Evento de consulta maior que o segmento do journal ({} bytes) descartado", recordSize);
+            return;
+        }
+
+        CRC32C crc = new CRC32C();
+        crc.update(payload);
+
+        lock.lock();
+        try {
+            if (writeSegment.limit + recordSize > segmentSize) {
+                rollover();
+            }
+            MappedByteBuffer buffer = writeSegment.buffer;
+            int position = writeSegment.limit;
+            buffer.putInt(position + 4, (int) crc.getValue());
+            buffer.put(position + HEADER_SIZE, payload);
+            buffer.putInt(position, payload.length);
+            writeSegment.limit = position + recordSize;
+        } catch (UncheckedIOException ex) {
+            // O evento de consulta é auxiliar: uma falha de disco não pode virar erro na consulta que o gerou
+            failed.increment();
+            log.warn("Evento de consulta descartado: {}", ex.getMessage());
+            return;
+        } finally {
+            lock.unlock();
+        }
+        appended.increment();
+    }
+
+    public JournalBatch read(int maxEvents) {
+        lock.lock();
+        try {
+            List<ConsultaEventDTO> events = new ArrayList<>();
+            long segmentId = committedSegmentId;
+            int position = committedPosition;
+
+            while (events.size() < maxEvents) {
+                Segment segment = segments.get(segmentId);
+                if (position >= segment.limit) {
+                    Long next = segments.higherKey(segmentId);
+                    if (segment == writeSegment || next == null) {
+                        break;
+                    }
+                    segmentId = next;
+                    position = 0;
+                    continue;
+                }
+
+                int length = segment.buffer.getInt(position);
+                events.add(ConsultaEventCodec.decode(segment.buffer.slice(position + HEADER_SIZE, length)));
+                position += HEADER_SIZE + length;
+            }
+            return new JournalBatch(events, segmentId, position);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void commit(JournalBatch batch) {
+        lock.lock();
+        try {
+            if (!segments.containsKey(batch.segmentId())) {
+                // O segmento foi descartado por limite de disco enquanto o lote era enviado
+                return;
+            }
+            committedSegmentId = batch.segmentId();
+            committedPosition = batch.position();
+
+            Map<Long, Segment> replicados = segments.headMap(committedSegmentId);
+            for (Segment segment : List.copyOf(replicados.values())) {
+                delete(segment);
+            }
+            writeCheckpoint();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long pendingBytes() {
+        lock.lock();
+        try {
+            long pending = 0;
+            for (Segment segment : segments.tailMap(committedSegmentId).values()) {
+                pending += segment.limit - (segment.id == committedSegmentId ? committedPosition : 0);
+            }
+            return pending;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int segmentCount() {
+        lock.lock();
+        try {
+            return segments.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Espera a preparação do próximo segmento terminar, com ou sem sucesso
+    void aguardarPreparacao() {
+        proximo.handle((segmento, erro) -> null).join();
+    }
+
+    @Override
+    public void destroy() {
+        preparacao.shutdown();
+        aguardarPreparacao();
+        lock.lock();
+        try {
+            writeSegment.buffer.force();
+            writeCheckpoint();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void open() throws IOException {
+        Files.createDirectories(directory);
+
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path path : files.filter(ConsultaEventJournal::isSegment).sorted().toList()) {
+                Segment segment = map(segmentId(path), path);
+                segment.limit = recover(segment);
+                segments.put(segment.id, segment);
+            }
+        }
+        if (segments.isEmpty()) {
+            segments.put(0L, map(0L, segmentPath(0L)));
+        }
+        // Um último segmento vazio é o que a execução anterior deixou preparado: volta a ser o próximo
+        Segment ultimo = segments.lastEntry().getValue();
+        if (segments.size() > 1 && ultimo.limit == 0) {
+            segments.remove(ultimo.id);
+            writeSegment = segments.lastEntry().getValue();
+            proximo = CompletableFuture.completedFuture(ultimo);
+        } else {
+            writeSegment = ultimo;
+            prepararProximo();
+        }
+
+        readCheckpoint();
+        log.info("Journal de eventos aberto em {} com {} segmento(s) e {} bytes pendentes",
+                directory, segments.size(), pendingBytes());
+    }
+
+    private int recover(Segment segment) {
+        int position = 0;
+        while (position + HEADER_SIZE <= segmentSize) {
+            int length = segment.buffer.getInt(position);
+            if (length <= 0 || position + HEADER_SIZE + length > segmentSize) {
+                break;
+            }
+            CRC32C crc = new CRC32C();
+            crc.update(segment.buffer.slice(position + HEADER_SIZE, length));
+            if ((int) crc.getValue() != segment.buffer.getInt(position + 4)) {
+                log.warn("Registro corrompido no segmento {} na posição {}; descartando o restante",
+                        segment.path.getFileName(), position);
+                break;
+            }
+            position += HEADER_SIZE + length;
+        }
+        return position;
+    }
+
+    private void rollover() {
+        // O segmento que vai entrar já está em disco, preparado, e conta no limite
+        if (segments.size() >= maxSegments - 1) {
+            Segment oldest = segments.firstEntry().getValue();
+            log.warn("Limite de {} segmentos do journal atingido; descartando {} sem replicação",
+                    maxSegments, oldest.path.getFileName());
+            delete(oldest);
+            discardedSegments.increment();
+            if (committedSegmentId <= oldest.id) {
+                committedSegmentId = segments.firstKey();
+                committedPosition = 0;
+                writeCheckpoint();
+            }
+        }
+
+        writeSegment = proximoSegmento(writeSegment.id + 1);
+        segments.put(writeSegment.id, writeSegment);
+        prepararProximo();
+    }
+
+    private void prepararProximo() {
+        long id = writeSegment.id + 1;
+        try {
+            proximo = CompletableFuture.supplyAsync(() -> mapNovo(id), preparacao);
+        } catch (RejectedExecutionException ex) {
+            // Journal em encerramento: a próxima troca de segmento, se houver, mapeia o arquivo na hora
+            proximo = CompletableFuture.failedFuture(ex);
+        }
+    }
+
+    // Normalmente já está pronto; se a preparação ainda não terminou, espera por ela, e se falhou tenta de novo aqui
+    private Segment proximoSegmento(long id) {
+        try {
+            return proximo.join();
+        } catch (CompletionException ex) {
+            log.warn("Falha ao preparar o segmento {} do journal em segundo plano: {}", id, ex.getCause().getMessage());
+            return mapNovo(id);
+        }
+    }
+
+    private Segment mapNovo(long id) {
+        try {
+            return map(id, segmentPath(id));
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Não foi possível criar o segmento " + id + " do journal", ex);
+        }
+    }
+
+    private Segment map(long id, Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return new Segment(id, path, channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize));
+        }
+    }
+
+    private void delete(Segment segment) {
+        segments.remove(segment.id);
+        unmap(segment.buffer);
+        try {
+            Files.deleteIfExists(segment.path);
+        } catch (IOException ex) {
+            log.warn("Não foi possível remover o segmento {}: {}", segment.path, ex.getMessage());
+        }
+    }
+
+    private void readCheckpoint() throws IOException {
+        Path checkpoint = directory.resolve(CHECKPOINT_FILE);
+        committedSegmentId = segments.firstKey();
+        committedPosition = 0;
+        if (Files.exists(checkpoint)) {
+            ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(checkpoint));
+            long segmentId = buffer.getLong();
+            int position = buffer.getInt();
+            Segment segment = segments.get(segmentId);
+            if (segment != null) {
+                committedSegmentId = segmentId;
+                committedPosition = Math.min(position, segment.limit);
+            }
+        }
+    }
+
+    private void writeCheckpoint() {
+        Path checkpoint = directory.resolve(CHECKPOINT_FILE);
+        Path temporary = directory.resolve(CHECKPOINT_FILE + ".tmp");
+        ByteBuffer buffer = ByteBuffer.allocate(12).putLong(committedSegmentId).putInt(committedPosition);
+        try {
+            Files.write(temporary, buffer.array());
+            Files.move(temporary, checkpoint, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Não foi possível gravar o checkpoint do journal", ex);
+        }
+    }
+
+    // Sem isto o segmento removido continua mapeado, ocupando memória e disco até o GC coletar o buffer.
+    // Só é chamado sob o lock e para segmentos já fora do mapa, que nenhuma outra thread alcança mais.
+    private static void unmap(MappedByteBuffer buffer) {
+        if (INVOKE_CLEANER == null) {
+            return;
+        }
+        try {
+            INVOKE_CLEANER.invokeExact((ByteBuffer) buffer);
+        } catch (Throwable ex) {
+            log.warn("Não foi possível desmapear o segmento removido; fica para o GC: {}", ex.getMessage());
+        }
+    }
+
+    // Unsafe.invokeCleaner resolvido por reflexão, uma vez: referenciar sun.misc.Unsafe no código faz o javac
+    // avisar de API proprietária em toda compilação, sem @SuppressWarnings que o silencie
+    private static MethodHandle invokeCleaner() {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field field = unsafeClass.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            return MethodHandles.lookup()
+                    .findVirtual(unsafeClass, "invokeCleaner", MethodType.methodType(void.class, ByteBuffer.class))
+                    .bindTo(field.get(null));
+        } catch (ReflectiveOperationException | RuntimeException ex) {
+            log.warn("Sem acesso a sun.misc.Unsafe; segmentos removidos serão desmapeados pelo GC: {}", ex.getMessage());
+            return null;
+        }
+    }
+
+    private Path segmentPath(long id) {
+        return directory.resolve(String.format("%s%019d%s", SEGMENT_PREFIX, id, SEGMENT_SUFFIX));
+    }
+
+    private static boolean isSegment(Path path) {
+        String name = path.getFileName().toString();
+        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+    }
+
+    private static long segmentId(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    public record JournalBatch(List<ConsultaEventDTO> events, long segmentId, int position) {
+    }
+
+    private static final class Segment {
+
+        private final long id;
+        private final Path path;
+        private final MappedByteBuffer buffer;
+        private int limit;
+
+        private Segment(long id, Path path, MappedByteBuffer buffer) {
+            this.id = id;
+            this.path = path;
+            this.buffer = buffer;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.creditoapi.infrastructure.messaging.journal;
+
+import com.creditoapi.application.dto.ConsultaEventDTO;
+import com.creditoapi.infrastructure.messaging.journal.ConsultaEventJournal.JournalBatch;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.LockSupport;
+
+@Slf4j
+@Component
+@ConditionalOnExpression(ConsultaEventJournal.ENABLED)
+public class ConsultaEventJournalReplayer implements SmartLifecycle {
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+    private static final Duration INITIAL_BACKOFF = Duration.ofMillis(200);
+    private static final Duration MAX_BACKOFF = Duration.ofSeconds(30);
+
+    private final KafkaTemplate<String, ConsultaEventDTO> kafkaTemplate;
+    private final ConsultaEventJournal journal;
+    private final String topicName;
+    private final int batchSize;
+    private final Duration sendTimeout;
+    private final Counter replayed;
+
+    private volatile boolean running;
+    private volatile Thread replayer;
+
+    public ConsultaEventJournalReplayer(
+            KafkaTemplate<String, ConsultaEventDTO> kafkaTemplate,
+            ConsultaEventJournal journal,
+            MeterRegistry meterRegistry,
+            @Value("${app.kafka.topic.consulta-credito}") String topicName,
+            @Value("${app.kafka.journal.batch-size}") int batchSize,
+            @Value("${app.kafka.journal.send-timeout}") Duration sendTimeout) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.journal = journal;
+        this.topicName = topicName;
+        this.batchSize = batchSize;
+        this.sendTimeout = sendTimeout;
+        this.replayed = Counter.builder("consulta.journal.replayed")
+                .description("Eventos do journal confirmados pelo broker")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        replayer = Thread.ofPlatform()
+                .name("consulta-journal-replayer")
+                .daemon(true)
+                .start(this::replay);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread thread = replayer;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            try {
+                thread.join(sendTimeout.plusSeconds(1).toMillis());
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        // Para depois do pipeline em memória, que ainda pode desviar eventos para o journal
+        return SmartLifecycle.DEFAULT_PHASE - 8192;
+    }
+
+    private void replay() {
+        Duration backoff = INITIAL_BACKOFF;
+        boolean failing = false;
+
+        while (running) {
+            JournalBatch batch = journal.read(batchSize);
+            if (batch.events().isEmpty()) {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                continue;
+            }
+
+            try {
+                send(batch);
+                journal.commit(batch);
+                replayed.increment(batch.events().size());
+                if (failing) {
+                    log.info("Reenvio do journal para o tópico {} restabelecido", topicName);
+                    failing = false;
+                    backoff = INITIAL_BACKOFF;
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ExecutionException | TimeoutException | RuntimeException ex) {
+                // Registra apenas a primeira falha de uma sequência para não inundar o log durante quedas do broker
+                if (!failing) {
+                    log.error("Erro ao reenviar eventos do journal ao Kafka; tentando novamente com backoff: {}",
+                            ex.getMessage());
+                    failing = true;
+                }
+                LockSupport.parkNanos(this, backoff.toNanos());
+                backoff = backoff.multipliedBy(2).compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : backoff.multipliedBy(2);
+            }
+        }
+    }
+
+    private void send(JournalBatch batch) throws InterruptedException, ExecutionException, TimeoutException {
+        CompletableFuture<?>[] envios = batch.events().stream()
+                .map(event -> kafkaTemplate.send(topicName, event.tipoConsulta(), event))
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(envios).get(sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+}
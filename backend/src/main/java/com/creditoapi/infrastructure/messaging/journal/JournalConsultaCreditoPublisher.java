@@ -0,0 +1,20 @@
+package com.creditoapi.infrastructure.messaging.journal;
+
+import com.creditoapi.application.dto.ConsultaEventDTO;
+import com.creditoapi.infrastructure.messaging.ConsultaCreditoPublisher;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnExpression("${app.kafka.enabled:false} and '${app.kafka.publisher:pipeline}' == 'journal'")
+public class JournalConsultaCreditoPublisher implements ConsultaCreditoPublisher {
+
+    private final ConsultaEventJournal journal;
+
+    @Override
+    public void publish(ConsultaEventDTO event) {
+        journal.append(event);
+    }
+}
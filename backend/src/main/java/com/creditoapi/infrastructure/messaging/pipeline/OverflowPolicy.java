@@ -0,0 +1,10 @@
+package com.creditoapi.infrastructure.messaging.pipeline;
+
+public enum OverflowPolicy {
+
+    DROP_OLDEST,
+
+    BLOCK,
+
+    SPILL
+}
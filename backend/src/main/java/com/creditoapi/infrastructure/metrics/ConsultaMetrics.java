@@ -0,0 +1,100 @@
+package com.creditoapi.infrastructure.metrics;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Meter.MeterProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+@Component
+public class ConsultaMetrics {
+
+    public static final String TAG_TIPO_CONSULTA = "tipoConsulta";
+
+    private final MeterProvider<Timer> repositoryTimer;
+    private final MeterProvider<Timer> mapperTimer;
+    private final MeterProvider<DistributionSummary> resultados;
+    private final MeterProvider<Counter> naoEncontradas;
+    private final MeterProvider<Counter> coalescidas;
+    private final List<DatabaseLatencyListener> latencyListeners;
+
+    public ConsultaMetrics(MeterRegistry meterRegistry) {
+        this(meterRegistry, List.of());
+    }
+
+    @Autowired
+    public ConsultaMetrics(MeterRegistry meterRegistry, List<DatabaseLatencyListener> latencyListeners) {
+        this.latencyListeners = latencyListeners;
+        this.repositoryTimer = Timer.builder("consulta.repository")
+                .description("Tempo das consultas ao banco de dados")
+                .withRegistry(meterRegistry);
+        this.mapperTimer = Timer.builder("consulta.mapper")
+                .description("Tempo de conversão das entidades em DTOs")
+                .withRegistry(meterRegistry);
+        this.resultados = DistributionSummary.builder("consulta.resultados")
+                .description("Quantidade de créditos retornados por consulta")
+                .baseUnit("creditos")
+                .withRegistry(meterRegistry);
+        this.naoEncontradas = Counter.builder("consulta.nao.encontrada")
+                .description("Consultas respondidas com 404")
+                .withRegistry(meterRegistry);
+        this.coalescidas = Counter.builder("consulta.coalescida")
+                .description("Consultas que aguardaram uma consulta idêntica já em andamento em vez de ir ao banco")
+                .withRegistry(meterRegistry);
+    }
+
+    public <T> T timeRepository(String tipoConsulta, Supplier<T> consulta) {
+        Timer timer = repositoryTimer.withTag(TAG_TIPO_CONSULTA, tipoConsulta);
+        if (latencyListeners.isEmpty()) {
+            return timer.record(consulta);
+        }
+
+        long inicio = System.nanoTime();
+        boolean sucesso = false;
+        try {
+            T resultado = consulta.get();
+            sucesso = true;
+            return resultado;
+        } finally {
+            long duracao = System.nanoTime() - inicio;
+            timer.record(duracao, TimeUnit.NANOSECONDS);
+            for (DatabaseLatencyListener listener : latencyListeners) {
+                listener.onLatency(duracao, sucesso);
+            }
+        }
+    }
+
+    public <T> T timeMapper(String tipoConsulta, Supplier<T> conversao) {
+        return mapperTimer.withTag(TAG_TIPO_CONSULTA, tipoConsulta).record(conversao);
+    }
+
+    public void recordResultados(String tipoConsulta, long quantidade) {
+        resultados.withTag(TAG_TIPO_CONSULTA, tipoConsulta).record(quantidade);
+    }
+
+    public void recordNaoEncontrada(String tipoConsulta) {
+        naoEncontradas.withTag(TAG_TIPO_CONSULTA, tipoConsulta).increment();
+    }
+
+    public void recordCoalescida(String tipoConsulta) {
+        coalescidas.withTag(TAG_TIPO_CONSULTA, tipoConsulta).increment();
+    }
+
+    public static String tipoConsulta(Object handler) {
+        if (handler instanceof HandlerMethod handlerMethod) {
+            TipoConsulta tipoConsulta = handlerMethod.getMethodAnnotation(TipoConsulta.class);
+            if (tipoConsulta != null) {
+                return tipoConsulta.value();
+            }
+        }
+        return KeyValue.NONE_VALUE;
+    }
+}
@@ -0,0 +1,19 @@
+package com.creditoapi.infrastructure.metrics;
+
+import io.micrometer.common.KeyValues;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerMapping;
+
+@Component
+public class ConsultaServerRequestObservationConvention extends DefaultServerRequestObservationConvention {
+
+    @Override
+    public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+        // O handler só é conhecido depois do mapeamento, por isso a tag é lida ao final da requisição
+        Object handler = context.getCarrier().getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+        return super.getLowCardinalityKeyValues(context)
+                .and(ConsultaMetrics.TAG_TIPO_CONSULTA, ConsultaMetrics.tipoConsulta(handler));
+    }
+}
@@ -0,0 +1,6 @@
+package com.creditoapi.infrastructure.metrics;
+
+public interface DatabaseLatencyListener {
+
+    void onLatency(long nanos, boolean sucesso);
+}
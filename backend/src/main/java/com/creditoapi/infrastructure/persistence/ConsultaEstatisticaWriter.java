@@ -0,0 +1,45 @@
+package com.creditoapi.infrastructure.persistence;
+
+import com.creditoapi.domain.entity.ConsultaEstatistica;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+// Soma os contadores aos já gravados para o mesmo tipo e minuto, em um único batch por chamada
+public interface ConsultaEstatisticaWriter {
+
+    String COLUNAS = "tipo_consulta, minuto, total, encontradas, nao_encontradas, falhas, soma_resultados, "
+            + "resultados_0, resultados_1, resultados_2_10, resultados_11_100, resultados_101_mais";
+
+    String[] CONTADORES = {"total", "encontradas", "nao_encontradas", "falhas", "soma_resultados", "resultados_0",
+            "resultados_1", "resultados_2_10", "resultados_11_100", "resultados_101_mais"};
+
+    void upsert(Collection<ConsultaEstatistica> estatisticas);
+
+    // Réplicas gravando as mesmas chaves sempre na mesma ordem não entram em deadlock entre si
+    static List<ConsultaEstatistica> ordenar(Collection<ConsultaEstatistica> estatisticas) {
+        return estatisticas.stream()
+                .sorted(Comparator.comparing(ConsultaEstatistica::getMinuto)
+                        .thenComparing(ConsultaEstatistica::getTipoConsulta))
+                .toList();
+    }
+
+    static void preencher(PreparedStatement ps, ConsultaEstatistica estatistica) throws SQLException {
+        ps.setString(1, estatistica.getTipoConsulta());
+        ps.setTimestamp(2, Timestamp.valueOf(estatistica.getMinuto()));
+        ps.setLong(3, estatistica.getTotal());
+        ps.setLong(4, estatistica.getEncontradas());
+        ps.setLong(5, estatistica.getNaoEncontradas());
+        ps.setLong(6, estatistica.getFalhas());
+        ps.setLong(7, estatistica.getSomaResultados());
+        ps.setLong(8, estatistica.getResultados0());
+        ps.setLong(9, estatistica.getResultados1());
+        ps.setLong(10, estatistica.getResultados2a10());
+        ps.setLong(11, estatistica.getResultados11a100());
+        ps.setLong(12, estatistica.getResultados101Mais());
+    }
+}
@@ -0,0 +1,13 @@
+package com.creditoapi.infrastructure.persistence;
+
+import com.creditoapi.application.dto.CreditoDTO;
+
+import java.util.Collection;
+
+public interface CreditoBulkWriter {
+
+    String COLUNAS = "numero_credito, numero_nfse, data_constituicao, valor_issqn, tipo_credito, simples_nacional, "
+            + "aliquota, valor_faturado, valor_deducao, base_calculo";
+
+    long upsert(Collection<CreditoDTO> creditos);
+}
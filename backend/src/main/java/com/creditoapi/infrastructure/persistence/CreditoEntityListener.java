@@ -0,0 +1,24 @@
+package com.creditoapi.infrastructure.persistence;
+
+import com.creditoapi.domain.entity.Credito;
+import com.creditoapi.domain.event.CreditoAlteradoEvent;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class CreditoEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onCreditoAlterado(Credito credito) {
+        eventPublisher.publishEvent(new CreditoAlteradoEvent(credito.getNumeroCredito(), credito.getNumeroNfse()));
+    }
+}
@@ -0,0 +1,47 @@
+package com.creditoapi.infrastructure.persistence;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// Mantém as partições mensais de credito sempre à frente da data atual e tira da default as linhas de meses que
+// ainda não tinham partição. Roda ao subir e depois periodicamente; criar_particoes_credito usa um advisory lock,
+// então as réplicas que chegarem juntas simplesmente não fazem nada
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.particoes.enabled", havingValue = "true")
+public class CreditoParticaoMaintainer {
+
+    private static final String CRIAR = "SELECT criar_particoes_credito(CURRENT_DATE, "
+            + "(date_trunc('month', CURRENT_DATE) + make_interval(months => ?))::DATE)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabaseDialect dialect;
+    private final int mesesAFrente;
+
+    public CreditoParticaoMaintainer(JdbcTemplate jdbcTemplate, DatabaseDialect dialect,
+                                     @Value("${app.particoes.meses-a-frente}") int mesesAFrente) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dialect = dialect;
+        this.mesesAFrente = mesesAFrente;
+    }
+
+    @Scheduled(fixedDelayString = "${app.particoes.intervalo}")
+    public void criarParticoes() {
+        // Só o PostgreSQL tem a tabela particionada (V5)
+        if (!dialect.isPostgres()) {
+            return;
+        }
+        try {
+            Integer criadas = jdbcTemplate.queryForObject(CRIAR, Integer.class, mesesAFrente);
+            if (criadas != null && criadas > 0) {
+                log.info("{} partições mensais de credito criadas", criadas);
+            }
+        } catch (RuntimeException ex) {
+            log.error("Falha ao criar as partições mensais de credito: {}", ex.getMessage(), ex);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.creditoapi.infrastructure.persistence;
+
+import com.creditoapi.application.dto.CreditoDTO;
+import com.creditoapi.application.dto.CreditoFiltroDTO;
+import com.creditoapi.application.dto.ResumoCreditoDTO;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+// Consultas de leitura que projetam direto nos DTOs da aplicação, por isso fora do pacote de domínio
+public interface CreditoProjectionRepository {
+
+    List<CreditoDTO> findDTOByNumeroNfse(String numeroNfse);
+
+    Optional<CreditoDTO> findDTOByNumeroCredito(String numeroCredito);
+
+    List<CreditoDTO> findDTOByNumeroNfseIn(Collection<String> numerosNfse);
+
+    List<CreditoDTO> findDTOByNumeroCreditoIn(Collection<String> numerosCredito);
+
+    List<ResumoCreditoDTO> resumir(CreditoFiltroDTO filtro);
+}
@@ -0,0 +1,37 @@
+package com.creditoapi.infrastructure.persistence;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.jdbc.DatabaseDriver;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+
+// Identifica o banco uma vez, pelo produto que o driver informa na conexão: a URL não serve, porque wrappers como
+// p6spy e jdbc:tc:postgresql mudam o prefixo e o datasource com réplicas não expõe a URL do primário
+@Slf4j
+@Component
+public class DatabaseDialect {
+
+    private final DatabaseDriver driver;
+
+    public DatabaseDialect(DataSource dataSource) {
+        this.driver = detectar(dataSource);
+    }
+
+    public boolean isPostgres() {
+        return driver == DatabaseDriver.POSTGRESQL;
+    }
+
+    private static DatabaseDriver detectar(DataSource dataSource) {
+        try {
+            String produto = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+            log.info("Banco de dados detectado: {}", produto);
+            return DatabaseDriver.fromProductName(produto);
+        } catch (MetaDataAccessException ex) {
+            throw new IllegalStateException("Não foi possível identificar o banco de dados", ex);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.creditoapi.infrastructure.persistence;
+
+import com.creditoapi.domain.entity.ConsultaEstatistica;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.stream.Collectors;
+
+@RequiredArgsConstructor
+public class JdbcBatchConsultaEstatisticaWriter implements ConsultaEstatisticaWriter {
+
+    private static final String MERGE = "MERGE INTO consulta_estatistica e USING (VALUES (CAST(? AS VARCHAR(30)), "
+            + "CAST(? AS TIMESTAMP), " + "CAST(? AS BIGINT), ".repeat(CONTADORES.length - 1) + "CAST(? AS BIGINT))) "
+            + "AS s (" + COLUNAS + ") "
+            + "ON e.tipo_consulta = s.tipo_consulta AND e.minuto = s.minuto "
+            + "WHEN MATCHED THEN UPDATE SET "
+            + Arrays.stream(CONTADORES)
+                    .map(coluna -> coluna + " = e." + coluna + " + s." + coluna)
+                    .collect(Collectors.joining(", "))
+            + " WHEN NOT MATCHED THEN INSERT (" + COLUNAS + ") VALUES ("
+            + Arrays.stream(COLUNAS.split(", "))
+                    .map(coluna -> "s." + coluna)
+                    .collect(Collectors.joining(", "))
+            + ")";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void upsert(Collection<ConsultaEstatistica> estatisticas) {
+        jdbcTemplate.batchUpdate(MERGE, ConsultaEstatisticaWriter.ordenar(estatisticas), estatisticas.size(),
+                ConsultaEstatisticaWriter::preencher);
+    }
+}
@@ -0,0 +1,36 @@
+package com.creditoapi.infrastructure.persistence;
+
+import com.creditoapi.application.dto.CreditoDTO;
+import com.creditoapi.application.mapper.CreditoMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.util.Arrays;
+import java.util.Collection;
+
+@RequiredArgsConstructor
+public class JdbcBatchCreditoBulkWriter implements CreditoBulkWriter {
+
+    private static final String MERGE = "MERGE INTO credito (" + COLUNAS + ") KEY (numero_credito) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public long upsert(Collection<CreditoDTO> creditos) {
+        int[][] resultado = jdbcTemplate.batchUpdate(MERGE, creditos, creditos.size(), (ps, credito) -> {
+            ps.setString(1, credito.numeroCredito());
+            ps.setString(2, credito.numeroNfse());
+            ps.setDate(3, Date.valueOf(credito.dataConstituicao()));
+            ps.setBigDecimal(4, credito.valorIssqn());
+            ps.setString(5, credito.tipoCredito());
+            ps.setBoolean(6, CreditoMapper.SIM.equals(credito.simplesNacional()));
+            ps.setBigDecimal(7, credito.aliquota());
+            ps.setBigDecimal(8, credito.valorFaturado());
+            ps.setBigDecimal(9, credito.valorDeducao());
+            ps.setBigDecimal(10, credito.baseCalculo());
+        });
+        return Arrays.stream(resultado).flatMapToInt(Arrays::stream).asLongStream().sum();
+    }
+}
@@ -0,0 +1,190 @@
+package com.creditoapi.infrastructure.persistence;
+
+import com.creditoapi.application.dto.CreditoDTO;
+import com.creditoapi.application.dto.CreditoFiltroDTO;
+import com.creditoapi.application.dto.ResumoCreditoDTO;
+import com.creditoapi.application.mapper.CreditoMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+// Leitura sem hidratar entidades: cada linha vira um CreditoDTO, sem contexto de persistência, snapshots
+// ou a montagem de Criteria/JPQL que o Spring Data refaz a cada chamada dos métodos derivados. As consultas por
+// chave rodam fora de transação e vão para o primário: elas carregam o cache, e uma réplica atrasada gravaria lá
+// um valor antigo que a invalidação da escrita já teria passado. Só o resumo, tolerante a atraso, usa as réplicas.
+@Repository
+public class JdbcCreditoProjectionRepository implements CreditoProjectionRepository {
+
+    private static final String SELECT_DTO = """
+            select numero_credito, numero_nfse, data_constituicao, valor_issqn, tipo_credito, simples_nacional,
+                   aliquota, valor_faturado, valor_deducao, base_calculo
+            from credito
+            """;
+
+    private static final RowMapper<CreditoDTO> CREDITO_DTO_MAPPER = (rs, rowNum) -> new CreditoDTO(
+            rs.getString("numero_credito"),
+            rs.getString("numero_nfse"),
+            rs.getObject("data_constituicao", LocalDate.class),
+            rs.getBigDecimal("valor_issqn"),
+            rs.getString("tipo_credito"),
+            rs.getBoolean("simples_nacional") ? CreditoMapper.SIM : CreditoMapper.NAO,
+            rs.getBigDecimal("aliquota"),
+            rs.getBigDecimal("valor_faturado"),
+            rs.getBigDecimal("valor_deducao"),
+            rs.getBigDecimal("base_calculo"));
+
+    // No PostgreSQL a tabela é particionada por data_constituicao (V5); credito_numero informa a data do crédito e a
+    // subconsulta permite podar as partições em tempo de execução
+    private static final String POR_NUMERO_PARTICIONADO = SELECT_DTO + """
+            where numero_credito = ?
+              and data_constituicao = (select data_constituicao from credito_numero where numero_credito = ?)
+            """;
+
+    private static final String RESUMO = """
+            select tipo_credito, simples_nacional,
+                   extract(year from data_constituicao) as ano, extract(month from data_constituicao) as numero_mes,
+                   count(*) as quantidade, sum(valor_issqn) as total_valor_issqn,
+                   sum(valor_faturado) as total_valor_faturado, sum(valor_deducao) as total_valor_deducao,
+                   sum(base_calculo) as total_base_calculo, sum(aliquota) as soma_aliquota
+            from credito
+            """;
+
+    private static final String AGRUPAMENTO_RESUMO = """
+            group by tipo_credito, simples_nacional, extract(year from data_constituicao),
+                     extract(month from data_constituicao)
+            """;
+
+    // A view materializada (V6) já guarda as somas por tipo, Simples Nacional e mês; como o filtro de período do
+    // resumo é por mês, o resultado é o mesmo da agregação sobre credito
+    private static final String RESUMO_MATERIALIZADO = """
+            select tipo_credito, simples_nacional, extract(year from mes) as ano, extract(month from mes) as numero_mes,
+                   quantidade, total_valor_issqn, total_valor_faturado, total_valor_deducao, total_base_calculo,
+                   soma_aliquota
+            from credito_resumo_mensal
+            """;
+
+    private static final String ORDEM_RESUMO = "order by ano, numero_mes, tipo_credito, simples_nacional";
+
+    private static final RowMapper<ResumoCreditoDTO> RESUMO_MAPPER = (rs, rowNum) -> {
+        long quantidade = rs.getLong("quantidade");
+        BigDecimal totalValorIssqn = rs.getBigDecimal("total_valor_issqn");
+        return ResumoCreditoDTO.builder()
+                .tipoCredito(rs.getString("tipo_credito"))
+                .simplesNacional(rs.getBoolean("simples_nacional") ? CreditoMapper.SIM : CreditoMapper.NAO)
+                .mes(YearMonth.of(rs.getInt("ano"), rs.getInt("numero_mes")))
+                .quantidade(quantidade)
+                .totalValorIssqn(totalValorIssqn)
+                .totalValorFaturado(rs.getBigDecimal("total_valor_faturado"))
+                .totalValorDeducao(rs.getBigDecimal("total_valor_deducao"))
+                .totalBaseCalculo(rs.getBigDecimal("total_base_calculo"))
+                .mediaValorIssqn(media(totalValorIssqn, quantidade))
+                .mediaAliquota(media(rs.getBigDecimal("soma_aliquota"), quantidade))
+                .build();
+    };
+
+    private final JdbcClient jdbcClient;
+    private final boolean particionado;
+    private final boolean resumoMaterializado;
+
+    public JdbcCreditoProjectionRepository(JdbcClient jdbcClient,
+                                           DatabaseDialect dialect,
+                                           @Value("${app.resumo.materialized-view.enabled}")
+                                           boolean resumoMaterializado) {
+        this.jdbcClient = jdbcClient;
+        this.particionado = dialect.isPostgres();
+        this.resumoMaterializado = resumoMaterializado;
+    }
+
+    @Override
+    public List<CreditoDTO> findDTOByNumeroNfse(String numeroNfse) {
+        return jdbcClient.sql(SELECT_DTO + "where numero_nfse = ?")
+                .param(numeroNfse)
+                .query(CREDITO_DTO_MAPPER)
+                .list();
+    }
+
+    @Override
+    public Optional<CreditoDTO> findDTOByNumeroCredito(String numeroCredito) {
+        if (particionado) {
+            return jdbcClient.sql(POR_NUMERO_PARTICIONADO)
+                    .param(numeroCredito)
+                    .param(numeroCredito)
+                    .query(CREDITO_DTO_MAPPER)
+                    .optional();
+        }
+        return jdbcClient.sql(SELECT_DTO + "where numero_credito = ?")
+                .param(numeroCredito)
+                .query(CREDITO_DTO_MAPPER)
+                .optional();
+    }
+
+    @Override
+    public List<CreditoDTO> findDTOByNumeroNfseIn(Collection<String> numerosNfse) {
+        return jdbcClient.sql(SELECT_DTO + "where numero_nfse in (:numeros)")
+                .param("numeros", numerosNfse)
+                .query(CREDITO_DTO_MAPPER)
+                .list();
+    }
+
+    @Override
+    public List<CreditoDTO> findDTOByNumeroCreditoIn(Collection<String> numerosCredito) {
+        return jdbcClient.sql(SELECT_DTO + "where numero_credito in (:numeros)")
+                .param("numeros", numerosCredito)
+                .query(CREDITO_DTO_MAPPER)
+                .list();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ResumoCreditoDTO> resumir(CreditoFiltroDTO filtro) {
+        Map<String, Object> parametros = new LinkedHashMap<>();
+        StringBuilder where = new StringBuilder();
+        condicao(where, parametros, "tipo_credito = :tipoCredito", "tipoCredito", filtro.tipoCredito());
+        condicao(where, parametros, "simples_nacional = :simplesNacional", "simplesNacional",
+                filtro.simplesNacional());
+
+        // Sem "(:param is null or ...)" o plano fica específico para os filtros informados e o PostgreSQL consegue
+        // podar as partições pelo período
+        String sql;
+        if (resumoMaterializado) {
+            condicao(where, parametros, "mes >= :dataInicio", "dataInicio",
+                    filtro.dataInicio() == null ? null : filtro.dataInicio().withDayOfMonth(1));
+            condicao(where, parametros, "mes <= :dataFim", "dataFim", filtro.dataFim());
+            sql = RESUMO_MATERIALIZADO + where + ORDEM_RESUMO;
+        } else {
+            condicao(where, parametros, "data_constituicao >= :dataInicio", "dataInicio", filtro.dataInicio());
+            condicao(where, parametros, "data_constituicao <= :dataFim", "dataFim", filtro.dataFim());
+            sql = RESUMO + where + AGRUPAMENTO_RESUMO + ORDEM_RESUMO;
+        }
+
+        return jdbcClient.sql(sql)
+                .params(parametros)
+                .query(RESUMO_MAPPER)
+                .list();
+    }
+
+    private static void condicao(StringBuilder where, Map<String, Object> parametros, String condicao,
+                                 String parametro, Object valor) {
+        if (valor == null) {
+            return;
+        }
+        where.append(where.isEmpty() ? "where " : "  and ").append(condicao).append('\n');
+        parametros.put(parametro, valor);
+    }
+
+    private static BigDecimal media(BigDecimal total, long quantidade) {
+        return total.divide(BigDecimal.valueOf(quantidade), 2, RoundingMode.HALF_EVEN);
+    }
+}
@@ -0,0 +1,29 @@
+package com.creditoapi.infrastructure.persistence;
+
+import com.creditoapi.domain.entity.ConsultaEstatistica;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.stream.Collectors;
+
+@RequiredArgsConstructor
+public class PostgresConsultaEstatisticaWriter implements ConsultaEstatisticaWriter {
+
+    // Diferente do MERGE, o ON CONFLICT não falha quando outra réplica insere a mesma chave ao mesmo tempo
+    private static final String UPSERT = "INSERT INTO consulta_estatistica (" + COLUNAS + ") "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) "
+            + "ON CONFLICT (tipo_consulta, minuto) DO UPDATE SET "
+            + Arrays.stream(CONTADORES)
+                    .map(coluna -> coluna + " = consulta_estatistica." + coluna + " + EXCLUDED." + coluna)
+                    .collect(Collectors.joining(", "));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void upsert(Collection<ConsultaEstatistica> estatisticas) {
+        jdbcTemplate.batchUpdate(UPSERT, ConsultaEstatisticaWriter.ordenar(estatisticas), estatisticas.size(),
+                ConsultaEstatisticaWriter::preencher);
+    }
+}
@@ -0,0 +1,105 @@
+package com.creditoapi.infrastructure.persistence;
+
+import com.creditoapi.application.dto.CreditoDTO;
+import com.creditoapi.application.mapper.CreditoMapper;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.util.Collection;
+
+public class PostgresCopyCreditoBulkWriter implements CreditoBulkWriter {
+
+    // A tabela temporária pertence à sessão e é esvaziada a cada commit, então cada conexão do pool a cria uma vez
+    private static final String CRIAR_STAGING = "CREATE TEMP TABLE IF NOT EXISTS credito_staging ON COMMIT DELETE ROWS "
+            + "AS SELECT " + COLUNAS + " FROM credito WITH NO DATA";
+    private static final String COPY = "COPY credito_staging (" + COLUNAS + ") FROM STDIN WITH (FORMAT csv)";
+    // A tabela particionada não tem índice único só em numero_credito para o ON CONFLICT; credito_numero indica
+    // se o crédito existe e em qual partição, o que permite podar as partições na atualização
+    private static final String ATUALIZAR = "UPDATE credito c SET "
+            + "numero_nfse = s.numero_nfse, "
+            + "data_constituicao = s.data_constituicao, "
+            + "valor_issqn = s.valor_issqn, "
+            + "tipo_credito = s.tipo_credito, "
+            + "simples_nacional = s.simples_nacional, "
+            + "aliquota = s.aliquota, "
+            + "valor_faturado = s.valor_faturado, "
+            + "valor_deducao = s.valor_deducao, "
+            + "base_calculo = s.base_calculo "
+            + "FROM credito_staging s JOIN credito_numero k ON k.numero_credito = s.numero_credito "
+            + "WHERE c.numero_credito = k.numero_credito AND c.data_constituicao = k.data_constituicao";
+    private static final String INSERIR = "INSERT INTO credito (" + COLUNAS + ") "
+            + "SELECT " + COLUNAS + " FROM credito_staging s "
+            + "WHERE NOT EXISTS (SELECT 1 FROM credito_numero k WHERE k.numero_credito = s.numero_credito)";
+
+    private final JdbcTemplate jdbcTemplate;
+    // O driver do PostgreSQL fica só no classpath de execução, como os demais drivers JDBC: a API de COPY é
+    // resolvida por reflexão quando o bean é criado, o que só acontece quando o banco é PostgreSQL
+    private final Class<?> pgConnection;
+    private final Method getCopyAPI;
+    private final Method copyIn;
+
+    public PostgresCopyCreditoBulkWriter(JdbcTemplate jdbcTemplate) throws ReflectiveOperationException {
+        this.jdbcTemplate = jdbcTemplate;
+        this.pgConnection = Class.forName("org.postgresql.PGConnection");
+        this.getCopyAPI = pgConnection.getMethod("getCopyAPI");
+        this.copyIn = getCopyAPI.getReturnType().getMethod("copyIn", String.class, Reader.class);
+    }
+
+    @Override
+    public long upsert(Collection<CreditoDTO> creditos) {
+        jdbcTemplate.execute(CRIAR_STAGING);
+        jdbcTemplate.execute((ConnectionCallback<Long>) connection ->
+                copiar(connection.unwrap(pgConnection), new StringReader(toCsv(creditos))));
+        return jdbcTemplate.update(ATUALIZAR) + jdbcTemplate.update(INSERIR);
+    }
+
+    private Long copiar(Object conexao, Reader csv) throws SQLException {
+        try {
+            return (Long) copyIn.invoke(getCopyAPI.invoke(conexao), COPY, csv);
+        } catch (InvocationTargetException ex) {
+            if (ex.getCause() instanceof SQLException sqlException) {
+                throw sqlException;
+            }
+            if (ex.getCause() instanceof IOException ioException) {
+                throw new UncheckedIOException(ioException);
+            }
+            throw new IllegalStateException("Falha no COPY para a tabela de staging", ex.getCause());
+        } catch (IllegalAccessException ex) {
+            throw new IllegalStateException("API de COPY do driver PostgreSQL inacessível", ex);
+        }
+    }
+
+    static String toCsv(Collection<CreditoDTO> creditos) {
+        StringBuilder csv = new StringBuilder(creditos.size() * 128);
+        for (CreditoDTO credito : creditos) {
+            csv.append(texto(credito.numeroCredito())).append(',')
+                    .append(texto(credito.numeroNfse())).append(',')
+                    .append(credito.dataConstituicao()).append(',')
+                    .append(decimal(credito.valorIssqn())).append(',')
+                    .append(texto(credito.tipoCredito())).append(',')
+                    .append(CreditoMapper.SIM.equals(credito.simplesNacional())).append(',')
+                    .append(decimal(credito.aliquota())).append(',')
+                    .append(decimal(credito.valorFaturado())).append(',')
+                    .append(decimal(credito.valorDeducao())).append(',')
+                    .append(decimal(credito.baseCalculo())).append('\n');
+        }
+        return csv.toString();
+    }
+
+    private static String decimal(BigDecimal valor) {
+        return valor.toPlainString();
+    }
+
+    // No formato csv do COPY um campo vazio sem aspas é NULL, por isso os textos vão sempre entre aspas
+    private static String texto(String valor) {
+        return '"' + valor.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,177 @@
+package com.creditoapi.infrastructure.persistence;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Transações somente leitura vão para as réplicas em rodízio; escritas, chamadas fora de transação e leituras sem
+// réplica disponível vão para o primário. Deve ser usado atrás de um LazyConnectionDataSourceProxy, porque o
+// gerenciador de transações pede a conexão antes de marcar a transação como somente leitura.
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    public static final String PRIMARIO = "primary";
+
+    private static final int TIMEOUT_VALIDACAO_SEGUNDOS = 2;
+
+    private final DataSource primario;
+    private final List<Replica> replicas;
+    private final Duration maxLag;
+    private final String lagQuery;
+    private final AtomicInteger proxima = new AtomicInteger();
+    private final Counter escritasPrimario;
+    private final Counter leiturasPrimario;
+
+    public ReplicaRoutingDataSource(DataSource primario, Map<String, DataSource> replicas, Duration maxLag,
+                                    String lagQuery, MeterRegistry meterRegistry) {
+        this.primario = primario;
+        this.maxLag = maxLag;
+        this.lagQuery = lagQuery;
+        this.replicas = replicas.entrySet().stream()
+                .map(entry -> new Replica(entry.getKey(), entry.getValue(), meterRegistry))
+                .toList();
+        this.escritasPrimario = roteamento(meterRegistry, PRIMARIO, "escrita");
+        this.leiturasPrimario = roteamento(meterRegistry, PRIMARIO, "leitura");
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            escritasPrimario.increment();
+            return primario.getConnection();
+        }
+
+        Replica replica = proximaElegivel();
+        if (replica != null) {
+            try {
+                Connection connection = replica.dataSource.getConnection();
+                replica.leituras.increment();
+                return connection;
+            } catch (SQLException ex) {
+                replica.marcarIndisponivel(ex);
+                replica.failovers.increment();
+            }
+        }
+        leiturasPrimario.increment();
+        return primario.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        escritasPrimario.increment();
+        return primario.getConnection(username, password);
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replicas.health-check-interval}")
+    public void verificarReplicas() {
+        replicas.forEach(this::verificar);
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private Replica proximaElegivel() {
+        int total = replicas.size();
+        int inicio = Math.floorMod(proxima.getAndIncrement(), Math.max(total, 1));
+        for (int i = 0; i < total; i++) {
+            Replica replica = replicas.get((inicio + i) % total);
+            if (replica.disponivel && !atrasada(replica)) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    private boolean atrasada(Replica replica) {
+        return maxLag != null && !maxLag.isZero() && replica.lagSegundos > maxLag.toMillis() / 1000.0;
+    }
+
+    private void verificar(Replica replica) {
+        try (Connection connection = replica.dataSource.getConnection()) {
+            if (lagQuery == null || lagQuery.isBlank()) {
+                if (!connection.isValid(TIMEOUT_VALIDACAO_SEGUNDOS)) {
+                    throw new SQLException("Conexão inválida");
+                }
+            } else {
+                try (Statement statement = connection.createStatement();
+                     ResultSet rs = statement.executeQuery(lagQuery)) {
+                    replica.lagSegundos = rs.next() ? rs.getDouble(1) : 0;
+                }
+            }
+            replica.marcarDisponivel();
+        } catch (SQLException | RuntimeException ex) {
+            replica.marcarIndisponivel(ex);
+        }
+    }
+
+    private static Counter roteamento(MeterRegistry meterRegistry, String pool, String acesso) {
+        return Counter.builder("db.routing")
+                .description("Conexões entregues por pool de destino")
+                .tag("pool", pool)
+                .tag("acesso", acesso)
+                .register(meterRegistry);
+    }
+
+    private static final class Replica {
+
+        private final String nome;
+        private final DataSource dataSource;
+        private final Counter leituras;
+        private final Counter failovers;
+        private volatile boolean disponivel = true;
+        private volatile double lagSegundos;
+
+        private Replica(String nome, DataSource dataSource, MeterRegistry meterRegistry) {
+            this.nome = nome;
+            this.dataSource = dataSource;
+            this.leituras = roteamento(meterRegistry, nome, "leitura");
+            this.failovers = Counter.builder("db.routing.failover")
+                    .description("Leituras desviadas para o primário por falha ao conectar na réplica")
+                    .tag("pool", nome)
+                    .register(meterRegistry);
+            Gauge.builder("db.replica.up", this, replica -> replica.disponivel ? 1 : 0)
+                    .description("Réplica disponível para leituras (1) ou fora do rodízio (0)")
+                    .tag("pool", nome)
+                    .register(meterRegistry);
+            Gauge.builder("db.replica.lag", this, replica -> replica.lagSegundos)
+                    .description("Atraso de replicação medido na última verificação")
+                    .tag("pool", nome)
+                    .baseUnit("seconds")
+                    .register(meterRegistry);
+        }
+
+        private void marcarDisponivel() {
+            if (!disponivel) {
+                log.info("Réplica {} disponível novamente", nome);
+            }
+            disponivel = true;
+        }
+
+        private void marcarIndisponivel(Exception ex) {
+            if (disponivel) {
+                log.warn("Réplica {} indisponível, leituras seguem para o primário: {}", nome, ex.getMessage());
+            }
+            disponivel = false;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.creditoapi.infrastructure.persistence;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.resumo.materialized-view.enabled", havingValue = "true")
+public class ResumoCreditoRefresher {
+
+    // Todas as réplicas agendam o refresh; o advisory lock de sessão deixa só uma reconstruir a view por vez
+    private static final String TRAVAR = "SELECT pg_try_advisory_lock(hashtext('credito_resumo_mensal'))";
+    private static final String LIBERAR = "SELECT pg_advisory_unlock(hashtext('credito_resumo_mensal'))";
+    private static final String REFRESH = "REFRESH MATERIALIZED VIEW CONCURRENTLY credito_resumo_mensal";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Scheduled(fixedDelayString = "${app.resumo.materialized-view.refresh-interval}",
+            initialDelayString = "${app.resumo.materialized-view.refresh-interval}")
+    public void refresh() {
+        long inicio = System.nanoTime();
+        try {
+            // O lock é da sessão: a trava, o refresh e a liberação precisam usar a mesma conexão
+            Boolean atualizada = jdbcTemplate.execute((Statement statement) -> {
+                try (ResultSet travou = statement.executeQuery(TRAVAR)) {
+                    if (!travou.next() || !travou.getBoolean(1)) {
+                        return false;
+                    }
+                }
+                try {
+                    statement.execute(REFRESH);
+                    return true;
+                } finally {
+                    statement.execute(LIBERAR);
+                }
+            });
+            if (Boolean.TRUE.equals(atualizada)) {
+                log.debug("View credito_resumo_mensal atualizada em {} ms", (System.nanoTime() - inicio) / 1_000_000);
+            } else {
+                log.debug("Refresh da view credito_resumo_mensal em andamento em outra réplica");
+            }
+        } catch (RuntimeException ex) {
+            log.error("Falha ao atualizar a view credito_resumo_mensal: {}", ex.getMessage(), ex);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.creditoapi.infrastructure.warmup;
+
+import com.creditoapi.application.dto.CreditoFiltroDTO;
+import com.creditoapi.application.service.CreditoService;
+import com.creditoapi.infrastructure.cache.InvalidatableCreditoCache;
+import com.creditoapi.presentation.http.CreditoResponseCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+// Roda antes do ApplicationReadyEvent: enquanto o aquecimento não termina (ou estoura o timeout) a aplicação
+// continua em REFUSING_TRAFFIC e /actuator/health/readiness responde 503
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.warmup.enabled", havingValue = "true")
+public class CacheWarmupRunner implements ApplicationRunner {
+
+    private static final CreditoFiltroDTO SEM_FILTRO = CreditoFiltroDTO.builder().build();
+    private static final int TAMANHO_PAGINA = 50;
+
+    private final List<WarmupKeySource> keySources;
+    private final CreditoService creditoService;
+    private final CreditoResponseCache responseCache;
+    private final List<InvalidatableCreditoCache> caches;
+    private final int maxChaves;
+    private final int iteracoes;
+    private final Duration timeout;
+
+    private volatile boolean interrompido;
+
+    public CacheWarmupRunner(
+            List<WarmupKeySource> keySources,
+            CreditoService creditoService,
+            CreditoResponseCache responseCache,
+            List<InvalidatableCreditoCache> caches,
+            @Value("${app.warmup.max-keys}") int maxChaves,
+            @Value("${app.warmup.iterations}") int iteracoes,
+            @Value("${app.warmup.timeout}") Duration timeout) {
+        this.keySources = keySources;
+        this.creditoService = creditoService;
+        this.responseCache = responseCache;
+        this.caches = caches;
+        this.maxChaves = maxChaves;
+        this.iteracoes = iteracoes;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long inicio = System.nanoTime();
+        FutureTask<Integer> aquecimento = new FutureTask<>(() -> WarmupContext.executar(this::aquecer));
+        Thread.ofPlatform().name("cache-warmup").daemon(true).start(aquecimento);
+
+        try {
+            int chamadas = aquecimento.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            log.info("Aquecimento concluído em {} ms com {} chamadas", (System.nanoTime() - inicio) / 1_000_000,
+                    chamadas);
+        } catch (TimeoutException ex) {
+            interrompido = true;
+            aquecimento.cancel(true);
+            log.warn("Aquecimento interrompido após {}; liberando o tráfego", timeout);
+        } catch (ExecutionException ex) {
+            log.warn("Falha no aquecimento; liberando o tráfego: {}", ex.getCause().getMessage(), ex.getCause());
+        } catch (InterruptedException ex) {
+            aquecimento.cancel(true);
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private int aquecer() {
+        WarmupKeys chaves = carregarChaves();
+        if (chaves.isEmpty()) {
+            log.info("Nenhuma chave para aquecimento");
+            return 0;
+        }
+        log.info("Aquecendo {} NFS-e e {} créditos em {} iterações", chaves.numerosNfse().size(),
+                chaves.numerosCredito().size(), iteracoes);
+
+        // Cada iteração esvazia os caches locais antes de consultar, para o JIT compilar também a carga (banco,
+        // serialização e compressão das respostas) e não só os acertos. Cada chave é consultada como nas
+        // requisições JSON, depois como nas binárias (direto no serviço) e de novo em JSON, já com o cache cheio
+        int chamadas = 0;
+        for (int iteracao = 0; iteracao < iteracoes && !interrompido; iteracao++) {
+            if (iteracao > 0) {
+                caches.forEach(InvalidatableCreditoCache::clear);
+            }
+            for (String numeroNfse : chaves.numerosNfse()) {
+                consultarNfse(numeroNfse);
+                creditoService.findByNumeroNfse(numeroNfse);
+                consultarNfse(numeroNfse);
+                chamadas += 3;
+            }
+            for (String numeroCredito : chaves.numerosCredito()) {
+                consultarCredito(numeroCredito);
+                creditoService.findByNumeroCredito(numeroCredito);
+                consultarCredito(numeroCredito);
+                chamadas += 3;
+            }
+            creditoService.listar(SEM_FILTRO, 0, TAMANHO_PAGINA);
+            chamadas++;
+        }
+        return chamadas;
+    }
+
+    private WarmupKeys carregarChaves() {
+        Set<String> numerosNfse = new LinkedHashSet<>();
+        Set<String> numerosCredito = new LinkedHashSet<>();
+        for (WarmupKeySource source : keySources) {
+            if (numerosNfse.size() >= maxChaves && numerosCredito.size() >= maxChaves) {
+                break;
+            }
+            try {
+                WarmupKeys chaves = source.carregar(maxChaves);
+                adicionar(numerosNfse, chaves.numerosNfse());
+                adicionar(numerosCredito, chaves.numerosCredito());
+            } catch (RuntimeException ex) {
+                log.warn("Fonte de chaves {} ignorada: {}", source.getClass().getSimpleName(), ex.getMessage());
+            }
+        }
+        return new WarmupKeys(new ArrayList<>(numerosNfse), new ArrayList<>(numerosCredito));
+    }
+
+    private void adicionar(Set<String> chaves, List<String> novas) {
+        for (String chave : novas) {
+            if (chaves.size() >= maxChaves) {
+                return;
+            }
+            chaves.add(chave);
+        }
+    }
+
+    // Mesmo caminho do CreditoController para Accept JSON; chaves sem crédito aquecem o cache negativo
+    private void consultarNfse(String numeroNfse) {
+        responseCache.getByNumeroNfse(numeroNfse, () -> creditoService.findByNumeroNfse(numeroNfse),
+                quantidade -> creditoService.registrarConsulta("NFSE", numeroNfse, quantidade));
+    }
+
+    private void consultarCredito(String numeroCredito) {
+        responseCache.getByNumeroCredito(numeroCredito, () -> creditoService.findByNumeroCredito(numeroCredito),
+                quantidade -> creditoService.registrarConsulta("CREDITO", numeroCredito, quantidade));
+    }
+}
@@ -0,0 +1,26 @@
+package com.creditoapi.infrastructure.warmup;
+
+import java.util.function.Supplier;
+
+// Marca as consultas feitas pelo aquecimento, que não devem gerar eventos de consulta nem contar nas métricas
+// de resultados
+public final class WarmupContext {
+
+    private static final ThreadLocal<Boolean> ATIVO = ThreadLocal.withInitial(() -> false);
+
+    private WarmupContext() {
+    }
+
+    public static boolean isActive() {
+        return ATIVO.get();
+    }
+
+    public static <T> T executar(Supplier<T> consulta) {
+        ATIVO.set(true);
+        try {
+            return consulta.get();
+        } finally {
+            ATIVO.remove();
+        }
+    }
+}
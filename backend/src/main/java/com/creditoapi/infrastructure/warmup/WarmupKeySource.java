@@ -0,0 +1,6 @@
+package com.creditoapi.infrastructure.warmup;
+
+public interface WarmupKeySource {
+
+    WarmupKeys carregar(int maxChaves);
+}
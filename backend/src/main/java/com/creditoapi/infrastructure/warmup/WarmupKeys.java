@@ -0,0 +1,12 @@
+package com.creditoapi.infrastructure.warmup;
+
+import java.util.List;
+
+public record WarmupKeys(List<String> numerosNfse, List<String> numerosCredito) {
+
+    public static final WarmupKeys VAZIO = new WarmupKeys(List.of(), List.of());
+
+    public boolean isEmpty() {
+        return numerosNfse.isEmpty() && numerosCredito.isEmpty();
+    }
+}
@@ -0,0 +1,69 @@
+package com.creditoapi.infrastructure.warmup.impl;
+
+import com.creditoapi.infrastructure.warmup.WarmupKeySource;
+import com.creditoapi.infrastructure.warmup.WarmupKeys;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+// Arquivo com uma chave por linha no formato TIPO,chave (NFSE,7891011 ou CREDITO,123456); linhas iniciadas
+// por # são ignoradas
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnExpression("${app.warmup.enabled} and !'${app.warmup.key-file}'.isBlank()")
+public class FileWarmupKeySource implements WarmupKeySource {
+
+    private final Path arquivo;
+
+    public FileWarmupKeySource(@Value("${app.warmup.key-file}") Path arquivo) {
+        this.arquivo = arquivo;
+    }
+
+    @Override
+    public WarmupKeys carregar(int maxChaves) {
+        List<String> linhas;
+        try {
+            linhas = Files.readAllLines(arquivo, StandardCharsets.UTF_8);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Não foi possível ler o arquivo de chaves " + arquivo, ex);
+        }
+
+        List<String> numerosNfse = new ArrayList<>();
+        List<String> numerosCredito = new ArrayList<>();
+        for (String linha : linhas) {
+            String conteudo = linha.strip();
+            if (conteudo.isEmpty() || conteudo.startsWith("#")) {
+                continue;
+            }
+            String[] partes = conteudo.split(",", 2);
+            String chave = partes.length == 2 ? partes[1].strip() : "";
+            switch (partes[0].strip().toUpperCase()) {
+                case "NFSE" -> adicionar(numerosNfse, chave, maxChaves);
+                case "CREDITO" -> adicionar(numerosCredito, chave, maxChaves);
+                default -> log.warn("Linha ignorada no arquivo de chaves {}: {}", arquivo, linha);
+            }
+        }
+
+        log.info("Arquivo {}: {} NFS-e e {} créditos para aquecimento", arquivo, numerosNfse.size(),
+                numerosCredito.size());
+        return new WarmupKeys(numerosNfse, numerosCredito);
+    }
+
+    private static void adicionar(List<String> chaves, String chave, int maxChaves) {
+        if (!chave.isEmpty() && chaves.size() < maxChaves && !chaves.contains(chave)) {
+            chaves.add(chave);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.creditoapi.infrastructure.warmup.impl;
+
+import com.creditoapi.application.dto.ConsultaEventDTO;
+import com.creditoapi.infrastructure.config.KafkaConfig;
+import com.creditoapi.infrastructure.warmup.WarmupKeySource;
+import com.creditoapi.infrastructure.warmup.WarmupKeys;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.function.Supplier;
+
+// Deriva as chaves mais consultadas dos últimos eventos publicados no tópico de consultas, lidos sem grupo de
+// consumo para não mover offsets
+@Slf4j
+@Component
+@ConditionalOnExpression("${app.warmup.enabled} and ${app.kafka.enabled}")
+public class KafkaHistoryWarmupKeySource implements WarmupKeySource {
+
+    private static final Duration POLL_TIMEOUT = Duration.ofMillis(200);
+
+    private final Supplier<Consumer<?, ?>> consumidores;
+    private final String topicName;
+    private final int historico;
+    private final Duration timeout;
+
+    @Autowired
+    public KafkaHistoryWarmupKeySource(
+            ConsumerFactory<?, ?> consumerFactory,
+            @Value("${app.kafka.topic.consulta-credito}") String topicName,
+            @Value("${app.warmup.history.events}") int historico,
+            @Value("${app.warmup.history.timeout}") Duration timeout) {
+        this(consumidores(KafkaConfig.semGrupo(consumerFactory)), topicName, historico, timeout);
+    }
+
+    KafkaHistoryWarmupKeySource(Supplier<Consumer<?, ?>> consumidores, String topicName, int historico,
+                                Duration timeout) {
+        this.consumidores = consumidores;
+        this.topicName = topicName;
+        this.historico = historico;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public WarmupKeys carregar(int maxChaves) {
+        Map<String, Integer> consultasNfse = new HashMap<>();
+        Map<String, Integer> consultasCredito = new HashMap<>();
+
+        int lidos = 0;
+        try (Consumer<?, ?> consumer = consumidores.get()) {
+            List<TopicPartition> particoes = consumer.partitionsFor(topicName, timeout).stream()
+                    .map(particao -> new TopicPartition(topicName, particao.partition()))
+                    .toList();
+            if (particoes.isEmpty()) {
+                return WarmupKeys.VAZIO;
+            }
+            consumer.assign(particoes);
+
+            Map<TopicPartition, Long> inicio = consumer.beginningOffsets(particoes, timeout);
+            Map<TopicPartition, Long> fim = consumer.endOffsets(particoes, timeout);
+            long porParticao = Math.max(1, historico / particoes.size());
+            particoes.forEach(particao -> consumer.seek(particao,
+                    Math.max(inicio.get(particao), fim.get(particao) - porParticao)));
+
+            long limite = System.nanoTime() + timeout.toNanos();
+            while (!alcancouFim(consumer, particoes, fim) && System.nanoTime() < limite) {
+                for (ConsumerRecord<?, ?> registro : consumer.poll(POLL_TIMEOUT)) {
+                    lidos++;
+                    if (registro.value() instanceof ConsultaEventDTO evento
+                            && evento.sucesso() && evento.quantidadeResultados() > 0) {
+                        switch (evento.tipoConsulta()) {
+                            case "NFSE" -> consultasNfse.merge(evento.parametroConsulta(), 1, Integer::sum);
+                            case "CREDITO" -> consultasCredito.merge(evento.parametroConsulta(), 1, Integer::sum);
+                            default -> {
+                            }
+                        }
+                    }
+                }
+            }
+        } catch (KafkaException ex) {
+            // O histórico é só uma fonte de chaves: o que já foi lido continua valendo
+            log.warn("Leitura do histórico de consultas interrompida após {} eventos: {}", lidos, ex.getMessage());
+        }
+
+        log.info("Histórico de consultas: {} eventos lidos, {} NFS-e e {} créditos distintos", lidos,
+                consultasNfse.size(), consultasCredito.size());
+        return new WarmupKeys(maisConsultadas(consultasNfse, maxChaves), maisConsultadas(consultasCredito, maxChaves));
+    }
+
+    private static boolean alcancouFim(Consumer<?, ?> consumer, List<TopicPartition> particoes,
+                                       Map<TopicPartition, Long> fim) {
+        return particoes.stream().allMatch(particao -> consumer.position(particao) >= fim.get(particao));
+    }
+
+    private static List<String> maisConsultadas(Map<String, Integer> consultas, int maxChaves) {
+        return consultas.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .limit(maxChaves)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    private static Supplier<Consumer<?, ?>> consumidores(ConsumerFactory<?, ?> semGrupo) {
+        return () -> semGrupo.createConsumer(null, "warmup", null, propriedades());
+    }
+
+    private static Properties propriedades() {
+        Properties propriedades = new Properties();
+        propriedades.put("spring.json.use.type.headers", "false");
+        propriedades.put("spring.json.value.default.type", ConsultaEventDTO.class.getName());
+        return propriedades;
+    }
+}
@@ -0,0 +1,55 @@
+package com.creditoapi.presentation.cli;
+
+import com.creditoapi.application.dto.IngestaoResultadoDTO;
+import com.creditoapi.application.service.IngestaoCreditoService;
+import com.creditoapi.presentation.export.CreditoExportFormat;
+import com.creditoapi.presentation.export.CreditoImportReader;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty("app.ingestao.arquivo")
+public class IngestaoCreditoRunner implements ApplicationRunner {
+
+    private final IngestaoCreditoService ingestaoService;
+    private final ObjectMapper objectMapper;
+    private final ApplicationContext context;
+
+    @Value("${app.ingestao.arquivo}")
+    private Path arquivo;
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        CreditoExportFormat formato = arquivo.getFileName().toString().endsWith("." + CreditoExportFormat.CSV.getExtensao())
+                ? CreditoExportFormat.CSV
+                : CreditoExportFormat.NDJSON;
+        log.info("Ingerindo créditos do arquivo {} em {}", arquivo, formato);
+
+        IngestaoResultadoDTO resultado;
+        try (CreditoImportReader reader = new CreditoImportReader(formato, Files.newInputStream(arquivo), objectMapper)) {
+            resultado = ingestaoService.ingerir(reader);
+        }
+
+        resultado.erros().forEach(erro -> log.warn("Linha rejeitada: {}", erro));
+        if (resultado.linhasRejeitadas() > resultado.erros().size()) {
+            log.warn("Outras {} linhas rejeitadas omitidas", resultado.linhasRejeitadas() - resultado.erros().size());
+        }
+
+        // Consumidores Kafka, agendadores e o pool de conexões manteriam a JVM viva depois da carga
+        System.exit(SpringApplication.exit(context));
+    }
+}
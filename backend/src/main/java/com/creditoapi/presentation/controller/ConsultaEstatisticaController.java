@@ -0,0 +1,56 @@
+package com.creditoapi.presentation.controller;
+
+import com.creditoapi.application.dto.ConsultaEstatisticaDTO;
+import com.creditoapi.application.service.ConsultaEstatisticaService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/consultas/estatisticas")
+@RequiredArgsConstructor
+@Tag(name = "Estatísticas de consulta", description = "Contadores por minuto das consultas de créditos")
+@CrossOrigin(origins = "*")
+public class ConsultaEstatisticaController {
+
+    private final ConsultaEstatisticaService estatisticaService;
+
+    @GetMapping
+    @Operation(summary = "Listar estatísticas de consulta",
+               description = "Retorna, por minuto e tipo de consulta, o total de consultas, a taxa de acerto e a "
+                       + "distribuição da quantidade de resultados, agregados a partir dos eventos publicados no Kafka. "
+                       + "Sem período informado, retorna a última hora")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Estatísticas retornadas com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Parâmetros de período inválidos")
+    })
+    public ResponseEntity<List<ConsultaEstatisticaDTO>> listar(
+            @Parameter(description = "Tipo da consulta (NFSE, CREDITO, BATCH, ...)")
+            @RequestParam(required = false) String tipoConsulta,
+            @Parameter(description = "Início do período (inclusive)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime inicio,
+            @Parameter(description = "Fim do período (exclusive)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime fim) {
+
+        LocalDateTime ate = fim == null ? LocalDateTime.now() : fim;
+        LocalDateTime desde = inicio == null ? ate.minusHours(1) : inicio;
+        log.info("Recebida requisição de estatísticas de consulta {} entre {} e {}", tipoConsulta, desde, ate);
+
+        return ResponseEntity.ok(estatisticaService.listar(tipoConsulta, desde, ate));
+    }
+}
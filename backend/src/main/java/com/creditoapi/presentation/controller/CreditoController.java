@@ -1,19 +1,55 @@
 package com.creditoapi.presentation.controller;
 
+import com.creditoapi.application.dto.BatchConsultaRequestDTO;
+import com.creditoapi.application.dto.BatchConsultaResponseDTO;
 import com.creditoapi.application.dto.CreditoDTO;
+import com.creditoapi.application.dto.CreditoFiltroDTO;
+import com.creditoapi.application.dto.ListagemCreditoResponseDTO;
+import com.creditoapi.application.dto.ResumoCreditoDTO;
 import com.creditoapi.application.service.CreditoService;
+import com.creditoapi.application.service.ResumoCreditoService;
+import com.creditoapi.infrastructure.metrics.TipoConsulta;
 import com.creditoapi.presentation.exception.ResourceNotFoundException;
+import com.creditoapi.presentation.export.CreditoExportFormat;
+import com.creditoapi.presentation.export.CreditoExportWriter;
+import com.creditoapi.presentation.http.CreditoETagGenerator;
+import com.creditoapi.presentation.http.CreditoMediaTypes;
+import com.creditoapi.presentation.http.CreditoResponseCache;
+import com.creditoapi.presentation.http.RespostaSerializada;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
+import java.util.concurrent.Callable;
 
 @Slf4j
 @RestController
@@ -23,49 +59,290 @@ import java.util.List;
 @CrossOrigin(origins = "*")
 public class CreditoController {
 
+    static final int TAMANHO_MAXIMO_PAGINA = 500;
+
+    private static final String EXPORT_TIMEOUT = CreditoController.class.getName() + ".exportTimeout";
+
     private final CreditoService creditoService;
+    private final ResumoCreditoService resumoService;
+    private final ObjectMapper objectMapper;
+    private final CreditoResponseCache responseCache;
+    private final CreditoETagGenerator etagGenerator;
+
+    @Value("${app.http.max-age}")
+    private Duration maxAge;
+
+    @Value("${app.export.timeout}")
+    private Duration exportTimeout;
+
+    @GetMapping
+    @TipoConsulta("LISTAGEM")
+    @Operation(summary = "Listar créditos",
+               description = "Lista créditos com filtros opcionais usando paginação por cursor: envie o "
+                       + "proximoCursor da resposta anterior no parâmetro cursor para obter a página seguinte")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Página de créditos retornada com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Parâmetros de paginação ou filtro inválidos")
+    })
+    public ResponseEntity<ListagemCreditoResponseDTO> listar(
+            @Parameter(description = "Tipo do crédito") @RequestParam(required = false) String tipoCredito,
+            @Parameter(description = "Optante pelo Simples Nacional") @RequestParam(required = false) Boolean simplesNacional,
+            @Parameter(description = "Data de constituição inicial (inclusive)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataInicio,
+            @Parameter(description = "Data de constituição final (inclusive)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataFim,
+            @Parameter(description = "Cursor retornado pela página anterior")
+            @RequestParam(defaultValue = "0") @Min(value = 0, message = "O cursor não pode ser negativo") long cursor,
+            @Parameter(description = "Quantidade de créditos por página")
+            @RequestParam(defaultValue = "50")
+            @Min(value = 1, message = "O tamanho da página deve ser ao menos 1")
+            @Max(value = TAMANHO_MAXIMO_PAGINA, message = "O tamanho da página deve ser no máximo " + TAMANHO_MAXIMO_PAGINA)
+            int tamanho) {
+
+        CreditoFiltroDTO filtro = filtro(tipoCredito, simplesNacional, dataInicio, dataFim);
+        log.info("Recebida requisição de listagem de créditos: {} (cursor {}, tamanho {})", filtro, cursor, tamanho);
+
+        return ResponseEntity.ok(creditoService.listar(filtro, cursor, tamanho));
+    }
+
+    @GetMapping("/export")
+    @TipoConsulta("EXPORTACAO")
+    @Operation(summary = "Exportar créditos",
+               description = "Exporta em streaming todos os créditos que atendem aos filtros, em NDJSON ou CSV")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Exportação iniciada com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Parâmetros de filtro inválidos")
+    })
+    public ResponseEntity<StreamingResponseBody> exportar(
+            @Parameter(description = "Tipo do crédito") @RequestParam(required = false) String tipoCredito,
+            @Parameter(description = "Optante pelo Simples Nacional") @RequestParam(required = false) Boolean simplesNacional,
+            @Parameter(description = "Data de constituição inicial (inclusive)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataInicio,
+            @Parameter(description = "Data de constituição final (inclusive)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataFim,
+            @Parameter(description = "Formato do arquivo") @RequestParam(defaultValue = "NDJSON") CreditoExportFormat formato,
+            WebRequest request) {
+
+        CreditoFiltroDTO filtro = filtro(tipoCredito, simplesNacional, dataInicio, dataFim);
+        log.info("Recebida requisição de exportação de créditos em {}: {}", formato, filtro);
+
+        // Só a exportação pode levar minutos; as demais requisições assíncronas ficam com o timeout padrão
+        WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor(EXPORT_TIMEOUT,
+                new CallableProcessingInterceptor() {
+                    @Override
+                    public <T> void beforeConcurrentHandling(NativeWebRequest asyncRequest, Callable<T> task) {
+                        ((AsyncWebRequest) asyncRequest).setTimeout(exportTimeout.toMillis());
+                    }
+                });
+
+        StreamingResponseBody body = outputStream -> {
+            try (CreditoExportWriter writer = new CreditoExportWriter(formato, outputStream, objectMapper)) {
+                creditoService.exportar(filtro, writer::write);
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(formato.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("creditos." + formato.getExtensao())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
+    @GetMapping("/resumo")
+    @TipoConsulta("RESUMO")
+    @Operation(summary = "Resumir créditos",
+               description = "Retorna quantidade, totais e médias de valores agrupados por tipo do crédito, "
+                       + "Simples Nacional e mês de constituição, calculados no banco")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Resumo retornado com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Parâmetros de filtro inválidos")
+    })
+    public ResponseEntity<List<ResumoCreditoDTO>> resumir(
+            @Parameter(description = "Tipo do crédito") @RequestParam(required = false) String tipoCredito,
+            @Parameter(description = "Optante pelo Simples Nacional") @RequestParam(required = false) Boolean simplesNacional,
+            @Parameter(description = "Mês de constituição inicial (inclusive), no formato yyyy-MM")
+            @RequestParam(required = false) YearMonth mesInicio,
+            @Parameter(description = "Mês de constituição final (inclusive), no formato yyyy-MM")
+            @RequestParam(required = false) YearMonth mesFim) {
+
+        CreditoFiltroDTO filtro = filtro(tipoCredito, simplesNacional,
+                mesInicio == null ? null : mesInicio.atDay(1),
+                mesFim == null ? null : mesFim.atEndOfMonth());
+        log.info("Recebida requisição de resumo de créditos: {}", filtro);
+
+        return ResponseEntity.ok(resumoService.resumir(filtro));
+    }
 
     @GetMapping("/{numeroNfse}")
+    @TipoConsulta("NFSE")
     @Operation(summary = "Buscar créditos por NFS-e", 
                description = "Retorna uma lista de créditos constituídos com base no número da NFS-e")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Lista de créditos retornada com sucesso"),
+            @ApiResponse(responseCode = "200", description = "Lista de créditos retornada com sucesso",
+                    content = {
+                            @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    array = @ArraySchema(schema = @Schema(implementation = CreditoDTO.class))),
+                            @Content(mediaType = MediaType.APPLICATION_CBOR_VALUE),
+                            @Content(mediaType = CreditoMediaTypes.APPLICATION_SMILE_VALUE),
+                            @Content(mediaType = CreditoMediaTypes.APPLICATION_PROTOBUF_VALUE)
+                    }),
+            @ApiResponse(responseCode = "304", description = "Resultado inalterado em relação ao ETag informado"),
             @ApiResponse(responseCode = "404", description = "Nenhum crédito encontrado para a NFS-e informada")
     })
-    public ResponseEntity<List<CreditoDTO>> findByNumeroNfse(
+    public ResponseEntity<?> findByNumeroNfse(
             @Parameter(description = "Número identificador da NFS-e", required = true)
-            @PathVariable String numeroNfse) {
+            @PathVariable String numeroNfse,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
 
         log.info("Recebida requisição para buscar créditos por NFS-e: {}", numeroNfse);
 
-        List<CreditoDTO> creditos = creditoService.findByNumeroNfse(numeroNfse);
+        MediaType binario = CreditoMediaTypes.binarioPreferido(accept);
+        if (binario != null) {
+            List<CreditoDTO> creditos = creditoService.findByNumeroNfse(numeroNfse);
+            if (creditos.isEmpty()) {
+                log.warn("Nenhum crédito encontrado para NFS-e: {}", numeroNfse);
+                throw new ResourceNotFoundException("Nenhum crédito encontrado para a NFS-e: " + numeroNfse);
+            }
+            return responderBinario(creditos, etagGenerator.etag(creditos), binario);
+        }
+
+        RespostaSerializada resposta = responseCache.getByNumeroNfse(numeroNfse,
+                () -> creditoService.findByNumeroNfse(numeroNfse),
+                quantidade -> creditoService.registrarConsulta("NFSE", numeroNfse, quantidade));
 
-        if (creditos.isEmpty()) {
+        if (resposta == null) {
             log.warn("Nenhum crédito encontrado para NFS-e: {}", numeroNfse);
             throw new ResourceNotFoundException("Nenhum crédito encontrado para a NFS-e: " + numeroNfse);
         }
 
-        return ResponseEntity.ok(creditos);
+        return responder(resposta, acceptEncoding);
     }
 
     @GetMapping("/credito/{numeroCredito}")
+    @TipoConsulta("CREDITO")
     @Operation(summary = "Buscar crédito por número", 
                description = "Retorna os detalhes de um crédito constituído específico")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Crédito retornado com sucesso"),
+            @ApiResponse(responseCode = "200", description = "Crédito retornado com sucesso",
+                    content = {
+                            @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = CreditoDTO.class)),
+                            @Content(mediaType = MediaType.APPLICATION_CBOR_VALUE),
+                            @Content(mediaType = CreditoMediaTypes.APPLICATION_SMILE_VALUE),
+                            @Content(mediaType = CreditoMediaTypes.APPLICATION_PROTOBUF_VALUE)
+                    }),
+            @ApiResponse(responseCode = "304", description = "Resultado inalterado em relação ao ETag informado"),
             @ApiResponse(responseCode = "404", description = "Crédito não encontrado")
     })
-    public ResponseEntity<CreditoDTO> findByNumeroCredito(
+    public ResponseEntity<?> findByNumeroCredito(
             @Parameter(description = "Número identificador do crédito constituído", required = true)
-            @PathVariable String numeroCredito) {
+            @PathVariable String numeroCredito,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
 
         log.info("Recebida requisição para buscar crédito por número: {}", numeroCredito);
 
-        return creditoService.findByNumeroCredito(numeroCredito)
-                .map(ResponseEntity::ok)
-                .orElseThrow(() -> {
-                    log.warn("Crédito não encontrado: {}", numeroCredito);
-                    return new ResourceNotFoundException("Crédito não encontrado: " + numeroCredito);
-                });
+        MediaType binario = CreditoMediaTypes.binarioPreferido(accept);
+        if (binario != null) {
+            CreditoDTO credito = creditoService.findByNumeroCredito(numeroCredito)
+                    .orElseThrow(() -> {
+                        log.warn("Crédito não encontrado: {}", numeroCredito);
+                        return new ResourceNotFoundException("Crédito não encontrado: " + numeroCredito);
+                    });
+            return responderBinario(credito, etagGenerator.etag(credito), binario);
+        }
+
+        RespostaSerializada resposta = responseCache.getByNumeroCredito(numeroCredito,
+                () -> creditoService.findByNumeroCredito(numeroCredito),
+                quantidade -> creditoService.registrarConsulta("CREDITO", numeroCredito, quantidade));
+
+        if (resposta == null) {
+            log.warn("Crédito não encontrado: {}", numeroCredito);
+            throw new ResourceNotFoundException("Crédito não encontrado: " + numeroCredito);
+        }
+
+        return responder(resposta, acceptEncoding);
+    }
+
+    @PostMapping("/batch")
+    @TipoConsulta("BATCH")
+    @Operation(summary = "Buscar créditos em lote",
+               description = "Retorna os créditos de várias NFS-e e/ou números de crédito em uma única requisição, "
+                       + "listando explicitamente as chaves não encontradas")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Resultado do lote retornado com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Quantidade de chaves acima do limite permitido")
+    })
+    public ResponseEntity<BatchConsultaResponseDTO> findBatch(
+            @Valid @RequestBody BatchConsultaRequestDTO request) {
+
+        log.info("Recebida requisição de consulta em lote: {} NFS-e e {} créditos",
+                request.numerosNfse().size(), request.numerosCredito().size());
+
+        return ResponseEntity.ok(creditoService.findBatch(request.numerosNfse(), request.numerosCredito()));
+    }
+
+    // O corpo já vem serializado do cache de respostas e segue direto para o response sem passar pelo Jackson.
+    // As versões br e gzip são outras representações do recurso, então recebem ETags próprios
+    private ResponseEntity<byte[]> responder(RespostaSerializada resposta, String acceptEncoding) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(cacheControl())
+                .varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING);
+
+        if (resposta.possuiBrotli() && aceita(acceptEncoding, "br")) {
+            return builder.eTag(resposta.etag() + "-br")
+                    .header(HttpHeaders.CONTENT_ENCODING, "br")
+                    .body(resposta.brotli());
+        }
+        if (resposta.possuiGzip() && aceita(acceptEncoding, "gzip")) {
+            return builder.eTag(resposta.etag() + "-gzip")
+                    .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .body(resposta.gzip());
+        }
+        return builder.eTag(resposta.etag()).body(resposta.json());
+    }
+
+    // CBOR, Smile e protobuf passam pelos conversores registrados em ContentNegotiationConfig; a compressão, se
+    // houver, fica com o Tomcat (server.compression). O ETag é fraco porque o Tomcat não comprime respostas com
+    // ETag forte: a versão gzip teria outros bytes com o mesmo validador
+    private ResponseEntity<Object> responderBinario(Object corpo, String etag, MediaType formato) {
+        return ResponseEntity.ok()
+                .contentType(formato)
+                .eTag("W/\"" + etag + "-" + formato.getSubtype() + "\"")
+                .cacheControl(cacheControl())
+                .varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING)
+                .body(corpo);
+    }
+
+    private static boolean aceita(String acceptEncoding, String codificacaoAceita) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String codificacao : acceptEncoding.split(",")) {
+            String[] partes = codificacao.trim().split(";");
+            if (partes[0].trim().equalsIgnoreCase(codificacaoAceita)) {
+                return partes.length == 1 || !partes[1].trim().replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    // O HttpEntityMethodProcessor compara o ETag com If-None-Match e responde 304 sem serializar o corpo
+    private CacheControl cacheControl() {
+        return CacheControl.maxAge(maxAge).mustRevalidate();
+    }
+
+    private static CreditoFiltroDTO filtro(String tipoCredito, Boolean simplesNacional,
+                                           LocalDate dataInicio, LocalDate dataFim) {
+        return CreditoFiltroDTO.builder()
+                .tipoCredito(tipoCredito)
+                .simplesNacional(simplesNacional)
+                .dataInicio(dataInicio)
+                .dataFim(dataFim)
+                .build();
     }
 }
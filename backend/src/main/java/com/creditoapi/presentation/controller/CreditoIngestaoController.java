@@ -0,0 +1,70 @@
+package com.creditoapi.presentation.controller;
+
+import com.creditoapi.application.dto.IngestaoResultadoDTO;
+import com.creditoapi.application.service.IngestaoCreditoService;
+import com.creditoapi.presentation.export.CreditoExportFormat;
+import com.creditoapi.presentation.export.CreditoImportReader;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.v3.oas.annotations.Hidden;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+// Carga em massa pela rede, desligada por padrão: fora do CreditoController para não herdar o CORS aberto da
+// consulta, e protegida por um token compartilhado. O caminho preferencial continua sendo o IngestaoCreditoRunner
+@Slf4j
+@Hidden
+@RestController
+@RequestMapping("/api/creditos")
+@ConditionalOnProperty(name = "app.ingestao.http.enabled", havingValue = "true")
+public class CreditoIngestaoController {
+
+    static final String TOKEN_HEADER = "X-Ingestao-Token";
+
+    private final IngestaoCreditoService ingestaoService;
+    private final ObjectMapper objectMapper;
+    private final byte[] token;
+
+    public CreditoIngestaoController(IngestaoCreditoService ingestaoService,
+                                     ObjectMapper objectMapper,
+                                     @Value("${app.ingestao.http.token}") String token) {
+        if (token.isBlank()) {
+            throw new IllegalStateException("app.ingestao.http.token é obrigatório quando a ingestão por HTTP está habilitada");
+        }
+        this.ingestaoService = ingestaoService;
+        this.objectMapper = objectMapper;
+        this.token = token.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @PostMapping("/ingestao")
+    public ResponseEntity<IngestaoResultadoDTO> ingerir(
+            @RequestHeader(name = TOKEN_HEADER, required = false) String tokenInformado,
+            @RequestParam(defaultValue = "NDJSON") CreditoExportFormat formato,
+            InputStream body) throws IOException {
+
+        // Comparação em tempo constante para o tempo de resposta não revelar o prefixo correto do token
+        if (tokenInformado == null
+                || !MessageDigest.isEqual(token, tokenInformado.getBytes(StandardCharsets.UTF_8))) {
+            log.warn("Requisição de ingestão recusada: token ausente ou inválido");
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        log.info("Recebida requisição de ingestão de créditos em {}", formato);
+
+        try (CreditoImportReader reader = new CreditoImportReader(formato, body, objectMapper)) {
+            return ResponseEntity.ok(ingestaoService.ingerir(reader));
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.creditoapi.presentation.export;
+
+import com.creditoapi.application.dto.CreditoDTO;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+public class CreditoExportWriter implements Closeable {
+
+    private static final int TAMANHO_BUFFER = 16 * 1024;
+    private static final String CABECALHO_CSV = "numeroCredito,numeroNfse,dataConstituicao,valorIssqn,tipoCredito,"
+            + "simplesNacional,aliquota,valorFaturado,valorDeducao,baseCalculo";
+
+    private final CreditoExportFormat formato;
+    private final Writer writer;
+    private final ObjectWriter jsonWriter;
+
+    public CreditoExportWriter(CreditoExportFormat formato, OutputStream outputStream, ObjectMapper objectMapper) {
+        this.formato = formato;
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), TAMANHO_BUFFER);
+        this.jsonWriter = objectMapper.writerFor(CreditoDTO.class).without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        if (formato == CreditoExportFormat.CSV) {
+            writeLine(CABECALHO_CSV);
+        }
+    }
+
+    public void write(CreditoDTO credito) {
+        try {
+            switch (formato) {
+                case NDJSON -> {
+                    jsonWriter.writeValue(writer, credito);
+                    writer.write('\n');
+                }
+                case CSV -> writeLine(String.join(",",
+                        csv(credito.numeroCredito()),
+                        csv(credito.numeroNfse()),
+                        csv(credito.dataConstituicao() == null ? null : credito.dataConstituicao().toString()),
+                        csv(credito.valorIssqn()),
+                        csv(credito.tipoCredito()),
+                        csv(credito.simplesNacional()),
+                        csv(credito.aliquota()),
+                        csv(credito.valorFaturado()),
+                        csv(credito.valorDeducao()),
+                        csv(credito.baseCalculo())));
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.flush();
+    }
+
+    private void writeLine(String linha) {
+        try {
+            writer.write(linha);
+            writer.write('\n');
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static String csv(BigDecimal valor) {
+        return valor == null ? "" : valor.toPlainString();
+    }
+
+    private static String csv(String valor) {
+        if (valor == null) {
+            return "";
+        }
+        if (valor.indexOf(',') < 0 && valor.indexOf('"') < 0 && valor.indexOf('\n') < 0 && valor.indexOf('\r') < 0) {
+            return valor;
+        }
+        return '"' + valor.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,145 @@
+package com.creditoapi.presentation.export;
+
+import com.creditoapi.application.dto.CreditoDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+public class CreditoImportReader implements Iterator<CreditoDTO>, Closeable {
+
+    private static final int TAMANHO_BUFFER = 64 * 1024;
+    private static final int QUANTIDADE_COLUNAS = 10;
+
+    private final CreditoExportFormat formato;
+    private final BufferedReader reader;
+    private final ObjectReader jsonReader;
+
+    private long numeroLinha;
+    private String proximaLinha;
+
+    public CreditoImportReader(CreditoExportFormat formato, InputStream inputStream, ObjectMapper objectMapper) {
+        this.formato = formato;
+        this.reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8), TAMANHO_BUFFER);
+        this.jsonReader = objectMapper.readerFor(CreditoDTO.class);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (proximaLinha != null) {
+            return true;
+        }
+        try {
+            String linha;
+            while ((linha = reader.readLine()) != null) {
+                numeroLinha++;
+                if (linha.isBlank() || (numeroLinha == 1 && formato == CreditoExportFormat.CSV
+                        && linha.startsWith("numeroCredito,"))) {
+                    continue;
+                }
+                proximaLinha = linha;
+                return true;
+            }
+            return false;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    // Linhas inválidas lançam IllegalArgumentException já consumidas, permitindo seguir para a próxima
+    @Override
+    public CreditoDTO next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        String linha = proximaLinha;
+        proximaLinha = null;
+        try {
+            return switch (formato) {
+                case NDJSON -> jsonReader.readValue(linha);
+                case CSV -> parseCsv(linha);
+            };
+        } catch (JsonProcessingException ex) {
+            throw new IllegalArgumentException("linha " + numeroLinha + ": JSON inválido (" + ex.getOriginalMessage() + ")");
+        } catch (DateTimeParseException | NumberFormatException ex) {
+            throw new IllegalArgumentException("linha " + numeroLinha + ": valor inválido (" + ex.getMessage() + ")");
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("linha " + numeroLinha + ": " + ex.getMessage());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private static CreditoDTO parseCsv(String linha) {
+        List<String> campos = campos(linha);
+        if (campos.size() != QUANTIDADE_COLUNAS) {
+            throw new IllegalArgumentException("esperadas " + QUANTIDADE_COLUNAS + " colunas, encontradas "
+                    + campos.size());
+        }
+        return CreditoDTO.builder()
+                .numeroCredito(campos.get(0))
+                .numeroNfse(campos.get(1))
+                .dataConstituicao(campos.get(2) == null ? null : LocalDate.parse(campos.get(2)))
+                .valorIssqn(decimal(campos.get(3)))
+                .tipoCredito(campos.get(4))
+                .simplesNacional(campos.get(5))
+                .aliquota(decimal(campos.get(6)))
+                .valorFaturado(decimal(campos.get(7)))
+                .valorDeducao(decimal(campos.get(8)))
+                .baseCalculo(decimal(campos.get(9)))
+                .build();
+    }
+
+    private static BigDecimal decimal(String valor) {
+        return valor == null ? null : new BigDecimal(valor);
+    }
+
+    // Campos entre aspas seguem a mesma convenção do CreditoExportWriter: aspas internas são duplicadas
+    static List<String> campos(String linha) {
+        List<String> campos = new ArrayList<>(QUANTIDADE_COLUNAS);
+        StringBuilder campo = new StringBuilder();
+        boolean entreAspas = false;
+        for (int i = 0; i < linha.length(); i++) {
+            char c = linha.charAt(i);
+            if (entreAspas) {
+                if (c == '"' && i + 1 < linha.length() && linha.charAt(i + 1) == '"') {
+                    campo.append('"');
+                    i++;
+                } else if (c == '"') {
+                    entreAspas = false;
+                } else {
+                    campo.append(c);
+                }
+            } else if (c == '"') {
+                entreAspas = true;
+            } else if (c == ',') {
+                campos.add(campo.isEmpty() ? null : campo.toString());
+                campo.setLength(0);
+            } else {
+                campo.append(c);
+            }
+        }
+        if (entreAspas) {
+            throw new IllegalArgumentException("aspas não fechadas");
+        }
+        campos.add(campo.isEmpty() ? null : campo.toString());
+        return campos;
+    }
+}
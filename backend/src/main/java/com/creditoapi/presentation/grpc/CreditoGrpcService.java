@@ -0,0 +1,145 @@
+package com.creditoapi.presentation.grpc;
+
+import com.creditoapi.application.dto.CreditoDTO;
+import com.creditoapi.application.service.CreditoService;
+import com.creditoapi.presentation.http.CreditoProtobufMapper;
+import com.creditoapi.presentation.proto.BatchLookupRequest;
+import com.creditoapi.presentation.proto.BatchLookupResponse;
+import com.creditoapi.presentation.proto.ConsultaCreditoGrpc;
+import com.creditoapi.presentation.proto.Credito;
+import com.creditoapi.presentation.proto.GetByNumeroCreditoRequest;
+import com.creditoapi.presentation.proto.ListByNumeroNfseRequest;
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Mesmas consultas do CreditoController: os eventos de consulta são publicados pelo CreditoService
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.grpc.enabled", havingValue = "true")
+public class CreditoGrpcService extends ConsultaCreditoGrpc.ConsultaCreditoImplBase {
+
+    private final CreditoService creditoService;
+
+    @Override
+    public void getByNumeroCredito(GetByNumeroCreditoRequest request, StreamObserver<Credito> responseObserver) {
+        String numeroCredito = request.getNumeroCredito();
+        log.info("Recebida chamada gRPC para buscar crédito por número: {}", numeroCredito);
+
+        if (numeroCredito.isBlank()) {
+            responseObserver.onError(Status.INVALID_ARGUMENT
+                    .withDescription("O número do crédito é obrigatório")
+                    .asRuntimeException());
+            return;
+        }
+
+        creditoService.findByNumeroCredito(numeroCredito).ifPresentOrElse(
+                credito -> {
+                    responseObserver.onNext(CreditoProtobufMapper.toProto(credito));
+                    responseObserver.onCompleted();
+                },
+                () -> {
+                    log.warn("Crédito não encontrado: {}", numeroCredito);
+                    responseObserver.onError(Status.NOT_FOUND
+                            .withDescription("Crédito não encontrado: " + numeroCredito)
+                            .asRuntimeException());
+                });
+    }
+
+    @Override
+    public void listByNumeroNfse(ListByNumeroNfseRequest request, StreamObserver<Credito> responseObserver) {
+        String numeroNfse = request.getNumeroNfse();
+        log.info("Recebida chamada gRPC para buscar créditos por NFS-e: {}", numeroNfse);
+
+        if (numeroNfse.isBlank()) {
+            responseObserver.onError(Status.INVALID_ARGUMENT
+                    .withDescription("O número da NFS-e é obrigatório")
+                    .asRuntimeException());
+            return;
+        }
+
+        List<CreditoDTO> creditos = creditoService.findByNumeroNfse(numeroNfse);
+        if (creditos.isEmpty()) {
+            log.warn("Nenhum crédito encontrado para NFS-e: {}", numeroNfse);
+            responseObserver.onError(Status.NOT_FOUND
+                    .withDescription("Nenhum crédito encontrado para a NFS-e: " + numeroNfse)
+                    .asRuntimeException());
+            return;
+        }
+
+        for (CreditoDTO credito : creditos) {
+            responseObserver.onNext(CreditoProtobufMapper.toProto(credito));
+        }
+        responseObserver.onCompleted();
+    }
+
+    // O gRPC entrega as mensagens de uma mesma chamada em sequência, então as respostas saem na ordem das consultas.
+    // Controle de fluxo manual: a próxima consulta só é pedida ao cliente quando a resposta anterior cabe no buffer
+    // de envio, então um cliente que envia mais rápido do que lê não acumula respostas na memória do servidor
+    @Override
+    public StreamObserver<BatchLookupRequest> batchLookup(StreamObserver<BatchLookupResponse> responseObserver) {
+        ServerCallStreamObserver<BatchLookupResponse> chamada =
+                (ServerCallStreamObserver<BatchLookupResponse>) responseObserver;
+        chamada.disableAutoRequest();
+        AtomicBoolean estavaPronta = new AtomicBoolean();
+        chamada.setOnReadyHandler(() -> {
+            if (chamada.isReady() && estavaPronta.compareAndSet(false, true)) {
+                chamada.request(1);
+            }
+        });
+
+        return new StreamObserver<>() {
+
+            // Depois de um erro a chamada está encerrada; mensagens que ainda cheguem são descartadas
+            private boolean encerrada;
+
+            @Override
+            public void onNext(BatchLookupRequest consulta) {
+                if (encerrada) {
+                    return;
+                }
+                BatchLookupResponse.Builder resposta = BatchLookupResponse.newBuilder().setConsulta(consulta);
+                switch (consulta.getChaveCase()) {
+                    case NUMERO_NFSE -> creditoService.findByNumeroNfse(consulta.getNumeroNfse())
+                            .forEach(credito -> resposta.addCreditos(CreditoProtobufMapper.toProto(credito)));
+                    case NUMERO_CREDITO -> creditoService.findByNumeroCredito(consulta.getNumeroCredito())
+                            .ifPresent(credito -> resposta.addCreditos(CreditoProtobufMapper.toProto(credito)));
+                    case CHAVE_NOT_SET -> {
+                        encerrada = true;
+                        responseObserver.onError(Status.INVALID_ARGUMENT
+                                .withDescription("Cada consulta deve informar a NFS-e ou o número do crédito")
+                                .asRuntimeException());
+                        return;
+                    }
+                }
+                responseObserver.onNext(resposta.build());
+                if (chamada.isReady()) {
+                    chamada.request(1);
+                } else {
+                    // O onReadyHandler pede a próxima quando o cliente consumir o que já foi enviado
+                    estavaPronta.set(false);
+                }
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                log.debug("Consulta em lote gRPC interrompida pelo cliente: {}", Status.fromThrowable(t));
+            }
+
+            @Override
+            public void onCompleted() {
+                if (!encerrada) {
+                    responseObserver.onCompleted();
+                }
+            }
+        };
+    }
+}
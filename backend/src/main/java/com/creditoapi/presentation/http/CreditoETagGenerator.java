@@ -0,0 +1,67 @@
+package com.creditoapi.presentation.http;
+
+import com.creditoapi.application.dto.CreditoDTO;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+
+@Component
+public class CreditoETagGenerator {
+
+    private static final int TAMANHO_ETAG_BYTES = 16;
+    private static final byte SEPARADOR = 0x1F;
+
+    // Chaves fracas comparam por identidade: o hash vive enquanto o resultado estiver no cache de consultas
+    // e acertos no cache reaproveitam o ETag sem recalcular
+    private final Cache<Object, String> etags = Caffeine.newBuilder()
+            .weakKeys()
+            .build();
+
+    public String etag(List<CreditoDTO> creditos) {
+        return etags.get(creditos, chave -> hash(creditos));
+    }
+
+    public String etag(CreditoDTO credito) {
+        return etags.get(credito, chave -> hash(List.of(credito)));
+    }
+
+    private static String hash(Collection<CreditoDTO> creditos) {
+        MessageDigest digest = sha256();
+        for (CreditoDTO credito : creditos) {
+            update(digest, credito.numeroCredito());
+            update(digest, credito.numeroNfse());
+            update(digest, credito.dataConstituicao());
+            update(digest, credito.valorIssqn());
+            update(digest, credito.tipoCredito());
+            update(digest, credito.simplesNacional());
+            update(digest, credito.aliquota());
+            update(digest, credito.valorFaturado());
+            update(digest, credito.valorDeducao());
+            update(digest, credito.baseCalculo());
+        }
+        byte[] resumo = digest.digest();
+        return HexFormat.of().formatHex(resumo, 0, TAMANHO_ETAG_BYTES);
+    }
+
+    private static void update(MessageDigest digest, Object valor) {
+        if (valor != null) {
+            digest.update(valor.toString().getBytes(StandardCharsets.UTF_8));
+        }
+        digest.update(SEPARADOR);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 indisponível", ex);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.creditoapi.presentation.http;
+
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+import java.util.Comparator;
+import java.util.List;
+
+public final class CreditoMediaTypes {
+
+    public static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+    public static final MediaType APPLICATION_SMILE = MediaType.parseMediaType(APPLICATION_SMILE_VALUE);
+    public static final String APPLICATION_PROTOBUF_VALUE = "application/x-protobuf";
+    public static final MediaType APPLICATION_PROTOBUF = MediaType.parseMediaType(APPLICATION_PROTOBUF_VALUE);
+
+    // JSON primeiro: Accept vazio ou */* continua recebendo o JSON pré-serializado
+    private static final List<MediaType> SUPORTADOS = List.of(
+            MediaType.APPLICATION_JSON, MediaType.APPLICATION_CBOR, APPLICATION_SMILE, APPLICATION_PROTOBUF);
+
+    private CreditoMediaTypes() {
+    }
+
+    // Formato binário preferido pelo Accept, ou null quando a resposta deve ser JSON
+    public static MediaType binarioPreferido(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return null;
+        }
+
+        List<MediaType> aceitos;
+        try {
+            aceitos = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException ex) {
+            return null;
+        }
+
+        return aceitos.stream()
+                .filter(aceito -> aceito.getQualityValue() > 0)
+                .sorted(Comparator.comparingDouble(MediaType::getQualityValue).reversed())
+                .flatMap(aceito -> SUPORTADOS.stream().filter(aceito::includes).limit(1))
+                .findFirst()
+                .filter(formato -> !formato.equals(MediaType.APPLICATION_JSON))
+                .orElse(null);
+    }
+}
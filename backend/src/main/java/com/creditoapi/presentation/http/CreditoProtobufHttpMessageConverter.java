@@ -0,0 +1,77 @@
+package com.creditoapi.presentation.http;
+
+import com.creditoapi.application.dto.CreditoDTO;
+import com.creditoapi.presentation.proto.Credito;
+import com.creditoapi.presentation.proto.CreditoLista;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.List;
+
+// application/x-protobuf para CreditoDTO (mensagem Credito) e List<CreditoDTO> (mensagem CreditoLista)
+public class CreditoProtobufHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    public CreditoProtobufHttpMessageConverter() {
+        super(CreditoMediaTypes.APPLICATION_PROTOBUF);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return CreditoDTO.class.isAssignableFrom(clazz) || List.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return suportado(type) && canRead(mediaType);
+    }
+
+    // Listas sem tipo declarado (ResponseEntity<?>) são conferidas elemento a elemento na escrita
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        ResolvableType tipo = type == null ? ResolvableType.forClass(clazz) : ResolvableType.forType(type);
+        boolean suportado = suportado(tipo.getType()) || CreditoDTO.class.isAssignableFrom(clazz)
+                || List.class.isAssignableFrom(clazz) && tipo.resolveGeneric(0) == null;
+        return suportado && canWrite(mediaType);
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) throws IOException {
+        return readInternal(ResolvableType.forType(type).toClass(), inputMessage);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        if (CreditoDTO.class.isAssignableFrom(clazz)) {
+            return CreditoProtobufMapper.toDTO(Credito.parseFrom(inputMessage.getBody()));
+        }
+        return CreditoProtobufMapper.toDTOList(CreditoLista.parseFrom(inputMessage.getBody()));
+    }
+
+    @Override
+    protected void writeInternal(Object corpo, Type type, HttpOutputMessage outputMessage) throws IOException {
+        if (corpo instanceof CreditoDTO credito) {
+            CreditoProtobufMapper.toProto(credito).writeTo(outputMessage.getBody());
+            return;
+        }
+
+        List<?> lista = (List<?>) corpo;
+        if (!lista.stream().allMatch(CreditoDTO.class::isInstance)) {
+            throw new HttpMessageNotWritableException("Representação protobuf disponível só para créditos");
+        }
+        @SuppressWarnings("unchecked")
+        List<CreditoDTO> creditos = (List<CreditoDTO>) lista;
+        CreditoProtobufMapper.toProto(creditos).writeTo(outputMessage.getBody());
+    }
+
+    private static boolean suportado(Type type) {
+        ResolvableType tipo = ResolvableType.forType(type);
+        return CreditoDTO.class.isAssignableFrom(tipo.toClass())
+                || List.class.isAssignableFrom(tipo.toClass()) && tipo.resolveGeneric(0) == CreditoDTO.class;
+    }
+}
@@ -0,0 +1,94 @@
+package com.creditoapi.presentation.http;
+
+import com.creditoapi.application.dto.CreditoDTO;
+import com.creditoapi.presentation.proto.Credito;
+import com.creditoapi.presentation.proto.CreditoLista;
+import com.creditoapi.presentation.proto.Decimal;
+import com.google.protobuf.ByteString;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.util.List;
+
+public final class CreditoProtobufMapper {
+
+    private CreditoProtobufMapper() {
+    }
+
+    public static CreditoLista toProto(List<CreditoDTO> creditos) {
+        CreditoLista.Builder lista = CreditoLista.newBuilder();
+        for (CreditoDTO credito : creditos) {
+            lista.addCreditos(toProto(credito));
+        }
+        return lista.build();
+    }
+
+    // Strings nulas viram o padrão do proto3 (""); datas e decimais nulos ficam ausentes
+    public static Credito toProto(CreditoDTO credito) {
+        Credito.Builder proto = Credito.newBuilder();
+        if (credito.numeroCredito() != null) {
+            proto.setNumeroCredito(credito.numeroCredito());
+        }
+        if (credito.numeroNfse() != null) {
+            proto.setNumeroNfse(credito.numeroNfse());
+        }
+        if (credito.dataConstituicao() != null) {
+            proto.setDataConstituicao(Math.toIntExact(credito.dataConstituicao().toEpochDay()));
+        }
+        if (credito.valorIssqn() != null) {
+            proto.setValorIssqn(toProto(credito.valorIssqn()));
+        }
+        if (credito.tipoCredito() != null) {
+            proto.setTipoCredito(credito.tipoCredito());
+        }
+        if (credito.simplesNacional() != null) {
+            proto.setSimplesNacional(credito.simplesNacional());
+        }
+        if (credito.aliquota() != null) {
+            proto.setAliquota(toProto(credito.aliquota()));
+        }
+        if (credito.valorFaturado() != null) {
+            proto.setValorFaturado(toProto(credito.valorFaturado()));
+        }
+        if (credito.valorDeducao() != null) {
+            proto.setValorDeducao(toProto(credito.valorDeducao()));
+        }
+        if (credito.baseCalculo() != null) {
+            proto.setBaseCalculo(toProto(credito.baseCalculo()));
+        }
+        return proto.build();
+    }
+
+    public static List<CreditoDTO> toDTOList(CreditoLista lista) {
+        return lista.getCreditosList().stream()
+                .map(CreditoProtobufMapper::toDTO)
+                .toList();
+    }
+
+    public static CreditoDTO toDTO(Credito proto) {
+        return CreditoDTO.builder()
+                .numeroCredito(proto.getNumeroCredito())
+                .numeroNfse(proto.getNumeroNfse())
+                .dataConstituicao(proto.hasDataConstituicao() ? LocalDate.ofEpochDay(proto.getDataConstituicao()) : null)
+                .valorIssqn(proto.hasValorIssqn() ? toBigDecimal(proto.getValorIssqn()) : null)
+                .tipoCredito(proto.getTipoCredito())
+                .simplesNacional(proto.getSimplesNacional())
+                .aliquota(proto.hasAliquota() ? toBigDecimal(proto.getAliquota()) : null)
+                .valorFaturado(proto.hasValorFaturado() ? toBigDecimal(proto.getValorFaturado()) : null)
+                .valorDeducao(proto.hasValorDeducao() ? toBigDecimal(proto.getValorDeducao()) : null)
+                .baseCalculo(proto.hasBaseCalculo() ? toBigDecimal(proto.getBaseCalculo()) : null)
+                .build();
+    }
+
+    private static Decimal toProto(BigDecimal valor) {
+        return Decimal.newBuilder()
+                .setValorNaoEscalado(ByteString.copyFrom(valor.unscaledValue().toByteArray()))
+                .setEscala(valor.scale())
+                .build();
+    }
+
+    private static BigDecimal toBigDecimal(Decimal decimal) {
+        return new BigDecimal(new BigInteger(decimal.getValorNaoEscalado().toByteArray()), decimal.getEscala());
+    }
+}
@@ -0,0 +1,215 @@
+package com.creditoapi.presentation.http;
+
+import com.aayushatharva.brotli4j.Brotli4jLoader;
+import com.aayushatharva.brotli4j.encoder.Encoder;
+import com.creditoapi.application.dto.CreditoDTO;
+import com.creditoapi.domain.event.CreditoAlteradoEvent;
+import com.creditoapi.infrastructure.cache.CreditoKeyIndex;
+import com.creditoapi.infrastructure.cache.InvalidatableCreditoCache;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntConsumer;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+@Slf4j
+@Component
+public class CreditoResponseCache implements InvalidatableCreditoCache {
+
+    static final String CACHE = "creditos-resposta";
+
+    private static final String PREFIXO_NFSE = "NFSE:";
+    private static final String PREFIXO_CREDITO = "CREDITO:";
+    private static final int TAMANHO_CHAVE_ESTIMADO = 64;
+
+    private final ObjectMapper objectMapper;
+    private final CreditoETagGenerator etagGenerator;
+    private final boolean enabled;
+    private final int gzipMinSize;
+    // Nulo quando o Brotli está desligado ou a biblioteca nativa não carrega nesta plataforma
+    private final Encoder.Parameters brotli;
+    private final Cache<String, RespostaSerializada> respostas;
+    private final CreditoKeyIndex indice = new CreditoKeyIndex();
+    // Incrementada a cada invalidação: uma resposta montada a partir de uma leitura anterior não é armazenada
+    private final AtomicLong versao = new AtomicLong();
+
+    public CreditoResponseCache(ObjectMapper objectMapper,
+                                CreditoETagGenerator etagGenerator,
+                                MeterRegistry meterRegistry,
+                                @Value("${app.response-cache.enabled}") boolean enabled,
+                                @Value("${app.response-cache.max-size}") DataSize maxSize,
+                                @Value("${app.response-cache.gzip-min-size}") DataSize gzipMinSize,
+                                @Value("${app.response-cache.brotli.enabled}") boolean brotliEnabled,
+                                @Value("${app.response-cache.brotli.quality}") int brotliQuality,
+                                @Value("${app.cache.ttl}") Duration ttl) {
+        this.objectMapper = objectMapper;
+        this.etagGenerator = etagGenerator;
+        this.enabled = enabled;
+        this.gzipMinSize = Math.toIntExact(gzipMinSize.toBytes());
+        this.brotli = brotliEnabled && brotliDisponivel()
+                ? new Encoder.Parameters().setQuality(brotliQuality)
+                : null;
+        this.respostas = Caffeine.newBuilder()
+                .maximumWeight(maxSize.toBytes())
+                .weigher((String chave, RespostaSerializada resposta) ->
+                        (int) Math.min(Integer.MAX_VALUE, resposta.tamanho() + TAMANHO_CHAVE_ESTIMADO))
+                .expireAfterWrite(ttl)
+                .evictionListener((String chave, RespostaSerializada resposta, RemovalCause causa) ->
+                        indice.remover(chave))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, respostas, CACHE);
+        Gauge.builder("cache.resposta.bytes", respostas, CreditoResponseCache::bytesArmazenados)
+                .description("Bytes ocupados pelas respostas JSON serializadas em cache")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    // Retorna null quando a consulta não encontra créditos
+    public RespostaSerializada getByNumeroNfse(String numeroNfse, Supplier<List<CreditoDTO>> consulta,
+                                               IntConsumer aoAcertar) {
+        return get(PREFIXO_NFSE + numeroNfse, aoAcertar, () -> {
+            List<CreditoDTO> creditos = consulta.get();
+            return creditos.isEmpty() ? null : serializar(creditos, etagGenerator.etag(creditos), creditos);
+        });
+    }
+
+    // Retorna null quando o crédito não existe
+    public RespostaSerializada getByNumeroCredito(String numeroCredito, Supplier<Optional<CreditoDTO>> consulta,
+                                                  IntConsumer aoAcertar) {
+        return get(PREFIXO_CREDITO + numeroCredito, aoAcertar, () -> consulta.get()
+                .map(credito -> serializar(credito, etagGenerator.etag(credito), List.of(credito)))
+                .orElse(null));
+    }
+
+    @Override
+    public void evict(String numeroCredito, String numeroNfse) {
+        versao.incrementAndGet();
+        invalidar(PREFIXO_NFSE + numeroNfse);
+        invalidar(PREFIXO_CREDITO + numeroCredito);
+        indice.chaves(numeroCredito).forEach(this::invalidar);
+    }
+
+    @Override
+    public void clear() {
+        versao.incrementAndGet();
+        indice.clear();
+        respostas.invalidateAll();
+    }
+
+    int respostasIndexadas() {
+        return indice.size();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCreditoAlterado(CreditoAlteradoEvent event) {
+        evict(event.numeroCredito(), event.numeroNfse());
+    }
+
+    private RespostaSerializada get(String chave, IntConsumer aoAcertar, Supplier<RespostaSerializada> carregar) {
+        if (enabled) {
+            RespostaSerializada armazenada = respostas.getIfPresent(chave);
+            if (armazenada != null) {
+                aoAcertar.accept(armazenada.quantidade());
+                return armazenada;
+            }
+        }
+
+        long versaoLida = versao.get();
+        RespostaSerializada resposta = carregar.get();
+        if (enabled && resposta != null) {
+            armazenar(chave, resposta, versaoLida);
+        }
+        return resposta;
+    }
+
+    // Sob o lock da chave o índice é atualizado antes de conferir a versão: uma invalidação concorrente ou já
+    // incrementou a versão e a resposta é descartada, ou vai encontrar a chave no índice e removê-la
+    private void armazenar(String chave, RespostaSerializada resposta, long versaoLida) {
+        respostas.asMap().compute(chave, (c, atual) -> {
+            indice.registrar(c, resposta.numerosCredito());
+            if (versao.get() == versaoLida) {
+                return resposta;
+            }
+            if (atual == null) {
+                indice.remover(c);
+            } else {
+                indice.registrar(c, atual.numerosCredito());
+            }
+            return atual;
+        });
+    }
+
+    private void invalidar(String chave) {
+        respostas.asMap().computeIfPresent(chave, (c, resposta) -> {
+            indice.remover(c);
+            return null;
+        });
+    }
+
+    private RespostaSerializada serializar(Object corpo, String etag, List<CreditoDTO> creditos) {
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(corpo);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Erro ao serializar resposta de créditos", ex);
+        }
+        boolean comprimir = json.length >= gzipMinSize;
+        return new RespostaSerializada(json, comprimir ? gzip(json) : null,
+                comprimir && brotli != null ? brotli(json, brotli) : null, etag, creditos.size(),
+                creditos.stream().map(CreditoDTO::numeroCredito).toList());
+    }
+
+    private static long bytesArmazenados(Cache<String, RespostaSerializada> respostas) {
+        return respostas.policy().eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0L))
+                .orElse(0L);
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(json.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            gzip.write(json);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static byte[] brotli(byte[] json, Encoder.Parameters parametros) {
+        try {
+            return Encoder.compress(json, parametros);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static boolean brotliDisponivel() {
+        if (Brotli4jLoader.isAvailable()) {
+            return true;
+        }
+        log.warn("Brotli indisponível nesta plataforma; respostas em cache serão comprimidas só em gzip",
+                Brotli4jLoader.getUnavailabilityCause());
+        return false;
+    }
+}
@@ -0,0 +1,136 @@
+package com.creditoapi.presentation.http;
+
+import com.creditoapi.infrastructure.concurrent.AdaptiveConcurrencyLimiter;
+import com.creditoapi.infrastructure.concurrent.ClientRateLimiter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Meter.MeterProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+// Rejeita na hora, em vez de enfileirar no Tomcat à espera de uma conexão do pool: 429 quando o cliente esgota
+// o próprio token bucket e 503 quando o limite adaptativo de requisições simultâneas já está ocupado
+@Slf4j
+public class LoadSheddingFilter extends OncePerRequestFilter {
+
+    // Exportações em streaming e cargas em massa duram minutos: ocupariam vagas do limite pensado para consultas
+    // curtas e distorceriam a latência que ele usa para se ajustar
+    private static final Set<String> FORA_DO_LIMITE = Set.of("/api/creditos/export", "/api/creditos/ingestao");
+
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    // Nulo quando app.load-shedding.rate-limit.enabled=false
+    private final ClientRateLimiter rateLimiter;
+    private final Duration retryAfter;
+    private final ObjectMapper objectMapper;
+    private final MeterProvider<Counter> rejeicoes;
+
+    public LoadSheddingFilter(AdaptiveConcurrencyLimiter concurrencyLimiter, ClientRateLimiter rateLimiter,
+                              Duration retryAfter, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.rateLimiter = rateLimiter;
+        this.retryAfter = retryAfter;
+        this.objectMapper = objectMapper;
+        this.rejeicoes = Counter.builder("http.load.shedding.rejected")
+                .description("Requisições rejeitadas antes de chegar ao controller")
+                .withRegistry(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return FORA_DO_LIMITE.contains(request.getRequestURI().substring(request.getContextPath().length()));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (rateLimiter != null) {
+            // Atrás do nginx o Tomcat já troca o endereço remoto pelo do X-Forwarded-For, mas só quando a conexão vem
+            // do proxy (server.tomcat.remoteip.internal-proxies); o cabeçalho de outro cliente não troca o bucket
+            long espera = rateLimiter.tryAcquire(request.getRemoteAddr());
+            if (espera > 0) {
+                rejeitar(request, response, HttpStatus.TOO_MANY_REQUESTS, "rate-limit",
+                        Duration.ofNanos(espera), "Limite de requisições do cliente excedido");
+                return;
+            }
+        }
+
+        if (!concurrencyLimiter.tryAcquire()) {
+            rejeitar(request, response, HttpStatus.SERVICE_UNAVAILABLE, "concorrencia", retryAfter,
+                    "Serviço sobrecarregado, tente novamente em instantes");
+            return;
+        }
+
+        boolean liberarAoFinal = true;
+        try {
+            chain.doFilter(request, response);
+            // Exportações continuam depois que o filtro retorna; a vaga só é liberada quando a resposta termina
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new LiberarAoConcluir());
+                liberarAoFinal = false;
+            }
+        } finally {
+            if (liberarAoFinal) {
+                concurrencyLimiter.release();
+            }
+        }
+    }
+
+    private void rejeitar(HttpServletRequest request, HttpServletResponse response, HttpStatus status,
+                          String motivo, Duration espera, String mensagem) throws IOException {
+        rejeicoes.withTag("motivo", motivo).increment();
+        log.debug("Requisição {} rejeitada ({}): {}", request.getRequestURI(), motivo, mensagem);
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("timestamp", LocalDateTime.now());
+        body.put("status", status.value());
+        body.put("error", status.getReasonPhrase());
+        body.put("message", mensagem);
+        body.put("path", request.getRequestURI());
+
+        response.setStatus(status.value());
+        // Retry-After é em segundos inteiros: arredonda para cima para o cliente não voltar cedo demais
+        response.setHeader(HttpHeaders.RETRY_AFTER,
+                String.valueOf(Math.max(1, TimeUnit.NANOSECONDS.toSeconds(espera.toNanos() + 999_999_999L))));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+
+    private final class LiberarAoConcluir implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            concurrencyLimiter.release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
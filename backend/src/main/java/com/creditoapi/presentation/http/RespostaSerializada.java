@@ -0,0 +1,27 @@
+package com.creditoapi.presentation.http;
+
+import java.util.List;
+
+// Corpo JSON pronto para envio; gzip e brotli são null quando o corpo é pequeno demais para compensar a
+// compressão, e brotli também quando está desligado
+public record RespostaSerializada(
+        byte[] json,
+        byte[] gzip,
+        byte[] brotli,
+        String etag,
+        int quantidade,
+        List<String> numerosCredito
+) {
+
+    public boolean possuiGzip() {
+        return gzip != null;
+    }
+
+    public boolean possuiBrotli() {
+        return brotli != null;
+    }
+
+    long tamanho() {
+        return json.length + (gzip == null ? 0L : gzip.length) + (brotli == null ? 0L : brotli.length);
+    }
+}
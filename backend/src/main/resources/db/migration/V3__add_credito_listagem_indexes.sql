@@ -0,0 +1,2 @@
+CREATE INDEX idx_credito_tipo_simples_id ON credito(tipo_credito, simples_nacional, id);
+CREATE INDEX idx_credito_data_constituicao_id ON credito(data_constituicao, id);
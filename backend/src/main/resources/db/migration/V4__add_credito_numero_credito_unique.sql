@@ -0,0 +1,2 @@
+CREATE UNIQUE INDEX uk_credito_numero_credito ON credito(numero_credito);
+DROP INDEX idx_credito_numero_credito;
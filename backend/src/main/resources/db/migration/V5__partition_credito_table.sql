@@ -0,0 +1,136 @@
+-- Particionamento por faixa mensal de data_constituicao. Em tabelas particionadas o PostgreSQL só aceita índices
+-- únicos que contenham a chave de partição, então a unicidade global de numero_credito fica em credito_numero,
+-- que também informa a partição de cada crédito para as consultas por número.
+ALTER TABLE credito RENAME TO credito_legado;
+ALTER TABLE credito_legado RENAME CONSTRAINT credito_pkey TO credito_legado_pkey;
+ALTER SEQUENCE credito_id_seq RENAME TO credito_legado_id_seq;
+DROP INDEX uk_credito_numero_credito, idx_credito_numero_nfse, idx_credito_tipo_simples_id,
+    idx_credito_data_constituicao_id;
+
+-- Chave primária, índices e triggers só depois da cópia: montar os índices de uma vez e preencher credito_numero
+-- com um único INSERT custa bem menos que mantê-los linha a linha
+CREATE TABLE credito
+(
+    id                BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    numero_credito    VARCHAR(50)    NOT NULL,
+    numero_nfse       VARCHAR(50)    NOT NULL,
+    data_constituicao DATE           NOT NULL,
+    valor_issqn       DECIMAL(15, 2) NOT NULL,
+    tipo_credito      VARCHAR(50)    NOT NULL,
+    simples_nacional  BOOLEAN        NOT NULL,
+    aliquota          DECIMAL(5, 2)  NOT NULL,
+    valor_faturado    DECIMAL(15, 2) NOT NULL,
+    valor_deducao     DECIMAL(15, 2) NOT NULL,
+    base_calculo      DECIMAL(15, 2) NOT NULL
+) PARTITION BY RANGE (data_constituicao);
+
+CREATE TABLE credito_numero
+(
+    numero_credito    VARCHAR(50) NOT NULL,
+    data_constituicao DATE        NOT NULL
+);
+
+CREATE TABLE credito_default PARTITION OF credito DEFAULT;
+
+-- Cria a partição do mês. Linhas desse mês que caíram na default impedem o CREATE ... PARTITION OF, então a
+-- tabela nova é criada solta, recebe as linhas e só então é anexada. O DELETE na default dispara a trigger, que
+-- tira os números de credito_numero; eles são regravados a partir da tabela nova antes do ATTACH
+CREATE FUNCTION criar_particao_credito(mes DATE) RETURNS BOOLEAN AS
+$$
+DECLARE
+    nome TEXT := 'credito_' || to_char(mes, 'YYYY_MM');
+    fim  DATE := mes + INTERVAL '1 month';
+BEGIN
+    IF to_regclass(nome) IS NOT NULL THEN
+        RETURN FALSE;
+    END IF;
+    EXECUTE format('CREATE TABLE %I (LIKE credito)', nome);
+    EXECUTE format('WITH movidas AS (DELETE FROM credito_default WHERE data_constituicao >= %L '
+                       || 'AND data_constituicao < %L RETURNING *) INSERT INTO %I SELECT * FROM movidas',
+                   mes, fim, nome);
+    EXECUTE format('INSERT INTO credito_numero (numero_credito, data_constituicao) '
+                       || 'SELECT numero_credito, data_constituicao FROM %I', nome);
+    EXECUTE format('ALTER TABLE credito ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)', nome, mes, fim);
+    RETURN TRUE;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Cria as partições mensais que faltam entre inicio e fim e as dos meses que já têm linhas na default.
+-- Chamada periodicamente pelo CreditoParticaoMaintainer de cada réplica; o advisory lock deixa uma por vez
+CREATE FUNCTION criar_particoes_credito(inicio DATE, fim DATE) RETURNS INTEGER AS
+$$
+DECLARE
+    mes     DATE;
+    criadas INTEGER := 0;
+BEGIN
+    IF NOT pg_try_advisory_xact_lock(hashtext('criar_particoes_credito')) THEN
+        RETURN 0;
+    END IF;
+    FOR mes IN
+        SELECT generate_series(date_trunc('month', inicio), (fim - 1)::TIMESTAMP, INTERVAL '1 month')::DATE
+        UNION
+        SELECT DISTINCT date_trunc('month', data_constituicao)::DATE FROM credito_default
+    LOOP
+        IF criar_particao_credito(mes) THEN
+            criadas := criadas + 1;
+        END IF;
+    END LOOP;
+    RETURN criadas;
+END;
+$$ LANGUAGE plpgsql;
+
+SELECT criar_particoes_credito('2020-01-01', (date_trunc('year', CURRENT_DATE) + INTERVAL '2 years')::DATE);
+
+INSERT INTO credito (id, numero_credito, numero_nfse, data_constituicao, valor_issqn, tipo_credito, simples_nacional,
+                     aliquota, valor_faturado, valor_deducao, base_calculo)
+SELECT id, numero_credito, numero_nfse, data_constituicao, valor_issqn, tipo_credito, simples_nacional,
+       aliquota, valor_faturado, valor_deducao, base_calculo
+FROM credito_legado;
+
+INSERT INTO credito_numero (numero_credito, data_constituicao)
+SELECT numero_credito, data_constituicao
+FROM credito_legado;
+
+SELECT setval(pg_get_serial_sequence('credito', 'id'), GREATEST((SELECT MAX(id) FROM credito), 1));
+
+DROP TABLE credito_legado;
+
+ALTER TABLE credito ADD PRIMARY KEY (id, data_constituicao);
+ALTER TABLE credito_numero ADD PRIMARY KEY (numero_credito) INCLUDE (data_constituicao);
+
+-- Índices de cobertura: as consultas por NFS-e e por número leem todas as colunas do CreditoDTO do próprio índice
+CREATE UNIQUE INDEX uk_credito_numero_credito ON credito (numero_credito, data_constituicao)
+    INCLUDE (numero_nfse, valor_issqn, tipo_credito, simples_nacional, aliquota, valor_faturado, valor_deducao,
+             base_calculo);
+CREATE INDEX idx_credito_numero_nfse ON credito (numero_nfse)
+    INCLUDE (numero_credito, data_constituicao, valor_issqn, tipo_credito, simples_nacional, aliquota,
+             valor_faturado, valor_deducao, base_calculo);
+CREATE INDEX idx_credito_tipo_simples_id ON credito (tipo_credito, simples_nacional, id);
+CREATE INDEX idx_credito_data_constituicao_id ON credito (data_constituicao, id);
+
+CREATE FUNCTION sincronizar_credito_numero() RETURNS TRIGGER AS
+$$
+BEGIN
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+        DELETE FROM credito_numero WHERE numero_credito = OLD.numero_credito;
+    END IF;
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        INSERT INTO credito_numero (numero_credito, data_constituicao)
+        VALUES (NEW.numero_credito, NEW.data_constituicao);
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- A violação de chave primária em credito_numero desfaz a gravação de um numero_credito duplicado. A atualização
+-- só mexe em credito_numero quando a chave muda de fato: o upsert da ingestão reescreve data_constituicao mesmo
+-- quando o valor é o mesmo
+CREATE TRIGGER trg_credito_numero
+    AFTER INSERT OR DELETE ON credito
+    FOR EACH ROW EXECUTE FUNCTION sincronizar_credito_numero();
+CREATE TRIGGER trg_credito_numero_update
+    AFTER UPDATE OF numero_credito, data_constituicao ON credito
+    FOR EACH ROW
+    WHEN (OLD.numero_credito IS DISTINCT FROM NEW.numero_credito
+        OR OLD.data_constituicao IS DISTINCT FROM NEW.data_constituicao)
+    EXECUTE FUNCTION sincronizar_credito_numero();
@@ -0,0 +1,15 @@
+CREATE MATERIALIZED VIEW credito_resumo_mensal AS
+SELECT tipo_credito,
+       simples_nacional,
+       date_trunc('month', data_constituicao)::DATE AS mes,
+       COUNT(*)                                     AS quantidade,
+       SUM(valor_issqn)                             AS total_valor_issqn,
+       SUM(valor_faturado)                          AS total_valor_faturado,
+       SUM(valor_deducao)                           AS total_valor_deducao,
+       SUM(base_calculo)                            AS total_base_calculo,
+       SUM(aliquota)                                AS soma_aliquota
+FROM credito
+GROUP BY tipo_credito, simples_nacional, date_trunc('month', data_constituicao)::DATE;
+
+-- Necessário para REFRESH MATERIALIZED VIEW CONCURRENTLY, que não bloqueia as leituras durante a atualização
+CREATE UNIQUE INDEX uk_credito_resumo_mensal ON credito_resumo_mensal (mes, tipo_credito, simples_nacional);
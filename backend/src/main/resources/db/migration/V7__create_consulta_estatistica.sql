@@ -0,0 +1,19 @@
+-- Uma linha por tipo de consulta e minuto, alimentada em lote pelo consumidor de consulta-credito-topic
+CREATE TABLE consulta_estatistica
+(
+    tipo_consulta       VARCHAR(30) NOT NULL,
+    minuto              TIMESTAMP   NOT NULL,
+    total               BIGINT      NOT NULL,
+    encontradas         BIGINT      NOT NULL,
+    nao_encontradas     BIGINT      NOT NULL,
+    falhas              BIGINT      NOT NULL,
+    soma_resultados     BIGINT      NOT NULL,
+    resultados_0        BIGINT      NOT NULL,
+    resultados_1        BIGINT      NOT NULL,
+    resultados_2_10     BIGINT      NOT NULL,
+    resultados_11_100   BIGINT      NOT NULL,
+    resultados_101_mais BIGINT      NOT NULL,
+    PRIMARY KEY (tipo_consulta, minuto)
+);
+
+CREATE INDEX idx_consulta_estatistica_minuto ON consulta_estatistica (minuto);
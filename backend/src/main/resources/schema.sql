@@ -11,5 +11,6 @@ CREATE TABLE IF NOT EXISTS credito
     valor_faturado    DECIMAL(15, 2) NOT NULL,
     valor_deducao     DECIMAL(15, 2) NOT NULL,
     base_calculo      DECIMAL(15, 2) NOT NULL,
-    PRIMARY KEY (id)
+    PRIMARY KEY (id),
+    CONSTRAINT uk_credito_numero_credito UNIQUE (numero_credito)
 );
@@ -0,0 +1,154 @@
+package com.creditoapi.application.service;
+
+import com.creditoapi.application.dto.ConsultaEventDTO;
+import com.creditoapi.application.dto.CreditoDTO;
+import com.creditoapi.application.mapper.CreditoMapper;
+import com.creditoapi.application.service.impl.CreditoServiceImpl;
+import com.creditoapi.domain.repository.CreditoRepository;
+import com.creditoapi.infrastructure.cache.impl.NoOpCreditoCache;
+import com.creditoapi.infrastructure.messaging.ConsultaCreditoPublisher;
+import com.creditoapi.infrastructure.metrics.ConsultaMetrics;
+import com.creditoapi.infrastructure.persistence.CreditoProjectionRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.RepeatedTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("CreditoService - consultas concorrentes")
+class CreditoServiceConcurrencyTest {
+
+    private static final int CHAMADORES = 64;
+
+    private CreditoProjectionRepository projectionRepository;
+    private ConsultaCreditoPublisher consultaPublisher;
+    private SimpleMeterRegistry meterRegistry;
+    private CreditoServiceImpl creditoService;
+    private ExecutorService executor;
+    private CreditoDTO creditoDTO;
+
+    @BeforeEach
+    void setUp() {
+        projectionRepository = mock(CreditoProjectionRepository.class);
+        consultaPublisher = mock(ConsultaCreditoPublisher.class);
+        meterRegistry = new SimpleMeterRegistry();
+        // Sem cache, para que a única coalescência possível seja a do próprio serviço
+        creditoService = new CreditoServiceImpl(mock(CreditoRepository.class), projectionRepository,
+                new CreditoMapper(), consultaPublisher, new NoOpCreditoCache(), mock(EntityManager.class),
+                new ConsultaMetrics(meterRegistry));
+        executor = Executors.newFixedThreadPool(CHAMADORES);
+
+        creditoDTO = CreditoDTO.builder()
+                .numeroCredito("123456")
+                .numeroNfse("7891011")
+                .dataConstituicao(LocalDate.of(2024, 2, 25))
+                .valorIssqn(new BigDecimal("1500.75"))
+                .tipoCredito("ISSQN")
+                .simplesNacional("Sim")
+                .aliquota(new BigDecimal("5.0"))
+                .valorFaturado(new BigDecimal("30000.00"))
+                .valorDeducao(new BigDecimal("5000.00"))
+                .baseCalculo(new BigDecimal("25000.00"))
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @RepeatedTest(10)
+    @DisplayName("Deve executar uma única consulta ao banco para N requisições simultâneas pela mesma NFS-e")
+    void findByNumeroNfse_WhenConcurrentIdenticalRequests_ShouldQueryOnce() throws Exception {
+        AtomicInteger consultas = new AtomicInteger();
+        CountDownLatch consultaIniciada = new CountDownLatch(1);
+        CountDownLatch liberarConsulta = new CountDownLatch(1);
+        when(projectionRepository.findDTOByNumeroNfse("7891011")).thenAnswer(invocation -> {
+            consultas.incrementAndGet();
+            consultaIniciada.countDown();
+            liberarConsulta.await(10, TimeUnit.SECONDS);
+            return List.of(creditoDTO);
+        });
+
+        CyclicBarrier largada = new CyclicBarrier(CHAMADORES);
+        List<Future<List<CreditoDTO>>> resultados = new ArrayList<>();
+        for (int i = 0; i < CHAMADORES; i++) {
+            resultados.add(executor.submit(() -> {
+                largada.await(10, TimeUnit.SECONDS);
+                return creditoService.findByNumeroNfse("7891011");
+            }));
+        }
+
+        assertThat(consultaIniciada.await(10, TimeUnit.SECONDS)).isTrue();
+        // Mantém a consulta em andamento até que todos os demais chamadores tenham se juntado a ela
+        aguardar(() -> coalescidas("NFSE") == CHAMADORES - 1);
+        liberarConsulta.countDown();
+
+        for (Future<List<CreditoDTO>> resultado : resultados) {
+            assertThat(resultado.get(10, TimeUnit.SECONDS)).containsExactly(creditoDTO);
+        }
+        assertThat(consultas).hasValue(1);
+        verify(projectionRepository, times(1)).findDTOByNumeroNfse("7891011");
+        verify(consultaPublisher, times(CHAMADORES)).publish(any(ConsultaEventDTO.class));
+    }
+
+    @RepeatedTest(10)
+    @DisplayName("Deve executar uma única consulta ao banco para N requisições simultâneas pelo mesmo crédito")
+    void findByNumeroCredito_WhenConcurrentIdenticalRequests_ShouldQueryOnce() throws Exception {
+        AtomicInteger consultas = new AtomicInteger();
+        CountDownLatch liberarConsulta = new CountDownLatch(1);
+        when(projectionRepository.findDTOByNumeroCredito("000000")).thenAnswer(invocation -> {
+            consultas.incrementAndGet();
+            liberarConsulta.await(10, TimeUnit.SECONDS);
+            return Optional.empty();
+        });
+
+        List<Future<Optional<CreditoDTO>>> resultados = new ArrayList<>();
+        for (int i = 0; i < CHAMADORES; i++) {
+            resultados.add(executor.submit(() -> creditoService.findByNumeroCredito("000000")));
+        }
+
+        aguardar(() -> coalescidas("CREDITO") == CHAMADORES - 1);
+        liberarConsulta.countDown();
+
+        for (Future<Optional<CreditoDTO>> resultado : resultados) {
+            assertThat(resultado.get(10, TimeUnit.SECONDS)).isEmpty();
+        }
+        assertThat(consultas).hasValue(1);
+        verify(consultaPublisher, times(CHAMADORES)).publish(any(ConsultaEventDTO.class));
+    }
+
+    private double coalescidas(String tipoConsulta) {
+        return meterRegistry.counter("consulta.coalescida", ConsultaMetrics.TAG_TIPO_CONSULTA, tipoConsulta).count();
+    }
+
+    private static void aguardar(BooleanSupplier condicao) throws InterruptedException {
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condicao.getAsBoolean()) {
+            assertThat(System.nanoTime() - limite).as("tempo esgotado aguardando os chamadores").isNegative();
+            Thread.sleep(5);
+        }
+    }
+}
@@ -1,27 +1,47 @@
 package com.creditoapi.application.service;
 
+import com.creditoapi.application.dto.BatchConsultaResponseDTO;
+import com.creditoapi.application.dto.ConsultaEventDTO;
 import com.creditoapi.application.dto.CreditoDTO;
+import com.creditoapi.application.dto.CreditoFiltroDTO;
+import com.creditoapi.application.dto.ListagemCreditoResponseDTO;
 import com.creditoapi.application.mapper.CreditoMapper;
 import com.creditoapi.application.service.impl.CreditoServiceImpl;
 import com.creditoapi.domain.entity.Credito;
 import com.creditoapi.domain.repository.CreditoRepository;
+import com.creditoapi.infrastructure.cache.CreditoCache;
+import com.creditoapi.infrastructure.cache.impl.NoOpCreditoCache;
 import com.creditoapi.infrastructure.messaging.ConsultaCreditoPublisher;
+import com.creditoapi.infrastructure.metrics.ConsultaMetrics;
+import com.creditoapi.infrastructure.persistence.CreditoProjectionRepository;
+import com.creditoapi.infrastructure.warmup.WarmupContext;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,12 +51,26 @@ class CreditoServiceTest {
     @Mock
     private CreditoRepository creditoRepository;
 
+    @Mock
+    private CreditoProjectionRepository projectionRepository;
+
     @Mock
     private CreditoMapper creditoMapper;
 
     @Mock
     private ConsultaCreditoPublisher consultaPublisher;
 
+    @Spy
+    private CreditoCache creditoCache = new NoOpCreditoCache();
+
+    @Mock
+    private EntityManager entityManager;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private ConsultaMetrics consultaMetrics = new ConsultaMetrics(meterRegistry);
+
     @InjectMocks
     private CreditoServiceImpl creditoService;
 
@@ -77,11 +111,9 @@ class CreditoServiceTest {
     @DisplayName("Deve retornar lista de créditos quando buscar por NFS-e existente")
     void findByNumeroNfse_WhenNfseExists_ShouldReturnCreditoList() {
         String numeroNfse = "7891011";
-        List<Credito> creditos = List.of(credito);
         List<CreditoDTO> creditoDTOs = List.of(creditoDTO);
 
-        when(creditoRepository.findByNumeroNfse(numeroNfse)).thenReturn(creditos);
-        when(creditoMapper.toDTOList(creditos)).thenReturn(creditoDTOs);
+        when(projectionRepository.findDTOByNumeroNfse(numeroNfse)).thenReturn(creditoDTOs);
         doNothing().when(consultaPublisher).publish(any());
 
         List<CreditoDTO> result = creditoService.findByNumeroNfse(numeroNfse);
@@ -91,25 +123,38 @@ class CreditoServiceTest {
         assertThat(result.getFirst().numeroCredito()).isEqualTo("123456");
         assertThat(result.getFirst().numeroNfse()).isEqualTo("7891011");
 
-        verify(creditoRepository, times(1)).findByNumeroNfse(numeroNfse);
-        verify(creditoMapper, times(1)).toDTOList(creditos);
+        verify(projectionRepository, times(1)).findDTOByNumeroNfse(numeroNfse);
+        verify(creditoRepository, never()).findByNumeroNfse(any());
+        verifyNoInteractions(creditoMapper);
         verify(consultaPublisher, times(1)).publish(any());
     }
 
+    @Test
+    @DisplayName("Não deve publicar evento de consulta para as consultas do aquecimento")
+    void findByNumeroNfse_WhenWarmupActive_ShouldNotPublishEvent() {
+        String numeroNfse = "7891011";
+        when(projectionRepository.findDTOByNumeroNfse(numeroNfse)).thenReturn(List.of(creditoDTO));
+
+        List<CreditoDTO> result = WarmupContext.executar(() -> creditoService.findByNumeroNfse(numeroNfse));
+
+        assertThat(result).hasSize(1);
+        verifyNoInteractions(consultaPublisher);
+        assertThat(meterRegistry.find("consulta.resultados").summaries()).isEmpty();
+    }
+
     @Test
     @DisplayName("Deve retornar lista vazia quando NFS-e não existe")
     void findByNumeroNfse_WhenNfseNotExists_ShouldReturnEmptyList() {
         String numeroNfse = "999999";
 
-        when(creditoRepository.findByNumeroNfse(numeroNfse)).thenReturn(Collections.emptyList());
-        when(creditoMapper.toDTOList(Collections.emptyList())).thenReturn(Collections.emptyList());
+        when(projectionRepository.findDTOByNumeroNfse(numeroNfse)).thenReturn(Collections.emptyList());
         doNothing().when(consultaPublisher).publish(any());
 
         List<CreditoDTO> result = creditoService.findByNumeroNfse(numeroNfse);
 
         assertThat(result).isEmpty();
 
-        verify(creditoRepository, times(1)).findByNumeroNfse(numeroNfse);
+        verify(projectionRepository, times(1)).findDTOByNumeroNfse(numeroNfse);
         verify(consultaPublisher, times(1)).publish(any());
     }
 
@@ -118,8 +163,7 @@ class CreditoServiceTest {
     void findByNumeroCredito_WhenCreditoExists_ShouldReturnCredito() {
         String numeroCredito = "123456";
 
-        when(creditoRepository.findByNumeroCredito(numeroCredito)).thenReturn(Optional.of(credito));
-        when(creditoMapper.toDTO(credito)).thenReturn(creditoDTO);
+        when(projectionRepository.findDTOByNumeroCredito(numeroCredito)).thenReturn(Optional.of(creditoDTO));
         doNothing().when(consultaPublisher).publish(any());
 
         Optional<CreditoDTO> result = creditoService.findByNumeroCredito(numeroCredito);
@@ -129,8 +173,8 @@ class CreditoServiceTest {
         assertThat(result.get().valorIssqn()).isEqualTo(new BigDecimal("1500.75"));
         assertThat(result.get().simplesNacional()).isEqualTo("Sim");
 
-        verify(creditoRepository, times(1)).findByNumeroCredito(numeroCredito);
-        verify(creditoMapper, times(1)).toDTO(credito);
+        verify(projectionRepository, times(1)).findDTOByNumeroCredito(numeroCredito);
+        verifyNoInteractions(creditoMapper);
         verify(consultaPublisher, times(1)).publish(any());
     }
 
@@ -139,15 +183,131 @@ class CreditoServiceTest {
     void findByNumeroCredito_WhenCreditoNotExists_ShouldReturnEmpty() {
         String numeroCredito = "999999";
 
-        when(creditoRepository.findByNumeroCredito(numeroCredito)).thenReturn(Optional.empty());
+        when(projectionRepository.findDTOByNumeroCredito(numeroCredito)).thenReturn(Optional.empty());
         doNothing().when(consultaPublisher).publish(any());
 
         Optional<CreditoDTO> result = creditoService.findByNumeroCredito(numeroCredito);
 
         assertThat(result).isEmpty();
 
-        verify(creditoRepository, times(1)).findByNumeroCredito(numeroCredito);
+        verify(projectionRepository, times(1)).findDTOByNumeroCredito(numeroCredito);
         verify(creditoMapper, never()).toDTO(any());
         verify(consultaPublisher, times(1)).publish(any());
     }
+
+    @Test
+    @DisplayName("Deve publicar evento sem sucesso e propagar a exceção quando a consulta falhar")
+    void findByNumeroCredito_WhenRepositoryFails_ShouldPublishFailureAndRethrow() {
+        IllegalStateException falha = new IllegalStateException("banco indisponível");
+        when(projectionRepository.findDTOByNumeroCredito("123456")).thenThrow(falha);
+
+        assertThatThrownBy(() -> creditoService.findByNumeroCredito("123456")).isSameAs(falha);
+
+        ArgumentCaptor<ConsultaEventDTO> eventCaptor = ArgumentCaptor.forClass(ConsultaEventDTO.class);
+        verify(consultaPublisher, times(1)).publish(eventCaptor.capture());
+        assertThat(eventCaptor.getValue().tipoConsulta()).isEqualTo("CREDITO");
+        assertThat(eventCaptor.getValue().parametroConsulta()).isEqualTo("123456");
+        assertThat(eventCaptor.getValue().sucesso()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve buscar lote com uma consulta por tipo e publicar um único evento agregado")
+    void findBatch_ShouldQueryOncePerKeyTypeAndPublishSingleEvent() {
+        List<CreditoDTO> creditoDTOs = List.of(creditoDTO);
+
+        when(projectionRepository.findDTOByNumeroNfseIn(anyCollection())).thenReturn(creditoDTOs);
+        when(projectionRepository.findDTOByNumeroCreditoIn(anyCollection())).thenReturn(creditoDTOs);
+
+        BatchConsultaResponseDTO result = creditoService.findBatch(
+                List.of("7891011", "999999", "7891011"), List.of("123456", "000000"));
+
+        assertThat(result.creditosPorNfse()).containsOnlyKeys("7891011");
+        assertThat(result.creditosPorNfse().get("7891011")).containsExactly(creditoDTO);
+        assertThat(result.nfseNaoEncontradas()).containsExactly("999999");
+        assertThat(result.creditosPorNumero()).containsOnlyKeys("123456");
+        assertThat(result.creditosNaoEncontrados()).containsExactly("000000");
+
+        verify(projectionRepository, times(1)).findDTOByNumeroNfseIn(List.of("7891011", "999999"));
+        verify(projectionRepository, times(1)).findDTOByNumeroCreditoIn(List.of("123456", "000000"));
+
+        ArgumentCaptor<ConsultaEventDTO> eventCaptor = ArgumentCaptor.forClass(ConsultaEventDTO.class);
+        verify(consultaPublisher, times(1)).publish(eventCaptor.capture());
+        assertThat(eventCaptor.getValue().tipoConsulta()).isEqualTo("BATCH");
+        assertThat(eventCaptor.getValue().quantidadeResultados()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Deve dividir lotes grandes em consultas de tamanho limitado")
+    void findBatch_WhenManyKeys_ShouldQueryInChunks() {
+        List<String> numerosNfse = IntStream.range(0, 1200)
+                .mapToObj(String::valueOf)
+                .toList();
+
+        when(projectionRepository.findDTOByNumeroNfseIn(anyCollection())).thenReturn(Collections.emptyList());
+
+        BatchConsultaResponseDTO result = creditoService.findBatch(numerosNfse, Set.of());
+
+        assertThat(result.nfseNaoEncontradas()).hasSize(1200);
+        verify(projectionRepository, times(3)).findDTOByNumeroNfseIn(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Deve retornar o próximo cursor quando houver mais créditos que o tamanho da página")
+    void listar_WhenMoreRecordsThanPageSize_ShouldReturnNextCursor() {
+        Credito credito2 = Credito.builder().id(2L).numeroCredito("789012").build();
+        Credito credito3 = Credito.builder().id(3L).numeroCredito("654321").build();
+        CreditoFiltroDTO filtro = CreditoFiltroDTO.builder().tipoCredito("ISSQN").build();
+        when(creditoRepository.findPagina(0L, "ISSQN", null, null, null, Limit.of(3)))
+                .thenReturn(List.of(credito, credito2, credito3));
+        when(creditoMapper.toDTOList(List.of(credito, credito2))).thenReturn(List.of(creditoDTO, creditoDTO));
+
+        ListagemCreditoResponseDTO result = creditoService.listar(filtro, 0L, 2);
+
+        assertThat(result.creditos()).hasSize(2);
+        assertThat(result.possuiMais()).isTrue();
+        assertThat(result.proximoCursor()).isEqualTo(2L);
+        verify(consultaPublisher).publish(any(ConsultaEventDTO.class));
+    }
+
+    @Test
+    @DisplayName("Deve indicar a última página quando não houver mais créditos")
+    void listar_WhenLastPage_ShouldReturnNullCursor() {
+        CreditoFiltroDTO filtro = CreditoFiltroDTO.builder().build();
+        when(creditoRepository.findPagina(1L, null, null, null, null, Limit.of(3))).thenReturn(List.of());
+        when(creditoMapper.toDTOList(List.of())).thenReturn(List.of());
+
+        ListagemCreditoResponseDTO result = creditoService.listar(filtro, 1L, 2);
+
+        assertThat(result.creditos()).isEmpty();
+        assertThat(result.possuiMais()).isFalse();
+        assertThat(result.proximoCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("Deve exportar cada crédito e desanexá-lo do contexto de persistência")
+    void exportar_ShouldWriteEachRecordAndDetachEntity() {
+        CreditoFiltroDTO filtro = CreditoFiltroDTO.builder().simplesNacional(true).build();
+        when(creditoRepository.streamAll(0L, null, true, null, null)).thenReturn(Stream.of(credito));
+        when(creditoMapper.toDTO(credito)).thenReturn(creditoDTO);
+        List<CreditoDTO> exportados = new ArrayList<>();
+
+        long quantidade = creditoService.exportar(filtro, exportados::add);
+
+        assertThat(quantidade).isEqualTo(1);
+        assertThat(exportados).containsExactly(creditoDTO);
+        verify(entityManager).detach(credito);
+    }
+
+    @Test
+    @DisplayName("Deve registrar tempo de repositório e tamanho do resultado por tipo de consulta")
+    void findByNumeroNfse_ShouldRecordMetricsTaggedByTipoConsulta() {
+        when(projectionRepository.findDTOByNumeroNfse("7891011")).thenReturn(List.of(creditoDTO));
+
+        creditoService.findByNumeroNfse("7891011");
+
+        assertThat(meterRegistry.get("consulta.repository").tag("tipoConsulta", "NFSE").timer().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("consulta.resultados").tag("tipoConsulta", "NFSE").summary().totalAmount())
+                .isEqualTo(1);
+    }
 }
@@ -0,0 +1,182 @@
+package com.creditoapi.application.service;
+
+import com.creditoapi.application.dto.CreditoDTO;
+import com.creditoapi.application.dto.IngestaoResultadoDTO;
+import com.creditoapi.application.service.impl.IngestaoCreditoServiceImpl;
+import com.creditoapi.infrastructure.cache.CacheInvalidationPublisher;
+import com.creditoapi.infrastructure.cache.CreditoCache;
+import com.creditoapi.infrastructure.persistence.CreditoBulkWriter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@DisplayName("IngestaoCreditoService Tests")
+class IngestaoCreditoServiceTest {
+
+    private final List<List<CreditoDTO>> lotesGravados = new ArrayList<>();
+    private final CreditoBulkWriter bulkWriter = creditos -> {
+        lotesGravados.add(List.copyOf(creditos));
+        return creditos.size();
+    };
+
+    private PlatformTransactionManager transactionManager;
+    private CreditoCache creditoCache;
+    private CacheInvalidationPublisher cacheInvalidationPublisher;
+    private SimpleMeterRegistry meterRegistry;
+    private IngestaoCreditoService ingestaoService;
+
+    @BeforeEach
+    void setUp() {
+        transactionManager = mock(PlatformTransactionManager.class);
+        creditoCache = mock(CreditoCache.class);
+        cacheInvalidationPublisher = mock(CacheInvalidationPublisher.class);
+        meterRegistry = new SimpleMeterRegistry();
+        ingestaoService = new IngestaoCreditoServiceImpl(bulkWriter, new TransactionTemplate(transactionManager),
+                List.of(creditoCache), cacheInvalidationPublisher, meterRegistry, 2, 10);
+    }
+
+    @Test
+    @DisplayName("Deve gravar em lotes com um commit por lote, invalidando as chaves gravadas a cada lote")
+    void ingerir_ShouldWriteChunksInSeparateTransactions() {
+        IngestaoResultadoDTO resultado = ingestaoService.ingerir(List.of(
+                credito("1"), credito("2"), credito("3"), credito("4"), credito("5")).iterator());
+
+        assertThat(lotesGravados).extracting(List::size).containsExactly(2, 2, 1);
+        assertThat(resultado.linhasLidas()).isEqualTo(5);
+        assertThat(resultado.linhasGravadas()).isEqualTo(5);
+        assertThat(resultado.linhasRejeitadas()).isZero();
+        assertThat(resultado.linhasPorSegundo()).isPositive();
+        verify(transactionManager, times(3)).commit(any());
+        verify(creditoCache).evict("1", "7891011");
+        verify(creditoCache).evict("5", "7891011");
+        verify(creditoCache, times(5)).evict(any(), any());
+        verify(creditoCache, never()).clear();
+        verify(cacheInvalidationPublisher).publishClear();
+    }
+
+    @Test
+    @DisplayName("Deve avisar as demais réplicas uma vez mesmo quando um lote falha no meio da carga")
+    void ingerir_WhenChunkFails_ShouldStillPublishClearOnce() {
+        CreditoBulkWriter falhaNoSegundoLote = creditos -> {
+            if (!lotesGravados.isEmpty()) {
+                throw new IllegalStateException("conexão perdida");
+            }
+            lotesGravados.add(List.copyOf(creditos));
+            return creditos.size();
+        };
+        ingestaoService = new IngestaoCreditoServiceImpl(falhaNoSegundoLote, new TransactionTemplate(transactionManager),
+                List.of(creditoCache), cacheInvalidationPublisher, meterRegistry, 2, 10);
+
+        assertThatThrownBy(() -> ingestaoService.ingerir(List.of(
+                credito("1"), credito("2"), credito("3"), credito("4")).iterator()))
+                .isInstanceOf(IllegalStateException.class);
+
+        verify(creditoCache, times(2)).evict(any(), any());
+        verify(cacheInvalidationPublisher).publishClear();
+    }
+
+    @Test
+    @DisplayName("Não deve avisar as demais réplicas quando nenhuma linha foi gravada")
+    void ingerir_WhenNothingWritten_ShouldNotPublishClear() {
+        ingestaoService.ingerir(List.of(credito("1", " ", "Sim", new BigDecimal("5.00"))).iterator());
+
+        verifyNoInteractions(creditoCache, cacheInvalidationPublisher);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar linhas inválidas sem interromper a carga")
+    void ingerir_WhenRowsAreInvalid_ShouldRejectAndContinue() {
+        CreditoDTO semNfse = credito("2", " ", "Sim", new BigDecimal("5.00"));
+        CreditoDTO aliquotaGrande = credito("3", "7891011", "Sim", new BigDecimal("1000.00"));
+        CreditoDTO simplesInvalido = credito("4", "7891011", "talvez", new BigDecimal("5.00"));
+        Iterator<CreditoDTO> linhas = comFalhaDeLeitura(List.of(credito("1"), semNfse, aliquotaGrande,
+                simplesInvalido));
+
+        IngestaoResultadoDTO resultado = ingestaoService.ingerir(linhas);
+
+        assertThat(resultado.linhasLidas()).isEqualTo(5);
+        assertThat(resultado.linhasGravadas()).isEqualTo(1);
+        assertThat(resultado.linhasRejeitadas()).isEqualTo(4);
+        assertThat(resultado.erros()).containsExactly(
+                "Registro 2: numeroNfse é obrigatório",
+                "Registro 3: aliquota excede a precisão da coluna (3 dígitos inteiros e 2 decimais)",
+                "Registro 4: simplesNacional deve ser Sim ou Não",
+                "Registro 5: linha 5: JSON inválido");
+        assertThat(meterRegistry.get("ingestao.linhas").tag("resultado", "rejeitada").counter().count())
+                .isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Deve manter apenas a última ocorrência de um número de crédito dentro do lote")
+    void ingerir_WhenNumeroCreditoRepeatsInChunk_ShouldKeepLastOccurrence() {
+        CreditoDTO atualizado = credito("1", "novo", "Sim", new BigDecimal("5.00"));
+
+        ingestaoService.ingerir(List.of(credito("1"), atualizado).iterator());
+
+        assertThat(lotesGravados).singleElement().asList().containsExactly(atualizado);
+    }
+
+    private static Iterator<CreditoDTO> comFalhaDeLeitura(Collection<CreditoDTO> creditos) {
+        Iterator<CreditoDTO> delegate = creditos.iterator();
+        return new Iterator<>() {
+            private boolean falhou;
+
+            @Override
+            public boolean hasNext() {
+                return delegate.hasNext() || !falhou;
+            }
+
+            @Override
+            public CreditoDTO next() {
+                if (delegate.hasNext()) {
+                    return delegate.next();
+                }
+                if (falhou) {
+                    throw new NoSuchElementException();
+                }
+                falhou = true;
+                throw new IllegalArgumentException("linha 5: JSON inválido");
+            }
+        };
+    }
+
+    private static CreditoDTO credito(String numeroCredito) {
+        return credito(numeroCredito, "7891011", "Sim", new BigDecimal("5.00"));
+    }
+
+    private static CreditoDTO credito(String numeroCredito, String numeroNfse, String simplesNacional,
+                                      BigDecimal aliquota) {
+        return CreditoDTO.builder()
+                .numeroCredito(numeroCredito)
+                .numeroNfse(numeroNfse)
+                .dataConstituicao(LocalDate.of(2024, 2, 25))
+                .valorIssqn(new BigDecimal("1500.75"))
+                .tipoCredito("ISSQN")
+                .simplesNacional(simplesNacional)
+                .aliquota(aliquota)
+                .valorFaturado(new BigDecimal("30000.00"))
+                .valorDeducao(new BigDecimal("5000.00"))
+                .baseCalculo(new BigDecimal("25000.00"))
+                .build();
+    }
+}
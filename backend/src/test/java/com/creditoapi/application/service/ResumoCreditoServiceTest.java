@@ -0,0 +1,93 @@
+package com.creditoapi.application.service;
+
+import com.creditoapi.application.dto.CreditoFiltroDTO;
+import com.creditoapi.application.dto.ResumoCreditoDTO;
+import com.creditoapi.application.service.impl.ResumoCreditoServiceImpl;
+import com.creditoapi.infrastructure.cache.ResumoCreditoCache;
+import com.creditoapi.infrastructure.metrics.ConsultaMetrics;
+import com.creditoapi.infrastructure.persistence.CreditoProjectionRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ResumoCreditoService Tests")
+class ResumoCreditoServiceTest {
+
+    @Mock
+    private CreditoProjectionRepository projectionRepository;
+
+    @Mock
+    private CreditoService creditoService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ResumoCreditoServiceImpl resumoService;
+
+    private final CreditoFiltroDTO filtro = CreditoFiltroDTO.builder()
+            .tipoCredito("ISSQN")
+            .dataInicio(LocalDate.of(2024, 1, 1))
+            .dataFim(LocalDate.of(2024, 12, 31))
+            .build();
+
+    private final ResumoCreditoDTO resumo = ResumoCreditoDTO.builder()
+            .tipoCredito("ISSQN")
+            .simplesNacional("Sim")
+            .mes(YearMonth.of(2024, 2))
+            .quantidade(2)
+            .totalValorIssqn(new BigDecimal("2000.00"))
+            .totalValorFaturado(new BigDecimal("40000.00"))
+            .totalValorDeducao(new BigDecimal("6000.00"))
+            .totalBaseCalculo(new BigDecimal("34000.00"))
+            .mediaValorIssqn(new BigDecimal("1000.00"))
+            .mediaAliquota(new BigDecimal("4.00"))
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        resumoService = new ResumoCreditoServiceImpl(projectionRepository,
+                new ResumoCreditoCache(meterRegistry, 100, Duration.ofMinutes(1)),
+                new ConsultaMetrics(meterRegistry), creditoService);
+    }
+
+    @Test
+    @DisplayName("Deve agregar no banco uma única vez enquanto o resumo estiver em cache")
+    void resumir_WhenCached_ShouldQueryDatabaseOnce() {
+        when(projectionRepository.resumir(filtro)).thenReturn(List.of(resumo));
+
+        assertThat(resumoService.resumir(filtro)).containsExactly(resumo);
+        assertThat(resumoService.resumir(filtro)).containsExactly(resumo);
+
+        verify(projectionRepository, times(1)).resumir(filtro);
+        verify(creditoService, times(2)).registrarConsulta("RESUMO",
+                "tipoCredito=ISSQN;simplesNacional=null;dataInicio=2024-01-01;dataFim=2024-12-31", 1);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "creditos-resumo").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve agregar separadamente filtros diferentes")
+    void resumir_WhenFilterDiffers_ShouldQueryDatabaseAgain() {
+        CreditoFiltroDTO semFiltro = CreditoFiltroDTO.builder().build();
+        when(projectionRepository.resumir(any())).thenReturn(List.of(resumo));
+
+        resumoService.resumir(filtro);
+        resumoService.resumir(semFiltro);
+
+        verify(projectionRepository).resumir(filtro);
+        verify(projectionRepository).resumir(semFiltro);
+    }
+}
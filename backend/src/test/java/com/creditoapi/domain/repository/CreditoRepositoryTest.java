@@ -7,12 +7,14 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -123,4 +125,53 @@ class CreditoRepositoryTest {
         assertThat(result.get(0).getNumeroCredito()).isEqualTo("654321");
         assertThat(result.get(0).getTipoCredito()).isEqualTo("Outros");
     }
+
+    @Test
+    @DisplayName("Deve paginar por cursor em ordem de id respeitando o limite")
+    void findPagina_WhenCursorInformed_ShouldReturnNextRecordsOrderedById() {
+        List<Credito> primeira = creditoRepository.findPagina(0L, null, null, null, null, Limit.of(2));
+        List<Credito> segunda = creditoRepository.findPagina(
+                primeira.get(1).getId(), null, null, null, null, Limit.of(2));
+
+        assertThat(primeira).extracting(Credito::getNumeroCredito).containsExactly("123456", "789012");
+        assertThat(segunda).extracting(Credito::getNumeroCredito).containsExactly("654321");
+    }
+
+    @Test
+    @DisplayName("Deve aplicar os filtros de tipo, Simples Nacional e período na listagem")
+    void findPagina_WhenFiltersInformed_ShouldReturnOnlyMatchingRecords() {
+        List<Credito> porTipo = creditoRepository.findPagina(0L, "ISSQN", true, null, null, Limit.of(10));
+        List<Credito> porPeriodo = creditoRepository.findPagina(0L, null, null,
+                LocalDate.of(2024, 2, 1), LocalDate.of(2024, 2, 25), Limit.of(10));
+
+        assertThat(porTipo).extracting(Credito::getNumeroCredito).containsExactly("123456");
+        assertThat(porPeriodo).extracting(Credito::getNumeroCredito).containsExactly("123456");
+    }
+
+    @Test
+    @DisplayName("Deve exportar em stream os créditos que atendem ao filtro")
+    void streamAll_WhenFilterInformed_ShouldStreamMatchingRecords() {
+        try (Stream<Credito> result = creditoRepository.streamAll(0L, null, true, null, null)) {
+            assertThat(result).extracting(Credito::getNumeroCredito).containsExactly("123456", "654321");
+        }
+    }
+
+    @Test
+    @DisplayName("Deve alterar e remover crédito cuja data de constituição (chave de partição) mudou")
+    void save_WhenDataConstituicaoChanges_ShouldUseLoadedPartitionKey() {
+        Credito credito = creditoRepository.findByNumeroCredito("654321").orElseThrow();
+        credito.setDataConstituicao(LocalDate.of(2025, 3, 10));
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(creditoRepository.findByNumeroCredito("654321"))
+                .get()
+                .extracting(Credito::getDataConstituicao)
+                .isEqualTo(LocalDate.of(2025, 3, 10));
+
+        creditoRepository.delete(creditoRepository.findByNumeroCredito("654321").orElseThrow());
+        entityManager.flush();
+
+        assertThat(creditoRepository.findByNumeroCredito("654321")).isEmpty();
+    }
 }
@@ -0,0 +1,208 @@
+package com.creditoapi.infrastructure.cache.impl;
+
+import com.creditoapi.application.dto.CreditoDTO;
+import com.creditoapi.domain.event.CreditoAlteradoEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CaffeineCreditoCache Tests")
+class CaffeineCreditoCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private CaffeineCreditoCache creditoCache;
+    private CreditoDTO creditoDTO;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        creditoCache = new CaffeineCreditoCache(meterRegistry, 100, Duration.ofMinutes(10), Duration.ofSeconds(30));
+
+        creditoDTO = CreditoDTO.builder()
+                .numeroCredito("123456")
+                .numeroNfse("7891011")
+                .dataConstituicao(LocalDate.of(2024, 2, 25))
+                .valorIssqn(new BigDecimal("1500.75"))
+                .tipoCredito("ISSQN")
+                .simplesNacional("Sim")
+                .aliquota(new BigDecimal("5.0"))
+                .valorFaturado(new BigDecimal("30000.00"))
+                .valorDeducao(new BigDecimal("5000.00"))
+                .baseCalculo(new BigDecimal("25000.00"))
+                .build();
+    }
+
+    @Test
+    @DisplayName("Deve consultar o loader apenas uma vez para a mesma NFS-e")
+    void getByNumeroNfse_WhenCalledTwice_ShouldLoadOnce() {
+        AtomicInteger carregamentos = new AtomicInteger();
+
+        creditoCache.getByNumeroNfse("7891011", chave -> {
+            carregamentos.incrementAndGet();
+            return List.of(creditoDTO);
+        });
+        List<CreditoDTO> result = creditoCache.getByNumeroNfse("7891011", chave -> {
+            carregamentos.incrementAndGet();
+            return List.of(creditoDTO);
+        });
+
+        assertThat(result).containsExactly(creditoDTO);
+        assertThat(carregamentos).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Deve armazenar resultados negativos")
+    void getByNumeroCredito_WhenNotFound_ShouldCacheNegativeResult() {
+        AtomicInteger carregamentos = new AtomicInteger();
+
+        creditoCache.getByNumeroCredito("999999", chave -> {
+            carregamentos.incrementAndGet();
+            return Optional.empty();
+        });
+        Optional<CreditoDTO> result = creditoCache.getByNumeroCredito("999999", chave -> {
+            carregamentos.incrementAndGet();
+            return Optional.empty();
+        });
+
+        assertThat(result).isEmpty();
+        assertThat(carregamentos).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Deve invalidar as entradas do crédito alterado, inclusive em outra NFS-e")
+    void onCreditoAlterado_ShouldEvictEntriesContainingCredito() {
+        creditoCache.getByNumeroNfse("7891011", chave -> List.of(creditoDTO));
+        creditoCache.getByNumeroCredito("123456", chave -> Optional.of(creditoDTO));
+
+        creditoCache.onCreditoAlterado(new CreditoAlteradoEvent("123456", "5555555"));
+
+        AtomicInteger carregamentos = new AtomicInteger();
+        creditoCache.getByNumeroNfse("7891011", chave -> {
+            carregamentos.incrementAndGet();
+            return Collections.emptyList();
+        });
+        creditoCache.getByNumeroCredito("123456", chave -> {
+            carregamentos.incrementAndGet();
+            return Optional.empty();
+        });
+
+        assertThat(carregamentos).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Deve manter no índice por crédito apenas as NFS-e ainda em cache")
+    void evict_ShouldRemoveInvalidatedNfseFromIndex() {
+        CreditoDTO outroCredito = CreditoDTO.builder()
+                .numeroCredito("654321")
+                .numeroNfse("7891011")
+                .dataConstituicao(LocalDate.of(2024, 2, 26))
+                .valorIssqn(new BigDecimal("800.00"))
+                .tipoCredito("Outros")
+                .simplesNacional("Não")
+                .aliquota(new BigDecimal("4.0"))
+                .valorFaturado(new BigDecimal("20000.00"))
+                .valorDeducao(BigDecimal.ZERO)
+                .baseCalculo(new BigDecimal("20000.00"))
+                .build();
+        creditoCache.getByNumeroNfse("7891011", chave -> List.of(creditoDTO, outroCredito));
+        creditoCache.getAllByNumeroNfse(List.of("1122334"), chaves -> Map.of("1122334", List.of(outroCredito)));
+        creditoCache.getByNumeroNfse("0000000", chave -> Collections.emptyList());
+
+        assertThat(creditoCache.nfsesIndexadas()).isEqualTo(2);
+
+        creditoCache.evict("654321", "9999999");
+
+        assertThat(creditoCache.nfsesIndexadas()).isZero();
+        AtomicInteger carregamentos = new AtomicInteger();
+        creditoCache.getByNumeroNfse("7891011", chave -> {
+            carregamentos.incrementAndGet();
+            return List.of(creditoDTO);
+        });
+        assertThat(carregamentos).hasValue(1);
+        assertThat(creditoCache.nfsesIndexadas()).isEqualTo(1);
+
+        creditoCache.clear();
+
+        assertThat(creditoCache.nfsesIndexadas()).isZero();
+    }
+
+    @Test
+    @DisplayName("Não deve armazenar resultados em lote lidos antes de uma invalidação concorrente")
+    void getAll_WhenEvictedDuringBulkLoad_ShouldNotStoreStaleResults() {
+        // A invalidação chega enquanto a consulta em lote ainda está no banco
+        Map<String, List<CreditoDTO>> porNfse = creditoCache.getAllByNumeroNfse(List.of("7891011"), chaves -> {
+            creditoCache.evict("123456", "7891011");
+            return Map.of("7891011", List.of(creditoDTO));
+        });
+        Map<String, Optional<CreditoDTO>> porNumero = creditoCache.getAllByNumeroCredito(List.of("123456"), chaves -> {
+            creditoCache.evict("123456", "7891011");
+            return Map.of("123456", Optional.of(creditoDTO));
+        });
+
+        assertThat(porNfse).containsEntry("7891011", List.of(creditoDTO));
+        assertThat(porNumero).containsEntry("123456", Optional.of(creditoDTO));
+        assertThat(creditoCache.nfsesIndexadas()).isZero();
+
+        AtomicInteger carregamentos = new AtomicInteger();
+        creditoCache.getAllByNumeroNfse(List.of("7891011"), chaves -> {
+            carregamentos.incrementAndGet();
+            return Map.of("7891011", Collections.emptyList());
+        });
+        creditoCache.getAllByNumeroCredito(List.of("123456"), chaves -> {
+            carregamentos.incrementAndGet();
+            return Map.of("123456", Optional.empty());
+        });
+        assertThat(carregamentos).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Deve carregar em lote só as chaves ausentes e armazená-las")
+    void getAll_ShouldLoadOnlyMissingKeys() {
+        creditoCache.getByNumeroCredito("123456", chave -> Optional.of(creditoDTO));
+
+        Map<String, Optional<CreditoDTO>> result = creditoCache.getAllByNumeroCredito(List.of("123456", "999999"),
+                chaves -> {
+                    assertThat(chaves).containsExactly("999999");
+                    return Map.of("999999", Optional.empty());
+                });
+        Map<String, Optional<CreditoDTO>> repetido = creditoCache.getAllByNumeroCredito(List.of("123456", "999999"),
+                chaves -> {
+                    throw new AssertionError("Não deveria consultar de novo");
+                });
+
+        assertThat(result).containsExactly(Map.entry("123456", Optional.of(creditoDTO)),
+                Map.entry("999999", Optional.empty()));
+        assertThat(repetido).isEqualTo(result);
+    }
+
+    @Test
+    @DisplayName("Deve expor contadores de hit e miss no MeterRegistry")
+    void getByNumeroNfse_ShouldRecordHitAndMissMetrics() {
+        creditoCache.getByNumeroNfse("7891011", chave -> List.of(creditoDTO));
+        creditoCache.getByNumeroNfse("7891011", chave -> List.of(creditoDTO));
+
+        double hits = meterRegistry.get("cache.gets")
+                .tag("cache", CaffeineCreditoCache.NFSE_CACHE)
+                .tag("result", "hit")
+                .functionCounter().count();
+        double misses = meterRegistry.get("cache.gets")
+                .tag("cache", CaffeineCreditoCache.NFSE_CACHE)
+                .tag("result", "miss")
+                .functionCounter().count();
+
+        assertThat(hits).isEqualTo(1);
+        assertThat(misses).isEqualTo(1);
+    }
+}
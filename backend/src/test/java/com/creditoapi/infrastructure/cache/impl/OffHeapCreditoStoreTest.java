@@ -0,0 +1,136 @@
+package com.creditoapi.infrastructure.cache.impl;
+
+import com.creditoapi.application.dto.CreditoDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("OffHeapCreditoStore Tests")
+class OffHeapCreditoStoreTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private OffHeapCreditoStore store;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        store = new OffHeapCreditoStore(meterRegistry, DataSize.ofKilobytes(64), DataSize.ofKilobytes(4),
+                Duration.ofMinutes(10), Duration.ofSeconds(30));
+    }
+
+    @Test
+    @DisplayName("Deve devolver os créditos idênticos aos armazenados, inclusive campos nulos")
+    void getByNumeroNfse_ShouldRoundTripThroughBinaryCodec() {
+        CreditoDTO completo = credito("123456", "7891011");
+        CreditoDTO parcial = CreditoDTO.builder()
+                .numeroCredito("789012")
+                .numeroNfse("7891011")
+                .valorIssqn(new BigDecimal("-0.01"))
+                .aliquota(new BigDecimal("123456789012345678901234567890.12"))
+                .tipoCredito("Outros – não informado")
+                .build();
+
+        store.putNfse("7891011", List.of(completo, parcial));
+
+        assertThat(store.getByNumeroNfse("7891011")).containsExactly(completo, parcial);
+        assertThat(store.getByNumeroNfse("0000000")).isNull();
+        assertThat(meterRegistry.get("cache.gets").tags("cache", CaffeineCreditoCache.NFSE_CACHE, "tier", "offheap")
+                .tag("result", "hit").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tags("cache", CaffeineCreditoCache.NFSE_CACHE, "tier", "offheap")
+                .tag("result", "miss").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve armazenar resultados negativos sem ocupar memória fora do heap")
+    void getByNumeroCredito_WhenNegativeCached_ShouldReturnEmptyOptional() {
+        store.putCredito("000000", Optional.empty());
+        store.putCredito("123456", Optional.of(credito("123456", "7891011")));
+
+        assertThat(store.getByNumeroCredito("000000")).isEmpty();
+        assertThat(store.getByNumeroCredito("123456")).contains(credito("123456", "7891011"));
+        assertThat(store.getByNumeroCredito("999999")).isNull();
+        assertThat(meterRegistry.get("cache.offheap.bytes").tag("estado", "usado").gauge().value())
+                .isEqualTo(OffHeapSlabAllocator.TAMANHO_MINIMO);
+    }
+
+    @Test
+    @DisplayName("Deve remover o crédito alterado e as listas de NFS-e que ainda o contêm")
+    void evict_ShouldRemoveListsContainingCredito() {
+        store.putCredito("123456", Optional.of(credito("123456", "7891011")));
+        store.putNfse("7891011", List.of(credito("123456", "7891011")));
+        store.putNfse("1122334", List.of(credito("123456", "1122334")));
+        store.putNfse("5566778", List.of(credito("654321", "5566778")));
+
+        store.evict("123456", "7891011");
+
+        assertThat(store.getByNumeroCredito("123456")).isNull();
+        assertThat(store.getByNumeroNfse("7891011")).isNull();
+        assertThat(store.getByNumeroNfse("1122334")).isNull();
+        assertThat(store.getByNumeroNfse("5566778")).hasSize(1);
+        assertThat(store.nfsesIndexadas()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve manter no índice reverso apenas as listas de NFS-e ainda armazenadas")
+    void putNfse_WhenCapacityReached_ShouldDropEvictedListsFromIndex() {
+        IntStream.range(0, 2_000).forEach(i -> {
+            String numeroNfse = String.valueOf(7_000_000 + i);
+            store.putNfse(numeroNfse, List.of(credito(String.valueOf(100_000 + i), numeroNfse)));
+        });
+
+        long armazenadas = IntStream.range(0, 2_000)
+                .filter(i -> store.getByNumeroNfse(String.valueOf(7_000_000 + i)) != null)
+                .count();
+        assertThat(armazenadas).isLessThan(2_000);
+        assertThat(store.nfsesIndexadas()).isEqualTo(armazenadas);
+
+        store.evict("101999", "0");
+
+        assertThat(store.getByNumeroNfse("7001999")).isNull();
+    }
+
+    @Test
+    @DisplayName("Deve despejar entradas e liberar os slots ao atingir a capacidade")
+    void putCredito_WhenCapacityReached_ShouldEvictAndReuseSlots() {
+        IntStream.range(0, 2_000).forEach(i -> {
+            String numero = String.valueOf(100_000 + i);
+            store.putCredito(numero, Optional.of(credito(numero, "7891011")));
+        });
+
+        assertThat(meterRegistry.get("cache.evictions").tag("cache", CaffeineCreditoCache.CREDITO_CACHE)
+                .tag("tier", "offheap").counter().count()).isPositive();
+        assertThat(meterRegistry.get("cache.offheap.bytes").tag("estado", "reservado").gauge().value())
+                .isLessThanOrEqualTo(DataSize.ofKilobytes(64).toBytes());
+        assertThat(store.getByNumeroCredito("101999")).contains(credito("101999", "7891011"));
+
+        store.clear();
+
+        assertThat(meterRegistry.get("cache.offheap.bytes").tag("estado", "usado").gauge().value()).isZero();
+    }
+
+    private static CreditoDTO credito(String numeroCredito, String numeroNfse) {
+        return CreditoDTO.builder()
+                .numeroCredito(numeroCredito)
+                .numeroNfse(numeroNfse)
+                .dataConstituicao(LocalDate.of(2024, 2, 25))
+                .valorIssqn(new BigDecimal("1500.75"))
+                .tipoCredito("ISSQN")
+                .simplesNacional("Sim")
+                .aliquota(new BigDecimal("5.0"))
+                .valorFaturado(new BigDecimal("30000.00"))
+                .valorDeducao(new BigDecimal("5000.00"))
+                .baseCalculo(new BigDecimal("25000.00"))
+                .build();
+    }
+}
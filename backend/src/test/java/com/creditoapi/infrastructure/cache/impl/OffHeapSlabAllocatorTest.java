@@ -0,0 +1,70 @@
+package com.creditoapi.infrastructure.cache.impl;
+
+import com.creditoapi.infrastructure.cache.impl.OffHeapSlabAllocator.Slot;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("OffHeapSlabAllocator Tests")
+class OffHeapSlabAllocatorTest {
+
+    private static final int PAGINA = 1024;
+
+    @Test
+    @DisplayName("Deve gravar e ler os bytes no slot da classe de tamanho correspondente")
+    void allocate_ShouldRoundToSizeClass() {
+        OffHeapSlabAllocator allocator = new OffHeapSlabAllocator(4 * PAGINA, PAGINA);
+        byte[] dados = "crédito 123456".repeat(6).getBytes(StandardCharsets.UTF_8);
+
+        Slot slot = allocator.allocate(dados.length);
+        allocator.write(slot, dados);
+
+        assertThat(allocator.read(slot)).isEqualTo(dados);
+        assertThat(allocator.tamanhoReservado(slot)).isEqualTo(128);
+        assertThat(allocator.usado()).isEqualTo(128);
+        assertThat(allocator.reservado()).isEqualTo(PAGINA);
+    }
+
+    @Test
+    @DisplayName("Deve descartar a leitura de um slot liberado e reaproveitá-lo na próxima alocação")
+    void read_WhenSlotWasFreed_ShouldReturnNull() {
+        OffHeapSlabAllocator allocator = new OffHeapSlabAllocator(PAGINA, PAGINA);
+        Slot antigo = allocator.allocate(10);
+        allocator.write(antigo, new byte[10]);
+
+        allocator.free(antigo);
+        Slot novo = allocator.allocate(20);
+        allocator.write(novo, new byte[20]);
+
+        assertThat(allocator.read(antigo)).isNull();
+        assertThat(novo.pagina()).isEqualTo(antigo.pagina());
+        assertThat(novo.posicao()).isEqualTo(antigo.posicao());
+        assertThat(allocator.read(novo)).hasSize(20);
+        assertThat(allocator.usado()).isEqualTo(OffHeapSlabAllocator.TAMANHO_MINIMO);
+    }
+
+    @Test
+    @DisplayName("Deve recusar a alocação quando a capacidade se esgota ou a entrada excede uma página")
+    void allocate_WhenCapacityExhausted_ShouldReturnNull() {
+        OffHeapSlabAllocator allocator = new OffHeapSlabAllocator(PAGINA, PAGINA);
+
+        assertThat(allocator.allocate(PAGINA + 1)).isNull();
+        assertThat(allocator.allocate(PAGINA / 2)).isNotNull();
+        assertThat(allocator.allocate(PAGINA / 2)).isNotNull();
+        assertThat(allocator.allocate(PAGINA / 2)).isNull();
+        // A única página já pertence à classe de 512 bytes
+        assertThat(allocator.allocate(10)).isNull();
+        assertThat(allocator.allocate(0)).isSameAs(OffHeapSlabAllocator.VAZIO);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar tamanho de página que não seja potência de 2")
+    void constructor_WhenPageSizeInvalid_ShouldThrow() {
+        assertThatThrownBy(() -> new OffHeapSlabAllocator(10_000, 1000))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
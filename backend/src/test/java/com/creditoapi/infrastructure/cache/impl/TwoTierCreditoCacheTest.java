@@ -0,0 +1,114 @@
+package com.creditoapi.infrastructure.cache.impl;
+
+import com.creditoapi.application.dto.CreditoDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TwoTierCreditoCache Tests")
+class TwoTierCreditoCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private OffHeapCreditoStore offHeap;
+    private TwoTierCreditoCache creditoCache;
+    private CreditoDTO creditoDTO;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        offHeap = new OffHeapCreditoStore(meterRegistry, DataSize.ofKilobytes(64), DataSize.ofKilobytes(4),
+                Duration.ofMinutes(10), Duration.ofSeconds(30));
+        creditoCache = new TwoTierCreditoCache(offHeap, meterRegistry, 100, Duration.ofMinutes(10),
+                Duration.ofSeconds(30));
+
+        creditoDTO = CreditoDTO.builder()
+                .numeroCredito("123456")
+                .numeroNfse("7891011")
+                .dataConstituicao(LocalDate.of(2024, 2, 25))
+                .valorIssqn(new BigDecimal("1500.75"))
+                .tipoCredito("ISSQN")
+                .simplesNacional("Sim")
+                .aliquota(new BigDecimal("5.0"))
+                .valorFaturado(new BigDecimal("30000.00"))
+                .valorDeducao(new BigDecimal("5000.00"))
+                .baseCalculo(new BigDecimal("25000.00"))
+                .build();
+    }
+
+    @Test
+    @DisplayName("Deve carregar uma vez e gravar o resultado nas duas camadas")
+    void getByNumeroNfse_WhenCalledTwice_ShouldLoadOnceAndFillBothTiers() {
+        AtomicInteger carregamentos = new AtomicInteger();
+
+        creditoCache.getByNumeroNfse("7891011", chave -> {
+            carregamentos.incrementAndGet();
+            return List.of(creditoDTO);
+        });
+        List<CreditoDTO> result = creditoCache.getByNumeroNfse("7891011", chave -> {
+            carregamentos.incrementAndGet();
+            return List.of(creditoDTO);
+        });
+
+        assertThat(result).containsExactly(creditoDTO);
+        assertThat(carregamentos).hasValue(1);
+        assertThat(offHeap.getByNumeroNfse("7891011")).containsExactly(creditoDTO);
+        assertThat(meterRegistry.get("cache.gets").tag("tier", "near").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve atender pela camada fora do heap quando a entrada não está no cache local")
+    void getByNumeroCredito_WhenOnlyOffHeapHasEntry_ShouldNotCallLoader() {
+        offHeap.putCredito("123456", Optional.of(creditoDTO));
+
+        Optional<CreditoDTO> result = creditoCache.getByNumeroCredito("123456", chave -> {
+            throw new AssertionError("Não deveria consultar o banco");
+        });
+
+        assertThat(result).contains(creditoDTO);
+    }
+
+    @Test
+    @DisplayName("Deve consultar o loader em lote apenas para as chaves ausentes nas duas camadas")
+    void getAllByNumeroCredito_ShouldLoadOnlyKeysMissingInBothTiers() {
+        offHeap.putCredito("123456", Optional.of(creditoDTO));
+
+        Map<String, Optional<CreditoDTO>> result = creditoCache.getAllByNumeroCredito(List.of("123456", "000000"),
+                chaves -> {
+                    assertThat(chaves).containsExactly("000000");
+                    return Map.of("000000", Optional.empty());
+                });
+
+        assertThat(result).containsEntry("123456", Optional.of(creditoDTO))
+                .containsEntry("000000", Optional.empty());
+        assertThat(offHeap.getByNumeroCredito("000000")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve invalidar as duas camadas ao remover um crédito")
+    void evict_ShouldInvalidateBothTiers() {
+        creditoCache.getByNumeroCredito("123456", chave -> Optional.of(creditoDTO));
+
+        creditoCache.evict("123456", "7891011");
+
+        assertThat(offHeap.getByNumeroCredito("123456")).isNull();
+        AtomicInteger carregamentos = new AtomicInteger();
+        creditoCache.getByNumeroCredito("123456", chave -> {
+            carregamentos.incrementAndGet();
+            return Optional.of(creditoDTO);
+        });
+        assertThat(carregamentos).hasValue(1);
+    }
+}
@@ -0,0 +1,116 @@
+package com.creditoapi.infrastructure.concurrent;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AdaptiveConcurrencyLimiter Tests")
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long LATENCIA_BASE = TimeUnit.MILLISECONDS.toNanos(5);
+    private static final Duration JANELA = Duration.ofSeconds(30);
+
+    private final AtomicLong relogio = new AtomicLong();
+
+    @Test
+    @DisplayName("Deve rejeitar acima do limite e liberar a vaga ao final da requisição")
+    void tryAcquire_WhenLimitReached_ShouldReject() {
+        AdaptiveConcurrencyLimiter limiter = limiter(2);
+
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+
+        limiter.release();
+
+        assertThat(limiter.getInFlight()).isEqualTo(1);
+        assertThat(limiter.tryAcquire()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Deve aumentar o limite enquanto a latência do banco se mantém e a demanda ocupa o limite")
+    void onLatency_WhenLatencyStableAndSaturated_ShouldGrow() {
+        AdaptiveConcurrencyLimiter limiter = limiter(20);
+        ocupar(limiter, 20);
+
+        amostras(limiter, 50, LATENCIA_BASE);
+
+        assertThat(limiter.getLimit()).isGreaterThan(20);
+    }
+
+    @Test
+    @DisplayName("Deve reduzir o limite quando a latência passa da tolerância sobre a mínima")
+    void onLatency_WhenLatencyRises_ShouldShrink() {
+        AdaptiveConcurrencyLimiter limiter = limiter(50);
+        ocupar(limiter, 50);
+        amostras(limiter, 5, LATENCIA_BASE);
+
+        amostras(limiter, 50, LATENCIA_BASE * 10);
+
+        assertThat(limiter.getLimit()).isLessThan(20);
+    }
+
+    @Test
+    @DisplayName("Não deve aumentar o limite quando a demanda não chega à metade dele")
+    void onLatency_WhenAppLimited_ShouldKeepLimit() {
+        AdaptiveConcurrencyLimiter limiter = limiter(20);
+        ocupar(limiter, 5);
+
+        amostras(limiter, 50, LATENCIA_BASE);
+
+        assertThat(limiter.getLimit()).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("Deve recuar 10% a cada falha sem passar do mínimo")
+    void onLatency_WhenQueryFails_ShouldBackOffMultiplicatively() {
+        AdaptiveConcurrencyLimiter limiter = limiter(20);
+
+        limiter.onLatency(LATENCIA_BASE, false);
+        assertThat(limiter.getLimit()).isEqualTo(18);
+
+        for (int i = 0; i < 100; i++) {
+            limiter.onLatency(LATENCIA_BASE, false);
+        }
+        assertThat(limiter.getLimit()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Deve adotar a nova latência mínima quando o banco fica permanentemente mais lento")
+    void onLatency_WhenSlowdownOutlastsWindows_ShouldRecover() {
+        AdaptiveConcurrencyLimiter limiter = limiter(20);
+        ocupar(limiter, 200);
+        amostras(limiter, 5, LATENCIA_BASE);
+        amostras(limiter, 50, LATENCIA_BASE * 4);
+        int limiteReduzido = limiter.getLimit();
+
+        relogio.addAndGet(JANELA.toNanos());
+        amostras(limiter, 1, LATENCIA_BASE * 4);
+        relogio.addAndGet(JANELA.toNanos());
+        amostras(limiter, 50, LATENCIA_BASE * 4);
+
+        assertThat(limiter.getLimit()).isGreaterThan(limiteReduzido);
+    }
+
+    private AdaptiveConcurrencyLimiter limiter(int initialLimit) {
+        return new AdaptiveConcurrencyLimiter(initialLimit, 4, 200, 1.5, 0.2, JANELA, relogio::get);
+    }
+
+    private static void ocupar(AdaptiveConcurrencyLimiter limiter, int requisicoes) {
+        for (int i = 0; i < requisicoes; i++) {
+            limiter.tryAcquire();
+        }
+    }
+
+    private void amostras(AdaptiveConcurrencyLimiter limiter, int quantidade, long latencia) {
+        for (int i = 0; i < quantidade; i++) {
+            relogio.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+            limiter.onLatency(latencia, true);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.creditoapi.infrastructure.concurrent;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ClientRateLimiter Tests")
+class ClientRateLimiterTest {
+
+    private final AtomicLong relogio = new AtomicLong();
+    private final ClientRateLimiter rateLimiter = new ClientRateLimiter(3, 10, 1000, relogio::get);
+
+    @Test
+    @DisplayName("Deve aceitar a rajada configurada e informar a espera até o próximo token")
+    void tryAcquire_WhenBurstExhausted_ShouldReturnWait() {
+        for (int i = 0; i < 3; i++) {
+            assertThat(rateLimiter.tryAcquire("cliente-a")).isZero();
+        }
+
+        assertThat(rateLimiter.tryAcquire("cliente-a")).isEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+    }
+
+    @Test
+    @DisplayName("Deve repor os tokens proporcionalmente ao tempo decorrido")
+    void tryAcquire_AfterRefillInterval_ShouldAcceptAgain() {
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.tryAcquire("cliente-a");
+        }
+
+        relogio.addAndGet(TimeUnit.MILLISECONDS.toNanos(250));
+
+        assertThat(rateLimiter.tryAcquire("cliente-a")).isZero();
+        assertThat(rateLimiter.tryAcquire("cliente-a")).isZero();
+        assertThat(rateLimiter.tryAcquire("cliente-a")).isPositive();
+    }
+
+    @Test
+    @DisplayName("Deve manter um bucket independente por cliente")
+    void tryAcquire_WhenOtherClientExhausted_ShouldAccept() {
+        for (int i = 0; i < 4; i++) {
+            rateLimiter.tryAcquire("cliente-a");
+        }
+
+        assertThat(rateLimiter.tryAcquire("cliente-b")).isZero();
+        assertThat(rateLimiter.clientes()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,117 @@
+package com.creditoapi.infrastructure.concurrent;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Simula um banco com 10 conexões e 5 ms por consulta e compara as respostas dentro do SLA (goodput) sob 10 vezes
+// a capacidade, com e sem o limite adaptativo. Sem limite as requisições se acumulam na fila do pool e quase
+// todas estouram o SLA; com o limite o excedente é rejeitado na hora e o banco segue atendendo dentro do SLA
+@DisplayName("Goodput sob sobrecarga")
+class LoadSheddingOverloadTest {
+
+    private static final int CONEXOES = 10;
+    private static final Duration CONSULTA = Duration.ofMillis(5);
+    private static final Duration SLA = Duration.ofMillis(250);
+    private static final Duration TIMEOUT_CLIENTE = Duration.ofSeconds(1);
+    private static final Duration DURACAO = Duration.ofSeconds(2);
+
+    @Test
+    @DisplayName("Deve manter o goodput perto da capacidade com 10x a carga suportada")
+    void overload_WithAdaptiveLimit_ShouldKeepGoodputStable() throws InterruptedException {
+        int capacidade = medirCapacidade();
+        int taxaSobrecarga = capacidade * 10 / (int) DURACAO.toSeconds();
+
+        Resultado semLimite = simular(null, taxaSobrecarga);
+        Resultado comLimite = simular(new AdaptiveConcurrencyLimiter(20, 4, 200, 1.5, 0.2, Duration.ofSeconds(30)),
+                taxaSobrecarga);
+
+        assertThat(comLimite.dentroDoSla()).isGreaterThanOrEqualTo((int) (capacidade * 0.7));
+        assertThat(comLimite.rejeitadas()).isGreaterThan(capacidade * 5);
+        assertThat(semLimite.dentroDoSla()).isLessThan((int) (capacidade * 0.3));
+        assertThat(comLimite.dentroDoSla()).isGreaterThan(semLimite.dentroDoSla() * 2);
+    }
+
+    // Consultas concluídas no período com exatamente uma requisição por conexão, sem fila
+    private static int medirCapacidade() throws InterruptedException {
+        AtomicInteger concluidas = new AtomicInteger();
+        long fim = System.nanoTime() + DURACAO.toNanos();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CONEXOES; i++) {
+                executor.submit(() -> {
+                    while (System.nanoTime() < fim) {
+                        consultar();
+                        concluidas.incrementAndGet();
+                    }
+                    return null;
+                });
+            }
+        }
+        return concluidas.get();
+    }
+
+    private static Resultado simular(AdaptiveConcurrencyLimiter limiter, int taxaPorSegundo) {
+        Semaphore banco = new Semaphore(CONEXOES, true);
+        AtomicInteger dentroDoSla = new AtomicInteger();
+        AtomicInteger rejeitadas = new AtomicInteger();
+        long intervalo = TimeUnit.SECONDS.toNanos(1) / taxaPorSegundo;
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            long inicio = System.nanoTime();
+            long proximaChegada = inicio;
+            while (System.nanoTime() - inicio < DURACAO.toNanos()) {
+                // Chegadas em malha aberta: a taxa não diminui quando o servidor fica lento
+                while (proximaChegada <= System.nanoTime()) {
+                    executor.submit(() -> {
+                        if (limiter != null && !limiter.tryAcquire()) {
+                            rejeitadas.incrementAndGet();
+                            return null;
+                        }
+                        try {
+                            long chegada = System.nanoTime();
+                            boolean atendida = banco.tryAcquire(TIMEOUT_CLIENTE.toNanos(), TimeUnit.NANOSECONDS);
+                            if (atendida) {
+                                try {
+                                    consultar();
+                                } finally {
+                                    banco.release();
+                                }
+                            }
+                            long latencia = System.nanoTime() - chegada;
+                            if (limiter != null) {
+                                limiter.onLatency(latencia, atendida);
+                            }
+                            if (atendida && latencia <= SLA.toNanos()) {
+                                dentroDoSla.incrementAndGet();
+                            }
+                        } finally {
+                            if (limiter != null) {
+                                limiter.release();
+                            }
+                        }
+                        return null;
+                    });
+                    proximaChegada += intervalo;
+                }
+                LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(200));
+            }
+        }
+        return new Resultado(dentroDoSla.get(), rejeitadas.get());
+    }
+
+    private static void consultar() throws InterruptedException {
+        Thread.sleep(CONSULTA);
+    }
+
+    private record Resultado(int dentroDoSla, int rejeitadas) {
+    }
+}
@@ -0,0 +1,97 @@
+package com.creditoapi.infrastructure.concurrent;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SingleFlight Tests")
+class SingleFlightTest {
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Deve repassar a mesma exceção a quem aguardava a execução compartilhada")
+    void execute_WhenLoaderFails_ShouldPropagateToWaiters() throws Exception {
+        AtomicInteger compartilhadas = new AtomicInteger();
+        SingleFlight<String, String> singleFlight = new SingleFlight<>(compartilhadas::incrementAndGet);
+        CountDownLatch iniciada = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+
+        Future<String> primeira = executor.submit(() -> singleFlight.execute("chave", chave -> {
+            iniciada.countDown();
+            aguardar(liberar);
+            throw new IllegalStateException("banco indisponível");
+        }));
+        iniciada.await(5, TimeUnit.SECONDS);
+        Future<String> segunda = executor.submit(() -> singleFlight.execute("chave", chave -> "não deveria executar"));
+        while (compartilhadas.get() == 0) {
+            Thread.onSpinWait();
+        }
+        liberar.countDown();
+
+        assertThatThrownBy(primeira::get).hasCauseInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(segunda::get).hasCauseInstanceOf(IllegalStateException.class)
+                .hasRootCauseMessage("banco indisponível");
+        assertThat(singleFlight.emAndamento()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve executar novamente depois que a execução anterior terminou, sem guardar o resultado")
+    void execute_WhenPreviousCallFinished_ShouldRunLoaderAgain() {
+        SingleFlight<String, Integer> singleFlight = new SingleFlight<>();
+        AtomicInteger execucoes = new AtomicInteger();
+
+        singleFlight.execute("chave", chave -> execucoes.incrementAndGet());
+        Integer segunda = singleFlight.execute("chave", chave -> execucoes.incrementAndGet());
+
+        assertThat(segunda).isEqualTo(2);
+        assertThat(singleFlight.emAndamento()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve executar em paralelo chaves diferentes")
+    void execute_WhenDifferentKeys_ShouldNotShare() throws Exception {
+        AtomicInteger compartilhadas = new AtomicInteger();
+        SingleFlight<String, String> singleFlight = new SingleFlight<>(compartilhadas::incrementAndGet);
+        CountDownLatch ambasIniciadas = new CountDownLatch(2);
+
+        Future<String> primeira = executor.submit(() -> singleFlight.execute("a", chave -> {
+            ambasIniciadas.countDown();
+            aguardar(ambasIniciadas);
+            return chave;
+        }));
+        Future<String> segunda = executor.submit(() -> singleFlight.execute("b", chave -> {
+            ambasIniciadas.countDown();
+            aguardar(ambasIniciadas);
+            return chave;
+        }));
+
+        assertThat(primeira.get(5, TimeUnit.SECONDS)).isEqualTo("a");
+        assertThat(segunda.get(5, TimeUnit.SECONDS)).isEqualTo("b");
+        assertThat(compartilhadas).hasValue(0);
+    }
+
+    private static void aguardar(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.creditoapi.infrastructure.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import com.creditoapi.infrastructure.logging.SamplingTurboFilter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LogSamplingConfig Tests")
+class LogSamplingConfigTest {
+
+    @Test
+    @DisplayName("Deve registrar o filtro no Logback com as taxas do ambiente e removê-lo ao parar")
+    void samplingTurboFilter_ShouldRegisterWithConfiguredRatesAndUnregisterOnStop() {
+        LoggerContext loggerContext = (LoggerContext) LoggerFactory.getILoggerFactory();
+        Logger amostrado = loggerContext.getLogger("com.creditoapi.amostrado.Teste");
+        SamplingTurboFilter filter = new LogSamplingConfig().samplingTurboFilter(new MockEnvironment()
+                .withProperty("app.logging.sampling.rates[com.creditoapi.amostrado]", "1000000"));
+
+        try {
+            assertThat(loggerContext.getTurboFilterList()).contains(filter);
+            assertThat(filter.decide(null, amostrado, Level.WARN, "aviso", null, null))
+                    .isEqualTo(FilterReply.NEUTRAL);
+            assertThat(IntStream.range(0, 100)
+                    .filter(i -> filter.decide(null, amostrado, Level.INFO, "rotina", null, null) == FilterReply.DENY)
+                    .count()).isGreaterThan(90);
+        } finally {
+            filter.stop();
+        }
+
+        assertThat(loggerContext.getTurboFilterList()).doesNotContain(filter);
+    }
+}
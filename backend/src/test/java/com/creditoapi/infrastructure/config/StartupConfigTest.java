@@ -0,0 +1,42 @@
+package com.creditoapi.infrastructure.config;
+
+import com.creditoapi.infrastructure.cache.CreditoCache;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springdoc.core.properties.SpringDocConfigProperties;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("StartupConfig Tests")
+class StartupConfigTest {
+
+    private final LazyInitializationExcludeFilter filter = StartupConfig.eagerInitializationFilter(
+            new MockEnvironment()
+                    .withProperty("app.startup.lazy-packages[0]", "org.springdoc")
+                    .withProperty("app.startup.lazy-packages[1]", "io.swagger"));
+
+    @Test
+    @DisplayName("Deve adiar a criação dos beans dos pacotes configurados")
+    void isExcluded_WhenBeanInLazyPackage_ShouldAllowLazyInitialization() {
+        assertThat(filter.isExcluded("springDocConfigProperties", null, SpringDocConfigProperties.class)).isFalse();
+        assertThat(filter.isExcluded("customOpenAPI", null, OpenAPI.class)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve manter a criação na inicialização para os demais beans")
+    void isExcluded_WhenBeanOutsideLazyPackages_ShouldKeepEager() {
+        assertThat(filter.isExcluded("creditoCache", null, CreditoCache.class)).isTrue();
+        assertThat(filter.isExcluded("semTipo", null, null)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Deve manter todos os beans na inicialização quando nenhum pacote é configurado")
+    void isExcluded_WhenNoLazyPackages_ShouldKeepEager() {
+        LazyInitializationExcludeFilter semPacotes = StartupConfig.eagerInitializationFilter(new MockEnvironment());
+
+        assertThat(semPacotes.isExcluded("customOpenAPI", null, OpenAPI.class)).isTrue();
+    }
+}
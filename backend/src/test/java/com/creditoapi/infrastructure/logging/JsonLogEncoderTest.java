@@ -0,0 +1,60 @@
+package com.creditoapi.infrastructure.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("JsonLogEncoder Tests")
+class JsonLogEncoderTest {
+
+    private final Logger logger = ((LoggerContext) LoggerFactory.getILoggerFactory())
+            .getLogger("com.creditoapi.application.service.CreditoService");
+    private final JsonLogEncoder encoder = new JsonLogEncoder();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("Deve gerar uma linha JSON com a mensagem formatada e o MDC")
+    void encode_ShouldWriteSingleJsonLineWithFormattedMessageAndMdc() throws Exception {
+        LoggingEvent event = new LoggingEvent(Logger.class.getName(), logger, Level.INFO,
+                "Crédito {} para número: \"{}\"\n", null, new Object[]{"encontrado", "123\\456"});
+        event.setMDCPropertyMap(Map.of("clienteId", "abc"));
+
+        String linha = new String(encoder.encode(event), StandardCharsets.UTF_8);
+        JsonNode json = objectMapper.readTree(linha);
+
+        assertThat(linha).endsWith("}\n").doesNotContain("\n{");
+        assertThat(linha.indexOf('\n')).isEqualTo(linha.length() - 1);
+        assertThat(json.get("level").asText()).isEqualTo("INFO");
+        assertThat(json.get("logger").asText()).isEqualTo("com.creditoapi.application.service.CreditoService");
+        assertThat(json.get("message").asText()).isEqualTo("Crédito encontrado para número: \"123\\456\"\n");
+        assertThat(json.get("clienteId").asText()).isEqualTo("abc");
+        assertThat(json.has("@timestamp")).isTrue();
+        assertThat(json.has("stack_trace")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve incluir a stack trace escapada no campo stack_trace")
+    void encode_WithThrowable_ShouldWriteStackTrace() throws Exception {
+        LoggingEvent event = new LoggingEvent(Logger.class.getName(), logger, Level.ERROR,
+                "Erro ao publicar evento", new IllegalStateException("broker indisponível"), null);
+
+        String linha = new String(encoder.encode(event), StandardCharsets.UTF_8);
+        JsonNode json = objectMapper.readTree(linha);
+
+        assertThat(linha.indexOf('\n')).isEqualTo(linha.length() - 1);
+        assertThat(json.get("stack_trace").asText())
+                .startsWith("java.lang.IllegalStateException: broker indisponível")
+                .contains("\tat com.creditoapi.infrastructure.logging.JsonLogEncoderTest");
+    }
+}
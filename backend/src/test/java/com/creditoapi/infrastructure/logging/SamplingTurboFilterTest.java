@@ -0,0 +1,89 @@
+package com.creditoapi.infrastructure.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SamplingTurboFilter Tests")
+class SamplingTurboFilterTest {
+
+    private LoggerContext loggerContext;
+    private SamplingTurboFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        loggerContext = new LoggerContext();
+        loggerContext.getLogger(Logger.ROOT_LOGGER_NAME).setLevel(Level.DEBUG);
+        filter = new SamplingTurboFilter(Map.of(
+                "com.creditoapi", 10,
+                "com.creditoapi.application.service", 1000));
+        filter.setContext(loggerContext);
+        filter.start();
+        loggerContext.addTurboFilter(filter);
+    }
+
+    @Test
+    @DisplayName("Deve manter cerca de 1 em N linhas INFO da categoria configurada")
+    void decide_WhenInfoInSampledCategory_ShouldKeepAboutOneInN() {
+        Logger logger = loggerContext.getLogger("com.creditoapi.presentation.controller.CreditoController");
+
+        long mantidas = IntStream.range(0, 100_000)
+                .filter(i -> decidir(logger, Level.INFO) == FilterReply.NEUTRAL)
+                .count();
+
+        assertThat(mantidas).isBetween(8_000L, 12_000L);
+    }
+
+    @Test
+    @DisplayName("Deve usar a taxa da categoria mais específica")
+    void decide_WhenNestedCategory_ShouldUseMostSpecificRate() {
+        Logger logger = loggerContext.getLogger("com.creditoapi.application.service.impl.CreditoServiceImpl");
+
+        long mantidas = IntStream.range(0, 100_000)
+                .filter(i -> decidir(logger, Level.INFO) == FilterReply.NEUTRAL)
+                .count();
+
+        assertThat(mantidas).isBetween(50L, 200L);
+    }
+
+    @Test
+    @DisplayName("Deve manter sempre WARN, ERROR, exceções e categorias sem taxa")
+    void decide_WhenWarnErrorOrUnsampledCategory_ShouldAlwaysKeep() {
+        Logger logger = loggerContext.getLogger("com.creditoapi.presentation.controller.CreditoController");
+        Logger outro = loggerContext.getLogger("org.hibernate.SQL_SLOW");
+
+        IntStream.range(0, 1_000).forEach(i -> {
+            assertThat(decidir(logger, Level.WARN)).isEqualTo(FilterReply.NEUTRAL);
+            assertThat(decidir(logger, Level.ERROR)).isEqualTo(FilterReply.NEUTRAL);
+            assertThat(filter.decide(null, logger, Level.INFO, "falhou", null, new IllegalStateException()))
+                    .isEqualTo(FilterReply.NEUTRAL);
+            assertThat(decidir(outro, Level.INFO)).isEqualTo(FilterReply.NEUTRAL);
+        });
+    }
+
+    @Test
+    @DisplayName("Não deve alterar isInfoEnabled nem atuar depois de parado")
+    void decide_WhenEnabledCheckOrStopped_ShouldBeNeutral() {
+        Logger logger = loggerContext.getLogger("com.creditoapi.presentation.controller.CreditoController");
+
+        assertThat(IntStream.range(0, 1_000).allMatch(i -> logger.isInfoEnabled())).isTrue();
+
+        filter.stop();
+
+        assertThat(loggerContext.getTurboFilterList()).doesNotContain(filter);
+        assertThat(decidir(logger, Level.INFO)).isEqualTo(FilterReply.NEUTRAL);
+    }
+
+    private FilterReply decidir(Logger logger, Level level) {
+        return filter.decide(null, logger, level, "Consulta {}", new Object[]{"123"}, null);
+    }
+}
@@ -0,0 +1,45 @@
+package com.creditoapi.infrastructure.messaging;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaAdmin;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("KafkaTopicProvisioner Tests")
+class KafkaTopicProvisionerTest {
+
+    @Mock
+    private KafkaAdmin kafkaAdmin;
+
+    @InjectMocks
+    private KafkaTopicProvisioner provisioner;
+
+    @Test
+    @DisplayName("Deve provisionar os tópicos fora da thread de inicialização")
+    void onApplicationReady_ShouldInitializeKafkaAdminInBackground() {
+        when(kafkaAdmin.initialize()).thenReturn(true);
+
+        provisioner.onApplicationReady();
+
+        verify(kafkaAdmin, timeout(Duration.ofSeconds(5).toMillis())).initialize();
+    }
+
+    @Test
+    @DisplayName("Deve informar a falha quando o broker não está disponível")
+    void provisionar_WhenBrokerUnavailable_ShouldReturnFalse() {
+        when(kafkaAdmin.initialize()).thenReturn(false);
+
+        assertThat(provisioner.provisionar()).isFalse();
+    }
+}
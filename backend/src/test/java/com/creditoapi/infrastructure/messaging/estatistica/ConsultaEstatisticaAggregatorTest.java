@@ -0,0 +1,133 @@
+package com.creditoapi.infrastructure.messaging.estatistica;
+
+import com.creditoapi.application.dto.ConsultaEventDTO;
+import com.creditoapi.domain.entity.ConsultaEstatistica;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ConsultaEstatisticaAggregator Tests")
+class ConsultaEstatisticaAggregatorTest {
+
+    private static final LocalDateTime AGORA = LocalDateTime.of(2024, 3, 1, 10, 15, 42);
+
+    private final ConsultaEstatisticaAggregator aggregator = new ConsultaEstatisticaAggregator(
+            Clock.fixed(AGORA.toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
+
+    @Test
+    @DisplayName("Deve agrupar por tipo e minuto, contando acertos, falhas e faixas de resultados")
+    void registrar_ShouldAggregateByTipoAndMinute() {
+        aggregator.registrar(List.of(
+                evento("NFSE", AGORA.withSecond(1), 0, true),
+                evento("NFSE", AGORA.withSecond(59), 1, true),
+                evento("NFSE", AGORA.withSecond(30), 7, true),
+                evento("NFSE", AGORA.withSecond(30), 0, false),
+                evento("NFSE", AGORA.plusMinutes(1), 250, true),
+                evento("CREDITO", AGORA, 50, true)));
+
+        List<ConsultaEstatistica> drenadas = ordenadas(aggregator.drenar());
+
+        assertThat(drenadas).hasSize(3);
+        ConsultaEstatistica credito = drenadas.get(0);
+        assertThat(credito.getTipoConsulta()).isEqualTo("CREDITO");
+        assertThat(credito.getResultados11a100()).isEqualTo(1);
+
+        ConsultaEstatistica nfse = drenadas.get(1);
+        assertThat(nfse.getMinuto()).isEqualTo(LocalDateTime.of(2024, 3, 1, 10, 15));
+        assertThat(nfse.getTotal()).isEqualTo(4);
+        assertThat(nfse.getEncontradas()).isEqualTo(2);
+        assertThat(nfse.getNaoEncontradas()).isEqualTo(1);
+        assertThat(nfse.getFalhas()).isEqualTo(1);
+        assertThat(nfse.getSomaResultados()).isEqualTo(8);
+        assertThat(nfse.getResultados0()).isEqualTo(2);
+        assertThat(nfse.getResultados1()).isEqualTo(1);
+        assertThat(nfse.getResultados2a10()).isEqualTo(1);
+
+        assertThat(drenadas.get(2).getMinuto()).isEqualTo(LocalDateTime.of(2024, 3, 1, 10, 16));
+        assertThat(drenadas.get(2).getResultados101Mais()).isEqualTo(1);
+        assertThat(aggregator.pendentes()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve usar o relógio e um tipo padrão quando o evento vem incompleto")
+    void registrar_WhenEventIncomplete_ShouldUseClockAndDefaultTipo() {
+        aggregator.registrar(List.of(evento(null, null, 1, true)));
+
+        assertThat(aggregator.drenar()).singleElement().satisfies(estatistica -> {
+            assertThat(estatistica.getTipoConsulta()).isEqualTo(ConsultaEstatisticaAggregator.TIPO_DESCONHECIDO);
+            assertThat(estatistica.getMinuto()).isEqualTo(LocalDateTime.of(2024, 3, 1, 10, 15));
+        });
+    }
+
+    @Test
+    @DisplayName("Deve somar o que foi devolvido após falha de gravação ao que chegou depois")
+    void devolver_ShouldMergeWithNewEvents() {
+        aggregator.registrar(List.of(evento("NFSE", AGORA, 1, true)));
+        List<ConsultaEstatistica> naoGravadas = aggregator.drenar();
+        aggregator.registrar(List.of(evento("NFSE", AGORA, 1, true)));
+
+        aggregator.devolver(naoGravadas);
+
+        assertThat(aggregator.drenar()).singleElement()
+                .satisfies(estatistica -> assertThat(estatistica.getTotal()).isEqualTo(2));
+    }
+
+    @Test
+    @DisplayName("Não deve perder eventos registrados enquanto outra thread drena")
+    void registrar_WhenConcurrentWithDrenar_ShouldNotLoseEvents() throws Exception {
+        int threads = 3;
+        int lotes = 2_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch inicio = new CountDownLatch(1);
+        for (int t = 0; t < threads; t++) {
+            executor.submit(() -> {
+                inicio.await();
+                for (int i = 0; i < lotes; i++) {
+                    aggregator.registrar(List.of(evento("NFSE", AGORA, 1, true), evento("CREDITO", AGORA, 0, true)));
+                }
+                return null;
+            });
+        }
+
+        List<ConsultaEstatistica> drenadas = new ArrayList<>();
+        inicio.countDown();
+        executor.shutdown();
+        while (!executor.awaitTermination(1, TimeUnit.MILLISECONDS)) {
+            drenadas.addAll(aggregator.drenar());
+        }
+        drenadas.addAll(aggregator.drenar());
+
+        assertThat(drenadas.stream().mapToLong(ConsultaEstatistica::getTotal).sum())
+                .isEqualTo(2L * threads * lotes);
+    }
+
+    private static List<ConsultaEstatistica> ordenadas(List<ConsultaEstatistica> estatisticas) {
+        return estatisticas.stream()
+                .sorted(Comparator.comparing(ConsultaEstatistica::getTipoConsulta)
+                        .thenComparing(ConsultaEstatistica::getMinuto))
+                .toList();
+    }
+
+    private static ConsultaEventDTO evento(String tipoConsulta, LocalDateTime dataHora, int quantidade,
+                                           boolean sucesso) {
+        return ConsultaEventDTO.builder()
+                .tipoConsulta(tipoConsulta)
+                .parametroConsulta("p")
+                .dataHoraConsulta(dataHora)
+                .quantidadeResultados(quantidade)
+                .sucesso(sucesso)
+                .build();
+    }
+}
@@ -0,0 +1,111 @@
+package com.creditoapi.infrastructure.messaging.estatistica;
+
+import com.creditoapi.application.dto.ConsultaEventDTO;
+import com.creditoapi.domain.entity.ConsultaEstatistica;
+import com.creditoapi.domain.repository.ConsultaEstatisticaRepository;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "app.kafka.enabled=true",
+        "app.kafka.estatisticas.flush-interval=PT1H",
+        "spring.kafka.bootstrap-servers=${spring.embedded.kafka.brokers}"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DirtiesContext
+@EmbeddedKafka(partitions = 3, topics = "consulta-credito-topic")
+@DisplayName("ConsultaEstatisticaConsumer Integration Tests")
+class ConsultaEstatisticaConsumerIntegrationTest {
+
+    private static final LocalDateTime MINUTO = LocalDateTime.of(2024, 3, 1, 10, 15);
+    private static final int EVENTOS = 600;
+
+    @Autowired
+    private KafkaTemplate<String, ConsultaEventDTO> kafkaTemplate;
+
+    @Autowired
+    private EmbeddedKafkaBroker embeddedKafka;
+
+    @Autowired
+    private ConsultaEstatisticaConsumer consumer;
+
+    @Autowired
+    private ConsultaEstatisticaRepository estatisticaRepository;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("Deve agregar os eventos das três partições, descartar os ilegíveis e expor as estatísticas")
+    void onEventos_ShouldAggregateAllPartitionsAndExposeStatistics() throws Exception {
+        try (Producer<String, String> producer = new DefaultKafkaProducerFactory<>(
+                KafkaTestUtils.producerProps(embeddedKafka), new StringSerializer(), new StringSerializer())
+                .createProducer()) {
+            producer.send(new ProducerRecord<>("consulta-credito-topic", "NFSE", "{nao e json")).get();
+        }
+        for (int i = 0; i < EVENTOS; i++) {
+            String tipoConsulta = i % 3 == 0 ? "CREDITO" : "NFSE";
+            kafkaTemplate.send("consulta-credito-topic", String.valueOf(i), ConsultaEventDTO.builder()
+                    .tipoConsulta(tipoConsulta)
+                    .parametroConsulta("chave-" + i)
+                    .dataHoraConsulta(MINUTO.plusSeconds(i % 60))
+                    .quantidadeResultados(i % 4 == 0 ? 0 : 2)
+                    .sucesso(true)
+                    .build());
+        }
+        kafkaTemplate.flush();
+
+        long limite = System.nanoTime() + Duration.ofSeconds(60).toNanos();
+        long gravados = 0;
+        while (gravados < EVENTOS && System.nanoTime() < limite) {
+            Thread.sleep(200);
+            consumer.gravar();
+            gravados = estatisticaRepository.findPeriodo(null, MINUTO, MINUTO.plusMinutes(1)).stream()
+                    .mapToLong(ConsultaEstatistica::getTotal)
+                    .sum();
+        }
+
+        assertThat(gravados).isEqualTo(EVENTOS);
+        List<ConsultaEstatistica> estatisticas = estatisticaRepository.findPeriodo(null, MINUTO, MINUTO.plusMinutes(1));
+        assertThat(estatisticas).extracting(ConsultaEstatistica::getTipoConsulta).containsExactly("CREDITO", "NFSE");
+        assertThat(estatisticas.get(1).getTotal()).isEqualTo(400);
+        assertThat(estatisticas.get(1).getNaoEncontradas()).isEqualTo(100);
+        assertThat(estatisticas.get(1).getResultados2a10()).isEqualTo(300);
+
+        mockMvc.perform(get("/api/consultas/estatisticas")
+                        .param("tipoConsulta", "NFSE")
+                        .param("inicio", "2024-03-01T10:00:00")
+                        .param("fim", "2024-03-01T11:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].total").value(400))
+                .andExpect(jsonPath("$[0].taxaAcerto").value(closeTo(0.75, 0.0001)))
+                .andExpect(jsonPath("$[0].mediaResultados").value(closeTo(1.5, 0.0001)))
+                .andExpect(jsonPath("$[0].resultadosPorFaixa.2-10").value(300));
+    }
+}
@@ -0,0 +1,92 @@
+package com.creditoapi.infrastructure.messaging.impl;
+
+import com.creditoapi.application.dto.CacheInvalidacaoDTO;
+import com.creditoapi.application.dto.CreditoDTO;
+import com.creditoapi.infrastructure.cache.CreditoCache;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.ConsumerGroupListing;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "app.kafka.enabled=true",
+        "spring.kafka.bootstrap-servers=${spring.embedded.kafka.brokers}"
+})
+@ActiveProfiles("test")
+@DirtiesContext
+@EmbeddedKafka(partitions = 1, topics = "credito-cache-invalidacao-topic")
+@DisplayName("KafkaCacheInvalidationPublisher Integration Tests")
+class KafkaCacheInvalidationIntegrationTest {
+
+    private static final String TOPICO = "credito-cache-invalidacao-topic";
+
+    @Autowired
+    private KafkaTemplate<String, CacheInvalidacaoDTO> kafkaTemplate;
+
+    @Autowired
+    private CreditoCache creditoCache;
+
+    @Autowired
+    private KafkaAdmin kafkaAdmin;
+
+    @Test
+    @DisplayName("Deve aplicar invalidações de outras réplicas sem registrar grupo de consumo no broker")
+    void onInvalidacao_ShouldEvictWithoutConsumerGroup() throws Exception {
+        CreditoDTO credito = CreditoDTO.builder()
+                .numeroCredito("123456")
+                .numeroNfse("7891011")
+                .dataConstituicao(LocalDate.of(2024, 2, 25))
+                .valorIssqn(new BigDecimal("1500.75"))
+                .tipoCredito("ISSQN")
+                .simplesNacional("Sim")
+                .aliquota(new BigDecimal("5.0"))
+                .valorFaturado(new BigDecimal("30000.00"))
+                .valorDeducao(new BigDecimal("5000.00"))
+                .baseCalculo(new BigDecimal("25000.00"))
+                .build();
+        AtomicInteger carregamentos = new AtomicInteger();
+
+        // O listener começa no fim da partição: reenvia até a primeira mensagem chegar depois do posicionamento
+        long limite = System.nanoTime() + 30_000_000_000L;
+        boolean invalidado = false;
+        while (!invalidado && System.nanoTime() < limite) {
+            creditoCache.getByNumeroCredito("123456", numero -> {
+                carregamentos.incrementAndGet();
+                return Optional.of(credito);
+            });
+            int antes = carregamentos.get();
+            kafkaTemplate.send(TOPICO, CacheInvalidacaoDTO.builder()
+                    .origem("outra-replica")
+                    .numeroCredito("123456")
+                    .numeroNfse("7891011")
+                    .build()).get();
+            Thread.sleep(500);
+            creditoCache.getByNumeroCredito("123456", numero -> {
+                carregamentos.incrementAndGet();
+                return Optional.of(credito);
+            });
+            invalidado = carregamentos.get() > antes;
+        }
+
+        assertThat(invalidado).isTrue();
+        try (AdminClient admin = AdminClient.create(kafkaAdmin.getConfigurationProperties())) {
+            assertThat(admin.listConsumerGroups().all().get())
+                    .map(ConsumerGroupListing::groupId)
+                    .noneMatch(grupo -> grupo.contains("cache"));
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.creditoapi.infrastructure.messaging.impl;
+
+import com.creditoapi.application.dto.CacheInvalidacaoDTO;
+import com.creditoapi.infrastructure.cache.CreditoCache;
+import com.creditoapi.infrastructure.cache.InvalidatableCreditoCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("KafkaCacheInvalidationPublisher Tests")
+class KafkaCacheInvalidationPublisherTest {
+
+    private static final String TOPICO = "credito-cache-invalidacao-topic";
+
+    @Mock
+    private KafkaTemplate<String, CacheInvalidacaoDTO> kafkaTemplate;
+
+    @Mock
+    private CreditoCache creditoCache;
+
+    @Mock
+    private InvalidatableCreditoCache responseCache;
+
+    private KafkaCacheInvalidationPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        publisher = new KafkaCacheInvalidationPublisher(kafkaTemplate, List.of(creditoCache, responseCache),
+                TOPICO);
+    }
+
+    @Test
+    @DisplayName("Deve ignorar as próprias mensagens, já aplicadas no cache local")
+    void onInvalidacao_WhenOwnMessage_ShouldIgnore() {
+        ArgumentCaptor<CacheInvalidacaoDTO> enviada = ArgumentCaptor.forClass(CacheInvalidacaoDTO.class);
+        when(kafkaTemplate.send(eq(TOPICO), any(CacheInvalidacaoDTO.class)))
+                .thenReturn(CompletableFuture.<SendResult<String, CacheInvalidacaoDTO>>completedFuture(null));
+
+        publisher.publishEvict("123456", "7891011");
+        verify(kafkaTemplate).send(eq(TOPICO), enviada.capture());
+        publisher.onInvalidacao(enviada.getValue());
+
+        assertThat(enviada.getValue().numeroCredito()).isEqualTo("123456");
+        assertThat(enviada.getValue().todos()).isFalse();
+        verifyNoInteractions(creditoCache, responseCache);
+    }
+
+    @Test
+    @DisplayName("Deve invalidar o crédito em todos os caches locais ao receber mensagem de outra réplica")
+    void onInvalidacao_WhenFromOtherInstance_ShouldEvict() {
+        publisher.onInvalidacao(CacheInvalidacaoDTO.builder()
+                .origem("outra-replica")
+                .numeroCredito("123456")
+                .numeroNfse("7891011")
+                .build());
+
+        verify(creditoCache).evict("123456", "7891011");
+        verify(responseCache).evict("123456", "7891011");
+    }
+
+    @Test
+    @DisplayName("Deve limpar o cache local ao receber uma invalidação total")
+    void onInvalidacao_WhenTodos_ShouldClear() {
+        publisher.onInvalidacao(CacheInvalidacaoDTO.builder()
+                .origem("outra-replica")
+                .todos(true)
+                .build());
+
+        verify(creditoCache).clear();
+        verify(responseCache).clear();
+    }
+}
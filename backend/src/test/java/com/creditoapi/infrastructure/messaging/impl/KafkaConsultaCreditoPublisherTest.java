@@ -0,0 +1,139 @@
+package com.creditoapi.infrastructure.messaging.impl;
+
+import com.creditoapi.application.dto.ConsultaEventDTO;
+import com.creditoapi.infrastructure.messaging.ConsultaEventSpill;
+import com.creditoapi.infrastructure.messaging.pipeline.OverflowPolicy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("KafkaConsultaCreditoPublisher Tests")
+class KafkaConsultaCreditoPublisherTest {
+
+    private static final String TOPICO = "consulta-credito-topic";
+
+    @Mock
+    private KafkaTemplate<String, ConsultaEventDTO> kafkaTemplate;
+
+    @Mock
+    private ObjectProvider<ConsultaEventSpill> spillProvider;
+
+    @Mock
+    private ConsultaEventSpill spill;
+
+    private SimpleMeterRegistry meterRegistry;
+    private KafkaConsultaCreditoPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (publisher != null && publisher.isRunning()) {
+            publisher.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve enviar os eventos pela thread de drenagem, sem bloquear quem publica")
+    void publish_ShouldSendFromDrainerThread() {
+        AtomicReference<String> threadEnvio = new AtomicReference<>();
+        when(kafkaTemplate.send(eq(TOPICO), anyString(), any(ConsultaEventDTO.class))).thenAnswer(invocation -> {
+            threadEnvio.set(Thread.currentThread().getName());
+            return CompletableFuture.<SendResult<String, ConsultaEventDTO>>completedFuture(null);
+        });
+        publisher = createPublisher(16, OverflowPolicy.DROP_OLDEST);
+        publisher.start();
+
+        ConsultaEventDTO event = event("7891011");
+        publisher.publish(event);
+
+        verify(kafkaTemplate, timeout(2000)).send(TOPICO, "NFSE", event);
+        assertThat(threadEnvio).hasValue("consulta-event-drainer");
+    }
+
+    @Test
+    @DisplayName("Deve descartar o evento mais antigo quando a fila estiver cheia")
+    void publish_WhenFullWithDropOldest_ShouldDiscardOldestEvent() {
+        when(kafkaTemplate.send(eq(TOPICO), anyString(), any(ConsultaEventDTO.class)))
+                .thenReturn(CompletableFuture.completedFuture(null));
+        publisher = createPublisher(2, OverflowPolicy.DROP_OLDEST);
+
+        ConsultaEventDTO primeiro = event("1");
+        ConsultaEventDTO segundo = event("2");
+        ConsultaEventDTO terceiro = event("3");
+        publisher.publish(primeiro);
+        publisher.publish(segundo);
+        publisher.publish(terceiro);
+        publisher.start();
+
+        verify(kafkaTemplate, timeout(2000)).send(TOPICO, "NFSE", terceiro);
+        verify(kafkaTemplate).send(TOPICO, "NFSE", segundo);
+        verify(kafkaTemplate, never()).send(TOPICO, "NFSE", primeiro);
+        assertThat(meterRegistry.get("consulta.events.dropped").tag("motivo", "drop-oldest").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve desviar para o spill quando a fila estiver cheia com a política SPILL")
+    void publish_WhenFullWithSpill_ShouldSpillEvent() {
+        when(spillProvider.getIfAvailable()).thenReturn(spill);
+        publisher = createPublisher(2, OverflowPolicy.SPILL);
+
+        publisher.publish(event("1"));
+        publisher.publish(event("2"));
+        ConsultaEventDTO excedente = event("3");
+        publisher.publish(excedente);
+
+        verify(spill).spill(excedente);
+        assertThat(meterRegistry.get("consulta.events.spilled").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve exigir um spill configurado para a política SPILL")
+    void constructor_WhenSpillPolicyWithoutSpill_ShouldFail() {
+        assertThatThrownBy(() -> createPublisher(2, OverflowPolicy.SPILL))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private KafkaConsultaCreditoPublisher createPublisher(int capacity, OverflowPolicy policy) {
+        return new KafkaConsultaCreditoPublisher(kafkaTemplate, meterRegistry, spillProvider, TOPICO,
+                capacity, 100, policy, Duration.ofMillis(5));
+    }
+
+    private static ConsultaEventDTO event(String parametro) {
+        return ConsultaEventDTO.builder()
+                .tipoConsulta("NFSE")
+                .parametroConsulta(parametro)
+                .dataHoraConsulta(LocalDateTime.now())
+                .quantidadeResultados(1)
+                .sucesso(true)
+                .build();
+    }
+}
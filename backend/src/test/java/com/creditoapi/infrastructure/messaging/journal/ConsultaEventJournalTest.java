@@ -0,0 +1,230 @@
+package com.creditoapi.infrastructure.messaging.journal;
+
+import com.creditoapi.application.dto.ConsultaEventDTO;
+import com.creditoapi.infrastructure.messaging.journal.ConsultaEventJournal.JournalBatch;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ConsultaEventJournal Tests")
+class ConsultaEventJournalTest {
+
+    private static final String PRIMEIRO_SEGMENTO = "segment-0000000000000000000.journal";
+
+    @TempDir
+    Path directory;
+
+    private SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<ConsultaEventJournal> abertos = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        abertos.forEach(ConsultaEventJournal::destroy);
+    }
+
+    @Test
+    @DisplayName("Deve ler os eventos na ordem em que foram gravados")
+    void read_WhenEventsAppended_ShouldReturnInOrder() throws IOException {
+        ConsultaEventJournal journal = journal(DataSize.ofKilobytes(64), 4);
+
+        journal.append(event("1"));
+        journal.append(event("2"));
+        journal.append(event("3"));
+
+        JournalBatch batch = journal.read(10);
+
+        assertThat(batch.events()).extracting(ConsultaEventDTO::parametroConsulta)
+                .containsExactly("1", "2", "3");
+        assertThat(batch.events().get(0)).isEqualTo(event("1"));
+    }
+
+    @Test
+    @DisplayName("Deve reentregar eventos não confirmados e avançar após commit")
+    void commit_WhenBatchCommitted_ShouldAdvanceCursor() throws IOException {
+        ConsultaEventJournal journal = journal(DataSize.ofKilobytes(64), 4);
+        journal.append(event("1"));
+        journal.append(event("2"));
+        journal.append(event("3"));
+
+        JournalBatch primeiro = journal.read(2);
+        assertThat(journal.read(2).events()).isEqualTo(primeiro.events());
+
+        journal.commit(primeiro);
+
+        assertThat(journal.read(10).events()).extracting(ConsultaEventDTO::parametroConsulta)
+                .containsExactly("3");
+    }
+
+    @Test
+    @DisplayName("Deve recuperar eventos pendentes após reinício do processo")
+    void open_WhenJournalReopened_ShouldRecoverPendingEvents() throws IOException {
+        ConsultaEventJournal journal = journal(DataSize.ofKilobytes(64), 4);
+        journal.append(event("1"));
+        journal.append(event("2"));
+        journal.commit(journal.read(1));
+
+        ConsultaEventJournal reaberto = journal(DataSize.ofKilobytes(64), 4);
+        reaberto.append(event("3"));
+
+        assertThat(reaberto.read(10).events()).extracting(ConsultaEventDTO::parametroConsulta)
+                .containsExactly("2", "3");
+    }
+
+    @Test
+    @DisplayName("Deve descartar registro incompleto ao reabrir o journal")
+    void open_WhenRecordTorn_ShouldTruncateAtLastValidRecord() throws IOException {
+        ConsultaEventJournal journal = journal(DataSize.ofKilobytes(64), 4);
+        journal.append(event("1"));
+        journal.append(event("2"));
+        long pendentes = journal.pendingBytes();
+
+        try (RandomAccessFile file = new RandomAccessFile(segments().findFirst().orElseThrow().toFile(), "rw")) {
+            file.seek(pendentes / 2 + 8);
+            file.writeLong(-1L);
+        }
+
+        ConsultaEventJournal reaberto = journal(DataSize.ofKilobytes(64), 4);
+
+        assertThat(reaberto.read(10).events()).extracting(ConsultaEventDTO::parametroConsulta)
+                .containsExactly("1");
+    }
+
+    @Test
+    @DisplayName("Deve criar novos segmentos e remover os já confirmados")
+    void append_WhenSegmentFull_ShouldRollOverAndDeleteCommitted() throws IOException {
+        ConsultaEventJournal journal = journal(DataSize.ofBytes(256), 16);
+        for (int i = 0; i < 20; i++) {
+            journal.append(event(String.valueOf(i)));
+        }
+        assertThat(journal.segmentCount()).isGreaterThan(1);
+
+        JournalBatch batch = journal.read(20);
+        assertThat(batch.events()).hasSize(20);
+        journal.commit(batch);
+
+        assertThat(journal.segmentCount()).isEqualTo(1);
+        assertThat(journal.pendingBytes()).isZero();
+        // O segmento atual e, se já preparado, o próximo
+        assertThat(segments()).hasSizeLessThanOrEqualTo(2)
+                .noneMatch(path -> path.getFileName().toString().equals(PRIMEIRO_SEGMENTO));
+    }
+
+    @Test
+    @DisplayName("Deve preparar o próximo segmento antes de o atual encher")
+    void open_ShouldPrepareNextSegmentInBackground() throws IOException {
+        ConsultaEventJournal journal = journal(DataSize.ofKilobytes(64), 4);
+
+        journal.aguardarPreparacao();
+
+        assertThat(segments()).extracting(path -> path.getFileName().toString())
+                .containsExactly(PRIMEIRO_SEGMENTO, "segment-0000000000000000001.journal");
+        assertThat(journal.segmentCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve descartar e contar o evento quando não conseguir criar o próximo segmento")
+    void append_WhenNextSegmentCannotBeCreated_ShouldCountFailureWithoutThrowing() throws IOException {
+        Path diretorioRemovido = directory.resolve("removido");
+        meterRegistry = new SimpleMeterRegistry();
+        ConsultaEventJournal journal = new ConsultaEventJournal(meterRegistry, diretorioRemovido,
+                DataSize.ofBytes(256), 16);
+        abertos.add(journal);
+        journal.aguardarPreparacao();
+        try (Stream<Path> files = Files.list(diretorioRemovido)) {
+            for (Path file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(diretorioRemovido);
+
+        for (int i = 0; i < 20; i++) {
+            journal.append(event(String.valueOf(i)));
+        }
+
+        assertThat(meterRegistry.get("consulta.journal.failed").counter().count()).isPositive();
+        assertThat(journal.read(100).events()).isNotEmpty();
+        // Para o checkpoint gravado no encerramento
+        Files.createDirectories(diretorioRemovido);
+    }
+
+    @Test
+    @DisplayName("Deve descartar o segmento mais antigo ao atingir o limite de segmentos")
+    void append_WhenMaxSegmentsReached_ShouldDiscardOldest() throws IOException {
+        ConsultaEventJournal journal = journal(DataSize.ofBytes(256), 3);
+        for (int i = 0; i < 20; i++) {
+            journal.append(event(String.valueOf(i)));
+        }
+        journal.aguardarPreparacao();
+
+        JournalBatch batch = journal.read(100);
+
+        // O segmento já preparado conta no limite
+        assertThat(journal.segmentCount()).isEqualTo(2);
+        assertThat(segments()).hasSize(3);
+        assertThat(batch.events()).hasSizeLessThan(20);
+        assertThat(batch.events().get(batch.events().size() - 1).parametroConsulta()).isEqualTo("19");
+        assertThat(meterRegistry.get("consulta.journal.segments.discarded").counter().count()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Deve reaproveitar ao reabrir o segmento que ficou preparado, sem criar outro")
+    void open_WhenPreparedSegmentLeftOnDisk_ShouldReuseIt() throws IOException {
+        ConsultaEventJournal journal = journal(DataSize.ofKilobytes(64), 3);
+        journal.append(event("1"));
+        journal.aguardarPreparacao();
+
+        ConsultaEventJournal reaberto = journal(DataSize.ofKilobytes(64), 3);
+        reaberto.aguardarPreparacao();
+
+        assertThat(reaberto.segmentCount()).isEqualTo(1);
+        assertThat(segments()).extracting(path -> path.getFileName().toString())
+                .containsExactly(PRIMEIRO_SEGMENTO, "segment-0000000000000000001.journal");
+        assertThat(reaberto.read(10).events()).extracting(ConsultaEventDTO::parametroConsulta)
+                .containsExactly("1");
+    }
+
+    @Test
+    @DisplayName("Deve exigir ao menos três segmentos, contando o preparado")
+    void constructor_WhenTooFewSegments_ShouldThrow() {
+        assertThatThrownBy(() -> journal(DataSize.ofKilobytes(64), 2))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private ConsultaEventJournal journal(DataSize segmentSize, int maxSegments) throws IOException {
+        meterRegistry = new SimpleMeterRegistry();
+        ConsultaEventJournal journal = new ConsultaEventJournal(meterRegistry, directory, segmentSize, maxSegments);
+        abertos.add(journal);
+        return journal;
+    }
+
+    private Stream<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().endsWith(".journal")).sorted().toList().stream();
+        }
+    }
+
+    private static ConsultaEventDTO event(String parametro) {
+        return ConsultaEventDTO.builder()
+                .tipoConsulta("NFSE")
+                .parametroConsulta(parametro)
+                .dataHoraConsulta(LocalDateTime.of(2024, 2, 25, 10, 30))
+                .quantidadeResultados(2)
+                .sucesso(true)
+                .build();
+    }
+}
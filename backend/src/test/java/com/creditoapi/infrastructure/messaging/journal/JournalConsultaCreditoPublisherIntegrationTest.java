@@ -0,0 +1,82 @@
+package com.creditoapi.infrastructure.messaging.journal;
+
+import com.creditoapi.application.dto.ConsultaEventDTO;
+import com.creditoapi.infrastructure.messaging.ConsultaCreditoPublisher;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "app.kafka.enabled=true",
+        "app.kafka.publisher=journal",
+        "app.kafka.journal.directory=${java.io.tmpdir}/credito-api-test/journal-${random.uuid}",
+        "spring.kafka.bootstrap-servers=${spring.embedded.kafka.brokers}"
+})
+@ActiveProfiles("test")
+@DirtiesContext
+@EmbeddedKafka(partitions = 1, topics = "consulta-credito-topic")
+@DisplayName("JournalConsultaCreditoPublisher Integration Tests")
+class JournalConsultaCreditoPublisherIntegrationTest {
+
+    @Autowired
+    private ConsultaCreditoPublisher publisher;
+
+    @Autowired
+    private ConsultaEventJournal journal;
+
+    @Autowired
+    private EmbeddedKafkaBroker embeddedKafka;
+
+    @Test
+    @DisplayName("Deve entregar ao Kafka os eventos gravados no journal")
+    void publish_WhenJournalMode_ShouldDeliverEventsToKafka() {
+        assertThat(publisher).isInstanceOf(JournalConsultaCreditoPublisher.class);
+
+        for (int i = 0; i < 10; i++) {
+            publisher.publish(ConsultaEventDTO.builder()
+                    .tipoConsulta("NFSE")
+                    .parametroConsulta("nfse-" + i)
+                    .dataHoraConsulta(LocalDateTime.now())
+                    .quantidadeResultados(1)
+                    .sucesso(true)
+                    .build());
+        }
+
+        Map<String, Object> props = KafkaTestUtils.consumerProps("journal-test", "false", embeddedKafka);
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        List<String> recebidos = new ArrayList<>();
+        try (Consumer<String, String> consumer = new DefaultKafkaConsumerFactory<>(
+                props, new StringDeserializer(), new StringDeserializer()).createConsumer()) {
+            embeddedKafka.consumeFromAnEmbeddedTopic(consumer, "consulta-credito-topic");
+            long limite = System.nanoTime() + Duration.ofSeconds(30).toNanos();
+            while (recebidos.size() < 10 && System.nanoTime() < limite) {
+                ConsumerRecords<String, String> records = KafkaTestUtils.getRecords(consumer, Duration.ofSeconds(1));
+                records.forEach(record -> recebidos.add(record.value()));
+            }
+        }
+
+        assertThat(recebidos).hasSize(10);
+        assertThat(recebidos.get(0)).contains("\"parametroConsulta\":\"nfse-0\"");
+        assertThat(recebidos.get(9)).contains("\"parametroConsulta\":\"nfse-9\"");
+        assertThat(journal.pendingBytes()).isZero();
+    }
+}
@@ -0,0 +1,83 @@
+package com.creditoapi.infrastructure.messaging.pipeline;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("BoundedRingBuffer Tests")
+class BoundedRingBufferTest {
+
+    @Test
+    @DisplayName("Deve manter a ordem FIFO e recusar elementos quando cheio")
+    void offer_WhenFull_ShouldRejectAndKeepFifoOrder() {
+        BoundedRingBuffer<Integer> buffer = new BoundedRingBuffer<>(4);
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(buffer.offer(i)).isTrue();
+        }
+
+        assertThat(buffer.offer(4)).isFalse();
+        assertThat(buffer.size()).isEqualTo(4);
+        assertThat(buffer.poll()).isZero();
+        assertThat(buffer.offer(4)).isTrue();
+
+        List<Integer> drained = new ArrayList<>();
+        assertThat(buffer.drainTo(drained, 10)).isEqualTo(4);
+        assertThat(drained).containsExactly(1, 2, 3, 4);
+        assertThat(buffer.poll()).isNull();
+        assertThat(buffer.isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar capacidade que não seja potência de 2")
+    void constructor_WhenCapacityIsNotPowerOfTwo_ShouldThrow() {
+        assertThatThrownBy(() -> new BoundedRingBuffer<>(100)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Não deve perder nem duplicar elementos com vários produtores concorrentes")
+    void offer_WithConcurrentProducers_ShouldDeliverEveryElementOnce() throws Exception {
+        int produtores = 8;
+        int porProdutor = 5_000;
+        BoundedRingBuffer<Integer> buffer = new BoundedRingBuffer<>(1024);
+        CountDownLatch inicio = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(produtores);
+
+        for (int p = 0; p < produtores; p++) {
+            int base = p * porProdutor;
+            executor.submit(() -> {
+                inicio.await();
+                for (int i = 0; i < porProdutor; i++) {
+                    while (!buffer.offer(base + i)) {
+                        Thread.onSpinWait();
+                    }
+                }
+                return null;
+            });
+        }
+
+        Set<Integer> recebidos = new HashSet<>();
+        inicio.countDown();
+        while (recebidos.size() < produtores * porProdutor) {
+            Integer elemento = buffer.poll();
+            if (elemento != null) {
+                assertThat(recebidos.add(elemento)).isTrue();
+            }
+        }
+        executor.shutdown();
+
+        assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(buffer.isEmpty()).isTrue();
+    }
+}
@@ -0,0 +1,42 @@
+package com.creditoapi.infrastructure.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+@ActiveProfiles("test")
+@DisplayName("Métricas de consulta expostas ao Prometheus")
+class ConsultaMetricsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("Deve expor latência por endpoint, tempo de repositório e 404 com a tag tipoConsulta")
+    void prometheus_AfterNotFoundLookup_ShouldExposeMetricsTaggedByTipoConsulta() throws Exception {
+        mockMvc.perform(get("/api/creditos/{numeroNfse}", "nfse-inexistente"))
+                .andExpect(status().isNotFound());
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(allOf(
+                        containsString("http_server_requests_seconds_bucket{"),
+                        containsString("tipoConsulta=\"NFSE\",uri=\"/api/creditos/{numeroNfse}\""),
+                        containsString("consulta_repository_seconds_count{application=\"credito-api\",tipoConsulta=\"NFSE\""),
+                        containsString("consulta_nao_encontrada_total{application=\"credito-api\",tipoConsulta=\"NFSE\""))));
+    }
+}
@@ -0,0 +1,108 @@
+package com.creditoapi.infrastructure.metrics;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ConsultaMetrics Tests")
+class ConsultaMetricsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ConsultaMetrics consultaMetrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        consultaMetrics = new ConsultaMetrics(meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Deve cronometrar repositório e mapper separadamente por tipo de consulta")
+    void timeRepositoryAndMapper_ShouldRecordTimersTaggedByTipoConsulta() {
+        List<String> resultado = consultaMetrics.timeRepository("NFSE", () -> List.of("a", "b"));
+        consultaMetrics.timeMapper("LISTAGEM", () -> resultado);
+
+        assertThat(resultado).containsExactly("a", "b");
+        assertThat(meterRegistry.get("consulta.repository").tag("tipoConsulta", "NFSE").timer().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("consulta.mapper").tag("tipoConsulta", "LISTAGEM").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve acumular tamanho dos resultados e consultas não encontradas")
+    void recordResultadosAndNaoEncontrada_ShouldUpdateMeters() {
+        consultaMetrics.recordResultados("BATCH", 3);
+        consultaMetrics.recordResultados("BATCH", 5);
+        consultaMetrics.recordNaoEncontrada("CREDITO");
+
+        assertThat(meterRegistry.get("consulta.resultados").tag("tipoConsulta", "BATCH").summary().max())
+                .isEqualTo(5);
+        assertThat(meterRegistry.get("consulta.nao.encontrada").tag("tipoConsulta", "CREDITO").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve resolver o tipo de consulta a partir da anotação do handler")
+    void tipoConsulta_ShouldReadAnnotationOrFallbackToNone() throws NoSuchMethodException {
+        HandlerMethod anotado = new HandlerMethod(new Handlers(), Handlers.class.getMethod("anotado"));
+        HandlerMethod semAnotacao = new HandlerMethod(new Handlers(), Handlers.class.getMethod("semAnotacao"));
+
+        assertThat(ConsultaMetrics.tipoConsulta(anotado)).isEqualTo("NFSE");
+        assertThat(ConsultaMetrics.tipoConsulta(semAnotacao)).isEqualTo(KeyValue.NONE_VALUE);
+        assertThat(ConsultaMetrics.tipoConsulta(null)).isEqualTo(KeyValue.NONE_VALUE);
+    }
+
+    @Test
+    @DisplayName("Deve avisar os ouvintes de latência do banco em consultas com sucesso e com falha")
+    void timeRepository_WithLatencyListener_ShouldNotifySuccessAndFailure() {
+        List<Boolean> amostras = new ArrayList<>();
+        ConsultaMetrics comOuvinte = new ConsultaMetrics(meterRegistry,
+                List.of((nanos, sucesso) -> amostras.add(sucesso)));
+
+        comOuvinte.timeRepository("NFSE", () -> "ok");
+        assertThatThrownBy(() -> comOuvinte.timeRepository("NFSE", () -> {
+            throw new IllegalStateException("timeout");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(amostras).containsExactly(true, false);
+        assertThat(meterRegistry.get("consulta.repository").tag("tipoConsulta", "NFSE").timer().count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Deve acrescentar tipoConsulta às tags de http.server.requests")
+    void observationConvention_ShouldAddTipoConsultaKeyValue() throws NoSuchMethodException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/creditos/7891011");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE,
+                new HandlerMethod(new Handlers(), Handlers.class.getMethod("anotado")));
+        ServerRequestObservationContext context =
+                new ServerRequestObservationContext(request, new MockHttpServletResponse());
+
+        assertThat(new ConsultaServerRequestObservationConvention().getLowCardinalityKeyValues(context))
+                .contains(KeyValue.of("tipoConsulta", "NFSE"));
+    }
+
+    static class Handlers {
+
+        @TipoConsulta("NFSE")
+        public void anotado() {
+        }
+
+        public void semAnotacao() {
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.creditoapi.infrastructure.persistence;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ConcurrencyLimitingDataSource Tests")
+class ConcurrencyLimitingDataSourceTest {
+
+    private DataSource targetDataSource;
+    private Connection connection;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        targetDataSource = mock(DataSource.class);
+        connection = mock(Connection.class);
+        when(targetDataSource.getConnection()).thenReturn(connection);
+    }
+
+    @Test
+    @DisplayName("Deve liberar a vaga quando a conexão é fechada, mesmo com close repetido")
+    void getConnection_WhenClosed_ShouldReleasePermitOnce() throws SQLException {
+        ConcurrencyLimitingDataSource dataSource =
+                new ConcurrencyLimitingDataSource(targetDataSource, 2, Duration.ofSeconds(1));
+
+        Connection borrowed = dataSource.getConnection();
+        assertThat(dataSource.getAvailablePermits()).isEqualTo(1);
+
+        borrowed.close();
+        borrowed.close();
+
+        assertThat(dataSource.getAvailablePermits()).isEqualTo(2);
+        verify(connection, times(2)).close();
+    }
+
+    @Test
+    @DisplayName("Deve falhar com erro transitório quando não houver vaga dentro do timeout")
+    void getConnection_WhenNoPermitAvailable_ShouldTimeOut() throws SQLException {
+        ConcurrencyLimitingDataSource dataSource =
+                new ConcurrencyLimitingDataSource(targetDataSource, 1, Duration.ofMillis(50));
+
+        dataSource.getConnection();
+
+        assertThatThrownBy(dataSource::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+        verify(targetDataSource, times(1)).getConnection();
+    }
+
+    @Test
+    @DisplayName("Deve entregar a conexão à thread em espera assim que uma vaga for liberada")
+    void getConnection_WhenPermitReleased_ShouldUnblockWaiter() throws Exception {
+        ConcurrencyLimitingDataSource dataSource =
+                new ConcurrencyLimitingDataSource(targetDataSource, 1, Duration.ofSeconds(5));
+        Connection borrowed = dataSource.getConnection();
+
+        CompletableFuture<Connection> waiter = CompletableFuture.supplyAsync(() -> {
+            try {
+                return dataSource.getConnection();
+            } catch (SQLException ex) {
+                throw new IllegalStateException(ex);
+            }
+        }, Thread::startVirtualThread);
+
+        while (dataSource.getQueueLength() == 0) {
+            Thread.onSpinWait();
+        }
+        assertThat(waiter).isNotDone();
+
+        borrowed.close();
+
+        assertThat(waiter.get(5, TimeUnit.SECONDS)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Deve devolver a vaga quando o datasource de destino falhar")
+    void getConnection_WhenTargetFails_ShouldReleasePermit() throws SQLException {
+        when(targetDataSource.getConnection()).thenThrow(new SQLException("falha"));
+        ConcurrencyLimitingDataSource dataSource =
+                new ConcurrencyLimitingDataSource(targetDataSource, 1, Duration.ofMillis(50));
+
+        assertThatThrownBy(dataSource::getConnection).isInstanceOf(SQLException.class);
+
+        assertThat(dataSource.getAvailablePermits()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,45 @@
+package com.creditoapi.infrastructure.persistence;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("DatabaseDialect Tests")
+class DatabaseDialectTest {
+
+    @Test
+    @DisplayName("Deve reconhecer o PostgreSQL pelo produto informado nos metadados da conexão")
+    void isPostgres_WhenDriverReportsPostgres_ShouldReturnTrue() throws SQLException {
+        DataSource dataSource = dataSource("PostgreSQL");
+
+        assertThat(new DatabaseDialect(dataSource).isPostgres()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Deve tratar os demais bancos como não PostgreSQL e devolver a conexão usada na detecção")
+    void isPostgres_WhenDriverReportsH2_ShouldReturnFalse() throws SQLException {
+        DataSource dataSource = dataSource("H2");
+
+        assertThat(new DatabaseDialect(dataSource).isPostgres()).isFalse();
+        verify(dataSource.getConnection()).close();
+    }
+
+    private static DataSource dataSource(String produto) throws SQLException {
+        DataSource dataSource = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        DatabaseMetaData metaData = mock(DatabaseMetaData.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.getMetaData()).thenReturn(metaData);
+        when(metaData.getDatabaseProductName()).thenReturn(produto);
+        return dataSource;
+    }
+}
@@ -0,0 +1,64 @@
+package com.creditoapi.infrastructure.persistence;
+
+import com.creditoapi.domain.entity.ConsultaEstatistica;
+import com.creditoapi.domain.repository.ConsultaEstatisticaRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(JdbcBatchConsultaEstatisticaWriter.class)
+@DisplayName("JdbcBatchConsultaEstatisticaWriter Tests")
+class JdbcBatchConsultaEstatisticaWriterTest {
+
+    private static final LocalDateTime MINUTO = LocalDateTime.of(2024, 3, 1, 10, 15);
+
+    @Autowired
+    private ConsultaEstatisticaRepository estatisticaRepository;
+
+    @Autowired
+    private ConsultaEstatisticaWriter writer;
+
+    @Test
+    @DisplayName("Deve inserir chaves novas e somar os contadores das existentes")
+    void upsert_ShouldInsertNewKeysAndAddToExistingCounters() {
+        writer.upsert(List.of(estatistica("NFSE", MINUTO, 3, 2), estatistica("CREDITO", MINUTO, 1, 0)));
+        writer.upsert(List.of(estatistica("NFSE", MINUTO, 5, 4), estatistica("NFSE", MINUTO.plusMinutes(1), 1, 1)));
+
+        List<ConsultaEstatistica> gravadas = estatisticaRepository.findPeriodo(null, MINUTO, MINUTO.plusHours(1));
+
+        assertThat(gravadas)
+                .extracting(ConsultaEstatistica::getTipoConsulta, ConsultaEstatistica::getMinuto,
+                        ConsultaEstatistica::getTotal, ConsultaEstatistica::getEncontradas,
+                        ConsultaEstatistica::getResultados1)
+                .containsExactly(
+                        tuple("CREDITO", MINUTO, 1L, 0L, 1L),
+                        tuple("NFSE", MINUTO, 8L, 6L, 8L),
+                        tuple("NFSE", MINUTO.plusMinutes(1), 1L, 1L, 1L));
+        assertThat(estatisticaRepository.findPeriodo("CREDITO", MINUTO, MINUTO.plusHours(1))).hasSize(1);
+    }
+
+    private static ConsultaEstatistica estatistica(String tipoConsulta, LocalDateTime minuto, long total,
+                                                   long encontradas) {
+        return ConsultaEstatistica.builder()
+                .tipoConsulta(tipoConsulta)
+                .minuto(minuto)
+                .total(total)
+                .encontradas(encontradas)
+                .naoEncontradas(total - encontradas)
+                .somaResultados(encontradas)
+                .resultados0(total - encontradas)
+                .resultados1(total)
+                .build();
+    }
+}
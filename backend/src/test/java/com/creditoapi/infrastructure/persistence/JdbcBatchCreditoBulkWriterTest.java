@@ -0,0 +1,82 @@
+package com.creditoapi.infrastructure.persistence;
+
+import com.creditoapi.application.dto.CreditoDTO;
+import com.creditoapi.domain.entity.Credito;
+import com.creditoapi.domain.repository.CreditoRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({JdbcBatchCreditoBulkWriter.class, JdbcCreditoProjectionRepository.class, DatabaseDialect.class})
+@DisplayName("JdbcBatchCreditoBulkWriter Tests")
+class JdbcBatchCreditoBulkWriterTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private CreditoRepository creditoRepository;
+
+    @Autowired
+    private CreditoProjectionRepository projectionRepository;
+
+    @Autowired
+    private CreditoBulkWriter bulkWriter;
+
+    @Test
+    @DisplayName("Deve inserir créditos novos e atualizar os existentes pelo número do crédito")
+    void upsert_ShouldInsertNewAndUpdateExistingByNumeroCredito() {
+        entityManager.persistAndFlush(Credito.builder()
+                .numeroCredito("123456")
+                .numeroNfse("7891011")
+                .dataConstituicao(LocalDate.of(2024, 2, 25))
+                .valorIssqn(new BigDecimal("1500.75"))
+                .tipoCredito("ISSQN")
+                .simplesNacional(true)
+                .aliquota(new BigDecimal("5.00"))
+                .valorFaturado(new BigDecimal("30000.00"))
+                .valorDeducao(new BigDecimal("5000.00"))
+                .baseCalculo(new BigDecimal("25000.00"))
+                .build());
+
+        long gravados = bulkWriter.upsert(List.of(
+                credito("123456", "9999999", "Não"),
+                credito("555555", "9999999", "Sim")));
+
+        assertThat(gravados).isEqualTo(2);
+        assertThat(creditoRepository.count()).isEqualTo(2);
+        assertThat(projectionRepository.findDTOByNumeroCredito("123456"))
+                .hasValueSatisfying(credito -> {
+                    assertThat(credito.numeroNfse()).isEqualTo("9999999");
+                    assertThat(credito.simplesNacional()).isEqualTo("Não");
+                });
+        assertThat(projectionRepository.findDTOByNumeroNfse("9999999")).hasSize(2);
+    }
+
+    private static CreditoDTO credito(String numeroCredito, String numeroNfse, String simplesNacional) {
+        return CreditoDTO.builder()
+                .numeroCredito(numeroCredito)
+                .numeroNfse(numeroNfse)
+                .dataConstituicao(LocalDate.of(2024, 3, 1))
+                .valorIssqn(new BigDecimal("100.00"))
+                .tipoCredito("ISSQN")
+                .simplesNacional(simplesNacional)
+                .aliquota(new BigDecimal("2.50"))
+                .valorFaturado(new BigDecimal("4000.00"))
+                .valorDeducao(BigDecimal.ZERO)
+                .baseCalculo(new BigDecimal("4000.00"))
+                .build();
+    }
+}
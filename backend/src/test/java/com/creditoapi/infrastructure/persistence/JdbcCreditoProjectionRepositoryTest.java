@@ -0,0 +1,180 @@
+package com.creditoapi.infrastructure.persistence;
+
+import com.creditoapi.application.dto.CreditoDTO;
+import com.creditoapi.application.dto.CreditoFiltroDTO;
+import com.creditoapi.application.dto.ResumoCreditoDTO;
+import com.creditoapi.domain.entity.Credito;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({JdbcCreditoProjectionRepository.class, DatabaseDialect.class})
+@DisplayName("JdbcCreditoProjectionRepository Tests")
+class JdbcCreditoProjectionRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private CreditoProjectionRepository projectionRepository;
+
+    private Credito credito1;
+    private Credito credito2;
+    private Credito credito3;
+
+    @BeforeEach
+    void setUp() {
+        credito1 = Credito.builder()
+                .numeroCredito("123456")
+                .numeroNfse("7891011")
+                .dataConstituicao(LocalDate.of(2024, 2, 25))
+                .valorIssqn(new BigDecimal("1500.75"))
+                .tipoCredito("ISSQN")
+                .simplesNacional(true)
+                .aliquota(new BigDecimal("5.0"))
+                .valorFaturado(new BigDecimal("30000.00"))
+                .valorDeducao(new BigDecimal("5000.00"))
+                .baseCalculo(new BigDecimal("25000.00"))
+                .build();
+
+        credito2 = Credito.builder()
+                .numeroCredito("789012")
+                .numeroNfse("7891011")
+                .dataConstituicao(LocalDate.of(2024, 2, 26))
+                .valorIssqn(new BigDecimal("1200.50"))
+                .tipoCredito("ISSQN")
+                .simplesNacional(false)
+                .aliquota(new BigDecimal("4.5"))
+                .valorFaturado(new BigDecimal("25000.00"))
+                .valorDeducao(new BigDecimal("4000.00"))
+                .baseCalculo(new BigDecimal("21000.00"))
+                .build();
+
+        credito3 = Credito.builder()
+                .numeroCredito("654321")
+                .numeroNfse("1122334")
+                .dataConstituicao(LocalDate.of(2024, 1, 15))
+                .valorIssqn(new BigDecimal("800.50"))
+                .tipoCredito("Outros")
+                .simplesNacional(true)
+                .aliquota(new BigDecimal("3.5"))
+                .valorFaturado(new BigDecimal("20000.00"))
+                .valorDeducao(new BigDecimal("3000.00"))
+                .baseCalculo(new BigDecimal("17000.00"))
+                .build();
+
+        entityManager.persist(credito1);
+        entityManager.persist(credito2);
+        entityManager.persist(credito3);
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("Deve projetar créditos da NFS-e diretamente em DTO com Simples Nacional traduzido")
+    void findDTOByNumeroNfse_ShouldProjectIntoDtoWithTranslatedSimplesNacional() {
+        List<CreditoDTO> result = projectionRepository.findDTOByNumeroNfse("7891011");
+
+        assertThat(result).extracting(CreditoDTO::numeroCredito, CreditoDTO::simplesNacional)
+                .containsExactlyInAnyOrder(
+                        tuple("123456", "Sim"),
+                        tuple("789012", "Não"));
+        assertThat(result).allSatisfy(dto -> assertThat(dto.dataConstituicao()).isNotNull());
+    }
+
+    @Test
+    @DisplayName("Deve projetar crédito por número com todos os campos")
+    void findDTOByNumeroCredito_ShouldProjectAllFields() {
+        Optional<CreditoDTO> result = projectionRepository.findDTOByNumeroCredito("654321");
+
+        assertThat(result).isPresent();
+        assertThat(result.get().numeroNfse()).isEqualTo("1122334");
+        assertThat(result.get().dataConstituicao()).isEqualTo(LocalDate.of(2024, 1, 15));
+        assertThat(result.get().valorIssqn()).isEqualByComparingTo("800.50");
+        assertThat(result.get().tipoCredito()).isEqualTo("Outros");
+        assertThat(result.get().simplesNacional()).isEqualTo("Sim");
+        assertThat(result.get().baseCalculo()).isEqualByComparingTo("17000.00");
+        assertThat(projectionRepository.findDTOByNumeroCredito("999999")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve projetar em DTO os créditos de várias chaves em uma única consulta")
+    void findDTOByChavesIn_ShouldProjectOnlyExistingCreditos() {
+        assertThat(projectionRepository.findDTOByNumeroNfseIn(List.of("7891011", "999999")))
+                .extracting(CreditoDTO::numeroCredito)
+                .containsExactlyInAnyOrder("123456", "789012");
+        assertThat(projectionRepository.findDTOByNumeroCreditoIn(List.of("654321", "999999")))
+                .extracting(CreditoDTO::numeroCredito)
+                .containsExactly("654321");
+    }
+
+    @Test
+    @DisplayName("Deve agregar quantidade, totais e médias por tipo, Simples Nacional e mês")
+    void resumir_ShouldAggregateByTipoSimplesNacionalAndMes() {
+        entityManager.persist(Credito.builder()
+                .numeroCredito("123457")
+                .numeroNfse("7891012")
+                .dataConstituicao(LocalDate.of(2024, 2, 10))
+                .valorIssqn(new BigDecimal("499.25"))
+                .tipoCredito("ISSQN")
+                .simplesNacional(true)
+                .aliquota(new BigDecimal("3.0"))
+                .valorFaturado(new BigDecimal("10000.00"))
+                .valorDeducao(new BigDecimal("1000.00"))
+                .baseCalculo(new BigDecimal("9000.00"))
+                .build());
+        entityManager.flush();
+
+        List<ResumoCreditoDTO> result = projectionRepository.resumir(CreditoFiltroDTO.builder().build());
+
+        assertThat(result)
+                .extracting(ResumoCreditoDTO::mes, ResumoCreditoDTO::tipoCredito, ResumoCreditoDTO::simplesNacional,
+                        ResumoCreditoDTO::quantidade)
+                .containsExactly(
+                        tuple(YearMonth.of(2024, 1), "Outros", "Sim", 1L),
+                        tuple(YearMonth.of(2024, 2), "ISSQN", "Não", 1L),
+                        tuple(YearMonth.of(2024, 2), "ISSQN", "Sim", 2L));
+        ResumoCreditoDTO issqnSimples = result.get(2);
+        assertThat(issqnSimples.totalValorIssqn()).isEqualByComparingTo("2000.00");
+        assertThat(issqnSimples.totalValorFaturado()).isEqualByComparingTo("40000.00");
+        assertThat(issqnSimples.totalValorDeducao()).isEqualByComparingTo("6000.00");
+        assertThat(issqnSimples.totalBaseCalculo()).isEqualByComparingTo("34000.00");
+        assertThat(issqnSimples.mediaValorIssqn()).isEqualByComparingTo("1000.00");
+        assertThat(issqnSimples.mediaAliquota()).isEqualByComparingTo("4.00");
+    }
+
+    @Test
+    @DisplayName("Deve aplicar os filtros de tipo, Simples Nacional e período no resumo")
+    void resumir_WhenFiltersInformed_ShouldAggregateOnlyMatchingRecords() {
+        List<ResumoCreditoDTO> result = projectionRepository.resumir(CreditoFiltroDTO.builder()
+                .tipoCredito("ISSQN")
+                .simplesNacional(false)
+                .dataInicio(LocalDate.of(2024, 2, 1))
+                .dataFim(LocalDate.of(2024, 2, 29))
+                .build());
+
+        assertThat(result).singleElement().satisfies(resumo -> {
+            assertThat(resumo.mes()).isEqualTo(YearMonth.of(2024, 2));
+            assertThat(resumo.quantidade()).isEqualTo(1);
+            assertThat(resumo.totalValorIssqn()).isEqualByComparingTo("1200.50");
+        });
+        assertThat(projectionRepository.resumir(CreditoFiltroDTO.builder()
+                .dataFim(LocalDate.of(2023, 12, 31))
+                .build())).isEmpty();
+    }
+}
@@ -0,0 +1,35 @@
+package com.creditoapi.infrastructure.persistence;
+
+import com.creditoapi.application.dto.CreditoDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PostgresCopyCreditoBulkWriter Tests")
+class PostgresCopyCreditoBulkWriterTest {
+
+    @Test
+    @DisplayName("Deve gerar o CSV do COPY com textos entre aspas e booleanos nativos")
+    void toCsv_ShouldQuoteTextAndConvertSimplesNacional() {
+        CreditoDTO credito = CreditoDTO.builder()
+                .numeroCredito("123456")
+                .numeroNfse("7891011")
+                .dataConstituicao(LocalDate.of(2024, 2, 25))
+                .valorIssqn(new BigDecimal("1500.75"))
+                .tipoCredito("ISS \"retido\", parcial")
+                .simplesNacional("Sim")
+                .aliquota(new BigDecimal("5.0"))
+                .valorFaturado(new BigDecimal("3E+4"))
+                .valorDeducao(new BigDecimal("5000.00"))
+                .baseCalculo(new BigDecimal("25000.00"))
+                .build();
+
+        assertThat(PostgresCopyCreditoBulkWriter.toCsv(List.of(credito))).isEqualTo(
+                "\"123456\",\"7891011\",2024-02-25,1500.75,\"ISS \"\"retido\"\", parcial\",true,5.0,30000,5000.00,25000.00\n");
+    }
+}
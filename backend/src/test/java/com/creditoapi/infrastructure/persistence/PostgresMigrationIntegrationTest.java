@@ -0,0 +1,162 @@
+package com.creditoapi.infrastructure.persistence;
+
+import com.creditoapi.application.dto.CreditoDTO;
+import com.creditoapi.application.dto.IngestaoResultadoDTO;
+import com.creditoapi.application.service.IngestaoCreditoService;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Roda as migrações V1-V7 e a ingestão por COPY em um PostgreSQL real: o particionamento, as triggers de
+// credito_numero e a criação de partições não existem no H2 dos demais testes
+@SpringBootTest(properties = {
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.PostgreSQLDialect",
+        "spring.datasource.driver-class-name=org.postgresql.Driver"
+})
+@ActiveProfiles("test")
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Migrações e ingestão no PostgreSQL")
+class PostgresMigrationIntegrationTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private IngestaoCreditoService ingestaoService;
+
+    @Autowired
+    private CreditoProjectionRepository projectionRepository;
+
+    @Autowired
+    private CreditoBulkWriter bulkWriter;
+
+    @Test
+    @DisplayName("Deve aplicar V1 a V7 e levar os créditos existentes para as partições mensais")
+    void migrate_ShouldPartitionExistingCreditos() {
+        assertThat(Arrays.stream(flyway.info().applied()).map(MigrationInfo::getVersion).map(Object::toString))
+                .containsExactly("1", "2", "3", "4", "5", "6", "7");
+
+        assertThat(particao("123456")).isEqualTo("credito_2024_02");
+        assertThat(particao("654321")).isEqualTo("credito_2024_01");
+        assertThat(dataIndexada("123456")).isEqualTo(LocalDate.of(2024, 2, 25));
+        assertThat(projectionRepository.findDTOByNumeroCredito("654321"))
+                .get()
+                .extracting(CreditoDTO::numeroNfse)
+                .isEqualTo("1122334");
+    }
+
+    @Test
+    @DisplayName("Deve inserir créditos novos e atualizar os existentes, movendo de partição quando a data muda")
+    void ingerir_ShouldUpsertAndMoveBetweenPartitions() {
+        assertThat(bulkWriter).isInstanceOf(PostgresCopyCreditoBulkWriter.class);
+
+        ingerir(credito("PG-1", LocalDate.of(2024, 5, 10), "100.00"),
+                credito("PG-2", LocalDate.of(2024, 5, 11), "200.00"));
+
+        IngestaoResultadoDTO resultado = ingerir(
+                credito("PG-1", LocalDate.of(2024, 5, 10), "150.00"),
+                credito("PG-2", LocalDate.of(2024, 8, 1), "250.00"),
+                credito("PG-3", LocalDate.of(2024, 6, 15), "300.00"));
+
+        assertThat(resultado.linhasGravadas()).isEqualTo(3);
+        assertThat(projectionRepository.findDTOByNumeroCredito("PG-1"))
+                .get()
+                .extracting(CreditoDTO::valorIssqn)
+                .isEqualTo(new BigDecimal("150.00"));
+        assertThat(particao("PG-2")).isEqualTo("credito_2024_08");
+        assertThat(dataIndexada("PG-2")).isEqualTo(LocalDate.of(2024, 8, 1));
+        assertThat(projectionRepository.findDTOByNumeroCredito("PG-2"))
+                .get()
+                .extracting(CreditoDTO::valorIssqn)
+                .isEqualTo(new BigDecimal("250.00"));
+        assertThat(particao("PG-3")).isEqualTo("credito_2024_06");
+        assertThat(jdbcTemplate.queryForObject(
+                "select count(*) from credito where numero_credito in ('PG-1', 'PG-2', 'PG-3')", Integer.class))
+                .isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Deve criar a partição de um mês que já tem linhas na default e mover essas linhas para ela")
+    void criarParticoes_WhenDefaultHasRows_ShouldMoveThemToNewPartition() {
+        ingerir(credito("PG-ANTIGO", LocalDate.of(2001, 3, 5), "80.00"));
+        assertThat(particao("PG-ANTIGO")).isEqualTo("credito_default");
+
+        Integer criadas = jdbcTemplate.queryForObject(
+                "select criar_particoes_credito(current_date, current_date)", Integer.class);
+
+        assertThat(criadas).isPositive();
+        assertThat(particao("PG-ANTIGO")).isEqualTo("credito_2001_03");
+        assertThat(dataIndexada("PG-ANTIGO")).isEqualTo(LocalDate.of(2001, 3, 5));
+        assertThat(jdbcTemplate.queryForObject("select count(*) from credito_default", Integer.class)).isZero();
+        assertThat(projectionRepository.findDTOByNumeroCredito("PG-ANTIGO")).isPresent();
+
+        // A partição anexada recebe as triggers e índices da tabela: a ingestão seguinte continua atualizando
+        ingerir(credito("PG-ANTIGO", LocalDate.of(2001, 3, 6), "90.00"));
+        assertThat(dataIndexada("PG-ANTIGO")).isEqualTo(LocalDate.of(2001, 3, 6));
+        assertThat(projectionRepository.findDTOByNumeroCredito("PG-ANTIGO"))
+                .get()
+                .extracting(CreditoDTO::valorIssqn)
+                .isEqualTo(new BigDecimal("90.00"));
+    }
+
+    private IngestaoResultadoDTO ingerir(CreditoDTO... creditos) {
+        return ingestaoService.ingerir(List.of(creditos).iterator());
+    }
+
+    private String particao(String numeroCredito) {
+        return jdbcTemplate.queryForObject("select tableoid::regclass::text from credito where numero_credito = ?",
+                String.class, numeroCredito);
+    }
+
+    private LocalDate dataIndexada(String numeroCredito) {
+        return jdbcTemplate.queryForObject("select data_constituicao from credito_numero where numero_credito = ?",
+                LocalDate.class, numeroCredito);
+    }
+
+    private static CreditoDTO credito(String numeroCredito, LocalDate dataConstituicao, String valorIssqn) {
+        return CreditoDTO.builder()
+                .numeroCredito(numeroCredito)
+                .numeroNfse("NFSE-" + numeroCredito)
+                .dataConstituicao(dataConstituicao)
+                .valorIssqn(new BigDecimal(valorIssqn))
+                .tipoCredito("ISSQN")
+                .simplesNacional("Sim")
+                .aliquota(new BigDecimal("5.00"))
+                .valorFaturado(new BigDecimal("1000.00"))
+                .valorDeducao(new BigDecimal("0.00"))
+                .baseCalculo(new BigDecimal("1000.00"))
+                .build();
+    }
+}
@@ -0,0 +1,146 @@
+package com.creditoapi.infrastructure.persistence;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ReplicaRoutingDataSource Tests")
+class ReplicaRoutingDataSourceTest {
+
+    private static final String LAG_QUERY = "select atraso";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private DataSource primario;
+    private Connection conexaoPrimario;
+    private DataSource replica1;
+    private Connection conexaoReplica1;
+    private DataSource replica2;
+    private Connection conexaoReplica2;
+    private ReplicaRoutingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        primario = mock(DataSource.class);
+        conexaoPrimario = mock(Connection.class);
+        when(primario.getConnection()).thenReturn(conexaoPrimario);
+        replica1 = mock(DataSource.class);
+        conexaoReplica1 = mock(Connection.class);
+        when(replica1.getConnection()).thenReturn(conexaoReplica1);
+        replica2 = mock(DataSource.class);
+        conexaoReplica2 = mock(Connection.class);
+        when(replica2.getConnection()).thenReturn(conexaoReplica2);
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-1", replica1);
+        replicas.put("replica-2", replica2);
+        dataSource = new ReplicaRoutingDataSource(primario, replicas, Duration.ofSeconds(10), LAG_QUERY,
+                meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    @DisplayName("Deve enviar conexões fora de transação somente leitura para o primário")
+    void getConnection_WhenNotReadOnly_ShouldUsePrimary() throws SQLException {
+        assertThat(dataSource.getConnection()).isSameAs(conexaoPrimario);
+
+        assertThat(contagem("primary", "escrita")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve alternar as leituras entre as réplicas")
+    void getConnection_WhenReadOnly_ShouldRoundRobinReplicas() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(dataSource.getConnection()).isSameAs(conexaoReplica1);
+        assertThat(dataSource.getConnection()).isSameAs(conexaoReplica2);
+        assertThat(dataSource.getConnection()).isSameAs(conexaoReplica1);
+
+        assertThat(contagem("replica-1", "leitura")).isEqualTo(2);
+        assertThat(contagem("replica-2", "leitura")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve desviar a leitura para o primário e tirar a réplica do rodízio quando a conexão falhar")
+    void getConnection_WhenReplicaFails_ShouldFailoverToPrimary() throws SQLException {
+        when(replica1.getConnection()).thenThrow(new SQLException("Connection refused"));
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(dataSource.getConnection()).isSameAs(conexaoPrimario);
+        assertThat(dataSource.getConnection()).isSameAs(conexaoReplica2);
+        assertThat(dataSource.getConnection()).isSameAs(conexaoReplica2);
+
+        assertThat(meterRegistry.get("db.routing.failover").tag("pool", "replica-1").counter().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("db.replica.up").tag("pool", "replica-1").gauge().value()).isZero();
+        assertThat(contagem("primary", "leitura")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve devolver a réplica ao rodízio quando a verificação voltar a passar")
+    void verificarReplicas_WhenReplicaRecovers_ShouldRouteReadsAgain() throws SQLException {
+        when(replica1.getConnection()).thenThrow(new SQLException("Connection refused"))
+                .thenReturn(conexaoReplica1);
+        atraso(conexaoReplica1, 0);
+        atraso(conexaoReplica2, 0);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        dataSource.verificarReplicas();
+        assertThat(meterRegistry.get("db.replica.up").tag("pool", "replica-1").gauge().value()).isZero();
+
+        dataSource.verificarReplicas();
+
+        assertThat(meterRegistry.get("db.replica.up").tag("pool", "replica-1").gauge().value()).isEqualTo(1);
+        assertThat(dataSource.getConnection()).isSameAs(conexaoReplica1);
+    }
+
+    @Test
+    @DisplayName("Deve evitar réplicas com atraso acima do limite e usar o primário quando todas estiverem atrasadas")
+    void getConnection_WhenReplicaLagsBehind_ShouldSkipIt() throws SQLException {
+        atraso(conexaoReplica1, 30);
+        atraso(conexaoReplica2, 2);
+        dataSource.verificarReplicas();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(dataSource.getConnection()).isSameAs(conexaoReplica2);
+        assertThat(dataSource.getConnection()).isSameAs(conexaoReplica2);
+        assertThat(meterRegistry.get("db.replica.lag").tag("pool", "replica-1").gauge().value()).isEqualTo(30);
+
+        atraso(conexaoReplica2, 45);
+        dataSource.verificarReplicas();
+
+        assertThat(dataSource.getConnection()).isSameAs(conexaoPrimario);
+    }
+
+    private double contagem(String pool, String acesso) {
+        return meterRegistry.get("db.routing").tag("pool", pool).tag("acesso", acesso).counter().count();
+    }
+
+    private static void atraso(Connection connection, double segundos) throws SQLException {
+        Statement statement = mock(Statement.class);
+        ResultSet rs = mock(ResultSet.class);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(LAG_QUERY)).thenReturn(rs);
+        when(rs.next()).thenReturn(true);
+        when(rs.getDouble(1)).thenReturn(segundos);
+    }
+}
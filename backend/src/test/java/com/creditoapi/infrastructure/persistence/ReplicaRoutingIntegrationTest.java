@@ -0,0 +1,142 @@
+package com.creditoapi.infrastructure.persistence;
+
+import com.creditoapi.application.dto.CreditoDTO;
+import com.creditoapi.application.dto.CreditoFiltroDTO;
+import com.creditoapi.application.dto.ResumoCreditoDTO;
+import com.creditoapi.domain.entity.Credito;
+import com.creditoapi.domain.repository.CreditoRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Dois bancos H2 em memória fazem o papel de primário e réplica; cada um tem créditos que o outro não tem
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:primario;DB_CLOSE_DELAY=-1",
+        "app.datasource.replicas.enabled=true",
+        "app.datasource.replicas.nodes[0].url=" + ReplicaRoutingIntegrationTest.REPLICA_URL,
+        "app.datasource.replicas.lag-query=select atraso from replica_status",
+        "app.datasource.replicas.health-check-interval=PT1H"
+})
+@ActiveProfiles("test")
+@DisplayName("Roteamento de leituras para réplica")
+class ReplicaRoutingIntegrationTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:replica;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private CreditoRepository creditoRepository;
+
+    @Autowired
+    private CreditoProjectionRepository projectionRepository;
+
+    @Autowired
+    private ReplicaRoutingDataSource replicaRoutingDataSource;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+
+    @BeforeEach
+    void setUp() {
+        replica.execute("""
+                create table if not exists credito (
+                    id bigint generated by default as identity primary key,
+                    numero_credito varchar(50) not null, numero_nfse varchar(50) not null,
+                    data_constituicao date not null, valor_issqn decimal(15, 2) not null,
+                    tipo_credito varchar(50) not null, simples_nacional boolean not null,
+                    aliquota decimal(5, 2) not null, valor_faturado decimal(15, 2) not null,
+                    valor_deducao decimal(15, 2) not null, base_calculo decimal(15, 2) not null)
+                """);
+        replica.update("delete from credito");
+        replica.update("insert into credito (numero_credito, numero_nfse, data_constituicao, valor_issqn, "
+                + "tipo_credito, simples_nacional, aliquota, valor_faturado, valor_deducao, base_calculo) "
+                + "values ('R-1', '7891011', date '2024-02-25', 1500.75, 'ISSQN', true, 5.0, 30000.00, 5000.00, "
+                + "25000.00)");
+        replica.execute("create table if not exists replica_status (atraso double precision)");
+        replica.update("delete from replica_status");
+        replica.update("insert into replica_status values (0)");
+
+        creditoRepository.deleteAll();
+        creditoRepository.save(Credito.builder()
+                .numeroCredito("P-1")
+                .numeroNfse("7891011")
+                .dataConstituicao(LocalDate.of(2024, 2, 26))
+                .valorIssqn(new BigDecimal("1200.50"))
+                .tipoCredito("ISSQN")
+                .simplesNacional(false)
+                .aliquota(new BigDecimal("4.5"))
+                .valorFaturado(new BigDecimal("25000.00"))
+                .valorDeducao(new BigDecimal("4000.00"))
+                .baseCalculo(new BigDecimal("21000.00"))
+                .build());
+        replicaRoutingDataSource.verificarReplicas();
+    }
+
+    @Test
+    @DisplayName("Deve ler da réplica em transação somente leitura e gravar no primário")
+    void consultas_WhenReplicaHealthy_ShouldReadFromReplicaAndWriteToPrimary() {
+        assertThat(resumo()).containsExactly("Sim");
+
+        assertThat(new JdbcTemplate(primaryDataSource).queryForList(
+                "select numero_credito from credito", String.class)).containsExactly("P-1");
+        assertThat(meterRegistry.get("db.routing").tag("pool", "replica-1").counter().count()).isPositive();
+        assertThat(meterRegistry.get("hikaricp.connections.max").tag("pool", "replica-1").gauge().value())
+                .isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("Deve carregar as consultas por chave do primário mesmo com a réplica disponível")
+    void consultasPorChave_WhenReplicaHealthy_ShouldReadFromPrimary() {
+        assertThat(projectionRepository.findDTOByNumeroCredito("P-1")).isPresent();
+        assertThat(projectionRepository.findDTOByNumeroCredito("R-1")).isEmpty();
+        assertThat(projectionRepository.findDTOByNumeroNfse("7891011"))
+                .extracting(CreditoDTO::numeroCredito)
+                .containsExactly("P-1");
+    }
+
+    @Test
+    @DisplayName("Deve ler do primário quando a réplica está atrasada ou falha na verificação")
+    void consultas_WhenReplicaLagsOrFails_ShouldReadFromPrimary() {
+        replica.update("update replica_status set atraso = 60");
+        replicaRoutingDataSource.verificarReplicas();
+
+        assertThat(resumo()).containsExactly("Não");
+        assertThat(meterRegistry.get("db.replica.lag").tag("pool", "replica-1").gauge().value()).isEqualTo(60);
+
+        replica.update("update replica_status set atraso = 0");
+        replicaRoutingDataSource.verificarReplicas();
+        assertThat(resumo()).containsExactly("Sim");
+
+        replica.execute("drop table replica_status");
+        replicaRoutingDataSource.verificarReplicas();
+
+        assertThat(resumo()).containsExactly("Não");
+        assertThat(meterRegistry.get("db.replica.up").tag("pool", "replica-1").gauge().value()).isZero();
+    }
+
+    // O crédito da réplica é do Simples Nacional e o do primário não: o resumo mostra de qual banco veio a leitura
+    private List<String> resumo() {
+        return projectionRepository.resumir(CreditoFiltroDTO.builder().build()).stream()
+                .map(ResumoCreditoDTO::simplesNacional)
+                .toList();
+    }
+}
@@ -0,0 +1,56 @@
+package com.creditoapi.infrastructure.warmup;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "app.warmup.enabled=true",
+        "app.warmup.key-file=src/test/resources/warmup/chaves.csv",
+        "app.warmup.iterations=5"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Aquecimento dos caches na inicialização")
+class CacheWarmupIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ApplicationAvailability availability;
+
+    @Test
+    @DisplayName("Deve carregar os caches antes de liberar o tráfego, sem registrar as consultas do aquecimento")
+    void startup_WithKeyFile_ShouldPreloadCachesBeforeReadiness() throws Exception {
+        assertThat(availability.getReadinessState()).isEqualTo(ReadinessState.ACCEPTING_TRAFFIC);
+        // Uma carga por iteração: os caches são esvaziados entre elas
+        double consultasAoBanco = consultasAoBanco("NFSE");
+        assertThat(consultasAoBanco).isEqualTo(5);
+        assertThat(meterRegistry.find("consulta.resultados").summaries()).isEmpty();
+
+        mockMvc.perform(get("/api/creditos/{numeroNfse}", "7891011"))
+                .andExpect(status().isNotFound());
+
+        assertThat(consultasAoBanco("NFSE")).isEqualTo(consultasAoBanco);
+        assertThat(consultasAoBanco("CREDITO")).isEqualTo(5);
+    }
+
+    private double consultasAoBanco(String tipoConsulta) {
+        return meterRegistry.get("consulta.repository").tag("tipoConsulta", tipoConsulta).timer().count();
+    }
+}
@@ -0,0 +1,146 @@
+package com.creditoapi.infrastructure.warmup;
+
+import com.creditoapi.application.dto.CreditoDTO;
+import com.creditoapi.application.service.CreditoService;
+import com.creditoapi.infrastructure.cache.InvalidatableCreditoCache;
+import com.creditoapi.presentation.http.CreditoResponseCache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.DefaultApplicationArguments;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CacheWarmupRunner Tests")
+class CacheWarmupRunnerTest {
+
+    @Mock
+    private CreditoService creditoService;
+
+    @Mock
+    private CreditoResponseCache responseCache;
+
+    @Mock
+    private InvalidatableCreditoCache creditoCache;
+
+    @Test
+    @DisplayName("Deve percorrer cache de respostas e serviço para cada chave em todas as iterações")
+    void run_WhenKeysAvailable_ShouldDriveHotPath() {
+        WarmupKeySource source = maxChaves -> new WarmupKeys(List.of("7891011"), List.of("123456"));
+        List<Boolean> contextos = new ArrayList<>();
+        when(creditoService.findByNumeroNfse("7891011")).thenAnswer(invocacao -> {
+            contextos.add(WarmupContext.isActive());
+            return List.of();
+        });
+
+        runner(List.of(source), 3, Duration.ofSeconds(10)).run(new DefaultApplicationArguments());
+
+        verify(responseCache, times(6)).getByNumeroNfse(eq("7891011"), any(), any());
+        verify(responseCache, times(6)).getByNumeroCredito(eq("123456"), any(), any());
+        verify(creditoService, times(3)).findByNumeroCredito("123456");
+        verify(creditoService, times(3)).listar(any(), anyLong(), anyInt());
+        assertThat(contextos).containsExactly(true, true, true);
+    }
+
+    @Test
+    @DisplayName("Deve esvaziar os caches a partir da segunda iteração para aquecer também a carga")
+    void run_WhenMultipleIterations_ShouldClearCachesBetweenIterations() {
+        WarmupKeySource source = maxChaves -> new WarmupKeys(List.of("7891011"), List.of());
+        List<String> eventos = new ArrayList<>();
+        doAnswer(invocacao -> eventos.add("clear")).when(creditoCache).clear();
+        when(responseCache.getByNumeroNfse(eq("7891011"), any(), any())).thenAnswer(invocacao -> {
+            eventos.add("consulta");
+            return null;
+        });
+
+        runner(List.of(source), 3, Duration.ofSeconds(10)).run(new DefaultApplicationArguments());
+
+        assertThat(eventos).containsExactly("consulta", "consulta", "clear", "consulta", "consulta", "clear",
+                "consulta", "consulta");
+    }
+
+    @Test
+    @DisplayName("Deve seguir com as demais chaves quando o crédito não existe")
+    void run_WhenKeyNotFound_ShouldContinue() {
+        WarmupKeySource source = maxChaves -> new WarmupKeys(List.of("inexistente", "7891011"), List.of());
+        when(responseCache.getByNumeroNfse(anyString(), any(), any())).thenAnswer(invocacao -> {
+            Supplier<List<CreditoDTO>> consulta = invocacao.getArgument(1);
+            consulta.get();
+            return null;
+        });
+
+        runner(List.of(source), 1, Duration.ofSeconds(10)).run(new DefaultApplicationArguments());
+
+        verify(creditoService, times(3)).findByNumeroNfse("7891011");
+    }
+
+    @Test
+    @DisplayName("Deve combinar as fontes sem repetir chaves e ignorar fontes com falha")
+    void run_WhenSourcesOverlapOrFail_ShouldMergeDistinctKeys() {
+        WarmupKeySource arquivo = maxChaves -> new WarmupKeys(List.of("7891011"), List.of());
+        WarmupKeySource falha = maxChaves -> {
+            throw new IllegalStateException("broker indisponível");
+        };
+        WarmupKeySource historico = maxChaves -> new WarmupKeys(List.of("7891011", "1122334", "5556667"), List.of());
+
+        runner(List.of(arquivo, falha, historico), 1, Duration.ofSeconds(10)).run(new DefaultApplicationArguments());
+
+        verify(creditoService).findByNumeroNfse("7891011");
+        verify(creditoService).findByNumeroNfse("1122334");
+        verify(creditoService, never()).findByNumeroNfse("5556667");
+    }
+
+    @Test
+    @DisplayName("Deve liberar a inicialização quando o aquecimento excede o timeout")
+    void run_WhenTimeoutExceeded_ShouldReturn() {
+        CountDownLatch nuncaLiberado = new CountDownLatch(1);
+        WarmupKeySource lenta = maxChaves -> {
+            try {
+                nuncaLiberado.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            return new WarmupKeys(List.of("7891011"), List.of());
+        };
+
+        long inicio = System.nanoTime();
+        runner(List.of(lenta), 1_000, Duration.ofMillis(200)).run(new DefaultApplicationArguments());
+
+        assertThat(Duration.ofNanos(System.nanoTime() - inicio)).isLessThan(Duration.ofSeconds(5));
+        verify(responseCache, never()).getByNumeroNfse(anyString(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Não deve consultar nada quando não há chaves")
+    void run_WhenNoKeys_ShouldSkip() {
+        runner(List.of(maxChaves -> WarmupKeys.VAZIO), 10, Duration.ofSeconds(10))
+                .run(new DefaultApplicationArguments());
+
+        verifyNoInteractions(creditoService, responseCache, creditoCache);
+    }
+
+    private CacheWarmupRunner runner(List<WarmupKeySource> sources, int iteracoes, Duration timeout) {
+        return new CacheWarmupRunner(sources, creditoService, responseCache, List.of(creditoCache), 2, iteracoes,
+                timeout);
+    }
+}
@@ -0,0 +1,58 @@
+package com.creditoapi.infrastructure.warmup.impl;
+
+import com.creditoapi.infrastructure.warmup.WarmupKeys;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("FileWarmupKeySource Tests")
+class FileWarmupKeySourceTest {
+
+    @TempDir
+    private Path diretorio;
+
+    @Test
+    @DisplayName("Deve ler as chaves por tipo ignorando comentários, duplicadas e linhas inválidas")
+    void carregar_WhenFileHasKeys_ShouldSplitByTipo() throws IOException {
+        Path arquivo = Files.writeString(diretorio.resolve("chaves.csv"), """
+                # chaves mais consultadas
+                NFSE,7891011
+                credito, 123456
+                NFSE,7891011
+
+                LISTAGEM,qualquer
+                NFSE,1122334
+                """);
+
+        WarmupKeys chaves = new FileWarmupKeySource(arquivo).carregar(10);
+
+        assertThat(chaves.numerosNfse()).containsExactly("7891011", "1122334");
+        assertThat(chaves.numerosCredito()).containsExactly("123456");
+    }
+
+    @Test
+    @DisplayName("Deve respeitar o máximo de chaves por tipo")
+    void carregar_WhenMoreKeysThanMax_ShouldKeepFirst() throws IOException {
+        Path arquivo = Files.writeString(diretorio.resolve("chaves.csv"), "NFSE,1\nNFSE,2\nNFSE,3\n");
+
+        WarmupKeys chaves = new FileWarmupKeySource(arquivo).carregar(2);
+
+        assertThat(chaves.numerosNfse()).containsExactly("1", "2");
+    }
+
+    @Test
+    @DisplayName("Deve falhar quando o arquivo não existe")
+    void carregar_WhenFileMissing_ShouldThrow() {
+        FileWarmupKeySource source = new FileWarmupKeySource(diretorio.resolve("inexistente.csv"));
+
+        assertThatThrownBy(() -> source.carregar(10)).isInstanceOf(UncheckedIOException.class);
+    }
+}
@@ -0,0 +1,124 @@
+package com.creditoapi.infrastructure.warmup.impl;
+
+import com.creditoapi.application.dto.ConsultaEventDTO;
+import com.creditoapi.infrastructure.config.KafkaConfig;
+import com.creditoapi.infrastructure.warmup.WarmupKeys;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("KafkaHistoryWarmupKeySource Tests")
+class KafkaHistoryWarmupKeySourceTest {
+
+    private static final String TOPICO = "consulta-credito-topic";
+    private static final TopicPartition PARTICAO = new TopicPartition(TOPICO, 0);
+
+    private final MockConsumer<String, ConsultaEventDTO> consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+
+    @BeforeEach
+    void setUp() {
+        consumer.updatePartitions(TOPICO, List.of(new PartitionInfo(TOPICO, 0, null, null, null)));
+    }
+
+    @Test
+    @DisplayName("Deve ordenar as chaves pelo número de consultas com resultado")
+    void carregar_WhenHistoryAvailable_ShouldReturnMostQueriedKeys() {
+        List<ConsultaEventDTO> eventos = List.of(
+                evento("NFSE", "1122334", 1),
+                evento("NFSE", "7891011", 2),
+                evento("CREDITO", "123456", 1),
+                evento("NFSE", "7891011", 2),
+                evento("NFSE", "0000000", 0),
+                evento("LISTAGEM", "cursor=0", 50));
+        prepararTopico(eventos);
+
+        WarmupKeys chaves = source(100).carregar(10);
+
+        assertThat(chaves.numerosNfse()).containsExactly("7891011", "1122334");
+        assertThat(chaves.numerosCredito()).containsExactly("123456");
+    }
+
+    @Test
+    @DisplayName("Deve ler apenas os eventos mais recentes do tópico")
+    void carregar_WhenHistoryLongerThanLimit_ShouldReadOnlyTail() {
+        List<ConsultaEventDTO> eventos = List.of(
+                evento("NFSE", "antiga", 1),
+                evento("NFSE", "antiga", 1),
+                evento("NFSE", "recente-1", 1),
+                evento("NFSE", "recente-2", 1),
+                evento("NFSE", "recente-3", 1),
+                evento("NFSE", "recente-4", 1));
+        prepararTopico(eventos);
+
+        WarmupKeys chaves = source(4).carregar(10);
+
+        assertThat(chaves.numerosNfse()).containsExactlyInAnyOrder("recente-1", "recente-2", "recente-3", "recente-4");
+    }
+
+    @Test
+    @DisplayName("Deve devolver o que já foi lido quando o broker falha")
+    void carregar_WhenBrokerFails_ShouldReturnPartialResult() {
+        consumer.setPollException(new TimeoutException("broker indisponível"));
+        consumer.updateBeginningOffsets(Map.of(PARTICAO, 0L));
+        consumer.updateEndOffsets(Map.of(PARTICAO, 1L));
+
+        WarmupKeys chaves = source(100).carregar(10);
+
+        assertThat(chaves.isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Deve ler o histórico sem o grupo de consumo da aplicação")
+    void semGrupo_WhenFactoryHasGroup_ShouldDropGroupAndAutoCommit() {
+        DefaultKafkaConsumerFactory<String, String> consumerFactory = new DefaultKafkaConsumerFactory<>(Map.of(
+                ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, "localhost:9092",
+                ConsumerConfig.GROUP_ID_CONFIG, "credito-group",
+                ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, true));
+
+        Map<String, Object> config = KafkaConfig.semGrupo(consumerFactory).getConfigurationProperties();
+
+        assertThat(config).doesNotContainKey(ConsumerConfig.GROUP_ID_CONFIG)
+                .containsEntry(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, "localhost:9092")
+                .containsEntry(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+    }
+
+    private void prepararTopico(List<ConsultaEventDTO> eventos) {
+        consumer.updateBeginningOffsets(Map.of(PARTICAO, 0L));
+        consumer.updateEndOffsets(Map.of(PARTICAO, (long) eventos.size()));
+        // O MockConsumer não guarda o log: entrega os eventos a partir da posição em que o source fez o seek
+        consumer.schedulePollTask(() -> {
+            for (long offset = consumer.position(PARTICAO); offset < eventos.size(); offset++) {
+                consumer.addRecord(new ConsumerRecord<>(TOPICO, 0, offset, null, eventos.get((int) offset)));
+            }
+        });
+    }
+
+    private KafkaHistoryWarmupKeySource source(int historico) {
+        return new KafkaHistoryWarmupKeySource(() -> consumer, TOPICO, historico, Duration.ofSeconds(5));
+    }
+
+    private static ConsultaEventDTO evento(String tipoConsulta, String parametro, int quantidade) {
+        return ConsultaEventDTO.builder()
+                .tipoConsulta(tipoConsulta)
+                .parametroConsulta(parametro)
+                .dataHoraConsulta(LocalDateTime.now())
+                .quantidadeResultados(quantidade)
+                .sucesso(true)
+                .build();
+    }
+}
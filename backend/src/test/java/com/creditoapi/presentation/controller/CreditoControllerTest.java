@@ -1,28 +1,69 @@
 package com.creditoapi.presentation.controller;
 
+import com.aayushatharva.brotli4j.decoder.Decoder;
+import com.creditoapi.application.dto.BatchConsultaRequestDTO;
+import com.creditoapi.application.dto.BatchConsultaResponseDTO;
 import com.creditoapi.application.dto.CreditoDTO;
+import com.creditoapi.application.dto.CreditoFiltroDTO;
+import com.creditoapi.application.dto.ListagemCreditoResponseDTO;
+import com.creditoapi.application.dto.ResumoCreditoDTO;
 import com.creditoapi.application.service.CreditoService;
+import com.creditoapi.application.service.ResumoCreditoService;
+import com.creditoapi.infrastructure.metrics.ConsultaMetrics;
+import com.creditoapi.presentation.http.CreditoETagGenerator;
+import com.creditoapi.presentation.http.CreditoMediaTypes;
+import com.creditoapi.presentation.http.CreditoProtobufMapper;
+import com.creditoapi.presentation.http.CreditoResponseCache;
+import com.creditoapi.presentation.proto.Credito;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.ByteArrayInputStream;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(CreditoController.class)
+@Import({CreditoETagGenerator.class, CreditoResponseCache.class, SimpleMeterRegistry.class})
 @DisplayName("CreditoController Tests")
 class CreditoControllerTest {
 
@@ -32,11 +73,22 @@ class CreditoControllerTest {
     @MockBean
     private CreditoService creditoService;
 
+    @MockBean
+    private ResumoCreditoService resumoService;
+
+    @MockBean
+    private ConsultaMetrics consultaMetrics;
+
+    @Autowired
+    private CreditoResponseCache responseCache;
+
     private CreditoDTO creditoDTO;
     private CreditoDTO creditoDTO2;
 
     @BeforeEach
     void setUp() {
+        responseCache.clear();
+
         creditoDTO = CreditoDTO.builder()
                 .numeroCredito("123456")
                 .numeroNfse("7891011")
@@ -96,6 +148,8 @@ class CreditoControllerTest {
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isNotFound())
                 .andExpect(jsonPath("$.message", containsString("Nenhum crédito encontrado")));
+
+        verify(consultaMetrics).recordNaoEncontrada("NFSE");
     }
 
     @Test
@@ -132,5 +186,403 @@ class CreditoControllerTest {
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isNotFound())
                 .andExpect(jsonPath("$.message", containsString("Crédito não encontrado")));
+
+        verify(consultaMetrics).recordNaoEncontrada("CREDITO");
+    }
+
+    @Test
+    @DisplayName("POST /api/creditos/batch - Deve retornar créditos agrupados e chaves não encontradas")
+    void findBatch_WhenKeysInformed_ShouldReturnGroupedResult() throws Exception {
+        BatchConsultaResponseDTO response = BatchConsultaResponseDTO.builder()
+                .creditosPorNfse(Map.of("7891011", List.of(creditoDTO, creditoDTO2)))
+                .creditosPorNumero(Map.of("123456", creditoDTO))
+                .nfseNaoEncontradas(List.of("999999"))
+                .creditosNaoEncontrados(List.of("000000"))
+                .build();
+        when(creditoService.findBatch(List.of("7891011", "999999"), List.of("123456", "000000")))
+                .thenReturn(response);
+
+        mockMvc.perform(post("/api/creditos/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"numerosNfse": ["7891011", "999999"], "numerosCredito": ["123456", "000000"]}
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.creditosPorNfse.7891011", hasSize(2)))
+                .andExpect(jsonPath("$.creditosPorNumero.123456.numeroNfse", is("7891011")))
+                .andExpect(jsonPath("$.nfseNaoEncontradas", contains("999999")))
+                .andExpect(jsonPath("$.creditosNaoEncontrados", contains("000000")));
+    }
+
+    @Test
+    @DisplayName("POST /api/creditos/batch - Deve retornar 400 quando exceder o limite de chaves")
+    void findBatch_WhenTooManyKeys_ShouldReturn400() throws Exception {
+        String numeros = IntStream.rangeClosed(0, BatchConsultaRequestDTO.MAX_CHAVES)
+                .mapToObj(i -> "\"" + i + "\"")
+                .collect(Collectors.joining(","));
+
+        mockMvc.perform(post("/api/creditos/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"numerosNfse\": [" + numeros + "]}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", containsString("Máximo de")));
+
+        verify(creditoService, never()).findBatch(any(), any());
+    }
+
+    @Test
+    @DisplayName("POST /api/creditos/batch - Deve retornar 400 quando o corpo não for um JSON válido")
+    void findBatch_WhenBodyMalformed_ShouldReturn400() throws Exception {
+        mockMvc.perform(post("/api/creditos/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"numerosNfse\": ["))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(400))
+                .andExpect(jsonPath("$.message").value("Corpo da requisição ausente ou malformado"));
+
+        verify(creditoService, never()).findBatch(any(), any());
+    }
+
+    @Test
+    @DisplayName("GET /api/creditos - Deve retornar página filtrada com próximo cursor")
+    void listar_WhenFiltersInformed_ShouldReturnPage() throws Exception {
+        CreditoFiltroDTO filtro = CreditoFiltroDTO.builder()
+                .tipoCredito("ISSQN")
+                .simplesNacional(true)
+                .dataInicio(LocalDate.of(2024, 1, 1))
+                .build();
+        when(creditoService.listar(filtro, 10L, 2)).thenReturn(ListagemCreditoResponseDTO.builder()
+                .creditos(List.of(creditoDTO, creditoDTO2))
+                .proximoCursor(42L)
+                .possuiMais(true)
+                .build());
+
+        mockMvc.perform(get("/api/creditos")
+                        .param("tipoCredito", "ISSQN")
+                        .param("simplesNacional", "true")
+                        .param("dataInicio", "2024-01-01")
+                        .param("cursor", "10")
+                        .param("tamanho", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.creditos", hasSize(2)))
+                .andExpect(jsonPath("$.proximoCursor", is(42)))
+                .andExpect(jsonPath("$.possuiMais", is(true)));
+    }
+
+    @Test
+    @DisplayName("GET /api/creditos - Deve retornar 400 quando o tamanho da página exceder o limite")
+    void listar_WhenPageSizeAboveLimit_ShouldReturn400() throws Exception {
+        mockMvc.perform(get("/api/creditos").param("tamanho", "501"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", containsString("no máximo 500")));
+
+        verify(creditoService, never()).listar(any(), anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("GET /api/creditos/resumo - Deve resumir créditos convertendo o período em meses completos")
+    void resumir_WhenMonthsInformed_ShouldFilterWholeMonths() throws Exception {
+        CreditoFiltroDTO filtro = CreditoFiltroDTO.builder()
+                .tipoCredito("ISSQN")
+                .dataInicio(LocalDate.of(2024, 1, 1))
+                .dataFim(LocalDate.of(2024, 2, 29))
+                .build();
+        when(resumoService.resumir(filtro)).thenReturn(List.of(ResumoCreditoDTO.builder()
+                .tipoCredito("ISSQN")
+                .simplesNacional("Sim")
+                .mes(YearMonth.of(2024, 2))
+                .quantidade(2)
+                .totalValorIssqn(new BigDecimal("2700.75"))
+                .totalValorFaturado(new BigDecimal("55000.00"))
+                .totalValorDeducao(new BigDecimal("9000.00"))
+                .totalBaseCalculo(new BigDecimal("46000.00"))
+                .mediaValorIssqn(new BigDecimal("1350.38"))
+                .mediaAliquota(new BigDecimal("4.75"))
+                .build()));
+
+        mockMvc.perform(get("/api/creditos/resumo")
+                        .param("tipoCredito", "ISSQN")
+                        .param("mesInicio", "2024-01")
+                        .param("mesFim", "2024-02"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].mes", is("2024-02")))
+                .andExpect(jsonPath("$[0].quantidade", is(2)))
+                .andExpect(jsonPath("$[0].totalValorIssqn", is(2700.75)))
+                .andExpect(jsonPath("$[0].mediaAliquota", is(4.75)));
+
+        verify(creditoService, never()).findByNumeroNfse(anyString());
+    }
+
+    @Test
+    @DisplayName("GET /api/creditos/resumo - Deve retornar 400 para mês em formato inválido")
+    void resumir_WhenMonthInvalid_ShouldReturn400() throws Exception {
+        mockMvc.perform(get("/api/creditos/resumo").param("mesInicio", "2024-13"))
+                .andExpect(status().isBadRequest());
+
+        verify(resumoService, never()).resumir(any());
+    }
+
+    @Test
+    @DisplayName("GET /api/creditos/export - Deve exportar créditos em NDJSON")
+    void exportar_WhenNdjson_ShouldStreamOneJsonPerLine() throws Exception {
+        exportarCreditos(creditoDTO, creditoDTO2);
+
+        MvcResult result = mockMvc.perform(get("/api/creditos/export").param("tipoCredito", "ISSQN"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        assertThat(result.getRequest().getAsyncContext().getTimeout()).isEqualTo(Duration.ofMinutes(30).toMillis());
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andExpect(content().string(allOf(
+                        startsWith("{\"numeroCredito\":\"123456\""),
+                        containsString("}\n{\"numeroCredito\":\"789012\""))));
+    }
+
+    @Test
+    @DisplayName("GET /api/creditos/export - Deve exportar créditos em CSV com cabeçalho")
+    void exportar_WhenCsv_ShouldStreamHeaderAndRows() throws Exception {
+        exportarCreditos(creditoDTO);
+
+        MvcResult result = mockMvc.perform(get("/api/creditos/export").param("formato", "CSV"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", containsString("creditos.csv")))
+                .andExpect(content().string(
+                        "numeroCredito,numeroNfse,dataConstituicao,valorIssqn,tipoCredito,simplesNacional,"
+                                + "aliquota,valorFaturado,valorDeducao,baseCalculo\n"
+                                + "123456,7891011,2024-02-25,1500.75,ISSQN,Sim,5.0,30000.00,5000.00,25000.00\n"));
+    }
+
+    @Test
+    @DisplayName("GET /api/creditos/{numeroNfse} - Deve emitir ETag forte e Cache-Control")
+    void findByNumeroNfse_ShouldReturnETagAndCacheControl() throws Exception {
+        when(creditoService.findByNumeroNfse("7891011")).thenReturn(List.of(creditoDTO, creditoDTO2));
+
+        mockMvc.perform(get("/api/creditos/{numeroNfse}", "7891011"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, matchesPattern("\"[0-9a-f]{32}\"")))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=0, must-revalidate"));
+    }
+
+    @Test
+    @DisplayName("GET /api/creditos/{numeroNfse} - Deve retornar 304 sem corpo quando o ETag coincidir")
+    void findByNumeroNfse_WhenIfNoneMatchMatches_ShouldReturn304() throws Exception {
+        when(creditoService.findByNumeroNfse("7891011")).thenReturn(List.of(creditoDTO, creditoDTO2));
+        String etag = mockMvc.perform(get("/api/creditos/{numeroNfse}", "7891011"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/creditos/{numeroNfse}", "7891011").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("GET /api/creditos/credito/{numeroCredito} - Deve retornar 200 quando o ETag informado estiver desatualizado")
+    void findByNumeroCredito_WhenIfNoneMatchDiffers_ShouldReturn200() throws Exception {
+        when(creditoService.findByNumeroCredito("123456")).thenReturn(Optional.of(creditoDTO));
+
+        mockMvc.perform(get("/api/creditos/credito/{numeroCredito}", "123456")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"desatualizado\""))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(jsonPath("$.numeroCredito", is("123456")));
+    }
+
+    @Test
+    @DisplayName("GET /api/creditos/{numeroNfse} - Deve servir a resposta serializada em cache e registrar a consulta")
+    void findByNumeroNfse_WhenResponseCached_ShouldNotCallServiceAgain() throws Exception {
+        when(creditoService.findByNumeroNfse("7891011")).thenReturn(List.of(creditoDTO, creditoDTO2));
+        String primeira = mockMvc.perform(get("/api/creditos/{numeroNfse}", "7891011"))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        mockMvc.perform(get("/api/creditos/{numeroNfse}", "7891011"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(content().json(primeira, true))
+                .andExpect(jsonPath("$[0].dataConstituicao", is("2024-02-25")));
+
+        verify(creditoService, times(1)).findByNumeroNfse("7891011");
+        verify(creditoService).registrarConsulta("NFSE", "7891011", 2);
+    }
+
+    @Test
+    @DisplayName("GET /api/creditos/{numeroNfse} - Deve enviar o corpo gzip pré-comprimido quando o cliente aceitar")
+    void findByNumeroNfse_WhenClientAcceptsGzip_ShouldSendCompressedBody() throws Exception {
+        List<CreditoDTO> creditos = IntStream.range(0, 20)
+                .mapToObj(i -> credito(String.valueOf(100_000 + i)))
+                .toList();
+        when(creditoService.findByNumeroNfse("7891011")).thenReturn(creditos);
+
+        MvcResult result = mockMvc.perform(get("/api/creditos/{numeroNfse}", "7891011")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "br;q=0, gzip;q=0.8"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem("Accept, Accept-Encoding")))
+                .andExpect(header().string(HttpHeaders.ETAG, endsWith("-gzip\"")))
+                .andReturn();
+
+        try (GZIPInputStream gzip = new GZIPInputStream(
+                new ByteArrayInputStream(result.getResponse().getContentAsByteArray()))) {
+            assertThat(new String(gzip.readAllBytes(), StandardCharsets.UTF_8)).contains("\"numeroCredito\":\"100019\"");
+        }
+
+        mockMvc.perform(get("/api/creditos/{numeroNfse}", "7891011")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(jsonPath("$", hasSize(20)));
+    }
+
+    @Test
+    @DisplayName("GET /api/creditos/{numeroNfse} - Deve preferir o corpo Brotli pré-comprimido ao gzip")
+    void findByNumeroNfse_WhenClientAcceptsBrotli_ShouldSendBrotliBody() throws Exception {
+        List<CreditoDTO> creditos = IntStream.range(0, 20)
+                .mapToObj(i -> credito(String.valueOf(100_000 + i)))
+                .toList();
+        when(creditoService.findByNumeroNfse("7891011")).thenReturn(creditos);
+
+        MvcResult result = mockMvc.perform(get("/api/creditos/{numeroNfse}", "7891011")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate, br"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "br"))
+                .andExpect(header().string(HttpHeaders.ETAG, endsWith("-br\"")))
+                .andReturn();
+
+        byte[] corpo = result.getResponse().getContentAsByteArray();
+        assertThat(new String(Decoder.decompress(corpo).getDecompressedData(), StandardCharsets.UTF_8))
+                .contains("\"numeroCredito\":\"100019\"");
+    }
+
+    @Test
+    @DisplayName("GET /api/creditos/{numeroNfse} - Deve responder em CBOR quando o cliente preferir")
+    void findByNumeroNfse_WhenAcceptCbor_ShouldReturnCborBody() throws Exception {
+        when(creditoService.findByNumeroNfse("7891011")).thenReturn(List.of(creditoDTO, creditoDTO2));
+
+        MvcResult result = mockMvc.perform(get("/api/creditos/{numeroNfse}", "7891011")
+                        .header(HttpHeaders.ACCEPT, "application/cbor, application/json;q=0.5"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andExpect(header().string(HttpHeaders.ETAG, allOf(startsWith("W/\""), endsWith("-cbor\""))))
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem("Accept, Accept-Encoding")))
+                .andReturn();
+
+        List<CreditoDTO> creditos = new CBORMapper().findAndRegisterModules().readValue(
+                result.getResponse().getContentAsByteArray(), new TypeReference<>() {
+                });
+        assertThat(creditos).containsExactly(creditoDTO, creditoDTO2);
+        verify(creditoService, never()).registrarConsulta(anyString(), anyString(), anyInt());
+    }
+
+    @Test
+    @DisplayName("GET /api/creditos/{numeroNfse} - Deve retornar 304 em CBOR quando o ETag fraco coincidir")
+    void findByNumeroNfse_WhenCborETagMatches_ShouldReturn304() throws Exception {
+        when(creditoService.findByNumeroNfse("7891011")).thenReturn(List.of(creditoDTO, creditoDTO2));
+
+        String etag = mockMvc.perform(get("/api/creditos/{numeroNfse}", "7891011")
+                        .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_CBOR_VALUE))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/creditos/{numeroNfse}", "7891011")
+                        .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_CBOR_VALUE)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().bytes(new byte[0]));
+    }
+
+    @Test
+    @DisplayName("GET /api/creditos/credito/{numeroCredito} - Deve responder em protobuf quando o cliente preferir")
+    void findByNumeroCredito_WhenAcceptProtobuf_ShouldReturnProtobufMessage() throws Exception {
+        when(creditoService.findByNumeroCredito("123456")).thenReturn(Optional.of(creditoDTO));
+
+        MvcResult result = mockMvc.perform(get("/api/creditos/credito/{numeroCredito}", "123456")
+                        .header(HttpHeaders.ACCEPT, CreditoMediaTypes.APPLICATION_PROTOBUF_VALUE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(CreditoMediaTypes.APPLICATION_PROTOBUF))
+                .andExpect(header().string(HttpHeaders.ETAG, allOf(startsWith("W/\""), endsWith("-x-protobuf\""))))
+                .andReturn();
+
+        Credito credito = Credito.parseFrom(result.getResponse().getContentAsByteArray());
+        assertThat(CreditoProtobufMapper.toDTO(credito)).isEqualTo(creditoDTO);
+    }
+
+    @Test
+    @DisplayName("GET /api/creditos/credito/{numeroCredito} - Deve responder 404 em JSON mesmo pedindo protobuf")
+    void findByNumeroCredito_WhenAcceptProtobufAndNotFound_ShouldReturnJson404() throws Exception {
+        when(creditoService.findByNumeroCredito("000000")).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/creditos/credito/{numeroCredito}", "000000")
+                        .header(HttpHeaders.ACCEPT, CreditoMediaTypes.APPLICATION_PROTOBUF_VALUE))
+                .andExpect(status().isNotFound())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.message", containsString("Crédito não encontrado")));
+    }
+
+    @Test
+    @DisplayName("GET /api/creditos/{numeroNfse} - Deve manter o JSON pré-serializado para Accept */*")
+    void findByNumeroNfse_WhenAcceptAnything_ShouldKeepJson() throws Exception {
+        when(creditoService.findByNumeroNfse("7891011")).thenReturn(List.of(creditoDTO));
+
+        mockMvc.perform(get("/api/creditos/{numeroNfse}", "7891011")
+                        .header(HttpHeaders.ACCEPT, "application/x-protobuf;q=0.1, */*"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$[0].numeroCredito", is("123456")));
+    }
+
+    @Test
+    @DisplayName("POST /api/creditos/batch - Deve responder em Smile quando o cliente preferir")
+    void findBatch_WhenAcceptSmile_ShouldReturnSmileBody() throws Exception {
+        when(creditoService.findBatch(List.of("7891011"), List.of()))
+                .thenReturn(BatchConsultaResponseDTO.builder()
+                        .creditosPorNfse(Map.of("7891011", List.of(creditoDTO)))
+                        .creditosPorNumero(Map.of())
+                        .nfseNaoEncontradas(List.of())
+                        .creditosNaoEncontrados(List.of())
+                        .build());
+
+        MvcResult result = mockMvc.perform(post("/api/creditos/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(CreditoMediaTypes.APPLICATION_SMILE)
+                        .content("{\"numerosNfse\":[\"7891011\"]}"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(CreditoMediaTypes.APPLICATION_SMILE))
+                .andReturn();
+
+        BatchConsultaResponseDTO resposta = new SmileMapper().findAndRegisterModules().readValue(
+                result.getResponse().getContentAsByteArray(), BatchConsultaResponseDTO.class);
+        assertThat(resposta.creditosPorNfse().get("7891011")).containsExactly(creditoDTO);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void exportarCreditos(CreditoDTO... creditos) {
+        doAnswer(invocation -> {
+            Consumer<CreditoDTO> consumer = invocation.getArgument(1);
+            List.of(creditos).forEach(consumer);
+            return (long) creditos.length;
+        }).when(creditoService).exportar(any(CreditoFiltroDTO.class), any(Consumer.class));
+    }
+
+    private CreditoDTO credito(String numeroCredito) {
+        return CreditoDTO.builder()
+                .numeroCredito(numeroCredito)
+                .numeroNfse(creditoDTO.numeroNfse())
+                .dataConstituicao(creditoDTO.dataConstituicao())
+                .valorIssqn(creditoDTO.valorIssqn())
+                .tipoCredito(creditoDTO.tipoCredito())
+                .simplesNacional(creditoDTO.simplesNacional())
+                .aliquota(creditoDTO.aliquota())
+                .valorFaturado(creditoDTO.valorFaturado())
+                .valorDeducao(creditoDTO.valorDeducao())
+                .baseCalculo(creditoDTO.baseCalculo())
+                .build();
     }
 }
@@ -0,0 +1,106 @@
+package com.creditoapi.presentation.controller;
+
+import com.creditoapi.application.dto.CreditoDTO;
+import com.creditoapi.application.dto.IngestaoResultadoDTO;
+import com.creditoapi.application.service.IngestaoCreditoService;
+import com.creditoapi.infrastructure.metrics.ConsultaMetrics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.options;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = CreditoIngestaoController.class, properties = {
+        "app.ingestao.http.enabled=true",
+        "app.ingestao.http.token=segredo-de-teste"
+})
+@DisplayName("CreditoIngestaoController Tests")
+class CreditoIngestaoControllerTest {
+
+    private static final String CSV = """
+            numeroCredito,numeroNfse,dataConstituicao,valorIssqn,tipoCredito,simplesNacional,aliquota,valorFaturado,valorDeducao,baseCalculo
+            123456,7891011,2024-02-25,1500.75,ISSQN,Sim,5.0,30000.00,5000.00,25000.00
+            789012,7891011,2024-02-26,1200.50,ISSQN,Não,4.5,25000.00,4000.00,21000.00
+            """;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private IngestaoCreditoService ingestaoService;
+
+    @MockBean
+    private ConsultaMetrics consultaMetrics;
+
+    @Test
+    @DisplayName("POST /api/creditos/ingestao - Deve ler o CSV enviado e retornar o resultado da carga")
+    void ingerir_WhenCsv_ShouldParseBodyAndReturnResult() throws Exception {
+        List<String> numerosLidos = new ArrayList<>();
+        when(ingestaoService.ingerir(any())).thenAnswer(invocation -> {
+            Iterator<CreditoDTO> creditos = invocation.getArgument(0);
+            creditos.forEachRemaining(credito -> numerosLidos.add(credito.numeroCredito()));
+            return IngestaoResultadoDTO.builder()
+                    .linhasLidas(numerosLidos.size())
+                    .linhasGravadas(numerosLidos.size())
+                    .erros(List.of())
+                    .duracaoMs(5)
+                    .linhasPorSegundo(400)
+                    .build();
+        });
+
+        mockMvc.perform(post("/api/creditos/ingestao")
+                        .header(CreditoIngestaoController.TOKEN_HEADER, "segredo-de-teste")
+                        .param("formato", "CSV")
+                        .contentType("text/csv")
+                        .content(CSV))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.linhasGravadas", is(2)))
+                .andExpect(jsonPath("$.linhasPorSegundo", is(400.0)));
+
+        assertThat(numerosLidos).containsExactly("123456", "789012");
+    }
+
+    @Test
+    @DisplayName("POST /api/creditos/ingestao - Deve retornar 401 sem o token ou com token inválido")
+    void ingerir_WhenTokenMissingOrWrong_ShouldReturn401() throws Exception {
+        mockMvc.perform(post("/api/creditos/ingestao")
+                        .param("formato", "CSV")
+                        .contentType("text/csv")
+                        .content(CSV))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(post("/api/creditos/ingestao")
+                        .header(CreditoIngestaoController.TOKEN_HEADER, "segredo-de-teste-errado")
+                        .param("formato", "CSV")
+                        .contentType("text/csv")
+                        .content(CSV))
+                .andExpect(status().isUnauthorized());
+
+        verifyNoInteractions(ingestaoService);
+    }
+
+    @Test
+    @DisplayName("OPTIONS /api/creditos/ingestao - Não deve liberar chamadas cross-origin")
+    void ingerir_WhenCrossOriginPreflight_ShouldBeRejected() throws Exception {
+        mockMvc.perform(options("/api/creditos/ingestao")
+                        .header("Origin", "https://outro-site.example")
+                        .header("Access-Control-Request-Method", "POST"))
+                .andExpect(status().isForbidden())
+                .andExpect(header().doesNotExist("Access-Control-Allow-Origin"));
+    }
+}
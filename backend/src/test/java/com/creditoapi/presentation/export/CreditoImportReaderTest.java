@@ -0,0 +1,84 @@
+package com.creditoapi.presentation.export;
+
+import com.creditoapi.application.dto.CreditoDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CreditoImportReader Tests")
+class CreditoImportReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private final CreditoDTO credito = CreditoDTO.builder()
+            .numeroCredito("123456")
+            .numeroNfse("7891011")
+            .dataConstituicao(LocalDate.of(2024, 2, 25))
+            .valorIssqn(new BigDecimal("1500.75"))
+            .tipoCredito("ISS, \"retido\"")
+            .simplesNacional("Não")
+            .aliquota(new BigDecimal("5.0"))
+            .valorFaturado(new BigDecimal("30000.00"))
+            .valorDeducao(new BigDecimal("5000.00"))
+            .baseCalculo(new BigDecimal("25000.00"))
+            .build();
+
+    @ParameterizedTest
+    @EnumSource(CreditoExportFormat.class)
+    @DisplayName("Deve ler de volta o que o CreditoExportWriter escreveu")
+    void next_WhenReadingExportedFile_ShouldRoundTrip(CreditoExportFormat formato) throws IOException {
+        ByteArrayOutputStream exportado = new ByteArrayOutputStream();
+        try (CreditoExportWriter writer = new CreditoExportWriter(formato, exportado, objectMapper)) {
+            writer.write(credito);
+            writer.write(credito);
+        }
+
+        assertThat(ler(formato, exportado.toString(StandardCharsets.UTF_8))).containsExactly(credito, credito);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar a linha inválida e continuar com as seguintes")
+    void next_WhenLineIsMalformed_ShouldThrowAndContinue() throws IOException {
+        String csv = """
+                123,456,2024-02-25
+                123456,7891011,2024-02-31,1,ISSQN,Sim,1,1,1,1
+
+                654321,1122334,2024-01-15,800.50,Outros,Sim,3.5,20000.00,3000.00,17000.00
+                """;
+
+        try (CreditoImportReader reader = reader(CreditoExportFormat.CSV, csv)) {
+            assertThatThrownBy(reader::next).hasMessageContaining("linha 1").hasMessageContaining("10 colunas");
+            assertThatThrownBy(reader::next).hasMessageContaining("linha 2").hasMessageContaining("valor inválido");
+            assertThat(reader.next().numeroCredito()).isEqualTo("654321");
+            assertThat(reader.hasNext()).isFalse();
+        }
+    }
+
+    private List<CreditoDTO> ler(CreditoExportFormat formato, String conteudo) throws IOException {
+        List<CreditoDTO> creditos = new ArrayList<>();
+        try (CreditoImportReader reader = reader(formato, conteudo)) {
+            reader.forEachRemaining(creditos::add);
+        }
+        return creditos;
+    }
+
+    private CreditoImportReader reader(CreditoExportFormat formato, String conteudo) {
+        return new CreditoImportReader(formato, new ByteArrayInputStream(conteudo.getBytes(StandardCharsets.UTF_8)),
+                objectMapper);
+    }
+}
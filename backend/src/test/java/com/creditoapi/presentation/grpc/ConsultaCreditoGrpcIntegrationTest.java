@@ -0,0 +1,99 @@
+package com.creditoapi.presentation.grpc;
+
+import com.creditoapi.application.dto.ConsultaEventDTO;
+import com.creditoapi.domain.entity.Credito;
+import com.creditoapi.domain.repository.CreditoRepository;
+import com.creditoapi.infrastructure.grpc.GrpcServerLifecycle;
+import com.creditoapi.infrastructure.messaging.ConsultaCreditoPublisher;
+import com.creditoapi.presentation.proto.ConsultaCreditoGrpc;
+import com.creditoapi.presentation.proto.GetByNumeroCreditoRequest;
+import com.creditoapi.presentation.proto.ListByNumeroNfseRequest;
+import io.grpc.ManagedChannel;
+import io.grpc.netty.shaded.io.grpc.netty.NettyChannelBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest(properties = {"app.grpc.enabled=true", "app.grpc.port=0"})
+@ActiveProfiles("test")
+@DisplayName("Consultas de crédito por gRPC")
+class ConsultaCreditoGrpcIntegrationTest {
+
+    @Autowired
+    private GrpcServerLifecycle grpcServer;
+
+    @Autowired
+    private CreditoRepository creditoRepository;
+
+    @SpyBean
+    private ConsultaCreditoPublisher consultaPublisher;
+
+    private ManagedChannel channel;
+
+    @BeforeEach
+    void setUp() {
+        creditoRepository.deleteAll();
+        creditoRepository.saveAll(IntStream.range(0, 3)
+                .mapToObj(i -> Credito.builder()
+                        .numeroCredito(String.valueOf(600_000 + i))
+                        .numeroNfse("6660001")
+                        .dataConstituicao(LocalDate.of(2024, 3, 1))
+                        .valorIssqn(new BigDecimal("1500.75"))
+                        .tipoCredito("ISSQN")
+                        .simplesNacional(true)
+                        .aliquota(new BigDecimal("5.00"))
+                        .valorFaturado(new BigDecimal("30000.00"))
+                        .valorDeducao(new BigDecimal("5000.00"))
+                        .baseCalculo(new BigDecimal("25000.00"))
+                        .build())
+                .toList());
+        channel = NettyChannelBuilder.forAddress("localhost", grpcServer.getPort()).usePlaintext().build();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("Deve consultar pela porta gRPC e publicar os mesmos eventos de consulta do REST")
+    void consultas_OverLocalhost_ShouldReturnCreditosAndPublishEvents() {
+        ConsultaCreditoGrpc.ConsultaCreditoBlockingStub stub = ConsultaCreditoGrpc.newBlockingStub(channel);
+
+        List<String> numeros = new ArrayList<>();
+        stub.listByNumeroNfse(ListByNumeroNfseRequest.newBuilder().setNumeroNfse("6660001").build())
+                .forEachRemaining(credito -> numeros.add(credito.getNumeroCredito()));
+        String numeroNfse = stub.getByNumeroCredito(GetByNumeroCreditoRequest.newBuilder()
+                .setNumeroCredito("600001")
+                .build()).getNumeroNfse();
+
+        assertThat(numeros).containsExactlyInAnyOrder("600000", "600001", "600002");
+        assertThat(numeroNfse).isEqualTo("6660001");
+
+        ArgumentCaptor<ConsultaEventDTO> eventos = ArgumentCaptor.forClass(ConsultaEventDTO.class);
+        verify(consultaPublisher, atLeastOnce()).publish(eventos.capture());
+        assertThat(eventos.getAllValues())
+                .extracting(ConsultaEventDTO::tipoConsulta, ConsultaEventDTO::parametroConsulta,
+                        ConsultaEventDTO::quantidadeResultados)
+                .contains(tuple("NFSE", "6660001", 3),
+                        tuple("CREDITO", "600001", 1));
+    }
+}
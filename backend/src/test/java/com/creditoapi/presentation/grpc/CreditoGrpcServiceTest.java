@@ -0,0 +1,223 @@
+package com.creditoapi.presentation.grpc;
+
+import com.creditoapi.application.dto.CreditoDTO;
+import com.creditoapi.application.service.CreditoService;
+import com.creditoapi.presentation.http.CreditoProtobufMapper;
+import com.creditoapi.presentation.proto.BatchLookupRequest;
+import com.creditoapi.presentation.proto.BatchLookupResponse;
+import com.creditoapi.presentation.proto.ConsultaCreditoGrpc;
+import com.creditoapi.presentation.proto.Credito;
+import com.creditoapi.presentation.proto.GetByNumeroCreditoRequest;
+import com.creditoapi.presentation.proto.ListByNumeroNfseRequest;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
+import io.grpc.stub.StreamObserver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CreditoGrpcService Tests")
+class CreditoGrpcServiceTest {
+
+    @Mock
+    private CreditoService creditoService;
+
+    private Server server;
+    private ManagedChannel channel;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        String nome = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(nome)
+                .directExecutor()
+                .addService(new CreditoGrpcService(creditoService))
+                .build()
+                .start();
+        channel = InProcessChannelBuilder.forName(nome).directExecutor().build();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("Deve retornar o crédito pelo número")
+    void getByNumeroCredito_WhenFound_ShouldReturnCredito() {
+        CreditoDTO credito = credito("123456", "7891011");
+        when(creditoService.findByNumeroCredito("123456")).thenReturn(Optional.of(credito));
+
+        Credito resposta = ConsultaCreditoGrpc.newBlockingStub(channel)
+                .getByNumeroCredito(GetByNumeroCreditoRequest.newBuilder().setNumeroCredito("123456").build());
+
+        assertThat(CreditoProtobufMapper.toDTO(resposta)).isEqualTo(credito);
+    }
+
+    @Test
+    @DisplayName("Deve responder NOT_FOUND quando o crédito não existe")
+    void getByNumeroCredito_WhenNotFound_ShouldFailWithNotFound() {
+        when(creditoService.findByNumeroCredito("999999")).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> ConsultaCreditoGrpc.newBlockingStub(channel)
+                .getByNumeroCredito(GetByNumeroCreditoRequest.newBuilder().setNumeroCredito("999999").build()))
+                .isInstanceOfSatisfying(StatusRuntimeException.class,
+                        e -> assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.NOT_FOUND));
+    }
+
+    @Test
+    @DisplayName("Deve transmitir um crédito por mensagem na consulta por NFS-e")
+    void listByNumeroNfse_ShouldStreamEachCredito() {
+        List<CreditoDTO> creditos = List.of(credito("123456", "7891011"), credito("789012", "7891011"));
+        when(creditoService.findByNumeroNfse("7891011")).thenReturn(creditos);
+
+        List<CreditoDTO> recebidos = new ArrayList<>();
+        ConsultaCreditoGrpc.newBlockingStub(channel)
+                .listByNumeroNfse(ListByNumeroNfseRequest.newBuilder().setNumeroNfse("7891011").build())
+                .forEachRemaining(credito -> recebidos.add(CreditoProtobufMapper.toDTO(credito)));
+
+        assertThat(recebidos).isEqualTo(creditos);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar a NFS-e vazia sem consultar o serviço")
+    void listByNumeroNfse_WhenBlank_ShouldFailWithInvalidArgument() {
+        assertThatThrownBy(() -> ConsultaCreditoGrpc.newBlockingStub(channel)
+                .listByNumeroNfse(ListByNumeroNfseRequest.getDefaultInstance())
+                .hasNext())
+                .isInstanceOfSatisfying(StatusRuntimeException.class,
+                        e -> assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.INVALID_ARGUMENT));
+        verifyNoInteractions(creditoService);
+    }
+
+    @Test
+    @DisplayName("Deve responder cada consulta do lote na ordem, indicando as não encontradas")
+    void batchLookup_ShouldAnswerEachLookupInOrder() throws Exception {
+        when(creditoService.findByNumeroNfse("7891011")).thenReturn(List.of(credito("123456", "7891011")));
+        when(creditoService.findByNumeroCredito("999999")).thenReturn(Optional.empty());
+
+        List<BatchLookupResponse> respostas = new CopyOnWriteArrayList<>();
+        CompletableFuture<Void> concluido = new CompletableFuture<>();
+        StreamObserver<BatchLookupRequest> consultas = ConsultaCreditoGrpc.newStub(channel)
+                .batchLookup(new StreamObserver<>() {
+                    @Override
+                    public void onNext(BatchLookupResponse resposta) {
+                        respostas.add(resposta);
+                    }
+
+                    @Override
+                    public void onError(Throwable t) {
+                        concluido.completeExceptionally(t);
+                    }
+
+                    @Override
+                    public void onCompleted() {
+                        concluido.complete(null);
+                    }
+                });
+
+        consultas.onNext(BatchLookupRequest.newBuilder().setNumeroNfse("7891011").build());
+        consultas.onNext(BatchLookupRequest.newBuilder().setNumeroCredito("999999").build());
+        consultas.onCompleted();
+        concluido.get(5, TimeUnit.SECONDS);
+
+        assertThat(respostas).hasSize(2);
+        assertThat(respostas.get(0).getConsulta().getNumeroNfse()).isEqualTo("7891011");
+        assertThat(respostas.get(0).getCreditosList()).extracting(Credito::getNumeroCredito).containsExactly("123456");
+        assertThat(respostas.get(1).getConsulta().getNumeroCredito()).isEqualTo("999999");
+        assertThat(respostas.get(1).getCreditosList()).isEmpty();
+        verify(creditoService).findByNumeroNfse("7891011");
+        verify(creditoService).findByNumeroCredito("999999");
+    }
+
+    @Test
+    @DisplayName("Deve parar de ler consultas do lote enquanto o cliente não consome as respostas")
+    void batchLookup_WhenClientStopsReading_ShouldStopRequestingLookups() throws Exception {
+        when(creditoService.findByNumeroCredito(anyString())).thenReturn(Optional.empty());
+
+        List<BatchLookupResponse> respostas = new CopyOnWriteArrayList<>();
+        CompletableFuture<Void> concluido = new CompletableFuture<>();
+        AtomicReference<ClientCallStreamObserver<BatchLookupRequest>> chamada = new AtomicReference<>();
+        StreamObserver<BatchLookupRequest> consultas = ConsultaCreditoGrpc.newStub(channel)
+                .batchLookup(new ClientResponseObserver<BatchLookupRequest, BatchLookupResponse>() {
+                    @Override
+                    public void beforeStart(ClientCallStreamObserver<BatchLookupRequest> requestStream) {
+                        chamada.set(requestStream);
+                        requestStream.disableAutoRequestWithInitial(1);
+                    }
+
+                    @Override
+                    public void onNext(BatchLookupResponse resposta) {
+                        respostas.add(resposta);
+                    }
+
+                    @Override
+                    public void onError(Throwable t) {
+                        concluido.completeExceptionally(t);
+                    }
+
+                    @Override
+                    public void onCompleted() {
+                        concluido.complete(null);
+                    }
+                });
+
+        for (int i = 0; i < 10; i++) {
+            consultas.onNext(BatchLookupRequest.newBuilder().setNumeroCredito(String.valueOf(i)).build());
+        }
+        consultas.onCompleted();
+
+        // O cliente só pediu uma resposta: as demais consultas ficam no cliente, sem serem lidas pelo servidor
+        verify(creditoService, times(1)).findByNumeroCredito(anyString());
+        assertThat(respostas).hasSize(1);
+
+        chamada.get().request(3);
+        verify(creditoService, times(4)).findByNumeroCredito(anyString());
+
+        chamada.get().request(Integer.MAX_VALUE);
+        concluido.get(5, TimeUnit.SECONDS);
+        assertThat(respostas).extracting(resposta -> resposta.getConsulta().getNumeroCredito())
+                .containsExactly("0", "1", "2", "3", "4", "5", "6", "7", "8", "9");
+    }
+
+    private static CreditoDTO credito(String numeroCredito, String numeroNfse) {
+        return CreditoDTO.builder()
+                .numeroCredito(numeroCredito)
+                .numeroNfse(numeroNfse)
+                .dataConstituicao(LocalDate.of(2024, 2, 25))
+                .valorIssqn(new BigDecimal("1500.75"))
+                .tipoCredito("ISSQN")
+                .simplesNacional("Sim")
+                .aliquota(new BigDecimal("5.00"))
+                .valorFaturado(new BigDecimal("30000.00"))
+                .valorDeducao(new BigDecimal("5000.00"))
+                .baseCalculo(new BigDecimal("25000.00"))
+                .build();
+    }
+}
@@ -0,0 +1,113 @@
+package com.creditoapi.presentation.http;
+
+import com.creditoapi.domain.entity.Credito;
+import com.creditoapi.domain.repository.CreditoRepository;
+import com.creditoapi.presentation.proto.CreditoLista;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@DisplayName("Negociação de formato, compressão e HTTP/2")
+class ContentNegotiationIntegrationTest {
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_2)
+            .build();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private CreditoRepository creditoRepository;
+
+    @BeforeEach
+    void setUp() {
+        creditoRepository.deleteAll();
+        creditoRepository.saveAll(IntStream.range(0, 30)
+                .mapToObj(i -> Credito.builder()
+                        .numeroCredito(String.valueOf(500_000 + i))
+                        .numeroNfse("5550001")
+                        .dataConstituicao(LocalDate.of(2024, 3, 1).plusDays(i))
+                        .valorIssqn(new BigDecimal("1500.75"))
+                        .tipoCredito("ISSQN")
+                        .simplesNacional(i % 2 == 0)
+                        .aliquota(new BigDecimal("5.00"))
+                        .valorFaturado(new BigDecimal("30000.00"))
+                        .valorDeducao(new BigDecimal("5000.00"))
+                        .baseCalculo(new BigDecimal("25000.00"))
+                        .build())
+                .toList());
+    }
+
+    @Test
+    @DisplayName("Deve atender por HTTP/2 (h2c) e responder em protobuf menor que o JSON")
+    void get_OverH2c_ShouldNegotiateProtobuf() throws Exception {
+        HttpResponse<byte[]> protobuf = client.send(request("/api/creditos/5550001")
+                .header(HttpHeaders.ACCEPT, CreditoMediaTypes.APPLICATION_PROTOBUF_VALUE)
+                .build(), HttpResponse.BodyHandlers.ofByteArray());
+        HttpResponse<byte[]> json = client.send(request("/api/creditos/5550001").build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+
+        assertThat(protobuf.statusCode()).isEqualTo(200);
+        assertThat(protobuf.version()).isEqualTo(HttpClient.Version.HTTP_2);
+        assertThat(protobuf.headers().firstValue(HttpHeaders.CONTENT_TYPE))
+                .hasValue(CreditoMediaTypes.APPLICATION_PROTOBUF_VALUE);
+        assertThat(CreditoLista.parseFrom(protobuf.body()).getCreditosCount()).isEqualTo(30);
+        assertThat(protobuf.body().length).isLessThan(json.body().length / 2);
+    }
+
+    @Test
+    @DisplayName("Deve comprimir com gzip as respostas dinâmicas acima do tamanho mínimo")
+    void listar_WhenClientAcceptsGzip_ShouldCompressResponse() throws Exception {
+        HttpResponse<byte[]> response = client.send(request("/api/creditos?tamanho=30")
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                .build(), HttpResponse.BodyHandlers.ofByteArray());
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue(HttpHeaders.CONTENT_ENCODING)).hasValue("gzip");
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(response.body()))) {
+            assertThat(new String(gzip.readAllBytes(), StandardCharsets.UTF_8)).contains("\"500029\"");
+        }
+    }
+
+    @Test
+    @DisplayName("Deve comprimir com gzip as consultas em formato binário, que levam ETag fraco")
+    void get_WhenBinaryAndClientAcceptsGzip_ShouldCompressResponse() throws Exception {
+        HttpResponse<byte[]> response = client.send(request("/api/creditos/5550001")
+                .header(HttpHeaders.ACCEPT, CreditoMediaTypes.APPLICATION_PROTOBUF_VALUE)
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                .build(), HttpResponse.BodyHandlers.ofByteArray());
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue(HttpHeaders.ETAG)).hasValueSatisfying(etag ->
+                assertThat(etag).startsWith("W/\""));
+        assertThat(response.headers().firstValue(HttpHeaders.CONTENT_ENCODING)).hasValue("gzip");
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(response.body()))) {
+            assertThat(CreditoLista.parseFrom(gzip.readAllBytes()).getCreditosCount()).isEqualTo(30);
+        }
+    }
+
+    private HttpRequest.Builder request(String caminho) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + caminho));
+    }
+}
@@ -0,0 +1,67 @@
+package com.creditoapi.presentation.http;
+
+import com.creditoapi.application.dto.CreditoDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CreditoETagGenerator Tests")
+class CreditoETagGeneratorTest {
+
+    private CreditoETagGenerator etagGenerator;
+    private CreditoDTO creditoDTO;
+
+    @BeforeEach
+    void setUp() {
+        etagGenerator = new CreditoETagGenerator();
+        creditoDTO = credito(new BigDecimal("1500.75"));
+    }
+
+    @Test
+    @DisplayName("Deve gerar o mesmo ETag para conteúdos iguais em instâncias diferentes")
+    void etag_WhenSameContent_ShouldBeEqual() {
+        String primeiro = etagGenerator.etag(List.of(creditoDTO));
+        String segundo = etagGenerator.etag(new ArrayList<>(List.of(credito(new BigDecimal("1500.75")))));
+
+        assertThat(primeiro).isEqualTo(segundo).hasSize(32);
+    }
+
+    @Test
+    @DisplayName("Deve gerar ETag diferente quando algum campo mudar")
+    void etag_WhenFieldChanges_ShouldDiffer() {
+        String original = etagGenerator.etag(creditoDTO);
+        String alterado = etagGenerator.etag(credito(new BigDecimal("1500.76")));
+
+        assertThat(original).isNotEqualTo(alterado);
+    }
+
+    @Test
+    @DisplayName("Deve diferenciar um crédito isolado de listas com mais elementos")
+    void etag_WhenListHasMoreElements_ShouldDiffer() {
+        assertThat(etagGenerator.etag(List.of(creditoDTO)))
+                .isEqualTo(etagGenerator.etag(creditoDTO))
+                .isNotEqualTo(etagGenerator.etag(List.of(creditoDTO, creditoDTO)));
+    }
+
+    private static CreditoDTO credito(BigDecimal valorIssqn) {
+        return CreditoDTO.builder()
+                .numeroCredito("123456")
+                .numeroNfse("7891011")
+                .dataConstituicao(LocalDate.of(2024, 2, 25))
+                .valorIssqn(valorIssqn)
+                .tipoCredito("ISSQN")
+                .simplesNacional("Sim")
+                .aliquota(new BigDecimal("5.0"))
+                .valorFaturado(new BigDecimal("30000.00"))
+                .valorDeducao(new BigDecimal("5000.00"))
+                .baseCalculo(new BigDecimal("25000.00"))
+                .build();
+    }
+}
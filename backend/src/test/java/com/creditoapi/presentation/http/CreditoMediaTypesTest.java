@@ -0,0 +1,33 @@
+package com.creditoapi.presentation.http;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CreditoMediaTypes Tests")
+class CreditoMediaTypesTest {
+
+    @Test
+    @DisplayName("Deve escolher o formato binário de maior qualidade no Accept")
+    void binarioPreferido_WhenBinaryAccepted_ShouldPickHighestQuality() {
+        assertThat(CreditoMediaTypes.binarioPreferido("application/cbor")).isEqualTo(MediaType.APPLICATION_CBOR);
+        assertThat(CreditoMediaTypes.binarioPreferido("application/json;q=0.5, application/x-protobuf"))
+                .isEqualTo(CreditoMediaTypes.APPLICATION_PROTOBUF);
+        assertThat(CreditoMediaTypes.binarioPreferido("application/cbor;q=0.2, application/x-jackson-smile;q=0.9"))
+                .isEqualTo(CreditoMediaTypes.APPLICATION_SMILE);
+    }
+
+    @Test
+    @DisplayName("Deve manter JSON para Accept ausente, curinga, JSON preferido, q=0 ou inválido")
+    void binarioPreferido_WhenJsonPreferredOrUnknown_ShouldReturnNull() {
+        assertThat(CreditoMediaTypes.binarioPreferido(null)).isNull();
+        assertThat(CreditoMediaTypes.binarioPreferido("*/*")).isNull();
+        assertThat(CreditoMediaTypes.binarioPreferido("application/*")).isNull();
+        assertThat(CreditoMediaTypes.binarioPreferido("application/json, application/cbor;q=0.9")).isNull();
+        assertThat(CreditoMediaTypes.binarioPreferido("application/cbor;q=0")).isNull();
+        assertThat(CreditoMediaTypes.binarioPreferido("text/html")).isNull();
+        assertThat(CreditoMediaTypes.binarioPreferido("não é um media type")).isNull();
+    }
+}
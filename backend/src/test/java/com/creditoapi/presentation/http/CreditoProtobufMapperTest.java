@@ -0,0 +1,54 @@
+package com.creditoapi.presentation.http;
+
+import com.creditoapi.application.dto.CreditoDTO;
+import com.creditoapi.presentation.proto.CreditoLista;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CreditoProtobufMapper Tests")
+class CreditoProtobufMapperTest {
+
+    @Test
+    @DisplayName("Deve preservar valores, escala e sinal dos decimais no ida e volta")
+    void toProtoAndBack_ShouldPreserveDecimalsAndDates() throws Exception {
+        CreditoDTO credito = CreditoDTO.builder()
+                .numeroCredito("123456")
+                .numeroNfse("7891011")
+                .dataConstituicao(LocalDate.of(1969, 12, 31))
+                .valorIssqn(new BigDecimal("1500.75"))
+                .tipoCredito("ISSQN")
+                .simplesNacional("Sim")
+                .aliquota(new BigDecimal("5.0"))
+                .valorFaturado(new BigDecimal("123456789012345678901234567890.12"))
+                .valorDeducao(new BigDecimal("-0.01"))
+                .baseCalculo(new BigDecimal("1E+3"))
+                .build();
+
+        byte[] bytes = CreditoProtobufMapper.toProto(List.of(credito)).toByteArray();
+        List<CreditoDTO> lidos = CreditoProtobufMapper.toDTOList(CreditoLista.parseFrom(bytes));
+
+        assertThat(lidos).containsExactly(credito);
+        assertThat(lidos.get(0).aliquota().scale()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve manter datas e decimais ausentes como nulos")
+    void toProtoAndBack_WhenOptionalFieldsMissing_ShouldKeepNulls() {
+        CreditoDTO credito = CreditoDTO.builder()
+                .numeroCredito("123456")
+                .numeroNfse("7891011")
+                .tipoCredito("ISSQN")
+                .simplesNacional("Não")
+                .build();
+
+        CreditoDTO lido = CreditoProtobufMapper.toDTO(CreditoProtobufMapper.toProto(credito));
+
+        assertThat(lido).isEqualTo(credito);
+    }
+}
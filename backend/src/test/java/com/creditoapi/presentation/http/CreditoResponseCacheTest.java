@@ -0,0 +1,153 @@
+package com.creditoapi.presentation.http;
+
+import com.creditoapi.application.dto.CreditoDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CreditoResponseCache Tests")
+class CreditoResponseCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private CreditoResponseCache responseCache;
+    private AtomicInteger acertos;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        responseCache = responseCache(DataSize.ofMegabytes(1));
+        acertos = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("Deve guardar os bytes JSON e comprimir em gzip apenas corpos acima do mínimo")
+    void getByNumeroNfse_ShouldStoreJsonAndGzipAboveThreshold() {
+        RespostaSerializada pequena = responseCache.getByNumeroCredito("123456",
+                () -> Optional.of(credito("123456", "7891011")), quantidade -> acertos.incrementAndGet());
+        RespostaSerializada grande = responseCache.getByNumeroNfse("7891011",
+                () -> creditos("7891011", 20), quantidade -> acertos.incrementAndGet());
+
+        assertThat(new String(pequena.json())).startsWith("{\"numeroCredito\":\"123456\"")
+                .contains("\"dataConstituicao\":\"2024-02-25\"", "\"valorIssqn\":1500.75");
+        assertThat(pequena.possuiGzip()).isFalse();
+        assertThat(grande.possuiGzip()).isTrue();
+        assertThat(grande.gzip().length).isLessThan(grande.json().length);
+        assertThat(grande.quantidade()).isEqualTo(20);
+        assertThat(acertos).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("Deve devolver a mesma instância em acertos e informar a quantidade de créditos")
+    void getByNumeroNfse_WhenCached_ShouldNotRunQuery() {
+        AtomicInteger consultas = new AtomicInteger();
+        RespostaSerializada primeira = responseCache.getByNumeroNfse("7891011", () -> {
+            consultas.incrementAndGet();
+            return creditos("7891011", 2);
+        }, acertos::addAndGet);
+        RespostaSerializada segunda = responseCache.getByNumeroNfse("7891011", () -> {
+            consultas.incrementAndGet();
+            return creditos("7891011", 2);
+        }, acertos::addAndGet);
+
+        assertThat(segunda).isSameAs(primeira);
+        assertThat(consultas).hasValue(1);
+        assertThat(acertos).hasValue(2);
+        assertThat(responseCache.getByNumeroNfse("0000000", List::of, acertos::addAndGet)).isNull();
+    }
+
+    @Test
+    @DisplayName("Deve remover as respostas que contêm o crédito alterado, inclusive de outras NFS-e")
+    void evict_ShouldRemoveResponsesContainingCredito() {
+        responseCache.getByNumeroNfse("1122334", () -> List.of(credito("123456", "1122334")), acertos::addAndGet);
+        responseCache.getByNumeroNfse("5566778", () -> List.of(credito("654321", "5566778")), acertos::addAndGet);
+
+        responseCache.evict("123456", "7891011");
+
+        AtomicInteger consultas = new AtomicInteger();
+        responseCache.getByNumeroNfse("1122334", () -> {
+            consultas.incrementAndGet();
+            return List.of(credito("123456", "7891011"));
+        }, acertos::addAndGet);
+        responseCache.getByNumeroNfse("5566778", () -> {
+            consultas.incrementAndGet();
+            return List.of();
+        }, acertos::addAndGet);
+        assertThat(consultas).hasValue(1);
+        assertThat(responseCache.respostasIndexadas()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Não deve armazenar uma resposta montada antes de uma invalidação concorrente")
+    void getByNumeroCredito_WhenInvalidatedDuringLoad_ShouldNotStoreStaleResponse() {
+        responseCache.getByNumeroCredito("123456", () -> {
+            responseCache.evict("123456", "7891011");
+            return Optional.of(credito("123456", "7891011"));
+        }, acertos::addAndGet);
+        assertThat(responseCache.respostasIndexadas()).isZero();
+
+        AtomicInteger consultas = new AtomicInteger();
+        responseCache.getByNumeroCredito("123456", () -> {
+            consultas.incrementAndGet();
+            return Optional.of(credito("123456", "7891011"));
+        }, acertos::addAndGet);
+        assertThat(consultas).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Deve limitar o cache pelo total de bytes das respostas")
+    void getByNumeroNfse_WhenByteLimitReached_ShouldEvict() {
+        responseCache = responseCache(DataSize.ofKilobytes(32));
+
+        IntStream.range(0, 200).forEach(i -> responseCache.getByNumeroNfse(String.valueOf(i),
+                () -> creditos(String.valueOf(i), 5), acertos::addAndGet));
+        responseCache.clear();
+        IntStream.range(0, 200).forEach(i -> responseCache.getByNumeroNfse(String.valueOf(i),
+                () -> creditos(String.valueOf(i), 5), acertos::addAndGet));
+
+        assertThat(meterRegistry.get("cache.resposta.bytes").gauge().value())
+                .isPositive()
+                .isLessThanOrEqualTo(DataSize.ofKilobytes(32).toBytes());
+    }
+
+    private CreditoResponseCache responseCache(DataSize maxSize) {
+        meterRegistry = new SimpleMeterRegistry();
+        return new CreditoResponseCache(new ObjectMapper().registerModule(new JavaTimeModule()),
+                new CreditoETagGenerator(), meterRegistry, true, maxSize, DataSize.ofKilobytes(1), true, 5,
+                Duration.ofMinutes(10));
+    }
+
+    private static List<CreditoDTO> creditos(String numeroNfse, int quantidade) {
+        return IntStream.range(0, quantidade)
+                .mapToObj(i -> credito(String.valueOf(100_000 + i), numeroNfse))
+                .toList();
+    }
+
+    private static CreditoDTO credito(String numeroCredito, String numeroNfse) {
+        return CreditoDTO.builder()
+                .numeroCredito(numeroCredito)
+                .numeroNfse(numeroNfse)
+                .dataConstituicao(LocalDate.of(2024, 2, 25))
+                .valorIssqn(new BigDecimal("1500.75"))
+                .tipoCredito("ISSQN")
+                .simplesNacional("Sim")
+                .aliquota(new BigDecimal("5.0"))
+                .valorFaturado(new BigDecimal("30000.00"))
+                .valorDeducao(new BigDecimal("5000.00"))
+                .baseCalculo(new BigDecimal("25000.00"))
+                .build();
+    }
+}
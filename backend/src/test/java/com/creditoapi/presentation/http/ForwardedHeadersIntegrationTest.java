@@ -0,0 +1,48 @@
+package com.creditoapi.presentation.http;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// O teste conecta pelo loopback, que aqui não é o proxy confiável: é o caso de um cliente que alcança o backend
+// direto pela rede do Docker e tenta escolher o próprio bucket pelo X-Forwarded-For
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "server.tomcat.remoteip.internal-proxies=172\\.28\\.0\\.10",
+        "app.load-shedding.rate-limit.enabled=true",
+        "app.load-shedding.rate-limit.capacity=1",
+        "app.load-shedding.rate-limit.refill-per-second=0.01"
+})
+@ActiveProfiles("test")
+@DisplayName("X-Forwarded-For vindo de fora do proxy")
+class ForwardedHeadersIntegrationTest {
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    @DisplayName("Deve ignorar o X-Forwarded-For de um endereço que não é o proxy e limitar pelo IP da conexão")
+    void get_WhenForwardedForSpoofedByNonProxy_ShouldKeepConnectionAddress() throws Exception {
+        HttpResponse<Void> primeira = get("203.0.113.1");
+        HttpResponse<Void> segunda = get("203.0.113.2");
+
+        assertThat(primeira.statusCode()).isEqualTo(404);
+        assertThat(segunda.statusCode()).isEqualTo(429);
+    }
+
+    private HttpResponse<Void> get(String forwardedFor) throws Exception {
+        return client.send(HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/creditos/0000000"))
+                .header("X-Forwarded-For", forwardedFor)
+                .build(), HttpResponse.BodyHandlers.discarding());
+    }
+}
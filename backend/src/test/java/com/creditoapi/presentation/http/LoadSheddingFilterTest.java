@@ -0,0 +1,137 @@
+package com.creditoapi.presentation.http;
+
+import com.creditoapi.infrastructure.concurrent.AdaptiveConcurrencyLimiter;
+import com.creditoapi.infrastructure.concurrent.ClientRateLimiter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LoadSheddingFilter Tests")
+class LoadSheddingFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ObjectMapper objectMapper;
+    private AdaptiveConcurrencyLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        limiter = new AdaptiveConcurrencyLimiter(1, 1, 10, 1.5, 0.2, Duration.ofSeconds(30));
+    }
+
+    @Test
+    @DisplayName("Deve repassar a requisição e liberar a vaga ao final")
+    void doFilter_WhenUnderLimit_ShouldPassThroughAndRelease() throws Exception {
+        AtomicInteger emAndamento = new AtomicInteger(-1);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter(null).doFilter(request(), response, new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) {
+                emAndamento.set(limiter.getInFlight());
+            }
+        }));
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(emAndamento).hasValue(1);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve responder 503 com Retry-After quando o limite de concorrência está ocupado")
+    void doFilter_WhenConcurrencyLimitReached_ShouldReturn503() throws Exception {
+        limiter.tryAcquire();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter(null).doFilter(request(), response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("2");
+        assertThat(response.getContentAsString(StandardCharsets.UTF_8))
+                .contains("\"status\":503", "\"path\":\"/api/creditos/7891011\"");
+        assertThat(chain.getRequest()).isNull();
+        assertThat(limiter.getInFlight()).isEqualTo(1);
+        assertThat(meterRegistry.get("http.load.shedding.rejected").tag("motivo", "concorrencia").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve responder 429 quando o cliente esgota o próprio limite, sem afetar os demais")
+    void doFilter_WhenClientBucketEmpty_ShouldReturn429() throws Exception {
+        LoadSheddingFilter filter = filter(new ClientRateLimiter(1, 0.5, 100));
+
+        MockHttpServletResponse primeira = new MockHttpServletResponse();
+        filter.doFilter(request(), primeira, new MockFilterChain());
+        MockHttpServletResponse segunda = new MockHttpServletResponse();
+        filter.doFilter(request(), segunda, new MockFilterChain());
+        MockHttpServletRequest outroCliente = request();
+        outroCliente.setRemoteAddr("10.0.0.2");
+        MockHttpServletResponse terceira = new MockHttpServletResponse();
+        filter.doFilter(outroCliente, terceira, new MockFilterChain());
+
+        assertThat(primeira.getStatus()).isEqualTo(200);
+        assertThat(segunda.getStatus()).isEqualTo(429);
+        assertThat(segunda.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("2");
+        assertThat(terceira.getStatus()).isEqualTo(200);
+        assertThat(meterRegistry.get("http.load.shedding.rejected").tag("motivo", "rate-limit").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve identificar o cliente pelo endereço remoto, ignorando cabeçalhos enviados por ele")
+    void doFilter_WhenClientSpoofsIdHeader_ShouldKeepSameBucket() throws Exception {
+        LoadSheddingFilter filter = filter(new ClientRateLimiter(1, 0.5, 100));
+
+        filter.doFilter(request(), new MockHttpServletResponse(), new MockFilterChain());
+        MockHttpServletRequest disfarcada = request();
+        disfarcada.addHeader("X-Client-Id", "outro");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(disfarcada, response, new MockFilterChain());
+
+        assertThat(response.getStatus()).isEqualTo(429);
+    }
+
+    @Test
+    @DisplayName("Não deve limitar exportações nem a ingestão, que ocupariam vagas por minutos")
+    void doFilter_WhenLongRunningEndpoint_ShouldSkipLimits() throws Exception {
+        limiter.tryAcquire();
+        MockHttpServletResponse exportacao = new MockHttpServletResponse();
+        filter(null).doFilter(new MockHttpServletRequest("GET", "/api/creditos/export"), exportacao,
+                new MockFilterChain());
+        MockHttpServletResponse ingestao = new MockHttpServletResponse();
+        filter(null).doFilter(new MockHttpServletRequest("POST", "/api/creditos/ingestao"), ingestao,
+                new MockFilterChain());
+
+        assertThat(exportacao.getStatus()).isEqualTo(200);
+        assertThat(ingestao.getStatus()).isEqualTo(200);
+        assertThat(limiter.getInFlight()).isEqualTo(1);
+    }
+
+    private LoadSheddingFilter filter(ClientRateLimiter rateLimiter) {
+        return new LoadSheddingFilter(limiter, rateLimiter, Duration.ofSeconds(2), objectMapper, meterRegistry);
+    }
+
+    private static MockHttpServletRequest request() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/creditos/7891011");
+        request.setRemoteAddr("10.0.0.1");
+        return request;
+    }
+}
@@ -0,0 +1,34 @@
+#!/usr/bin/env sh
+# Executa o mesmo cenário k6 contra a API MVC e a reativa, em sequência e sobre o mesmo PostgreSQL,
+# e imprime as latências lado a lado.
+# Uso: VUS=2000 sh loadtest/comparar-mvc-reactive.sh [url-mvc] [url-reativa]
+set -eu
+
+MVC_URL=${1:-http://localhost:8080}
+REACTIVE_URL=${2:-http://localhost:8081}
+VUS=${VUS:-5000}
+DIR=$(dirname "$0")
+RESULTADOS=${RESULTADOS:-$DIR/resultados}
+
+mkdir -p "$RESULTADOS"
+
+for variante in mvc reactive; do
+  if [ "$variante" = mvc ]; then url=$MVC_URL; else url=$REACTIVE_URL; fi
+  echo "==> $variante ($url, $VUS VUs)"
+  k6 run --quiet -e BASE_URL="$url" -e VUS="$VUS" \
+    --summary-export "$RESULTADOS/$variante.json" "$DIR/consulta-credito.js"
+  # Intervalo para o PostgreSQL e o Kafka drenarem a carga da rodada anterior
+  sleep 30
+done
+
+printf '\n%-10s %10s %10s %10s %10s %10s %10s\n' variante req/s p50 p95 p99 max falhas
+for variante in mvc reactive; do
+  jq -r --arg v "$variante" '[$v,
+      (.metrics.http_reqs.rate | floor),
+      (.metrics.http_req_duration["p(50)"] | floor),
+      (.metrics.http_req_duration["p(95)"] | floor),
+      (.metrics.http_req_duration["p(99)"] | floor),
+      (.metrics.http_req_duration.max | floor),
+      (.metrics.http_req_failed.value * 100 | tostring + "%")] | @tsv' "$RESULTADOS/$variante.json" \
+    | awk -F'\t' '{ printf "%-10s %10s %9sms %9sms %9sms %9sms %10s\n", $1, $2, $3, $4, $5, $6, $7 }'
+done
@@ -0,0 +1,40 @@
+import http from 'k6/http';
+import { check } from 'k6';
+
+// Uso: k6 run -e BASE_URL=http://localhost:8080 -e VUS=5000 loadtest/consulta-credito.js
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const VUS = parseInt(__ENV.VUS || '5000', 10);
+
+const NFSE = ['7891011', '1122334', '999999'];
+const CREDITOS = ['123456', '789012', '654321', '000000'];
+
+export const options = {
+  scenarios: {
+    consultas: {
+      executor: 'ramping-vus',
+      startVUs: 0,
+      stages: [
+        { duration: '30s', target: VUS },
+        { duration: '2m', target: VUS },
+        { duration: '15s', target: 0 },
+      ],
+      gracefulRampDown: '10s',
+    },
+  },
+  summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+  thresholds: {
+    http_req_failed: ['rate<0.01'],
+  },
+};
+
+export default function () {
+  const response = Math.random() < 0.7
+    ? http.get(`${BASE_URL}/api/creditos/${NFSE[Math.floor(Math.random() * NFSE.length)]}`,
+        { tags: { endpoint: 'nfse' } })
+    : http.get(`${BASE_URL}/api/creditos/credito/${CREDITOS[Math.floor(Math.random() * CREDITOS.length)]}`,
+        { tags: { endpoint: 'credito' } });
+
+  check(response, {
+    'status 200/404': (r) => r.status === 200 || r.status === 404,
+  });
+}
@@ -0,0 +1,50 @@
+#!/usr/bin/env sh
+# Mede o tempo entre subir a JVM e a primeira resposta 200 da API, com o JAR executável padrão e com o build
+# fast-start (AOT + CDS). Requer o PostgreSQL do docker-compose.dev.yml e os dois builds:
+#   mvn -f backend/pom.xml package -DskipTests && mvn -f backend/pom.xml -Pfast-start package -DskipTests
+# Uso: RODADAS=5 sh loadtest/medir-inicializacao.sh [caminho]
+set -eu
+
+CAMINHO=${1:-/api/creditos/credito/123456}
+RODADAS=${RODADAS:-5}
+PORTA=${PORTA:-18080}
+DIR=$(cd "$(dirname "$0")/.." && pwd)
+TARGET=$DIR/backend/target
+JAVA=${JAVA_HOME:+$JAVA_HOME/bin/}java
+
+agora_ms() {
+  echo $(($(date +%s%N) / 1000000))
+}
+
+medir() {
+  inicio=$(agora_ms)
+  "$@" --server.port="$PORTA" > "$TARGET/inicializacao.log" 2>&1 &
+  pid=$!
+  until [ "$(curl -s -o /dev/null -w '%{http_code}' "http://localhost:$PORTA$CAMINHO")" = 200 ]; do
+    if ! kill -0 "$pid" 2>/dev/null; then
+      echo "A aplicação encerrou antes de responder; veja $TARGET/inicializacao.log" >&2
+      exit 1
+    fi
+    sleep 0.05
+  done
+  echo $(($(agora_ms) - inicio))
+  kill "$pid"
+  wait "$pid" 2>/dev/null || true
+}
+
+printf '%-12s %s\n' variante 'primeira resposta 200 (ms)'
+for variante in padrao fast-start; do
+  tempos=""
+  for _ in $(seq "$RODADAS"); do
+    if [ "$variante" = padrao ]; then
+      tempo=$(medir "$JAVA" -jar "$TARGET/credito-api-1.0.0.jar")
+    else
+      # O arquivo CDS só é aceito com o mesmo classpath do treino, relativo a target/fast-start
+      tempo=$(cd "$TARGET/fast-start" && medir "$JAVA" -XX:SharedArchiveFile=credito-api.jsa \
+        -Dspring.aot.enabled=true -jar credito-api-1.0.0.jar --spring.profiles.active=fast-start)
+    fi
+    tempos="$tempos $tempo"
+  done
+  echo "$tempos" | tr ' ' '\n' | sed '/^$/d' | sort -n \
+    | awk -v v="$variante" '{ t[NR] = $1 } END { printf "%-12s min %6d  mediana %6d  max %6d\n", v, t[1], t[int((NR + 1) / 2)], t[NR] }'
+done